@@ -2,25 +2,40 @@ package com.bobocode.hoverla.bring;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import com.bobocode.hoverla.bring.context.AbstractGeneratedApplicationContext;
 import com.bobocode.hoverla.bring.context.ApplicationContext;
 import com.bobocode.hoverla.bring.context.ApplicationContextImpl;
 import com.bobocode.hoverla.bring.context.BeanAnnotationClassValidator;
 import com.bobocode.hoverla.bring.context.BeanAnnotationScanner;
 import com.bobocode.hoverla.bring.context.BeanConfigurationClassScanner;
 import com.bobocode.hoverla.bring.context.BeanConfigurationClassValidator;
+import com.bobocode.hoverla.bring.context.BeanDefinitionCache;
 import com.bobocode.hoverla.bring.context.BeanDefinitionMapper;
 import com.bobocode.hoverla.bring.context.BeanDefinitionValidator;
-import com.bobocode.hoverla.bring.context.BeanDependencyNameResolver;
+import com.bobocode.hoverla.bring.context.BeanGraphSnapshot;
 import com.bobocode.hoverla.bring.context.BeanInitializer;
+import com.bobocode.hoverla.bring.context.BeanScanPipeline;
 import com.bobocode.hoverla.bring.context.BeanScanner;
+import com.bobocode.hoverla.bring.context.ValidationFingerprint;
+import com.bobocode.hoverla.bring.scan.ClasspathFingerprint;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.bobocode.hoverla.bring.scan.ClasspathScanner;
+import com.bobocode.hoverla.bring.scan.ScanCache;
+import com.bobocode.hoverla.bring.scan.ShardedClasspathScanner;
 import com.google.common.base.Strings;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * <pre>
@@ -55,39 +70,92 @@ public class BringApplication {
      * @param packagesToScan packages to scan
      */
     public ApplicationContext loadContext(String... packagesToScan) {
-        return createContext(packagesToScan);
+        return createContext(new ApplicationContextBuilder().packagesToScan(packagesToScan));
     }
 
     /**
      * Initializes input parameters (list of {@link BeanScanner}, {@link BeanDefinitionValidator}, {@link BeanInitializer})
      * for ApplicationContext creation and return instance of context
      *
-     * @param packagesToScan packages for scanning to define bean configs
-     * @return instance of {@link ApplicationContextImpl}
+     * <p>When enabled, context generated at compile time is preferred if it is generated for exactly
+     * the packages to scan out of the classes they contain, see {@link AbstractGeneratedApplicationContext}.</p>
+     *
+     * @param settings builder with packages for scanning to define bean configs and other context settings
+     * @return instance of {@link ApplicationContextImpl} or of generated context
      */
-    private ApplicationContext createContext(String... packagesToScan) {
+    private ApplicationContext createContext(ApplicationContextBuilder settings) {
+        String[] packagesToScan = settings.packagesToScan;
         validatePackagesToScan(packagesToScan);
 
-        List<BeanScanner> scanners = createBeanScanners(packagesToScan);
+        var classpathFingerprint = new ClasspathFingerprint();
+        var scanResult = new ClasspathScanResult(createClasspathScanner(settings, classpathFingerprint), packagesToScan);
+        if (settings.generatedContext) {
+            Optional<AbstractGeneratedApplicationContext> generatedContext =
+                    AbstractGeneratedApplicationContext.load(scanResult, classpathFingerprint);
+            if (generatedContext.isPresent()) {
+                return generatedContext.get().initialize();
+            }
+        }
+
+        BeanDefinitionCache beanDefinitionCache = settings.beanDefinitionCacheDirectory != null
+                ? new BeanDefinitionCache(settings.beanDefinitionCacheDirectory, classpathFingerprint, packagesToScan)
+                : null;
+        int validationParallelism = settings.validationParallelism != null ? settings.validationParallelism : 1;
+        ValidationFingerprint trustedFingerprint = settings.validationFingerprintKey != null
+                ? new ValidationFingerprint(scanResult, settings.validationFingerprintKey, classpathFingerprint)
+                : null;
+        List<BeanScanner> scanners = createBeanScanners(scanResult, beanDefinitionCache, validationParallelism,
+                trustedFingerprint);
         var beanDefinitionValidator = new BeanDefinitionValidator();
-        var dependencyNameResolver = new BeanDependencyNameResolver();
-        var initializer = new BeanInitializer(dependencyNameResolver);
+        var initializer = new BeanInitializer();
 
-        return new ApplicationContextImpl(scanners, beanDefinitionValidator, initializer);
+        var scanPipeline = settings.scanPipelineParallelism != null
+                ? new BeanScanPipeline(settings.scanPipelineParallelism)
+                : null;
+        var snapshot = settings.beanGraphSnapshotDirectory != null
+                ? new BeanGraphSnapshot(settings.beanGraphSnapshotDirectory, classpathFingerprint, packagesToScan)
+                : null;
+        var options = ApplicationContextImpl.Options.DEFAULTS
+                .withScanPipeline(scanPipeline)
+                .withSnapshot(snapshot)
+                .withTrustedFingerprint(trustedFingerprint);
+        var context = new ApplicationContextImpl(scanners, beanDefinitionValidator, initializer, options);
+        if (beanDefinitionCache != null) {
+            beanDefinitionCache.save();
+        }
+        if (settings.compactAfterStart) {
+            context.compact();
+        }
+        return context;
     }
 
-    private List<BeanScanner> createBeanScanners(String[] packagesToScan) {
+    /**
+     * Creates {@link BeanScanner}s that share single {@link ClasspathScanResult},
+     * so that classpath is walked only once regardless of the number of scanners.
+     * {@link BeanDefinitionCache}, if any, is shared by them as well.
+     */
+    private List<BeanScanner> createBeanScanners(ClasspathScanResult scanResult, BeanDefinitionCache beanDefinitionCache,
+                                                 int validationParallelism, ValidationFingerprint trustedFingerprint) {
         var beanDefinitionMapper = new BeanDefinitionMapper();
 
-        var beanAnnotationClassValidator = new BeanAnnotationClassValidator();
-        var beanAnnotationScanner = new BeanAnnotationScanner(beanAnnotationClassValidator, beanDefinitionMapper, packagesToScan);
+        var beanAnnotationClassValidator = new BeanAnnotationClassValidator(validationParallelism, trustedFingerprint);
+        var beanAnnotationScanner = new BeanAnnotationScanner(beanAnnotationClassValidator, beanDefinitionMapper,
+                scanResult, beanDefinitionCache);
 
-        var beanConfigurationClassValidator = new BeanConfigurationClassValidator();
-        var beanConfigurationClassScanner = new BeanConfigurationClassScanner(beanConfigurationClassValidator, beanDefinitionMapper, packagesToScan);
+        var beanConfigurationClassValidator = new BeanConfigurationClassValidator(validationParallelism, trustedFingerprint);
+        var beanConfigurationClassScanner = new BeanConfigurationClassScanner(beanConfigurationClassValidator,
+                beanDefinitionMapper, scanResult, beanDefinitionCache);
 
         return List.of(beanAnnotationScanner, beanConfigurationClassScanner);
     }
 
+    private ClasspathScanner createClasspathScanner(ApplicationContextBuilder settings,
+                                                    ClasspathFingerprint classpathFingerprint) {
+        int parallelism = settings.scanParallelism != null ? settings.scanParallelism : 1;
+        ScanCache scanCache = settings.scanCacheDirectory != null ? new ScanCache(settings.scanCacheDirectory) : null;
+        return new ShardedClasspathScanner(parallelism, scanCache, classpathFingerprint);
+    }
+
     private static void validatePackagesToScan(String... packagesToScan) {
         if (ArrayUtils.isEmpty(packagesToScan)) {
             throw new IllegalArgumentException("Argument [packagesToScan] must contain at least one not null and not empty element");
@@ -117,6 +185,15 @@ public class BringApplication {
 
         private Level logLevel;
         private String[] packagesToScan;
+        private Integer scanParallelism;
+        private Path scanCacheDirectory;
+        private Integer scanPipelineParallelism;
+        private Integer validationParallelism;
+        private byte[] validationFingerprintKey;
+        private Path beanDefinitionCacheDirectory;
+        private Path beanGraphSnapshotDirectory;
+        private boolean generatedContext;
+        private boolean compactAfterStart;
 
         public ApplicationContextBuilder logLevel(Level logLevel) {
             this.logLevel = logLevel;
@@ -128,10 +205,137 @@ public class BringApplication {
             return this;
         }
 
+        /**
+         * Enables concurrent classpath scanning. Classpath roots (jars and directories) that contain
+         * packages to scan are distributed across a dedicated {@link ForkJoinPool} of the given parallelism.
+         *
+         * @param scanParallelism number of threads to scan classpath with
+         * @throws IllegalArgumentException when parallelism is not positive
+         */
+        public ApplicationContextBuilder scanParallelism(int scanParallelism) {
+            checkArgument(scanParallelism > 0, "Argument [scanParallelism] must be positive");
+            this.scanParallelism = scanParallelism;
+            return this;
+        }
+
+        /**
+         * Enables on-disk cache of classpath scan results. Each classpath root is cached separately along with
+         * its fingerprint, so on the next start only changed jars and directories are scanned again.
+         *
+         * @param scanCacheDirectory directory to store scan results in
+         */
+        public ApplicationContextBuilder scanCacheDirectory(Path scanCacheDirectory) {
+            checkNotNull(scanCacheDirectory, "Argument [scanCacheDirectory] must not be null");
+            this.scanCacheDirectory = scanCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Enables pipelined bean scanning. Discovered classes stream through bounded queues into validation workers
+         * and then into bean definition mapping workers, all running concurrently.
+         *
+         * @param scanPipelineParallelism number of threads for each of validation and mapping stages
+         * @throws IllegalArgumentException when parallelism is not positive
+         * @see BeanScanPipeline
+         */
+        public ApplicationContextBuilder scanPipelineParallelism(int scanPipelineParallelism) {
+            checkArgument(scanPipelineParallelism > 0, "Argument [scanPipelineParallelism] must be positive");
+            this.scanPipelineParallelism = scanPipelineParallelism;
+            return this;
+        }
+
+        /**
+         * Enables concurrent validation of scanned bean and configuration classes. Classes are checked
+         * in a dedicated {@link ForkJoinPool} of the given parallelism, and failures are reported the same way
+         * as by sequential validation - for the first invalid class in scan order.
+         * Applies when scanners are not run by {@link BeanScanPipeline}, which validates classes concurrently itself.
+         *
+         * @param validationParallelism number of threads to validate classes with
+         * @throws IllegalArgumentException when parallelism is not positive
+         */
+        public ApplicationContextBuilder validationParallelism(int validationParallelism) {
+            checkArgument(validationParallelism > 0, "Argument [validationParallelism] must be positive");
+            this.validationParallelism = validationParallelism;
+            return this;
+        }
+
+        /**
+         * Enables trust in validation done at build time. When the scanned bean and configuration classes match
+         * the fingerprint packaged on the classpath and signed with the same key, classes and bean definitions are not
+         * validated on start. Otherwise, they are validated as usual.
+         *
+         * @param validationFingerprintKey secret key the fingerprint is signed with
+         * @see ValidationFingerprint#sign(Path)
+         */
+        public ApplicationContextBuilder validationFingerprintKey(byte[] validationFingerprintKey) {
+            checkNotNull(validationFingerprintKey, "Argument [validationFingerprintKey] must not be null");
+            checkArgument(validationFingerprintKey.length > 0, "Argument [validationFingerprintKey] must not be empty");
+            this.validationFingerprintKey = validationFingerprintKey.clone();
+            return this;
+        }
+
+        /**
+         * Enables on-disk cache of validated bean and configuration classes. Classes whose class files
+         * have not changed since the previous start are neither validated nor introspected again.
+         * Applies when scanners are not run by {@link BeanScanPipeline}. Bean classes recorded in compile-time
+         * bean index are mapped out of the index instead.
+         *
+         * @param beanDefinitionCacheDirectory directory to store cached classes in
+         * @see BeanDefinitionCache
+         */
+        public ApplicationContextBuilder beanDefinitionCacheDirectory(Path beanDefinitionCacheDirectory) {
+            checkNotNull(beanDefinitionCacheDirectory, "Argument [beanDefinitionCacheDirectory] must not be null");
+            this.beanDefinitionCacheDirectory = beanDefinitionCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Enables on-disk snapshot of validated and resolved bean graph. While classpath roots of packages to scan
+         * stay unchanged, validation and resolution of dependencies are skipped on start, and beans are instantiated
+         * in the dependency order recorded on the previous start. Classpath roots are fingerprinted once per start,
+         * along with the scan cache and the bean definition cache.
+         *
+         * @param beanGraphSnapshotDirectory directory to store the snapshot in
+         * @see BeanGraphSnapshot
+         */
+        public ApplicationContextBuilder beanGraphSnapshotDirectory(Path beanGraphSnapshotDirectory) {
+            checkNotNull(beanGraphSnapshotDirectory, "Argument [beanGraphSnapshotDirectory] must not be null");
+            this.beanGraphSnapshotDirectory = beanGraphSnapshotDirectory;
+            return this;
+        }
+
+        /**
+         * Enables or disables use of context generated at compile time, disabled by default.
+         * Generated context is used only when it is generated for exactly the packages to scan and
+         * the classes found in them on the classpath are the ones it is generated of. Otherwise, beans are scanned.
+         *
+         * @param generatedContext whether generated context is used when it matches the packages to scan
+         * @see com.bobocode.hoverla.bring.processor.ApplicationContextProcessor
+         */
+        public ApplicationContextBuilder generatedContext(boolean generatedContext) {
+            this.generatedContext = generatedContext;
+            return this;
+        }
+
+        /**
+         * Enables or disables compaction of the context once it is initialized, disabled by default.
+         * Bean definitions are replaced with slim records of name, type, instance and primary flag,
+         * releasing injection plans, dependencies, configuration instances and other scan-time state.
+         * Metadata of bean classes stays cached, as it is shared with other contexts of the same JVM.
+         * Has no effect on context generated at compile time, which holds no such state.
+         *
+         * @param compactAfterStart whether the context is compacted after start
+         * @see ApplicationContextImpl#compact()
+         */
+        public ApplicationContextBuilder compactAfterStart(boolean compactAfterStart) {
+            this.compactAfterStart = compactAfterStart;
+            return this;
+        }
+
         public ApplicationContext build() {
             Logger logger = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
             logger.setLevel(logLevel != null ? logLevel : Level.INFO);
-            return createContext(packagesToScan);
+            return createContext(this);
         }
     }
 
@@ -17,7 +17,10 @@ public abstract class AbstractBeanDefinition implements BeanDefinition {
 
     protected String name;
 
-    protected Class<?> type;
+    /**
+     * Volatile, since implementations may resolve the type lazily on any of the threads sharing the definition
+     */
+    protected volatile Class<?> type;
 
     protected Map<String, BeanDependency> dependencies;
 
@@ -0,0 +1,299 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.exception.BeanInitializePhaseException;
+import com.bobocode.hoverla.bring.exception.BeanInstanceCreationException;
+import com.bobocode.hoverla.bring.exception.NoSuchBeanException;
+import com.bobocode.hoverla.bring.exception.NoUniqueBeanException;
+import com.bobocode.hoverla.bring.index.PackagePrefixes;
+import com.bobocode.hoverla.bring.scan.ClasspathFingerprint;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.google.common.base.Suppliers;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.apache.commons.lang3.StringUtils.SPACE;
+import static org.apache.commons.lang3.StringUtils.containsNone;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+/**
+ * Base of {@value #GENERATED_SIMPLE_NAME} classes generated at compile time by
+ * {@link com.bobocode.hoverla.bring.processor.ApplicationContextProcessor ApplicationContextProcessor}.
+ *
+ * <p>Generated subclass is placed in the root package of the packages it is generated for and registered in
+ * {@code META-INF/services}, so that contexts of several modules do not clash. It holds bean names and types as
+ * static tables, sorted in the order beans are instantiated in, and a factory method per bean that calls its
+ * constructor or {@link Bean @Bean} method directly. Neither classpath scanning nor reflection is involved, except for
+ * injection into fields that are not accessible from generated code.</p>
+ *
+ * <p>Generated context is only used for exactly the packages it is generated for, and only while it is built of
+ * the same bean and configuration classes the packages contain on the classpath, see {@link #load(ClasspathScanResult,
+ * ClasspathFingerprint)}. Beans are looked up with the same semantics and messages as {@link ApplicationContextImpl}
+ * does, and failures to create them are reported the same way as by {@link BeanInitializer}.</p>
+ */
+@Slf4j
+public abstract class AbstractGeneratedApplicationContext implements ApplicationContext {
+
+    public static final String GENERATED_SIMPLE_NAME = "GeneratedApplicationContext";
+
+    private static final String BEAN_TYPE_MUST_BE_NOT_NULL_MESSAGE = "The argument [beanType] must be not null";
+    private static final String BEAN_NAME_MUST_NOT_CONTAIN_SPACES = "The argument [beanName] must not contain spaces";
+    private static final String BEAN_NAME_MUST_BE_NOT_NULL_MESSAGE = "The argument [beanName] must be not null or empty";
+    private static final String NO_SUCH_BEAN_EXCEPTION_MESSAGE = "Bean with provided name/type [%s] not found in the context";
+    private static final String NO_UNIQUE_BEAN_EXCEPTION_MESSAGE = "Expected single bean of type %s, but found %d";
+
+    private final String[] beanNames;
+
+    private final Class<?>[] beanTypes;
+
+    private final List<String> packages;
+
+    private final Set<String> classNames;
+
+    private final Map<String, Integer> beanIndexes;
+
+    private final Object[] beans;
+
+    private boolean initialized;
+
+    /**
+     * @param beanNames names of beans in the order they are instantiated in
+     * @param beanTypes types of beans, in the same order
+     * @param packages   packages the context is generated for
+     * @param classNames binary names of bean and configuration classes the context is generated of
+     */
+    protected AbstractGeneratedApplicationContext(String[] beanNames, Class<?>[] beanTypes, String[] packages,
+                                                  String[] classNames) {
+        checkArgument(beanNames.length == beanTypes.length, "Bean names and types differ in length");
+        this.beanNames = beanNames;
+        this.beanTypes = beanTypes;
+        this.packages = PackagePrefixes.of(packages).packages();
+        this.classNames = Set.of(classNames);
+        this.beanIndexes = new HashMap<>(beanNames.length * 2);
+        for (int i = 0; i < beanNames.length; i++) {
+            beanIndexes.put(beanNames[i], i);
+        }
+        this.beans = new Object[beanNames.length];
+    }
+
+    /**
+     * Looks up context generated for exactly the packages to scan among the ones registered on the classpath.
+     * It is only returned when the bean and configuration classes found in the packages are the ones it is generated of,
+     * and all of them are loaded from the same classpath root as the context itself, so that the context is never
+     * used with beans added, removed or shadowed after it was generated.
+     *
+     * @param scanResult           scan result of the packages to scan, its class loader is used to look contexts up
+     * @param classpathFingerprint fingerprint of the classpath shared with other consumers of the same start
+     * @return not initialized generated context or empty {@link Optional} if there is no matching one
+     * @throws IllegalStateException when several contexts are generated for the same packages
+     */
+    public static Optional<AbstractGeneratedApplicationContext> load(ClasspathScanResult scanResult,
+                                                                     ClasspathFingerprint classpathFingerprint) {
+        List<String> packagesToScan = PackagePrefixes.of(scanResult.getPackagesToScan()).packages();
+        List<AbstractGeneratedApplicationContext> contexts = new ArrayList<>();
+        try {
+            ServiceLoader.load(AbstractGeneratedApplicationContext.class, scanResult.getClassLoader())
+                    .forEach(context -> {
+                        if (context.packages.equals(packagesToScan)) {
+                            contexts.add(context);
+                        }
+                    });
+        } catch (ServiceConfigurationError e) {
+            log.warn("Unable to load generated application contexts", e);
+            return Optional.empty();
+        }
+        if (contexts.size() > 1) {
+            throw new IllegalStateException("Several application contexts are generated for packages %s: %s"
+                    .formatted(packagesToScan, contexts.stream().map(context -> context.getClass().getName()).toList()));
+        }
+        return contexts.stream()
+                .filter(context -> context.matches(scanResult, classpathFingerprint))
+                .findFirst();
+    }
+
+    private boolean matches(ClasspathScanResult scanResult, ClasspathFingerprint classpathFingerprint) {
+        Set<String> scannedClassNames = new TreeSet<>(scanResult.getTypeNamesAnnotatedWith(Bean.class));
+        scannedClassNames.addAll(scanResult.getTypeNamesAnnotatedWith(Configuration.class));
+        if (!scannedClassNames.equals(classNames)) {
+            log.info("Generated application context {} is built of other classes than packages {} contain, "
+                    + "falling back to scanning", getClass().getName(), packages);
+            return false;
+        }
+
+        Optional<String> contextRoot = classpathFingerprint.ofClassRoot(getClass().getName());
+        if (contextRoot.isEmpty() || !classNames.stream()
+                .allMatch(className -> classpathFingerprint.ofClassRoot(className).equals(contextRoot))) {
+            log.info("Classes of generated application context {} are not all loaded from its classpath root, "
+                    + "falling back to scanning", getClass().getName());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Instantiates all beans. Is expected to be called once the generated subclass is constructed.
+     *
+     * @return this context
+     * @throws IllegalStateException        when the context is already initialized
+     * @throws BeanInitializePhaseException when any bean cannot be created
+     */
+    public AbstractGeneratedApplicationContext initialize() {
+        checkState(!initialized, "Generated application context is already initialized");
+        try {
+            for (int i = 0; i < beans.length; i++) {
+                beans[i] = instantiate(i);
+            }
+        } catch (Exception ex) {
+            throw new BeanInitializePhaseException("An error occurred during initialization phase", ex);
+        }
+        initialized = true;
+        log.info("Generated application context initialized with {} beans", beans.length);
+        return this;
+    }
+
+    private Object instantiate(int index) {
+        try {
+            log.debug("Instantiating bean with name '{}'", beanNames[index]);
+            return createBean(index);
+        } catch (Exception e) {
+            throw new BeanInstanceCreationException("Bean with name '%s' can't be instantiated"
+                    .formatted(beanNames[index]), e);
+        }
+    }
+
+    /**
+     * @param index index of a bean in the tables
+     * @return new instance of the bean, all beans it depends on have lower indexes
+     * @throws Exception whatever the constructor or the bean method of the bean throws
+     */
+    protected abstract Object createBean(int index) throws Exception;
+
+    /**
+     * @param factory constructor of a configuration class
+     * @return supplier of a single configuration instance, created on the first request for a bean method of it
+     */
+    protected static <T> Supplier<T> lazy(Supplier<T> factory) {
+        return Suppliers.memoize(factory::get);
+    }
+
+    /**
+     * @param index index of an already created bean
+     * @return instance of the bean
+     */
+    protected final Object bean(int index) {
+        return beans[index];
+    }
+
+    /**
+     * Mirrors {@link CollectionBeanDefinition}, except that sets are instances of {@link Set}.
+     *
+     * @param collectionType type of a collection to inject
+     * @param indexes        indexes of already created beans
+     * @return collection of bean instances
+     */
+    protected final Object collection(Class<?> collectionType, int... indexes) {
+        List<Object> instances = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            instances.add(beans[index]);
+        }
+        if (Queue.class.isAssignableFrom(collectionType)) {
+            return new ArrayDeque<>(instances);
+        }
+        return Set.class.isAssignableFrom(collectionType) ? new LinkedHashSet<>(instances) : instances;
+    }
+
+    /**
+     * Injects into a field that is not accessible from generated code.
+     *
+     * @param instance  bean instance
+     * @param beanClass class of the bean that declares the field
+     * @param fieldName name of a field marked with {@link com.bobocode.hoverla.bring.annotation.Inject @Inject}
+     * @param value     instance to inject
+     */
+    protected static void setField(Object instance, Class<?> beanClass, String fieldName, Object value) {
+        BeanClassMetadata.of(beanClass).fieldAccessors()
+                .stream()
+                .filter(accessor -> accessor.injectionPoint().name().equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No field %s in %s".formatted(fieldName, beanClass)))
+                .set(instance, value);
+    }
+
+    @Override
+    public <T> T getBean(Class<T> beanType) {
+        checkNotNull(beanType, BEAN_TYPE_MUST_BE_NOT_NULL_MESSAGE);
+
+        Map<String, T> beansOfType = getAllBeans(beanType);
+        if (beansOfType.isEmpty()) {
+            throw new NoSuchBeanException(NO_SUCH_BEAN_EXCEPTION_MESSAGE.formatted(beanType.getSimpleName()));
+        }
+        if (beansOfType.size() > 1) {
+            throw new NoUniqueBeanException(NO_UNIQUE_BEAN_EXCEPTION_MESSAGE.formatted(beanType.getSimpleName(), beansOfType.size()));
+        }
+        return beansOfType.values().iterator().next();
+    }
+
+    @Override
+    public Object getBean(String beanName) {
+        checkBeanName(beanName);
+        Integer index = beanIndexes.get(beanName);
+        if (index == null) {
+            throw new NoSuchBeanException(NO_SUCH_BEAN_EXCEPTION_MESSAGE.formatted(beanName));
+        }
+        return beans[index];
+    }
+
+    @Override
+    public <T> T getBean(String beanName, Class<T> beanType) {
+        checkNotNull(beanType, BEAN_TYPE_MUST_BE_NOT_NULL_MESSAGE);
+        checkBeanName(beanName);
+
+        Object bean = getBean(beanName);
+        try {
+            return beanType.cast(bean);
+        } catch (ClassCastException ex) {
+            throw new NoSuchBeanException(NO_SUCH_BEAN_EXCEPTION_MESSAGE.formatted(beanType.getName()));
+        }
+    }
+
+    @Override
+    public <T> Map<String, T> getAllBeans(Class<T> beanType) {
+        checkNotNull(beanType, BEAN_TYPE_MUST_BE_NOT_NULL_MESSAGE);
+        Map<String, T> beansOfType = new LinkedHashMap<>();
+        for (int i = 0; i < beanTypes.length; i++) {
+            if (beanType.isAssignableFrom(beanTypes[i])) {
+                beansOfType.put(beanNames[i], beanType.cast(beans[i]));
+            }
+        }
+        return beansOfType;
+    }
+
+    @Override
+    public boolean containsBean(String beanName) {
+        checkBeanName(beanName);
+        return beanIndexes.containsKey(beanName);
+    }
+
+    private void checkBeanName(String beanName) {
+        checkArgument(isNotEmpty(beanName), BEAN_NAME_MUST_BE_NOT_NULL_MESSAGE);
+        checkArgument(containsNone(beanName, SPACE), BEAN_NAME_MUST_NOT_CONTAIN_SPACES);
+    }
+}
@@ -4,8 +4,11 @@ import com.bobocode.hoverla.bring.exception.NoSuchBeanException;
 import com.bobocode.hoverla.bring.exception.NoUniqueBeanException;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -41,22 +44,92 @@ public class ApplicationContextImpl implements ApplicationContext {
     public ApplicationContextImpl(List<BeanScanner> scanners,
                                   BeanDefinitionValidator validator,
                                   BeanInitializer initializer) {
+        this(scanners, validator, initializer, Options.DEFAULTS);
+    }
 
-        List<BeanDefinition> beanDefinitionList = runScanning(scanners);
-        validator.validate(beanDefinitionList);
-        container = new BeanDefinitionsContainer(beanDefinitionList);
-        initializer.initialize(container);
-
+    /**
+     * Same as {@link ApplicationContextImpl#ApplicationContextImpl(List, BeanDefinitionValidator, BeanInitializer)},
+     * but scanning, validation and initialization are tuned by {@link Options}.
+     *
+     * @param scanners    list of scanners for
+     * @param validator   bean definition validator
+     * @param initializer bean initializer
+     * @param options     how scanners are run and whether validation can be skipped
+     */
+    public ApplicationContextImpl(List<BeanScanner> scanners,
+                                  BeanDefinitionValidator validator,
+                                  BeanInitializer initializer,
+                                  Options options) {
+        BeanScanPipeline scanPipeline = options.scanPipeline();
+        List<BeanDefinition> beanDefinitionList = scanPipeline != null ? scanPipeline.run(scanners) : runScanning(scanners);
+        ValidationFingerprint trustedFingerprint = options.trustedFingerprint();
+        Function<List<BeanDefinition>, BeanGraph> validation = trustedFingerprint != null && trustedFingerprint.matches()
+                ? ApplicationContextImpl::resolveTrusted
+                : validator::validate;
+        container = options.snapshot() != null
+                ? initialize(beanDefinitionList, validation, initializer, options.snapshot())
+                : initialize(beanDefinitionList, validation, initializer);
         log.info("Application context initialized");
     }
 
-    private List<BeanDefinition> runScanning(List<BeanScanner> scanners) {
+    private static BeanGraph resolveTrusted(List<BeanDefinition> beanDefinitionList) {
+        log.info("Bean set matches validation fingerprint, skipping validation of {} bean definitions", beanDefinitionList.size());
+        return BeanDefinitionValidator.sort(new BeanDependencyResolver().resolve(beanDefinitionList));
+    }
+
+    private static BeanDefinitionsContainer initialize(List<BeanDefinition> beanDefinitionList,
+                                                       Function<List<BeanDefinition>, BeanGraph> validation,
+                                                       BeanInitializer initializer) {
+        BeanGraph graph = validation.apply(beanDefinitionList);
+        var container = new BeanDefinitionsContainer(beanDefinitionList);
+        initializer.initialize(graph);
+        return container;
+    }
+
+    private static BeanDefinitionsContainer initialize(List<BeanDefinition> beanDefinitionList,
+                                                       Function<List<BeanDefinition>, BeanGraph> validation,
+                                                       BeanInitializer initializer,
+                                                       BeanGraphSnapshot snapshot) {
+        long uniqueNames = beanDefinitionList.stream().map(BeanDefinition::name).distinct().count();
+        if (uniqueNames != beanDefinitionList.size()) { // container cannot be built, let validator report duplicates
+            return initialize(beanDefinitionList, validation, initializer);
+        }
+        var container = new BeanDefinitionsContainer(beanDefinitionList);
+        Optional<BeanGraph> restoredGraph = snapshot.restore(container);
+        if (restoredGraph.isPresent()) {
+            log.info("Bean graph restored from snapshot, skipping validation of {} bean definitions", beanDefinitionList.size());
+            initializer.initialize(restoredGraph.get());
+            return container;
+        }
+
+        BeanGraph graph = validation.apply(beanDefinitionList);
+        initializer.initialize(graph);
+        snapshot.save(graph);
+        return container;
+    }
+
+    private static List<BeanDefinition> runScanning(List<BeanScanner> scanners) {
         return scanners.stream()
                 .map(BeanScanner::scan)
                 .flatMap(List::stream)
                 .toList();
     }
 
+    /**
+     * Replaces bean definitions with slim {@link RuntimeBeanDefinition}s, so that reflection and scan-time state
+     * which is no longer needed once beans are created can be garbage collected.
+     *
+     * <p>Is expected to be called right after creation, before the context is shared with other threads.</p>
+     *
+     * @see BeanDefinitionsContainer#compact()
+     */
+    public void compact() {
+        int releasedDependencies = container.compact();
+        log.info("Application context compacted, {} bean definitions replaced with runtime ones, "
+                        + "releasing their reflection state and {} resolved dependencies",
+                container.getBeanDefinitions().size(), releasedDependencies);
+    }
+
     @Override
     public <T> T getBean(Class<T> beanType) {
         checkNotNull(beanType, BEAN_TYPE_MUST_BE_NOT_NULL_MESSAGE);
@@ -118,4 +191,35 @@ public class ApplicationContextImpl implements ApplicationContext {
         checkArgument(containsNone(beanName, SPACE), BEAN_NAME_MUST_NOT_CONTAIN_SPACES);
     }
 
+
+    /**
+     * Optional settings of {@link ApplicationContextImpl}, none of them is applied by {@link #DEFAULTS}.
+     *
+     * @param scanPipeline       pipeline to run scanners with, so that discovery, validation and mapping of bean
+     *                           candidates overlap, {@code null} to run them one by one
+     * @param snapshot           snapshot of bean graph to restore the graph out of when it matches scanned definitions,
+     *                           skipping validation and dependency resolution, {@code null} to always validate and
+     *                           resolve definitions
+     * @param trustedFingerprint fingerprint of bean set validated at build time, when it matches dependencies are only
+     *                           resolved by {@link BeanDependencyResolver} and sorted, {@code null} to always validate
+     *                           definitions
+     */
+    public record Options(@Nullable BeanScanPipeline scanPipeline,
+                          @Nullable BeanGraphSnapshot snapshot,
+                          @Nullable ValidationFingerprint trustedFingerprint) {
+
+        public static final Options DEFAULTS = new Options(null, null, null);
+
+        public Options withScanPipeline(@Nullable BeanScanPipeline scanPipeline) {
+            return new Options(scanPipeline, snapshot, trustedFingerprint);
+        }
+
+        public Options withSnapshot(@Nullable BeanGraphSnapshot snapshot) {
+            return new Options(scanPipeline, snapshot, trustedFingerprint);
+        }
+
+        public Options withTrustedFingerprint(@Nullable ValidationFingerprint trustedFingerprint) {
+            return new Options(scanPipeline, snapshot, trustedFingerprint);
+        }
+    }
 }
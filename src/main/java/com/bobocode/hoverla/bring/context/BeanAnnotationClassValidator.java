@@ -6,21 +6,15 @@ import com.bobocode.hoverla.bring.annotation.Qualifier;
 import com.bobocode.hoverla.bring.exception.BeanClassValidationException;
 import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.AnnotatedElement;
+import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,25 +22,26 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
-import static java.util.Arrays.asList;
 import static java.util.function.Function.*;
 import static java.util.stream.Collectors.*;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 
 /**
  * Validates classes annotated with {@link Bean @Bean} that were scanned by {@link BeanAnnotationScanner}.
  *
- * <p>Receives a {@link Set} of {@link Class} objects and performs type, instance fields and constructors checks.</p>
+ * <p>Receives a {@link Set} of {@link Class} objects and performs type, instance fields and constructors checks.
+ * Constructors and fields are taken from {@link BeanClassMetadata} shared with bean definitions.</p>
  * Validation ensures:
  * <ol>
  *     <li>Valid type of a {@link Class} object.
  *     <br>See {@link BeanAnnotationClassValidator#validateClass(Class)}</li>
  *     <li>Valid declared constructor - one constructor declaration allowed, plain constructors are not
  *     mixed with constructors annotated with {@link Inject @Inject}.
- *     <br>See {@link BeanAnnotationClassValidator#validateConstructors(Class, List)}</li>
+ *     <br>See {@link BeanAnnotationClassValidator#validateConstructors(BeanClassMetadata, List)}</li>
  *     <li>Valid declared constructor parameters - there should be no parameters with duplicated {@link Qualifier @Qualifier} value
  *     or parameters of the same type without {@link Qualifier @Qualifier}.
  *     <br>See {@link BeanAnnotationClassValidator#validateConstructorParameters(List, List)}</li>
@@ -54,7 +49,7 @@ import static org.apache.commons.lang3.ArrayUtils.isEmpty;
  *     are neither {@code static} nor {@code final}.
  *     There should be no fields of the same type without {@link Qualifier @Qualifier} annotation.
  *     There should be no fields with the same {@link Qualifier @Qualifier} value.</li>
- *     <br>See {@link BeanAnnotationClassValidator#validateFields(Class, List)}
+ *     <br>See {@link BeanAnnotationClassValidator#validateFields(BeanClassMetadata, List)}
  * </ol>
  *
  * @see Bean
@@ -74,6 +69,37 @@ public class BeanAnnotationClassValidator {
             "Inner type ", type -> Objects.nonNull(type.getEnclosingClass())
     );
 
+    private final ParallelClassValidation classValidation;
+
+    /**
+     * Creates validator that checks classes one by one
+     */
+    public BeanAnnotationClassValidator() {
+        this(1);
+    }
+
+    /**
+     * Creates validator that checks classes concurrently. Thrown exception is the same as of sequential validation.
+     *
+     * @param parallelism number of threads to check classes with
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public BeanAnnotationClassValidator(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * Same as {@link #BeanAnnotationClassValidator(int)}, but no class is checked when the scanned classes match
+     * the fingerprint signed at build time.
+     *
+     * @param parallelism        number of threads to check classes with
+     * @param trustedFingerprint fingerprint of classes validated at build time, {@code null} to always check classes
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public BeanAnnotationClassValidator(int parallelism, @Nullable ValidationFingerprint trustedFingerprint) {
+        this.classValidation = new ParallelClassValidation(parallelism, trustedFingerprint);
+    }
+
     /**
      * Performs validation of scanned {@link Class} objects.
      *
@@ -83,26 +109,39 @@ public class BeanAnnotationClassValidator {
      */
     public void validateBeanClasses(Set<Class<?>> beanClasses) {
         log.info("Started validation of {} scanned `@Bean` classes", beanClasses.size());
-        for (Class<?> beanClass : beanClasses) {
-            List<String> validationViolations = new ArrayList<>();
-            String beanClassName = beanClass.getName();
+        classValidation.validate(beanClasses, this::checkBeanClass);
+    }
 
-            log.trace("Validating class - {}", beanClassName);
-            validateClass(beanClass);
-            validateConstructors(beanClass, validationViolations);
-            validateFields(beanClass, validationViolations);
+    /**
+     * Performs validation of a single scanned {@link Class} object.
+     *
+     * @param beanClass scanned {@link Class} object annotated with {@link Bean @Bean}.
+     * @throws BeanClassValidationException when any validation constraint is violated.
+     */
+    public void validateBeanClass(Class<?> beanClass) {
+        classValidation.validate(beanClass, this::checkBeanClass);
+    }
 
-            if (!validationViolations.isEmpty()) {
-                log.error("Validation failed for class - {}", beanClassName);
+    private void checkBeanClass(Class<?> beanClass) {
+        List<String> validationViolations = new ArrayList<>();
+        String beanClassName = beanClass.getName();
 
-                int violationsAmount = validationViolations.size();
-                String formattedViolations = String.join(VIOLATION_MESSAGES_DELIMITER, validationViolations);
+        log.trace("Validating class - {}", beanClassName);
+        validateClass(beanClass);
+        BeanClassMetadata metadata = BeanClassMetadata.of(beanClass);
+        validateConstructors(metadata, validationViolations);
+        validateFields(metadata, validationViolations);
 
-                String exceptionMessage = format("Found %d validation errors for class %s: %n- %s",
-                        violationsAmount, beanClassName, formattedViolations);
+        if (!validationViolations.isEmpty()) {
+            log.error("Validation failed for class - {}", beanClassName);
 
-                throw new BeanClassValidationException(exceptionMessage);
-            }
+            int violationsAmount = validationViolations.size();
+            String formattedViolations = String.join(VIOLATION_MESSAGES_DELIMITER, validationViolations);
+
+            String exceptionMessage = format("Found %d validation errors for class %s: %n- %s",
+                    violationsAmount, beanClassName, formattedViolations);
+
+            throw new BeanClassValidationException(exceptionMessage);
         }
     }
 
@@ -125,26 +164,24 @@ public class BeanAnnotationClassValidator {
         }
     }
 
-    private void validateConstructors(Class<?> beanClass, List<String> validationViolations) {
-        List<Constructor<?>> beanConstructors = asList(beanClass.getConstructors());
+    private void validateConstructors(BeanClassMetadata metadata, List<String> validationViolations) {
+        List<Constructor<?>> beanConstructors = metadata.constructors();
         log.trace("Overall number of constructors found - {}", beanConstructors.size());
         if (beanConstructors.isEmpty()) {
             validationViolations.add("Class has no public constructors");
             return;
         }
 
-        List<Constructor<?>> injectionConstructors = getElementsAnnotatedWith(beanConstructors, Inject.class);
-        if (!injectionConstructors.isEmpty()) {
-            validateInjectionConstructors(injectionConstructors, validationViolations);
+        if (!metadata.injectConstructors().isEmpty()) {
+            validateInjectionConstructors(metadata, validationViolations);
         } else {
             log.trace("No @Inject constructor found. Trying to find plain one");
-            validatePlainConstructors(beanConstructors, validationViolations);
+            validatePlainConstructors(metadata, validationViolations);
         }
     }
 
-    private void validateInjectionConstructors(List<Constructor<?>> injectionConstructors,
-                                               List<String> validationViolations) {
-        int constructorAmount = injectionConstructors.size();
+    private void validateInjectionConstructors(BeanClassMetadata metadata, List<String> validationViolations) {
+        int constructorAmount = metadata.injectConstructors().size();
         log.trace("Found {} @Inject constructors", constructorAmount);
         if (constructorAmount > 1) {
             validationViolations.add(
@@ -152,33 +189,31 @@ public class BeanAnnotationClassValidator {
             return;
         }
 
-        Constructor<?> beanConstructor = injectionConstructors.get(0);
+        Constructor<?> beanConstructor = metadata.constructor();
         log.trace("Single @Inject constructor found - {}", beanConstructor);
 
         if (beanConstructor.getParameterCount() == 0) {
             validationViolations.add("@Inject constructor has no parameters");
         } else {
             validateGenericConstructor(beanConstructor);
-
-            List<Parameter> constructorParameters = asList(beanConstructor.getParameters());
-            validateConstructorParameters(constructorParameters, validationViolations);
+            validateConstructorParameters(metadata.constructorParameters(), validationViolations);
         }
     }
 
-    private void validatePlainConstructors(List<Constructor<?>> beanConstructors, List<String> validationViolations) {
+    private void validatePlainConstructors(BeanClassMetadata metadata, List<String> validationViolations) {
+        List<Constructor<?>> beanConstructors = metadata.constructors();
         if (beanConstructors.size() > 1) {
             validationViolations.add(format("Class has %d plain constructors. Unable to pick up one", beanConstructors.size()));
             return;
         }
-        Constructor<?> beanConstructor = beanConstructors.get(0);
+        Constructor<?> beanConstructor = metadata.constructor();
         log.trace("Single plain constructor found - {}", beanConstructor);
 
         int parameterCount = beanConstructor.getParameterCount();
         if (parameterCount > 0) {
             validateGenericConstructor(beanConstructor);
-            List<Parameter> constructorParameters = asList(beanConstructor.getParameters());
             log.trace("Constructor has {} parameters - will be used for injection", parameterCount);
-            validateConstructorParameters(constructorParameters, validationViolations);
+            validateConstructorParameters(metadata.constructorParameters(), validationViolations);
         }
     }
 
@@ -190,29 +225,28 @@ public class BeanAnnotationClassValidator {
         }
     }
 
-    private void validateConstructorParameters(List<Parameter> constructorParameters, List<String> validationViolations) {
+    private void validateConstructorParameters(List<InjectionPoint> constructorParameters, List<String> validationViolations) {
         log.trace("Validating constructor parameters");
         constructorParameters.stream()
-                .filter(p -> Collection.class.isAssignableFrom(p.getType()))
+                .filter(InjectionPoint::collection)
                 .forEach(p -> validateGenericParameter(p, validationViolations));
 
-        List<Parameter> qualifiedParameters = getElementsAnnotatedWith(constructorParameters, Qualifier.class);
-        List<Parameter> nonQualifiedParameters = ListUtils.removeAll(constructorParameters, qualifiedParameters);
+        Map<Boolean, List<InjectionPoint>> parametersByQualifier = constructorParameters.stream()
+                .collect(partitioningBy(InjectionPoint::qualified));
 
-        validateQualifiedParameters(qualifiedParameters, validationViolations);
-        validateNonQualifiedParameters(nonQualifiedParameters, validationViolations);
+        validateQualifiedParameters(parametersByQualifier.get(true), validationViolations);
+        validateNonQualifiedParameters(parametersByQualifier.get(false), validationViolations);
     }
 
-    private void validateGenericParameter(Parameter collectionParameter, List<String> validationViolations) {
-        Type paramType = collectionParameter.getParameterizedType();
-        if (!(paramType instanceof ParameterizedType)) {
-            validationViolations.add("Parameter '%s' is a Collection of raw type".formatted(collectionParameter.getName()));
+    private void validateGenericParameter(InjectionPoint collectionParameter, List<String> validationViolations) {
+        if (!(collectionParameter.genericType() instanceof ParameterizedType)) {
+            validationViolations.add("Parameter '%s' is a Collection of raw type".formatted(collectionParameter.name()));
         }
     }
 
-    private void validateQualifiedParameters(List<Parameter> qualifiedParameters, List<String> validationViolations) {
+    private void validateQualifiedParameters(List<InjectionPoint> qualifiedParameters, List<String> validationViolations) {
         Map<String, List<String>> parametersWithSameQualifier = qualifiedParameters.stream()
-                .collect(groupingBy(p -> p.getAnnotation(Qualifier.class).value(), mapping(Parameter::getName, toList())));
+                .collect(groupingBy(InjectionPoint::qualifier, mapping(InjectionPoint::name, toList())));
 
         Maps.filterValues(parametersWithSameQualifier, names -> names.size() > 1)
                 .forEach((qualifier, paramNames) -> validationViolations.add(
@@ -221,13 +255,13 @@ public class BeanAnnotationClassValidator {
                 );
     }
 
-    private void validateNonQualifiedParameters(List<Parameter> nonQualifiedParameters,
+    private void validateNonQualifiedParameters(List<InjectionPoint> nonQualifiedParameters,
                                                 List<String> validationViolations) {
         validateCollectionParameters(nonQualifiedParameters, validationViolations);
 
         Map<Class<?>, List<String>> parametersWithSameType = nonQualifiedParameters.stream()
-                .filter(p -> !Collection.class.isAssignableFrom(p.getType()))
-                .collect(groupingBy(Parameter::getType, mapping(Parameter::getName, toList())));
+                .filter(p -> !p.collection())
+                .collect(groupingBy(InjectionPoint::type, mapping(InjectionPoint::name, toList())));
 
         Maps.filterValues(parametersWithSameType, paramNames -> paramNames.size() > 1)
                 .forEach((type, fieldNames) -> validationViolations.add(
@@ -236,31 +270,15 @@ public class BeanAnnotationClassValidator {
                 );
     }
 
-    private void validateCollectionParameters(List<Parameter> nonQualifiedParameters,
+    private void validateCollectionParameters(List<InjectionPoint> nonQualifiedParameters,
                                               List<String> validationViolations) {
-
-        boolean collectionDuplicatesPresent = nonQualifiedParameters.stream()
-                .filter(p -> Collection.class.isAssignableFrom(p.getType()))
-                .map(p -> Pair.of(p.getType(), resolveGenericType(p)))
-                .collect(groupingBy(identity(), counting()))
-                .values()
-                .stream()
-                .anyMatch(count -> count > 1);
-
-        if (collectionDuplicatesPresent) {
+        if (hasCollectionDuplicates(nonQualifiedParameters)) {
             validationViolations.add("Found several constructor parameters of Collection subtype with same generic type");
         }
     }
 
-    private Class<?> resolveGenericType(Parameter parameter) {
-        ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-        return ((Class<?>) parameterizedType.getActualTypeArguments()[0]);
-    }
-
-    private void validateFields(Class<?> beanClass, List<String> validationViolations) {
-        List<Field> classFields = asList(beanClass.getDeclaredFields());
-
-        List<Field> fieldsForInjection = getElementsAnnotatedWith(classFields, Inject.class);
+    private void validateFields(BeanClassMetadata metadata, List<String> validationViolations) {
+        List<InjectionPoint> fieldsForInjection = metadata.injectionFields();
         if (fieldsForInjection.isEmpty()) {
             log.trace("No fields marked with @Inject found - aborting field validation");
             return;
@@ -270,16 +288,16 @@ public class BeanAnnotationClassValidator {
 
         validateFieldsModifiers(fieldsForInjection, validationViolations);
 
-        List<Field> qualifiedFields = getElementsAnnotatedWith(fieldsForInjection, Qualifier.class);
-        List<Field> nonQualifiedFields = ListUtils.removeAll(fieldsForInjection, qualifiedFields);
+        Map<Boolean, List<InjectionPoint>> fieldsByQualifier = fieldsForInjection.stream()
+                .collect(partitioningBy(InjectionPoint::qualified));
 
-        validateQualifiedFields(qualifiedFields, validationViolations);
-        validateNonQualifiedFields(nonQualifiedFields, validationViolations);
+        validateQualifiedFields(fieldsByQualifier.get(true), validationViolations);
+        validateNonQualifiedFields(fieldsByQualifier.get(false), validationViolations);
     }
 
-    private void validateQualifiedFields(List<Field> qualifiedFields, List<String> validationViolations) {
+    private void validateQualifiedFields(List<InjectionPoint> qualifiedFields, List<String> validationViolations) {
         Map<String, List<String>> fieldsWithSameQualifier = qualifiedFields.stream()
-                .collect(groupingBy(f -> f.getAnnotation(Qualifier.class).value(), mapping(Field::getName, toList())));
+                .collect(groupingBy(InjectionPoint::qualifier, mapping(InjectionPoint::name, toList())));
 
         Maps.filterValues(fieldsWithSameQualifier, fieldNames -> fieldNames.size() > 1)
                 .forEach((qualifier, fieldNames) -> validationViolations.add(
@@ -287,11 +305,11 @@ public class BeanAnnotationClassValidator {
                 );
     }
 
-    private void validateNonQualifiedFields(List<Field> nonQualifiedFields, List<String> validationViolations) {
+    private void validateNonQualifiedFields(List<InjectionPoint> nonQualifiedFields, List<String> validationViolations) {
         validateCollectionFields(nonQualifiedFields, validationViolations);
 
         Map<Class<?>, List<String>> fieldsWithSameType = nonQualifiedFields.stream()
-                .collect(groupingBy(Field::getType, mapping(Field::getName, toList())));
+                .collect(groupingBy(InjectionPoint::type, mapping(InjectionPoint::name, toList())));
 
         Maps.filterValues(fieldsWithSameType, fieldNames -> fieldNames.size() > 1)
                 .forEach((type, fieldNames) -> validationViolations.add(
@@ -299,41 +317,29 @@ public class BeanAnnotationClassValidator {
                 );
     }
 
-    private void validateCollectionFields(List<Field> nonQualifiedFields,
+    private void validateCollectionFields(List<InjectionPoint> nonQualifiedFields,
                                           List<String> validationViolations) {
+        if (hasCollectionDuplicates(nonQualifiedFields)) {
+            validationViolations.add("Found several instance fields of Collection subtype with same generic type");
+        }
+    }
 
-        boolean collectionDuplicatesPresent = nonQualifiedFields.stream()
-                .filter(f -> Collection.class.isAssignableFrom(f.getType()))
-                .map(f -> Pair.of(f.getType(), resolveGenericType(f)))
+    private boolean hasCollectionDuplicates(List<InjectionPoint> injectionPoints) {
+        return injectionPoints.stream()
+                .filter(InjectionPoint::collection)
+                .map(p -> Pair.of(p.type(), p.collectionElementType()))
                 .collect(groupingBy(identity(), counting()))
                 .values()
                 .stream()
                 .anyMatch(count -> count > 1);
-
-        if (collectionDuplicatesPresent) {
-            validationViolations.add("Found several instance fields of Collection subtype with same generic type");
-        }
-    }
-
-    private Class<?> resolveGenericType(Field field) {
-        ParameterizedType genericType = (ParameterizedType) field.getGenericType();
-        return ((Class<?>) genericType.getActualTypeArguments()[0]);
     }
 
-    private void validateFieldsModifiers(List<Field> fieldsForInjection, List<String> validationViolations) {
-        for (Field field : fieldsForInjection) {
-            String fieldName = field.getName();
-            int fieldModifiers = field.getModifiers();
+    private void validateFieldsModifiers(List<InjectionPoint> fieldsForInjection, List<String> validationViolations) {
+        for (InjectionPoint field : fieldsForInjection) {
+            int fieldModifiers = field.field().getModifiers();
             if (Modifier.isFinal(fieldModifiers) || Modifier.isStatic(fieldModifiers)) {
-                validationViolations.add(format("Field marked with @Inject cannot be static/final - %s", fieldName));
+                validationViolations.add(format("Field marked with @Inject cannot be static/final - %s", field.name()));
             }
         }
     }
-
-    private <E extends AnnotatedElement> List<E> getElementsAnnotatedWith(List<E> elements,
-                                                                          Class<? extends Annotation> annotationClass) {
-        return elements.stream()
-                .filter(member -> member.isAnnotationPresent(annotationClass))
-                .toList();
-    }
 }
@@ -1,40 +1,85 @@
 package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.google.common.base.Suppliers;
 import lombok.extern.slf4j.Slf4j;
-import org.reflections.Reflections;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A bean definition scanner that detects bean candidates on the classpath.
  *
- * <p>Candidate classes are detected through annotation {@link Bean @Bean}.</p>
+ * <p>Candidate classes are detected through annotation {@link Bean @Bean}.
+ * Compile-time {@link BeanIndex} is preferred over classpath scan when present. In this case definitions are
+ * created out of index metadata where available, while classes are loaded and validated only once their types
+ * are requested.</p>
+ *
+ * <p>Otherwise, with {@link BeanDefinitionCache} given, definitions of classes that have not changed since
+ * the previous run are created out of cached metadata, neither loading nor validating the classes.</p>
+ *
+ * <p>When run by {@link BeanScanPipeline}, classes are loaded and validated one by one as their names are discovered,
+ * unless they are mapped out of index metadata the same way as above.</p>
  *
  * @see Bean @Bean
  * @see BeanScanner
  */
 @Slf4j
-public class BeanAnnotationScanner implements BeanScanner {
+public class BeanAnnotationScanner implements StagedBeanScanner {
 
     private final BeanAnnotationClassValidator validator;
 
     private final BeanDefinitionMapper mapper;
 
-    private final String[] packagesToScan;
+    private final ClasspathScanResult scanResult;
+
+    @Nullable
+    private final BeanDefinitionCache cache;
+
+    /**
+     * Index metadata of bean classes that definitions can be created from, by class names, empty if there is no index
+     */
+    private final Supplier<Map<String, IndexedClass>> mappableIndexedBeanClasses =
+            Suppliers.memoize(this::findMappableIndexedBeanClasses);
 
     public BeanAnnotationScanner(BeanAnnotationClassValidator validator, BeanDefinitionMapper mapper,
                                  String... packagesToScan) {
+        this(validator, mapper, new ClasspathScanResult(packagesToScan));
+    }
+
+    public BeanAnnotationScanner(BeanAnnotationClassValidator validator, BeanDefinitionMapper mapper,
+                                 ClasspathScanResult scanResult) {
+        this(validator, mapper, scanResult, null);
+    }
+
+    /**
+     * @param cache cache of bean classes validated on previous runs, {@code null} to validate all classes
+     */
+    public BeanAnnotationScanner(BeanAnnotationClassValidator validator, BeanDefinitionMapper mapper,
+                                 ClasspathScanResult scanResult, @Nullable BeanDefinitionCache cache) {
         this.validator = validator;
         this.mapper = mapper;
-        this.packagesToScan = packagesToScan;
+        this.scanResult = scanResult;
+        this.cache = cache;
     }
 
     /**
-     * Performs scan of classes annotated with {@link Bean @Bean} from given {@link BeanAnnotationScanner#packagesToScan}.
+     * Performs scan of classes annotated with {@link Bean @Bean} from packages of given {@link ClasspathScanResult}.
      *
      * <p>Scanned {@link Class} objects are then transferred to {@link BeanAnnotationClassValidator} for further validation process.</p>
      * <p>{@link BeanDefinitionMapper} is used to map scanned {@link Class} objects to {@link BeanDefinition}.</p>
@@ -47,12 +92,20 @@ public class BeanAnnotationScanner implements BeanScanner {
      */
     @Override
     public List<BeanDefinition> scan() {
-        log.info("{} packages for scan received. Starting scan of classes annotated with '@Bean'", this.packagesToScan.length);
-        Reflections reflectionScanner = new Reflections((Object[]) this.packagesToScan);
-        Set<Class<?>> beanClasses = reflectionScanner.getTypesAnnotatedWith(Bean.class);
+        String[] packagesToScan = this.scanResult.getPackagesToScan();
+        log.info("{} packages for scan received. Starting scan of classes annotated with '@Bean'", packagesToScan.length);
+        Optional<List<IndexedClass>> indexedBeanClasses = this.scanResult.getIndexedBeanClasses();
+        if (indexedBeanClasses.isPresent()) {
+            return mapIndexedBeanClasses(indexedBeanClasses.get(), packagesToScan);
+        }
+        if (cache != null) {
+            return mapCachedBeanClasses(cache, packagesToScan);
+        }
+
+        Set<Class<?>> beanClasses = this.scanResult.getTypesAnnotatedWith(Bean.class);
 
         if (beanClasses.isEmpty()) {
-            log.warn("No classes annotated with `@Bean` found during scan in packages {}", Arrays.toString(this.packagesToScan));
+            log.warn("No classes annotated with `@Bean` found during scan in packages {}", Arrays.toString(packagesToScan));
             return Collections.emptyList();
         }
         log.debug("Successfully scanned {} `@Bean` classes", beanClasses.size());
@@ -63,4 +116,113 @@ public class BeanAnnotationScanner implements BeanScanner {
                 .map(mapper::mapToBeanDefinition)
                 .toList();
     }
+
+    @Override
+    public void discover(Consumer<String> candidateConsumer) {
+        Set<String> beanClassNames = this.scanResult.getTypeNamesAnnotatedWith(Bean.class);
+        if (beanClassNames.isEmpty()) {
+            log.warn("No classes annotated with `@Bean` found during scan in packages {}",
+                    Arrays.toString(this.scanResult.getPackagesToScan()));
+        }
+        beanClassNames.forEach(candidateConsumer);
+    }
+
+    /**
+     * Maps classes with indexed dependencies without loading them, the same way as {@link #scan()} does
+     */
+    @Override
+    public Optional<List<BeanDefinition>> mapIndexed(String candidateName) {
+        IndexedClass indexedClass = mappableIndexedBeanClasses.get().get(candidateName);
+        if (indexedClass == null) {
+            return Optional.empty();
+        }
+        return Optional.of(List.of(mapper.mapToBeanDefinition(indexedClass, this.scanResult.getClassLoader(),
+                validator::validateBeanClass)));
+    }
+
+    @Override
+    public Class<?> validate(String candidateName) {
+        Class<?> beanClass = BeanIndex.loadClass(candidateName, this.scanResult.getClassLoader());
+        this.validator.validateBeanClass(beanClass);
+        return beanClass;
+    }
+
+    @Override
+    public List<BeanDefinition> map(Class<?> candidate) {
+        return List.of(mapper.mapToBeanDefinition(candidate));
+    }
+
+    private Map<String, IndexedClass> findMappableIndexedBeanClasses() {
+        return this.scanResult.getIndexedBeanClasses()
+                .orElse(List.of())
+                .stream()
+                .filter(indexedClass -> indexedClass.dependencies() != null)
+                .collect(Collectors.toMap(IndexedClass::className, Function.identity()));
+    }
+
+    /**
+     * Classes with indexed dependencies are mapped without being loaded. The rest of classes,
+     * e.g. those listed by text index, are loaded and validated right away to be mapped through reflection.
+     */
+    private List<BeanDefinition> mapIndexedBeanClasses(List<IndexedClass> indexedBeanClasses, String... packagesToScan) {
+        if (indexedBeanClasses.isEmpty()) {
+            log.warn("No classes annotated with `@Bean` found in bean index for packages {}", Arrays.toString(packagesToScan));
+            return Collections.emptyList();
+        }
+        log.debug("Successfully read {} `@Bean` classes from bean index", indexedBeanClasses.size());
+
+        ClassLoader classLoader = this.scanResult.getClassLoader();
+        Map<Boolean, List<IndexedClass>> byMetadataPresence = indexedBeanClasses.stream()
+                .collect(Collectors.partitioningBy(indexedClass -> indexedClass.dependencies() != null));
+
+        Set<Class<?>> beanClasses = byMetadataPresence.get(false).stream()
+                .map(indexedClass -> BeanIndex.loadClass(indexedClass.className(), classLoader))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!beanClasses.isEmpty()) {
+            this.validator.validateBeanClasses(beanClasses);
+        }
+
+        Stream<BeanDefinition> reflectiveDefinitions = beanClasses.stream()
+                .map(mapper::mapToBeanDefinition);
+        Stream<BeanDefinition> indexedDefinitions = byMetadataPresence.get(true).stream()
+                .map(indexedClass -> mapper.mapToBeanDefinition(indexedClass, classLoader,
+                        validator::validateBeanClass));
+        return Stream.concat(reflectiveDefinitions, indexedDefinitions).toList();
+    }
+
+    /**
+     * Classes cached with the same class file are mapped out of cached metadata and are never validated.
+     * The rest of classes are loaded and validated right away to be mapped through reflection and then cached.
+     */
+    private List<BeanDefinition> mapCachedBeanClasses(BeanDefinitionCache cache, String... packagesToScan) {
+        Set<String> beanClassNames = this.scanResult.getTypeNamesAnnotatedWith(Bean.class);
+        if (beanClassNames.isEmpty()) {
+            log.warn("No classes annotated with `@Bean` found during scan in packages {}", Arrays.toString(packagesToScan));
+            return Collections.emptyList();
+        }
+
+        ClassLoader classLoader = this.scanResult.getClassLoader();
+        List<BeanDefinition> beanDefinitions = new ArrayList<>();
+        Set<String> changedClassNames = new LinkedHashSet<>();
+        for (String beanClassName : beanClassNames) {
+            cache.get(beanClassName).ifPresentOrElse(
+                    // class file is the same as when it was validated
+                    indexedClass -> beanDefinitions.add(mapper.mapToBeanDefinition(indexedClass, classLoader,
+                            beanClass -> {})),
+                    () -> changedClassNames.add(beanClassName));
+        }
+        log.debug("Mapped {} `@Bean` classes from bean definition cache, {} classes to validate",
+                beanDefinitions.size(), changedClassNames.size());
+
+        Set<Class<?>> beanClasses = BeanIndex.loadClasses(changedClassNames, classLoader);
+        if (!beanClasses.isEmpty()) {
+            this.validator.validateBeanClasses(beanClasses);
+        }
+        for (Class<?> beanClass : beanClasses) {
+            BeanDefinition beanDefinition = mapper.mapToBeanDefinition(beanClass);
+            cache.putBean(beanDefinition);
+            beanDefinitions.add(beanDefinition);
+        }
+        return beanDefinitions;
+    }
 }
@@ -0,0 +1,188 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Inject;
+import com.google.common.base.Suppliers;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Reflection metadata of a class marked with {@link Bean @Bean}: public constructors, the one chosen for injection
+ * with its parameters, fields marked with {@link Inject @Inject}, bean name and primary flag.
+ *
+ * <p>Metadata is computed once per class and cached in a {@link ClassValue}, so that validation,
+ * dependencies resolution and instantiation share it instead of introspecting the class again
+ * and cloning reflection arrays on each call. The same applies to the {@link InstanceFactory} of the constructor
+ * and {@link FieldAccessor accessors} of injected fields, as well as to the {@link HiddenClassInstanceFactories hidden class
+ * factory} that does both at once, so that contexts created one after another in the same JVM reuse them.
+ * Instances are immutable and can be shared across threads.</p>
+ *
+ * <p>Cached metadata holds reflection objects and generated factories of the class for as long as the class
+ * stays loaded. It is reclaimed only along with the class, once its class loader becomes unreachable,
+ * or when it is {@link #release(Class) released}.</p>
+ *
+ * @see BeanAnnotationClassValidator
+ * @see ClassBasedBeanDefinition
+ */
+public final class BeanClassMetadata {
+
+    private static final ClassValue<BeanClassMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected BeanClassMetadata computeValue(Class<?> type) {
+            return new BeanClassMetadata(type);
+        }
+    };
+
+    private final String beanName;
+
+    private final boolean primary;
+
+    private final List<Constructor<?>> constructors;
+
+    private final List<Constructor<?>> injectConstructors;
+
+    @Nullable
+    private final Constructor<?> constructor;
+
+    private final List<InjectionPoint> constructorParameters;
+
+    private final List<InjectionPoint> injectionFields;
+
+    private final Supplier<InstanceFactory> instanceFactory;
+
+    private final Supplier<List<FieldAccessor>> fieldAccessors;
+
+    private final Supplier<Optional<InstanceFactory>> hiddenClassFactory;
+
+    private BeanClassMetadata(Class<?> beanClass) {
+        Bean bean = beanClass.getAnnotation(Bean.class);
+        this.beanName = bean == null || isBlank(bean.value()) ? beanClass.getName() : bean.value();
+        this.primary = bean != null && bean.primary();
+
+        this.constructors = List.of(beanClass.getConstructors());
+        this.injectConstructors = constructors.stream()
+                .filter(ctor -> ctor.isAnnotationPresent(Inject.class))
+                .toList();
+        // single @Inject constructor or single plain one is expected, see BeanAnnotationClassValidator
+        this.constructor = !injectConstructors.isEmpty()
+                ? injectConstructors.get(0)
+                : constructors.stream().findFirst().orElse(null);
+        this.constructorParameters = constructor == null
+                ? List.of()
+                : Arrays.stream(constructor.getParameters())
+                .map(InjectionPoint::of)
+                .toList();
+
+        this.injectionFields = Arrays.stream(beanClass.getDeclaredFields())
+                .filter(field -> field.isAnnotationPresent(Inject.class))
+                .map(InjectionPoint::of)
+                .toList();
+
+        this.instanceFactory = Suppliers.memoize(() -> InstanceFactories.forConstructor(constructor));
+        this.fieldAccessors = Suppliers.memoize(() -> injectionFields.stream()
+                .map(FieldAccessor::of)
+                .toList());
+        this.hiddenClassFactory = Suppliers.memoize(() -> constructor == null
+                ? Optional.empty()
+                : HiddenClassInstanceFactories.forBean(constructor, injectionFields));
+    }
+
+    /**
+     * @param beanClass class marked with {@link Bean @Bean}
+     * @return metadata of the class, computed on first request
+     */
+    public static BeanClassMetadata of(Class<?> beanClass) {
+        return CACHE.get(beanClass);
+    }
+
+    /**
+     * Drops cached metadata of the class, so that it is computed again on next request.
+     *
+     * @param beanClass class marked with {@link Bean @Bean}
+     */
+    public static void release(Class<?> beanClass) {
+        CACHE.remove(beanClass);
+    }
+
+    /**
+     * @return value of {@link Bean#value()} or class name if the value is blank
+     */
+    public String beanName() {
+        return beanName;
+    }
+
+    /**
+     * @return value of {@link Bean#primary()}
+     */
+    public boolean primary() {
+        return primary;
+    }
+
+    /**
+     * @return all public constructors
+     */
+    public List<Constructor<?>> constructors() {
+        return constructors;
+    }
+
+    /**
+     * @return public constructors marked with {@link Inject @Inject}
+     */
+    public List<Constructor<?>> injectConstructors() {
+        return injectConstructors;
+    }
+
+    /**
+     * @return constructor to instantiate the bean with - the first {@link Inject @Inject} one
+     * or the first plain one, {@code null} if there are no public constructors
+     */
+    @Nullable
+    public Constructor<?> constructor() {
+        return constructor;
+    }
+
+    /**
+     * @return factory invoking {@link #constructor()}, created on first request
+     * @throws NullPointerException when there are no public constructors
+     */
+    public InstanceFactory instanceFactory() {
+        return instanceFactory.get();
+    }
+
+    /**
+     * @return parameters of {@link #constructor()} in declaration order
+     */
+    public List<InjectionPoint> constructorParameters() {
+        return constructorParameters;
+    }
+
+    /**
+     * @return declared fields marked with {@link Inject @Inject}, including static and final ones
+     */
+    public List<InjectionPoint> injectionFields() {
+        return injectionFields;
+    }
+
+    /**
+     * @return accessors of {@link #injectionFields()} in the same order, created on first request
+     */
+    public List<FieldAccessor> fieldAccessors() {
+        return fieldAccessors.get();
+    }
+
+    /**
+     * @return factory of a hidden class that invokes {@link #constructor()} and injects {@link #injectionFields()}
+     * at once, taking constructor arguments followed by field values; created on first request and empty
+     * when it cannot be defined for the class
+     */
+    public Optional<InstanceFactory> hiddenClassFactory() {
+        return hiddenClassFactory.get();
+    }
+}
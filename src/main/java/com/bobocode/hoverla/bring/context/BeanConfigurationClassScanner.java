@@ -2,42 +2,83 @@ package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Bean;
 import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndex;
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.google.common.base.Suppliers;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.reflections.Reflections;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * A bean definition {@link BeanScanner scanner} that detects bean candidates defined as methods marked
  * with {@link Bean @Bean} annotation in class annotated with {@link Configuration @Configuration}
  *
+ * <p>Compile-time {@link BeanIndex} is preferred over classpath scan when present.
+ * {@link Bean @Bean} methods are taken from {@link BinaryBeanIndex} when the configuration class is recorded there.</p>
+ *
+ * <p>With {@link BeanDefinitionCache} given, configuration classes that have not changed since the previous run
+ * are not validated and their {@link Bean @Bean} methods are taken from the cache.</p>
+ *
+ * <p>Configuration classes are not instantiated during scan. Each of them is created once, when the first of its
+ * beans defined by a non-static method is instantiated. Creation is synchronized per configuration class,
+ * so independent configuration classes can be created in parallel.</p>
+ *
  * @see Bean @Bean
  * @see Configuration @Configuration
  * @see BeanScanner
  */
 @Slf4j
-public class BeanConfigurationClassScanner implements BeanScanner {
+public class BeanConfigurationClassScanner implements StagedBeanScanner {
 
-    private final String[] packagesToScan;
+    private final ClasspathScanResult scanResult;
     private final BeanConfigurationClassValidator validator;
     private final BeanDefinitionMapper mapper;
 
+    @Nullable
+    private final BeanDefinitionCache cache;
+
     public BeanConfigurationClassScanner(BeanConfigurationClassValidator validator,
                                          BeanDefinitionMapper mapper,
                                          String... packagesToScan) {
-        this.packagesToScan = packagesToScan;
+        this(validator, mapper, new ClasspathScanResult(packagesToScan));
+    }
+
+    public BeanConfigurationClassScanner(BeanConfigurationClassValidator validator,
+                                         BeanDefinitionMapper mapper,
+                                         ClasspathScanResult scanResult) {
+        this(validator, mapper, scanResult, null);
+    }
+
+    /**
+     * @param cache cache of configuration classes validated on previous runs, {@code null} to validate all classes
+     */
+    public BeanConfigurationClassScanner(BeanConfigurationClassValidator validator,
+                                         BeanDefinitionMapper mapper,
+                                         ClasspathScanResult scanResult,
+                                         @Nullable BeanDefinitionCache cache) {
+        this.scanResult = scanResult;
         this.validator = validator;
         this.mapper = mapper;
+        this.cache = cache;
     }
 
     /**
      * Performs scan of classes annotated with {@link Configuration @Configuration}
-     * from given {@link BeanConfigurationClassScanner#packagesToScan packages}.
+     * from packages of given {@link ClasspathScanResult}.
      *
      * <p>Scanned {@link Class} objects are then transferred to {@link BeanConfigurationClassValidator validator} for further validation process.</p>
      * <p>{@link BeanDefinitionMapper} is used to map scanned {@link Class} objects to {@link BeanDefinition}.</p>
@@ -49,9 +90,9 @@ public class BeanConfigurationClassScanner implements BeanScanner {
      */
     @Override
     public List<BeanDefinition> scan() {
+        String[] packagesToScan = scanResult.getPackagesToScan();
         log.info("{} packages for scan received. Starting scan of classes annotated with '@Configuration'", packagesToScan.length);
-        Reflections reflections = new Reflections((Object[]) packagesToScan);
-        Set<Class<?>> configClasses = reflections.getTypesAnnotatedWith(Configuration.class);
+        Set<Class<?>> configClasses = scanResult.getTypesAnnotatedWith(Configuration.class);
 
         if (configClasses.isEmpty()) {
             log.warn("No classes annotated with `@Configuration` found during scan in packages {}", Arrays.toString(packagesToScan));
@@ -59,21 +100,97 @@ public class BeanConfigurationClassScanner implements BeanScanner {
         }
         log.debug("Successfully scanned {} `@Configuration` classes", configClasses.size());
 
-        return configClasses.stream()
-                .map(this::scanBeanConfigMethods)
+        Map<Class<?>, Optional<IndexedClass>> cachedConfigClasses = new LinkedHashMap<>();
+        configClasses.forEach(configClass -> cachedConfigClasses.put(configClass,
+                cache == null ? Optional.empty() : cache.get(configClass.getName())));
+        List<Class<?>> changedConfigClasses = cachedConfigClasses.entrySet()
+                .stream()
+                .filter(configClass -> configClass.getValue().isEmpty())
+                .<Class<?>>map(Map.Entry::getKey)
+                .toList();
+        if (!changedConfigClasses.isEmpty()) {
+            validator.validateAll(changedConfigClasses);
+        }
+
+        return cachedConfigClasses.entrySet()
+                .stream()
+                .map(configClass -> scanBeanConfigMethods(configClass.getKey(), configClass.getValue()))
                 .flatMap(List::stream)
                 .toList();
     }
 
-    private List<BeanDefinition> scanBeanConfigMethods(Class<?> configClass) {
+    @Override
+    public void discover(Consumer<String> candidateConsumer) {
+        Set<String> configClassNames = scanResult.getTypeNamesAnnotatedWith(Configuration.class);
+        if (configClassNames.isEmpty()) {
+            log.warn("No classes annotated with `@Configuration` found during scan in packages {}",
+                    Arrays.toString(scanResult.getPackagesToScan()));
+        }
+        configClassNames.forEach(candidateConsumer);
+    }
+
+    @Override
+    public Class<?> validate(String candidateName) {
+        Class<?> configClass = BeanIndex.loadClass(candidateName, scanResult.getClassLoader());
         validator.validate(configClass);
-        Object configClassInstance = createConfigClassInstance(configClass);
+        return configClass;
+    }
+
+    @Override
+    public List<BeanDefinition> map(Class<?> candidate) {
+        return mapBeanConfigMethods(candidate);
+    }
+
+    /**
+     * @param cachedConfigClass configuration class validated on previous runs, otherwise the class is expected
+     *                          to be validated already
+     */
+    private List<BeanDefinition> scanBeanConfigMethods(Class<?> configClass, Optional<IndexedClass> cachedConfigClass) {
+        if (cachedConfigClass.isPresent()) {
+            log.trace("Configuration class {} is not changed, skipping validation", configClass.getName());
+            return mapBeanConfigMethods(configClass, cachedConfigClass.get()
+                    .beanMethods()
+                    .stream()
+                    .map(beanMethod -> resolveCachedBeanMethod(configClass, beanMethod))
+                    .toList());
+        }
+
+        List<Method> beanMethods = resolveIndexedOrDeclaredBeanMethods(configClass);
+        if (cache != null) {
+            cache.putConfiguration(configClass, beanMethods);
+        }
+        return mapBeanConfigMethods(configClass, beanMethods);
+    }
 
-        return resolveBeanMethods(configClass).stream()
+    private List<BeanDefinition> mapBeanConfigMethods(Class<?> configClass) {
+        return mapBeanConfigMethods(configClass, resolveIndexedOrDeclaredBeanMethods(configClass));
+    }
+
+    private List<BeanDefinition> mapBeanConfigMethods(Class<?> configClass, List<Method> beanMethods) {
+        Supplier<Object> configClassInstance = Suppliers.memoize(() -> createConfigClassInstance(configClass));
+
+        return beanMethods.stream()
                 .map(method -> mapper.mapToBeanDefinition(configClassInstance, method))
                 .toList();
     }
 
+    private List<Method> resolveIndexedOrDeclaredBeanMethods(Class<?> configClass) {
+        return scanResult.getIndexedBeanMethods(configClass)
+                .orElseGet(() -> resolveBeanMethods(configClass));
+    }
+
+    /**
+     * Class file of the configuration class is the same as when the method was cached, so it is present
+     */
+    @SneakyThrows
+    private Method resolveCachedBeanMethod(Class<?> configClass, IndexedBeanMethod beanMethod) {
+        Class<?>[] parameterTypes = beanMethod.parameterTypeNames()
+                .stream()
+                .map(typeName -> BeanIndex.loadClass(typeName, scanResult.getClassLoader()))
+                .toArray(Class<?>[]::new);
+        return configClass.getMethod(beanMethod.name(), parameterTypes);
+    }
+
     private List<Method> resolveBeanMethods(Class<?> configClass) {
         return Arrays.stream(configClass.getMethods())
                 .filter(m -> m.isAnnotationPresent(Bean.class))
@@ -82,6 +199,7 @@ public class BeanConfigurationClassScanner implements BeanScanner {
 
     /**
      * Creates instance of config class to share it across all bean definitions of the target config class.
+     * Is called lazily, on first instantiation of a bean that requires it.
      * No-arg constructor presence is checked during config class {@link BeanConfigurationClassValidator validation}.
      */
     @SneakyThrows
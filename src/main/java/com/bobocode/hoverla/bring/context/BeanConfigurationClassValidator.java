@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -56,12 +57,57 @@ public class BeanConfigurationClassValidator {
 
     private static final String VIOLATION_MSG_DELIMITER = "\n-";
 
+    private final ParallelClassValidation classValidation;
+
+    /**
+     * Creates validator that checks classes one by one
+     */
+    public BeanConfigurationClassValidator() {
+        this(1);
+    }
+
+    /**
+     * Creates validator that checks classes concurrently. Thrown exception is the same as of sequential validation.
+     *
+     * @param parallelism number of threads to check classes with
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public BeanConfigurationClassValidator(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * Same as {@link #BeanConfigurationClassValidator(int)}, but no class is checked when the scanned classes match
+     * the fingerprint signed at build time.
+     *
+     * @param parallelism        number of threads to check classes with
+     * @param trustedFingerprint fingerprint of classes validated at build time, {@code null} to always check classes
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public BeanConfigurationClassValidator(int parallelism, @Nullable ValidationFingerprint trustedFingerprint) {
+        this.classValidation = new ParallelClassValidation(parallelism, trustedFingerprint);
+    }
+
+    /**
+     * Checks violations of all config classes, failing with the violations of the first invalid class in iteration order
+     *
+     * @param configClasses target bean configuration classes
+     */
+    public void validateAll(Collection<Class<?>> configClasses) {
+        log.info("Started validation of {} `@Configuration` classes", configClasses.size());
+        classValidation.validate(configClasses, this::checkConfigClass);
+    }
+
     /**
      * Receives config class and checks violations of bean config class and its bean methods
      *
      * @param configClass target bean configuration class
      */
     public void validate(Class<?> configClass) {
+        classValidation.validate(configClass, this::checkConfigClass);
+    }
+
+    private void checkConfigClass(Class<?> configClass) {
         List<String> validationMessages = new ArrayList<>();
         validateConfigClass(configClass, validationMessages);
         validateMethods(configClass.getDeclaredMethods(), validationMessages);
@@ -2,7 +2,12 @@ package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Bean;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Describes a bean instance, which has {@code name}, {@code type}, {@code dependencies} and further information supplied by
@@ -27,6 +32,44 @@ public interface BeanDefinition {
      */
     Class<?> type();
 
+    /**
+     * Method for getting name of the type of current {@link BeanDefinition}, in the format of {@link Class#getName()}.
+     * Implementations that know the name before the type is loaded return it without loading the type.
+     *
+     * @return name of the type of current {@link BeanDefinition}
+     */
+    default String typeName() {
+        return type().getName();
+    }
+
+    /**
+     * Method for getting names of all types a bean of current {@link BeanDefinition} is assignable to - its type,
+     * all superclasses and interfaces of it, and {@link Object}. Implementations that know the names before the type
+     * is loaded return them without loading the type.
+     *
+     * @return names of the types in the format of {@link Class#getName()}, the type itself going first
+     */
+    default Set<String> assignableTypeNames() {
+        Class<?> type = type();
+        Set<String> assignableTypeNames = new LinkedHashSet<>();
+        Deque<Class<?>> typesToVisit = new ArrayDeque<>();
+        typesToVisit.add(type);
+        while (!typesToVisit.isEmpty()) {
+            Class<?> current = typesToVisit.removeFirst();
+            if (!assignableTypeNames.add(current.getName())) {
+                continue;
+            }
+            if (current.getSuperclass() != null) {
+                typesToVisit.add(current.getSuperclass());
+            }
+            typesToVisit.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        if (!type.isPrimitive()) {
+            assignableTypeNames.add(Object.class.getName());
+        }
+        return assignableTypeNames;
+    }
+
     /**
      * Returns dependencies of current {@link BeanDefinition} that are required for its instantiation in a format of {@link Map}.
      * <p>Key in this map is a {@link String} object that represents name of dependent {@link BeanDefinition}.</p>
@@ -54,6 +97,18 @@ public interface BeanDefinition {
      */
     void instantiate(BeanDefinition... dependencies);
 
+    /**
+     * Instantiates a bean from current {@link BeanDefinition} with dependencies resolved into {@link BeanGraph}.
+     *
+     * <p>Unlike {@link #instantiate(BeanDefinition...)}, dependencies are matched by their declared names,
+     * so they are not required to be named the same as the beans resolved for them.</p>
+     *
+     * @param dependencies {@link BeanDefinition} objects to be injected by keys of {@link #dependencies()}
+     */
+    default void instantiate(Map<String, BeanDefinition> dependencies) {
+        instantiate(dependencies.values().toArray(BeanDefinition[]::new));
+    }
+
     /**
      * Method for getting a created bean instance of current {@link BeanDefinition}.
      *
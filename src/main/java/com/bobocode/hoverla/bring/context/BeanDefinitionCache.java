@@ -0,0 +1,322 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.index.IndexedDependency;
+import com.bobocode.hoverla.bring.scan.ClasspathFingerprint;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * On-disk cache of validated {@link Bean @Bean} and {@link Configuration @Configuration} classes.
+ *
+ * <p>Each class is stored as {@link IndexedClass} metadata - bean name, primary flag, supertypes and dependencies
+ * with qualifiers and collection element types, or {@link Bean @Bean} methods of a configuration class - together
+ * with the fingerprint of its classpath root and a hash of its class file. While the class file stays the same,
+ * scanners create definitions out of the cached metadata instead of validating and introspecting the class again.
+ * Class files are hashed only when the fingerprint of their root has changed, both are taken from
+ * {@link ClasspathFingerprint} shared with other consumers of current start.</p>
+ *
+ * <p>Cache file is separate for each set of packages to scan, it is read on first lookup and written by
+ * {@link #save()} once scanners are done. Classes that were not looked up during the run are dropped from it.
+ * Cache is an optimization only - unreadable or outdated entries are treated as missing
+ * and failures to write them are logged and ignored.</p>
+ *
+ * @see BeanAnnotationScanner
+ * @see BeanConfigurationClassScanner
+ */
+@Slf4j
+public class BeanDefinitionCache {
+
+    private static final String HEADER = "# Bring bean definition cache v3";
+    private static final String CLASS_ENTRY = "class";
+    private static final String DEPENDENCY_ENTRY = "dependency";
+    private static final String METHOD_ENTRY = "method";
+    private static final String ENTRY_DELIMITER = "\t";
+    private static final String LIST_DELIMITER = ",";
+    private static final String NONE = "-";
+    private static final String FILE_EXTENSION = ".beans";
+
+    private final Path cacheFile;
+
+    private final ClasspathFingerprint fingerprint;
+
+    /**
+     * Entries read from the cache file, by class name
+     */
+    private final Supplier<Map<String, Entry>> storedEntries = Suppliers.memoize(this::read);
+
+    /**
+     * Entries of classes looked up during current run, by class name
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean modified;
+
+    /**
+     * @param directory      directory to store the cache in, created on first write if absent
+     * @param classLoader    class loader to read class files with
+     * @param packagesToScan packages scanned classes belong to
+     */
+    public BeanDefinitionCache(Path directory, ClassLoader classLoader, String... packagesToScan) {
+        this(directory, new ClasspathFingerprint(classLoader), packagesToScan);
+    }
+
+    /**
+     * @param directory      directory to store the cache in, created on first write if absent
+     * @param fingerprint    fingerprints of classpath roots and class files shared with other consumers of current start
+     * @param packagesToScan packages scanned classes belong to
+     */
+    public BeanDefinitionCache(Path directory, ClasspathFingerprint fingerprint, String... packagesToScan) {
+        String key = Hashing.sha256()
+                .hashString(String.join(LIST_DELIMITER, packagesToScan), UTF_8)
+                .toString();
+        this.cacheFile = directory.resolve(key + FILE_EXTENSION);
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @param className name of a scanned class
+     * @return cached metadata of the class or empty {@link Optional} if it is absent
+     * or was stored for a different class file
+     */
+    public Optional<IndexedClass> get(String className) {
+        Entry storedEntry = storedEntries.get().get(className);
+        if (storedEntry == null) {
+            return Optional.empty();
+        }
+        Optional<String> rootFingerprint = fingerprint.ofClassRoot(className);
+        if (rootFingerprint.isPresent() && rootFingerprint.get().equals(storedEntry.rootFingerprint())) {
+            entries.put(className, storedEntry);
+            return Optional.of(storedEntry.indexedClass());
+        }
+
+        // root has changed, but the class file itself might have not
+        Optional<String> classFileHash = fingerprint.ofClassFile(className);
+        if (classFileHash.isEmpty() || !classFileHash.get().equals(storedEntry.classFileHash())) {
+            log.trace("Cached metadata of {} is outdated", className);
+            return Optional.empty();
+        }
+        entries.put(className, new Entry(rootFingerprint.orElse(NONE), storedEntry.classFileHash(),
+                storedEntry.indexedClass()));
+        modified = true;
+        return Optional.of(storedEntry.indexedClass());
+    }
+
+    /**
+     * Caches metadata of a validated bean class out of its definition. Is expected to be called
+     * before names of dependencies are resolved.
+     *
+     * @param beanDefinition definition mapped from a class annotated with {@link Bean @Bean}
+     */
+    public void putBean(BeanDefinition beanDefinition) {
+        List<IndexedDependency> dependencies = beanDefinition.dependencies()
+                .values()
+                .stream()
+                .map(dependency -> new IndexedDependency(dependency.getName(), dependency.getType().getName(),
+                        dependency.isQualified(),
+                        dependency.isCollection() ? dependency.getCollectionGenericType().getName() : null))
+                .toList();
+        String className = beanDefinition.typeName();
+        List<String> supertypeNames = beanDefinition.assignableTypeNames()
+                .stream()
+                .filter(typeName -> !typeName.equals(className))
+                .toList();
+        put(new IndexedClass(className, true, false, beanDefinition.name(),
+                beanDefinition.isPrimary(), dependencies, List.of(), supertypeNames));
+    }
+
+    /**
+     * Caches {@link Bean @Bean} methods of a validated configuration class.
+     *
+     * @param configClass class annotated with {@link Configuration @Configuration}
+     * @param beanMethods its methods annotated with {@link Bean @Bean}
+     */
+    public void putConfiguration(Class<?> configClass, List<Method> beanMethods) {
+        List<IndexedBeanMethod> indexedBeanMethods = beanMethods.stream()
+                .map(method -> {
+                    Bean bean = method.getAnnotation(Bean.class);
+                    return new IndexedBeanMethod(method.getName(),
+                            Arrays.stream(method.getParameterTypes()).map(Class::getName).toList(),
+                            method.getReturnType().getName(),
+                            bean.value().isEmpty() ? method.getName() : bean.value(),
+                            bean.primary(),
+                            null);
+                })
+                .toList();
+        put(new IndexedClass(configClass.getName(), false, true, null, false, null, indexedBeanMethods));
+    }
+
+    /**
+     * Writes entries of classes looked up or put during current run, unless they are the same as stored ones.
+     * Is expected to be called once, after all scanners sharing the cache are done.
+     */
+    public void save() {
+        if (!modified && entries.size() == storedEntries.get().size()) {
+            return;
+        }
+        try {
+            Path directory = cacheFile.getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Entry entry : entries.values()) {
+                    writeEntry(entry, writer);
+                }
+            }
+            // concurrent instances may write the same file - last one wins, readers never see partial file
+            Files.move(tempFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Unable to write bean definition cache {}", cacheFile, e);
+        }
+    }
+
+    private void put(IndexedClass indexedClass) {
+        String className = indexedClass.className();
+        fingerprint.ofClassFile(className).ifPresent(classFileHash -> {
+            String rootFingerprint = fingerprint.ofClassRoot(className).orElse(NONE);
+            entries.put(className, new Entry(rootFingerprint, classFileHash, indexedClass));
+            modified = true;
+        });
+    }
+
+    private Map<String, Entry> read() {
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                log.trace("Bean definition cache {} is of unsupported version", cacheFile);
+                return Map.of();
+            }
+            return readEntries(reader);
+        } catch (NoSuchFileException e) {
+            return Map.of();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read bean definition cache {}, all classes will be validated", cacheFile, e);
+            return Map.of();
+        }
+    }
+
+    private Map<String, Entry> readEntries(BufferedReader reader) throws IOException {
+        Map<String, Entry> readEntries = new HashMap<>();
+        String[] classEntry = null;
+        List<IndexedDependency> dependencies = new ArrayList<>();
+        List<IndexedBeanMethod> beanMethods = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] entry = line.split(ENTRY_DELIMITER);
+            switch (entry[0]) {
+                case CLASS_ENTRY -> {
+                    addEntry(readEntries, classEntry, dependencies, beanMethods);
+                    checkLength(entry, 8, line);
+                    classEntry = entry;
+                    dependencies = new ArrayList<>();
+                    beanMethods = new ArrayList<>();
+                }
+                case DEPENDENCY_ENTRY -> {
+                    checkLength(entry, 5, line);
+                    dependencies.add(new IndexedDependency(entry[1], entry[2], Boolean.parseBoolean(entry[3]),
+                            nullable(entry[4])));
+                }
+                case METHOD_ENTRY -> {
+                    checkLength(entry, 6, line);
+                    List<String> parameterTypeNames = NONE.equals(entry[5])
+                            ? List.of()
+                            : List.of(entry[5].split(LIST_DELIMITER));
+                    beanMethods.add(new IndexedBeanMethod(entry[1], parameterTypeNames, entry[2], entry[3],
+                            Boolean.parseBoolean(entry[4]), null));
+                }
+                default -> throw new IOException("Malformed bean definition cache entry - %s".formatted(line));
+            }
+        }
+        addEntry(readEntries, classEntry, dependencies, beanMethods);
+        return readEntries;
+    }
+
+    private void addEntry(Map<String, Entry> readEntries, @Nullable String[] classEntry,
+                          List<IndexedDependency> dependencies, List<IndexedBeanMethod> beanMethods) {
+        if (classEntry == null) {
+            return;
+        }
+        boolean bean = Boolean.parseBoolean(classEntry[4]);
+        List<String> supertypeNames = NONE.equals(classEntry[7]) ? null : List.of(classEntry[7].split(LIST_DELIMITER));
+        var indexedClass = new IndexedClass(classEntry[1], bean, !bean, nullable(classEntry[5]),
+                Boolean.parseBoolean(classEntry[6]), bean ? List.copyOf(dependencies) : null, List.copyOf(beanMethods),
+                supertypeNames);
+        readEntries.put(indexedClass.className(), new Entry(classEntry[2], classEntry[3], indexedClass));
+    }
+
+    private void writeEntry(Entry entry, BufferedWriter writer) throws IOException {
+        IndexedClass indexedClass = entry.indexedClass();
+        writeLine(writer, CLASS_ENTRY, indexedClass.className(), entry.rootFingerprint(), entry.classFileHash(),
+                String.valueOf(indexedClass.bean()), orNone(indexedClass.beanName()),
+                String.valueOf(indexedClass.primary()),
+                indexedClass.supertypeNames() == null ? NONE : String.join(LIST_DELIMITER, indexedClass.supertypeNames()));
+        if (indexedClass.dependencies() != null) {
+            for (IndexedDependency dependency : indexedClass.dependencies()) {
+                writeLine(writer, DEPENDENCY_ENTRY, dependency.name(), dependency.typeName(),
+                        String.valueOf(dependency.qualified()), orNone(dependency.collectionElementTypeName()));
+            }
+        }
+        for (IndexedBeanMethod beanMethod : indexedClass.beanMethods()) {
+            String parameterTypeNames = beanMethod.parameterTypeNames().isEmpty()
+                    ? NONE
+                    : String.join(LIST_DELIMITER, beanMethod.parameterTypeNames());
+            writeLine(writer, METHOD_ENTRY, beanMethod.name(), beanMethod.returnTypeName(), beanMethod.beanName(),
+                    String.valueOf(beanMethod.primary()), parameterTypeNames);
+        }
+    }
+
+    private void writeLine(BufferedWriter writer, String... values) throws IOException {
+        writer.write(String.join(ENTRY_DELIMITER, values));
+        writer.newLine();
+    }
+
+    private void checkLength(String[] entry, int length, String line) throws IOException {
+        if (entry.length != length) {
+            throw new IOException("Malformed bean definition cache entry - %s".formatted(line));
+        }
+    }
+
+    @Nullable
+    private String nullable(String value) {
+        return NONE.equals(value) ? null : value;
+    }
+
+    private String orNone(@Nullable String value) {
+        return value == null ? NONE : value;
+    }
+
+    /**
+     * @param rootFingerprint fingerprint of the classpath root the class file was loaded from,
+     *                        {@code -} if the root cannot be fingerprinted
+     * @param classFileHash   hash of the class file the metadata was resolved from
+     * @param indexedClass    metadata of the class
+     */
+    private record Entry(String rootFingerprint, String classFileHash, IndexedClass indexedClass) {
+    }
+}
@@ -2,8 +2,11 @@ package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Bean;
 import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.index.IndexedClass;
 
 import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class BeanDefinitionMapper {
 
@@ -17,6 +20,21 @@ public class BeanDefinitionMapper {
         return new ClassBasedBeanDefinition(beanClass);
     }
 
+    /**
+     * Maps metadata of Java class annotated with {@link Bean @Bean} from compile-time bean index to {@link BeanDefinition}.
+     *
+     * <p>The class is not loaded until type of the definition is requested.</p>
+     *
+     * @param indexedClass       metadata of a class annotated with {@link Bean @Bean}, including its dependencies
+     * @param classLoader        class loader to load the class and types of its dependencies with
+     * @param beanClassValidator validation of the class, applied once the class is loaded
+     * @return instance of {@link ClassBasedBeanDefinition} via polymorphic {@link BeanDefinition} reference
+     */
+    public BeanDefinition mapToBeanDefinition(IndexedClass indexedClass, ClassLoader classLoader,
+                                              Consumer<Class<?>> beanClassValidator) {
+        return new ClassBasedBeanDefinition(indexedClass, classLoader, beanClassValidator);
+    }
+
     /**
      * Maps instance of Java class annotated with {@link Configuration @Configuration}
      * and its {@link Method} annotated with {@link Bean @Bean} to {@link BeanDefinition}
@@ -29,4 +47,16 @@ public class BeanDefinitionMapper {
         return new ConfigBasedBeanDefinition(configInstance, beanMethod);
     }
 
+    /**
+     * Same as {@link #mapToBeanDefinition(Object, Method)}, but the instance of configuration class
+     * is requested only when the bean is instantiated.
+     *
+     * @param configInstance supplier of an instance of a class annotated with {@link Configuration @Configuration}
+     * @param beanMethod     instance of a method annotated with {@link Bean @Bean}
+     * @return instance of {@link ConfigBasedBeanDefinition} via polymorphic {@link BeanDefinition} reference
+     */
+    public BeanDefinition mapToBeanDefinition(Supplier<?> configInstance, Method beanMethod) {
+        return new ConfigBasedBeanDefinition(configInstance, beanMethod);
+    }
+
 }
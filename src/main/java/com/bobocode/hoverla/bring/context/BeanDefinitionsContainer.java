@@ -1,19 +1,37 @@
 package com.bobocode.hoverla.bring.context;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Holds bean definitions of application context by name. Lookups by type go through names of the types
+ * the beans are assignable to, so that they load no bean classes. Only array types are matched
+ * through loaded classes, as they are covariant.
+ */
 public class BeanDefinitionsContainer {
 
     private final Map<String, BeanDefinition> beanDefinitions;
 
+    /**
+     * Names of beans by names of every type they are assignable to
+     */
+    private final Map<String, List<String>> beanNamesByAssignableType = new HashMap<>();
+
     public BeanDefinitionsContainer(List<BeanDefinition> beanDefinitions) {
         this.beanDefinitions = beanDefinitions.stream()
                 .collect(Collectors.toMap(BeanDefinition::name, Function.identity()));
+        for (BeanDefinition beanDefinition : this.beanDefinitions.values()) {
+            for (String typeName : beanDefinition.assignableTypeNames()) {
+                beanNamesByAssignableType.computeIfAbsent(typeName, name -> new ArrayList<>())
+                        .add(beanDefinition.name());
+            }
+        }
     }
 
     public Optional<BeanDefinition> getBeanDefinitionByName(String name) {
@@ -21,20 +39,44 @@ public class BeanDefinitionsContainer {
     }
 
     public List<BeanDefinition> getBeansAssignableFromType(Class<?> type) {
-        return beanDefinitions.values()
+        if (type.isArray()) {
+            return beanDefinitions.values()
+                    .stream()
+                    .filter(b -> type.isAssignableFrom(b.type()))
+                    .toList();
+        }
+        return beanNamesByAssignableType.getOrDefault(type.getName(), List.of())
                 .stream()
-                .filter(b -> type.isAssignableFrom(b.type()))
+                .map(beanDefinitions::get)
                 .toList();
     }
 
     public List<BeanDefinition> getBeansWithExactType(Class<?> type) {
         return beanDefinitions.values()
                 .stream()
-                .filter(b -> type.equals(b.type()))
+                .filter(b -> type.getName().equals(b.typeName()))
                 .toList();
     }
 
     public Collection<BeanDefinition> getBeanDefinitions() {
         return beanDefinitions.values();
     }
+
+    /**
+     * Replaces all definitions with {@link RuntimeBeanDefinition}s, releasing injection plans, dependencies,
+     * lazily supplied factories and other per-definition state they reference. {@link BeanClassMetadata} of bean
+     * classes stays cached, since it is shared with other contexts of the same JVM.
+     * Is expected to be called once, after all beans are instantiated and before the container is shared.
+     *
+     * @return number of dependencies held by the replaced definitions
+     * @throws NullPointerException when any of the definitions is not instantiated
+     */
+    public int compact() {
+        int[] releasedDependencies = new int[1];
+        beanDefinitions.replaceAll((name, definition) -> {
+            releasedDependencies[0] += definition.dependencies().size();
+            return RuntimeBeanDefinition.of(definition);
+        });
+        return releasedDependencies[0];
+    }
 }
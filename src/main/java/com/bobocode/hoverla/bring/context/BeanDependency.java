@@ -2,97 +2,144 @@ package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Qualifier;
 import com.bobocode.hoverla.bring.exception.BeanDependencyInjectionException;
-import lombok.AllArgsConstructor;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.IndexedDependency;
+import com.google.common.base.Suppliers;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
-import java.util.Collection;
+import java.util.function.Supplier;
 
-@AllArgsConstructor
 @Getter
 @EqualsAndHashCode(of = {"name"})
 public class BeanDependency {
 
-    @Setter
-    private String name;
+    private final String name;
 
-    private Class<?> type;
+    /**
+     * Types are resolved on first access for dependencies read from bean index
+     */
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Class<?>> type;
+
+    /**
+     * Name of the type as {@link Class#getName()} returns, known without loading the type
+     */
+    private final String typeName;
 
     private boolean qualified;
 
     private boolean collection;
 
     @Nullable
-    private Class<?> collectionGenericType;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Class<?>> collectionGenericType;
+
+    @Nullable
+    private final String collectionGenericTypeName;
+
+    public BeanDependency(String name, Class<?> type, boolean qualified, boolean collection,
+                          @Nullable Class<?> collectionGenericType) {
+        this(name, Suppliers.ofInstance(type), type.getName(), qualified, collection,
+                collectionGenericType == null ? null : Suppliers.ofInstance(collectionGenericType),
+                collectionGenericType == null ? null : collectionGenericType.getName());
+    }
 
     public BeanDependency(String name, Class<?> type, boolean qualified) {
+        this(name, type, qualified, false, null);
+    }
+
+    private BeanDependency(String name, Supplier<Class<?>> type, String typeName, boolean qualified,
+                           boolean collection, @Nullable Supplier<Class<?>> collectionGenericType,
+                           @Nullable String collectionGenericTypeName) {
         this.name = name;
         this.type = type;
+        this.typeName = typeName;
         this.qualified = qualified;
+        this.collection = collection;
+        this.collectionGenericType = collectionGenericType;
+        this.collectionGenericTypeName = collectionGenericTypeName;
     }
 
-    public static BeanDependency fromParameter(Parameter parameter) {
-        Class<?> parameterType = parameter.getType();
+    public Class<?> getType() {
+        return type.get();
+    }
 
-        String dependencyName = parameterType.getName();
-        boolean qualified = false;
-        if (parameter.isAnnotationPresent(Qualifier.class)) {
-            dependencyName = parameter.getAnnotation(Qualifier.class).value();
-            qualified = true;
-        }
+    @Nullable
+    public Class<?> getCollectionGenericType() {
+        return collectionGenericType == null ? null : collectionGenericType.get();
+    }
 
-        Class<?> collectionGenericType = null;
-        boolean isCollection = false;
-        if (Collection.class.isAssignableFrom(parameterType)) { // only generic collections supported for now
-            isCollection = true;
-
-            try {
-                ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-                collectionGenericType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-                if (!qualified) {
-                    dependencyName = String.join("#", dependencyName, collectionGenericType.getName());
-                }
-            } catch (ClassCastException ex) {
-                throw new BeanDependencyInjectionException("Parameter %s is a Collection of raw type"
-                        .formatted(parameter.getName()));
-            }
-        }
+    /**
+     * Creates dependency out of bean index metadata without loading its types.
+     *
+     * @param dependency  dependency recorded into bean index
+     * @param classLoader class loader to load dependency types with once they are requested
+     * @return dependency with lazily resolved types
+     */
+    public static BeanDependency fromIndex(IndexedDependency dependency, ClassLoader classLoader) {
+        Supplier<Class<?>> type = Suppliers.memoize(() -> BeanIndex.loadClass(dependency.typeName(), classLoader));
+        Supplier<Class<?>> collectionGenericType = dependency.collection()
+                ? Suppliers.memoize(() -> BeanIndex.loadClass(dependency.collectionElementTypeName(), classLoader))
+                : null;
+        return new BeanDependency(dependency.name(), type, dependency.typeName(), dependency.qualified(),
+                dependency.collection(), collectionGenericType, dependency.collectionElementTypeName());
+    }
 
-        return new BeanDependency(dependencyName, parameterType, qualified, isCollection, collectionGenericType);
+    /**
+     * @param beanName name of a bean to be injected into this collection dependency
+     * @return not qualified dependency on the bean, of the element type of this collection, which is loaded
+     * no earlier than the element type of this dependency
+     */
+    BeanDependency element(String beanName) {
+        return new BeanDependency(beanName, collectionGenericType, collectionGenericTypeName, false, false,
+                null, null);
     }
 
-    public static BeanDependency fromField(Field field) {
-        Class<?> fieldType = field.getType();
+    public static BeanDependency fromParameter(Parameter parameter) {
+        return fromInjectionPoint(InjectionPoint.of(parameter));
+    }
 
-        String dependencyName = fieldType.getName();
-        boolean qualified = false;
-        if (field.isAnnotationPresent(Qualifier.class)) {
-            dependencyName = field.getAnnotation(Qualifier.class).value();
-            qualified = true;
-        }
+    public static BeanDependency fromField(Field field) {
+        return fromInjectionPoint(InjectionPoint.of(field));
+    }
 
+    /**
+     * @param injectionPoint constructor parameter or field to inject the dependency into
+     * @return dependency named after {@link Qualifier @Qualifier} value or type name, followed by {@code #}
+     * and element type name for not qualified collections
+     * @throws BeanDependencyInjectionException when the injection point is a collection of raw type
+     */
+    public static BeanDependency fromInjectionPoint(InjectionPoint injectionPoint) {
         Class<?> collectionGenericType = null;
-        boolean isCollection = false;
-        if (Collection.class.isAssignableFrom(fieldType)) { // only generic collections supported for now
-            isCollection = true;
-
-            try {
-                ParameterizedType fieldGenericType = (ParameterizedType) field.getGenericType();
-                collectionGenericType = ((Class<?>) fieldGenericType.getActualTypeArguments()[0]);
-                if (!qualified) {
-                    dependencyName = String.join("#", dependencyName, collectionGenericType.getName());
-                }
-            } catch (ClassCastException ex) {
-                throw new BeanDependencyInjectionException("Field %s is a Collection of raw type"
-                        .formatted(field.getName()));
+        boolean isCollection = injectionPoint.collection();
+        if (isCollection) { // only generic collections supported for now
+            collectionGenericType = injectionPoint.collectionElementType();
+            if (collectionGenericType == null) {
+                throw new BeanDependencyInjectionException("%s %s is a Collection of raw type"
+                        .formatted(injectionPoint.field() == null ? "Parameter" : "Field", injectionPoint.name()));
             }
         }
 
-        return new BeanDependency(dependencyName, fieldType, qualified, isCollection, collectionGenericType);
+        return new BeanDependency(declaredName(injectionPoint), injectionPoint.type(), injectionPoint.qualified(),
+                isCollection, collectionGenericType);
+    }
+
+    /**
+     * @param injectionPoint constructor parameter or field to inject the dependency into
+     * @return name of the dependency before it is resolved to a name of the actual bean,
+     * see {@link #fromInjectionPoint(InjectionPoint)}
+     */
+    static String declaredName(InjectionPoint injectionPoint) {
+        if (injectionPoint.qualified()) {
+            return injectionPoint.qualifier();
+        }
+        String typeName = injectionPoint.type().getName();
+        Class<?> collectionElementType = injectionPoint.collectionElementType();
+        return collectionElementType == null ? typeName : String.join("#", typeName, collectionElementType.getName());
     }
 }
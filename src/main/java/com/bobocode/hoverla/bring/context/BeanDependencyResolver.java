@@ -0,0 +1,265 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.exception.BeanValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Resolves dependencies of all bean definitions into a {@link BeanGraph}, once per context.
+ *
+ * <p>Each dependency is resolved by the same rules {@code BeanDefinitionValidator} and {@code BeanDependencyNameResolver}
+ * used to apply one after another:</p>
+ * <ol>
+ *     <li>not qualified collection consists of all beans of its element type and fails if there are none;</li>
+ *     <li>bean named the same as the dependency is injected, if its type is suitable;</li>
+ *     <li>qualified dependency fails if no bean has its name;</li>
+ *     <li>otherwise, the dependency fails unless there is a single bean assignable to its type, or a single primary
+ *     one among several of them, the bean itself included;</li>
+ *     <li>the bean of exactly the dependency type is injected then, or the primary one if there are several
+ *     of them, and if there is none - the bean assignable to the dependency type, or the primary one
+ *     if there are several of them. The bean itself is never injected into its own dependency.</li>
+ * </ol>
+ *
+ * <p>Lookups go through indexes of definitions by name and by names of every type they are assignable to,
+ * built once, so resolution time grows linearly with the number of beans. Types are matched by their names,
+ * so that bean classes of definitions created out of bean index metadata are not loaded until their beans
+ * are instantiated. Only array types, which are covariant, are matched through loaded classes.</p>
+ */
+@Slf4j
+public class BeanDependencyResolver {
+
+    private static final String DIFFERENT_TYPES_IN_DEPENDENCIES = "Found dependency type is not assignable from the required type - required is %s but found %s";
+    private static final String MULTIPLE_BEANS_WITH_TYPE = "Found more than 1 bean with type %s in context";
+    private static final String NOT_FOUND_BEANS = "Unable to find bean with name `%s` and type %s in context";
+    private static final String MULTIPLE_PRIMARY_BEANS_FOUND = "Found more than 1 primary bean with type %s in context";
+    private static final String SINGLE_CANDIDATE_IS_ROOT = "Bean `%s` is the only bean of type %s to be injected into itself";
+
+    /**
+     * @param beanDefinitions all bean definitions of application context, with unique names
+     * @return graph of the definitions in the given order
+     * @throws BeanValidationException if any dependency cannot be resolved to a single bean
+     */
+    public BeanGraph resolve(List<BeanDefinition> beanDefinitions) {
+        log.debug("Resolving dependencies of {} bean definitions", beanDefinitions.size());
+        DefinitionIndex index = new DefinitionIndex(beanDefinitions);
+        Map<BeanDefinition, Map<String, BeanDefinition>> dependencies = new IdentityHashMap<>(beanDefinitions.size());
+        for (BeanDefinition beanDefinition : beanDefinitions) {
+            Map<String, BeanDependency> beanDependencies = beanDefinition.dependencies();
+            if (beanDependencies.isEmpty()) {
+                continue;
+            }
+            log.trace("Resolving {} dependencies of bean definition {} - {}",
+                    beanDependencies.size(), beanDefinition.name(), beanDefinition.typeName());
+
+            Map<String, BeanDefinition> resolvedDependencies = new LinkedHashMap<>();
+            beanDependencies.forEach((declaredName, dependency) -> {
+                BeanDefinition resolvedDependency = resolveDependency(beanDefinition, dependency, index, dependencies);
+                resolvedDependencies.put(declaredName, resolvedDependency);
+            });
+            dependencies.put(beanDefinition, resolvedDependencies);
+        }
+        return new BeanGraph(beanDefinitions, dependencies);
+    }
+
+    private BeanDefinition resolveDependency(BeanDefinition rootDefinition,
+                                             BeanDependency dependency,
+                                             DefinitionIndex index,
+                                             Map<BeanDefinition, Map<String, BeanDefinition>> dependencies) {
+        String dependencyName = dependency.getName();
+        String dependencyTypeName = dependency.getTypeName();
+        log.trace("Resolving dependency: {} - {}", dependencyName, dependencyTypeName);
+
+        if (!dependency.isQualified() && dependency.isCollection()) {
+            return resolveCollection(rootDefinition, dependency, index, dependencies);
+        }
+
+        BeanDefinition definitionByName = index.findByName(dependencyName);
+        if (definitionByName != null) {
+            checkTypeMatching(dependency, definitionByName, index);
+            return definitionByName;
+        }
+
+        // Check whether @Qualifier contains a non-existing bean name
+        if (dependency.isQualified()) {
+            throw new BeanValidationException(NOT_FOUND_BEANS.formatted(dependencyName, dependencyTypeName));
+        }
+
+        log.warn("Was not able to find bean by name `{}` - trying to find by type: {}",
+                dependencyName, dependencyTypeName);
+
+        BeanDefinition foundDependency = tryFindByType(rootDefinition, dependency, index);
+        log.trace("Found bean `{}` of class {}", foundDependency.name(), foundDependency.typeName());
+        return foundDependency;
+    }
+
+    private BeanDefinition resolveCollection(BeanDefinition rootDefinition,
+                                             BeanDependency collectionDependency,
+                                             DefinitionIndex index,
+                                             Map<BeanDefinition, Map<String, BeanDefinition>> dependencies) {
+        String elementTypeName = collectionDependency.getCollectionGenericTypeName();
+        Map<String, BeanDefinition> elements = new LinkedHashMap<>();
+        for (BeanDefinition candidate : index.findByType(elementTypeName, collectionDependency::getCollectionGenericType)) {
+            elements.put(candidate.name(), candidate);
+        }
+        if (elements.isEmpty()) {
+            throw new BeanValidationException(
+                    "No bean candidates found to be injected in Collection dependency %s with generic type %s"
+                            .formatted(collectionDependency.getName(), elementTypeName));
+        }
+        var collection = new CollectionBeanDefinition(collectionDependency, List.copyOf(elements.keySet()));
+        dependencies.put(collection, elements);
+        return collection;
+    }
+
+    private void checkTypeMatching(BeanDependency dependency, BeanDefinition foundBeanDefinition, DefinitionIndex index) {
+        if (!index.isAssignable(foundBeanDefinition, dependency.getTypeName(), dependency::getType)) {
+            throw new BeanValidationException(DIFFERENT_TYPES_IN_DEPENDENCIES
+                    .formatted(dependency.getTypeName(), foundBeanDefinition.typeName()));
+        }
+    }
+
+    private BeanDefinition tryFindByType(BeanDefinition rootDefinition, BeanDependency dependency, DefinitionIndex index) {
+        String typeName = dependency.getTypeName();
+        List<BeanDefinition> beansByType = index.findByType(typeName, dependency::getType);
+        if (beansByType.size() > 1) {
+            log.debug("Found more than 1 candidate for bean dependency with type {}", typeName);
+            checkSinglePrimaryBean(dependency, index);
+        } else if (beansByType.isEmpty()) {
+            throw new BeanValidationException(NOT_FOUND_BEANS.formatted(dependency.getName(), typeName));
+        } else if (beansByType.get(0) == rootDefinition) {
+            throw new BeanValidationException(SINGLE_CANDIDATE_IS_ROOT.formatted(rootDefinition.name(), typeName));
+        }
+
+        return findMatchingDependency(index.findByExactType(typeName), rootDefinition)
+                .or(() -> findMatchingDependency(beansByType, rootDefinition))
+                .orElseThrow(() -> new BeanValidationException(MULTIPLE_BEANS_WITH_TYPE.formatted(typeName)));
+    }
+
+    private void checkSinglePrimaryBean(BeanDependency dependency, DefinitionIndex index) {
+        String typeName = dependency.getTypeName();
+        log.debug("Trying to find primary bean with type {}", typeName);
+        List<BeanDefinition> primaryBeans = index.findPrimaryByType(typeName, dependency::getType);
+        if (primaryBeans.isEmpty()) {
+            throw new BeanValidationException(MULTIPLE_BEANS_WITH_TYPE.formatted(typeName));
+        }
+        if (primaryBeans.size() > 1) {
+            throw new BeanValidationException(MULTIPLE_PRIMARY_BEANS_FOUND.formatted(typeName));
+        }
+    }
+
+    /**
+     * @param candidates beans of the dependency type
+     * @return single candidate other than the bean itself, or the primary one if there are more of them
+     */
+    private Optional<BeanDefinition> findMatchingDependency(List<BeanDefinition> candidates, BeanDefinition rootDefinition) {
+        List<BeanDefinition> otherCandidates = candidates.stream()
+                .filter(candidate -> candidate != rootDefinition)
+                .toList();
+        if (otherCandidates.size() > 1) {
+            return otherCandidates.stream()
+                    .filter(BeanDefinition::isPrimary)
+                    .findFirst();
+        }
+        return otherCandidates.stream().findFirst();
+    }
+
+    /**
+     * Lookups of bean definitions by name and by names of every type they are assignable to.
+     * Definitions are listed in the order of the resolved list.
+     */
+    private static final class DefinitionIndex {
+
+        private final List<BeanDefinition> allDefinitions;
+
+        private final Map<String, BeanDefinition> byName;
+
+        private final Map<BeanDefinition, Set<String>> assignableTypeNames;
+
+        private final Map<String, List<BeanDefinition>> byExactType = new HashMap<>();
+
+        private final Map<String, List<BeanDefinition>> byAssignableType = new HashMap<>();
+
+        private final Map<String, List<BeanDefinition>> primaryByAssignableType = new HashMap<>();
+
+        DefinitionIndex(List<BeanDefinition> allDefinitions) {
+            this.allDefinitions = allDefinitions;
+            this.byName = allDefinitions.stream()
+                    .collect(toMap(BeanDefinition::name, identity()));
+            this.assignableTypeNames = new IdentityHashMap<>(allDefinitions.size());
+            for (BeanDefinition definition : allDefinitions) {
+                boolean primary = definition.isPrimary();
+                Set<String> typeNames = definition.assignableTypeNames();
+                assignableTypeNames.put(definition, typeNames);
+                byExactType.computeIfAbsent(definition.typeName(), name -> new ArrayList<>()).add(definition);
+                for (String typeName : typeNames) {
+                    byAssignableType.computeIfAbsent(typeName, name -> new ArrayList<>()).add(definition);
+                    if (primary) {
+                        primaryByAssignableType.computeIfAbsent(typeName, name -> new ArrayList<>()).add(definition);
+                    }
+                }
+            }
+        }
+
+        @Nullable
+        BeanDefinition findByName(String name) {
+            return byName.get(name);
+        }
+
+        /**
+         * @param targetTypeName name of the type to look up definitions of
+         * @param targetType     the type, loaded only if it is an array type
+         */
+        List<BeanDefinition> findByType(String targetTypeName, Supplier<Class<?>> targetType) {
+            if (isArray(targetTypeName)) {
+                return scanByType(targetType.get(), false);
+            }
+            return byAssignableType.getOrDefault(targetTypeName, List.of());
+        }
+
+        List<BeanDefinition> findByExactType(String targetTypeName) {
+            return byExactType.getOrDefault(targetTypeName, List.of());
+        }
+
+        List<BeanDefinition> findPrimaryByType(String targetTypeName, Supplier<Class<?>> targetType) {
+            if (isArray(targetTypeName)) {
+                return scanByType(targetType.get(), true);
+            }
+            return primaryByAssignableType.getOrDefault(targetTypeName, List.of());
+        }
+
+        boolean isAssignable(BeanDefinition definition, String targetTypeName, Supplier<Class<?>> targetType) {
+            if (isArray(targetTypeName)) {
+                return targetType.get().isAssignableFrom(definition.type());
+            }
+            return assignableTypeNames.get(definition).contains(targetTypeName);
+        }
+
+        /**
+         * Array types are covariant, so all types an array is assignable to are not enumerated - they are looked up
+         * among all definitions instead.
+         */
+        private List<BeanDefinition> scanByType(Class<?> targetType, boolean primaryOnly) {
+            return allDefinitions.stream()
+                    .filter(bd -> targetType.isAssignableFrom(bd.type()))
+                    .filter(bd -> !primaryOnly || bd.isPrimary())
+                    .toList();
+        }
+
+        private static boolean isArray(String typeName) {
+            return typeName.startsWith("[");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bobocode.hoverla.bring.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable graph of bean definitions with their dependencies resolved to definitions.
+ *
+ * <p>Dependencies of each bean are keyed the same way as in {@link BeanDefinition#dependencies()} - by declared names -
+ * and point at the definitions to be injected. Not qualified collections point at a {@link CollectionBeanDefinition},
+ * which in turn depends on all beans of its element type. Graphs are built by {@link BeanDependencyResolver},
+ * checked and sorted by {@link BeanDefinitionValidator} and consumed by {@link BeanInitializer}.</p>
+ */
+public final class BeanGraph {
+
+    private final List<BeanDefinition> definitions;
+
+    private final Map<BeanDefinition, Map<String, BeanDefinition>> dependencies;
+
+    /**
+     * @param definitions  bean definitions of the context
+     * @param dependencies resolved dependencies by declared names, for beans and collections they depend on
+     */
+    BeanGraph(List<BeanDefinition> definitions, Map<BeanDefinition, Map<String, BeanDefinition>> dependencies) {
+        this.definitions = List.copyOf(definitions);
+        this.dependencies = Collections.unmodifiableMap(new IdentityHashMap<>(dependencies));
+    }
+
+    /**
+     * @return bean definitions of the context, dependencies going before beans depending on them
+     * once the graph is {@link BeanDefinitionValidator validated}
+     */
+    public List<BeanDefinition> definitions() {
+        return definitions;
+    }
+
+    /**
+     * @param definition bean or collection definition of the graph
+     * @return definitions to be injected by declared names of dependencies
+     */
+    public Map<String, BeanDefinition> dependenciesOf(BeanDefinition definition) {
+        return dependencies.getOrDefault(definition, Map.of());
+    }
+
+    /**
+     * @param definition bean definition of the graph
+     * @return definitions of beans to be instantiated before the bean, including elements of injected collections
+     */
+    public List<BeanDefinition> requiredBeans(BeanDefinition definition) {
+        List<BeanDefinition> requiredBeans = new ArrayList<>();
+        for (BeanDefinition dependency : dependenciesOf(definition).values()) {
+            if (dependency instanceof CollectionBeanDefinition) {
+                requiredBeans.addAll(dependenciesOf(dependency).values());
+            } else {
+                requiredBeans.add(dependency);
+            }
+        }
+        return requiredBeans;
+    }
+
+    /**
+     * @param orderedDefinitions all definitions of the graph in another order
+     * @return graph with the same dependencies and definitions in the given order
+     */
+    BeanGraph withOrder(List<BeanDefinition> orderedDefinitions) {
+        return new BeanGraph(orderedDefinitions, dependencies);
+    }
+}
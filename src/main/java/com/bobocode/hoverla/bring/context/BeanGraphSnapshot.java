@@ -0,0 +1,238 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.scan.ClasspathFingerprint;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * On-disk snapshot of a validated and resolved bean graph.
+ *
+ * <p>Once a context is started, the order of beans in the validated {@link BeanGraph} and names of beans
+ * resolved by {@link BeanDependencyResolver} for dependencies declared with other names are stored along with
+ * the {@link ClasspathFingerprint fingerprint} of classpath roots of the packages to scan. While the fingerprint
+ * stays the same, bean definitions scanned on the next start are the same as well, so {@link ApplicationContextImpl}
+ * restores the graph out of the snapshot, skipping {@link BeanDefinitionValidator validation} and dependency resolution.</p>
+ *
+ * <p>Snapshot is an optimization only - unreadable, outdated or not matching snapshots are treated as missing
+ * and failures to write them are logged and ignored.</p>
+ */
+@Slf4j
+public class BeanGraphSnapshot {
+
+    private static final String HEADER = "# Bring bean graph snapshot v1";
+    private static final String FINGERPRINT_ENTRY = "fingerprint";
+    private static final String BEAN_ENTRY = "bean";
+    private static final String DEPENDENCY_ENTRY = "dependency";
+    private static final String ENTRY_DELIMITER = "\t";
+    private static final String FILE_EXTENSION = ".graph";
+
+    private final Path snapshotFile;
+
+    /**
+     * Fingerprint of classpath roots of packages to scan, computed once per snapshot instance
+     */
+    private final Supplier<Optional<String>> fingerprint;
+
+    /**
+     * @param directory      directory to store the snapshot in, created on first write if absent
+     * @param packagesToScan packages the context is created of
+     */
+    public BeanGraphSnapshot(Path directory, String... packagesToScan) {
+        this(directory, new ClasspathFingerprint(), packagesToScan);
+    }
+
+    /**
+     * @param directory      directory to store the snapshot in, created on first write if absent
+     * @param fingerprint    fingerprints of classpath roots shared with other consumers of current start
+     * @param packagesToScan packages the context is created of
+     */
+    public BeanGraphSnapshot(Path directory, ClasspathFingerprint fingerprint, String... packagesToScan) {
+        this(directory, Suppliers.memoize(() -> fingerprint.ofPackages(packagesToScan)), packagesToScan);
+    }
+
+    BeanGraphSnapshot(Path directory, Supplier<Optional<String>> fingerprint, String... packagesToScan) {
+        String key = Hashing.sha256()
+                .hashString(String.join(",", packagesToScan), UTF_8)
+                .toString();
+        this.snapshotFile = directory.resolve(key + FILE_EXTENSION);
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Builds the graph of scanned bean definitions the same way {@link BeanDependencyResolver} did when the snapshot
+     * was taken. Not qualified collections consist of all beans of their element type, except the bean itself.
+     *
+     * @param container container of scanned bean definitions
+     * @return graph with definitions in the stored order or empty {@link Optional}
+     * if the snapshot is absent, outdated or does not match the definitions
+     */
+    public Optional<BeanGraph> restore(BeanDefinitionsContainer container) {
+        Optional<String> currentFingerprint = fingerprint.get();
+        if (currentFingerprint.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Map<String, Map<String, String>>> graph = read(currentFingerprint.get());
+        if (graph.isEmpty() || !matches(graph.get(), container)) {
+            return Optional.empty();
+        }
+        List<BeanDefinition> definitions = new ArrayList<>(graph.get().size());
+        Map<BeanDefinition, Map<String, BeanDefinition>> dependencies = new IdentityHashMap<>(graph.get().size());
+        for (Map.Entry<String, Map<String, String>> bean : graph.get().entrySet()) {
+            BeanDefinition beanDefinition = container.getBeanDefinitionByName(bean.getKey()).orElseThrow();
+            definitions.add(beanDefinition);
+            Map<String, BeanDefinition> beanDependencies = new LinkedHashMap<>();
+            for (Map.Entry<String, BeanDependency> dependency : beanDefinition.dependencies().entrySet()) {
+                BeanDefinition resolvedDependency = restoreDependency(beanDefinition, dependency.getValue(),
+                        bean.getValue().getOrDefault(dependency.getKey(), dependency.getKey()), container, dependencies);
+                if (resolvedDependency == null) {
+                    log.debug("Bean graph snapshot {} does not match dependencies of bean definition '{}'",
+                            snapshotFile, bean.getKey());
+                    return Optional.empty();
+                }
+                beanDependencies.put(dependency.getKey(), resolvedDependency);
+            }
+            if (!beanDependencies.isEmpty()) {
+                dependencies.put(beanDefinition, beanDependencies);
+            }
+        }
+        return Optional.of(new BeanGraph(definitions, dependencies));
+    }
+
+    /**
+     * @param graph validated graph of initialized bean definitions
+     */
+    public void save(BeanGraph graph) {
+        Optional<String> currentFingerprint = fingerprint.get();
+        if (currentFingerprint.isEmpty()) {
+            log.debug("Classpath cannot be fingerprinted, bean graph snapshot is not written");
+            return;
+        }
+        try {
+            Path directory = snapshotFile.getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                writeLine(writer, HEADER);
+                writeLine(writer, FINGERPRINT_ENTRY, currentFingerprint.get());
+                for (BeanDefinition beanDefinition : graph.definitions()) {
+                    writeLine(writer, BEAN_ENTRY, beanDefinition.name());
+                    writeRenames(writer, graph.dependenciesOf(beanDefinition));
+                }
+            }
+            // concurrent instances may write the same snapshot - last one wins, readers never see partial file
+            Files.move(tempFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Unable to write bean graph snapshot {}", snapshotFile, e);
+        }
+    }
+
+    /**
+     * @return definition to be injected or {@code null} if the container has no bean of the stored name
+     */
+    @Nullable
+    private BeanDefinition restoreDependency(BeanDefinition beanDefinition, BeanDependency dependency, String beanName,
+                                             BeanDefinitionsContainer container,
+                                             Map<BeanDefinition, Map<String, BeanDefinition>> dependencies) {
+        if (!dependency.isQualified() && dependency.isCollection()) {
+            Map<String, BeanDefinition> elements = new LinkedHashMap<>();
+            for (BeanDefinition candidate : container.getBeansAssignableFromType(dependency.getCollectionGenericType())) {
+                if (candidate != beanDefinition) {
+                    elements.put(candidate.name(), candidate);
+                }
+            }
+            var collection = new CollectionBeanDefinition(dependency, List.copyOf(elements.keySet()));
+            dependencies.put(collection, elements);
+            return collection;
+        }
+        return container.getBeanDefinitionByName(beanName).orElse(null);
+    }
+
+    /**
+     * Collections are resolved on restore out of the scanned definitions, so their elements are not stored
+     */
+    private void writeRenames(BufferedWriter writer, Map<String, BeanDefinition> dependencies) throws IOException {
+        for (Map.Entry<String, BeanDefinition> dependency : dependencies.entrySet()) {
+            BeanDefinition resolvedDependency = dependency.getValue();
+            if (!(resolvedDependency instanceof CollectionBeanDefinition)
+                    && !dependency.getKey().equals(resolvedDependency.name())) {
+                writeLine(writer, DEPENDENCY_ENTRY, dependency.getKey(), resolvedDependency.name());
+            }
+        }
+    }
+
+    /**
+     * @return renames of dependencies, declared names to resolved ones, by bean names in instantiation order
+     */
+    private Optional<Map<String, Map<String, String>>> read(String currentFingerprint) {
+        try (BufferedReader reader = Files.newBufferedReader(snapshotFile, UTF_8)) {
+            if (!HEADER.equals(reader.readLine())
+                    || !(FINGERPRINT_ENTRY + ENTRY_DELIMITER + currentFingerprint).equals(reader.readLine())) {
+                log.debug("Bean graph snapshot {} is outdated", snapshotFile);
+                return Optional.empty();
+            }
+            Map<String, Map<String, String>> graph = new LinkedHashMap<>();
+            Map<String, String> renames = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] entry = line.split(ENTRY_DELIMITER);
+                if (entry.length == 2 && BEAN_ENTRY.equals(entry[0])) {
+                    renames = new LinkedHashMap<>();
+                    graph.put(entry[1], renames);
+                } else if (entry.length == 3 && DEPENDENCY_ENTRY.equals(entry[0]) && renames != null) {
+                    renames.put(entry[1], entry[2]);
+                } else {
+                    throw new IOException("Malformed bean graph snapshot entry - %s".formatted(line));
+                }
+            }
+            return Optional.of(graph);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read bean graph snapshot {}, bean definitions will be validated", snapshotFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return whether the snapshot has exactly the beans of the container and all renamed dependencies are declared
+     */
+    private boolean matches(Map<String, Map<String, String>> graph, BeanDefinitionsContainer container) {
+        if (graph.size() != container.getBeanDefinitions().size()) {
+            log.debug("Bean graph snapshot {} does not match scanned bean definitions", snapshotFile);
+            return false;
+        }
+        for (Map.Entry<String, Map<String, String>> bean : graph.entrySet()) {
+            Optional<BeanDefinition> beanDefinition = container.getBeanDefinitionByName(bean.getKey());
+            if (beanDefinition.isEmpty() || !beanDefinition.get().dependencies().keySet().containsAll(bean.getValue().keySet())) {
+                log.debug("Bean graph snapshot {} does not match bean definition '{}'", snapshotFile, bean.getKey());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeLine(BufferedWriter writer, String... values) throws IOException {
+        writer.write(String.join(ENTRY_DELIMITER, values));
+        writer.newLine();
+    }
+}
@@ -2,107 +2,55 @@ package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Bean;
 import com.bobocode.hoverla.bring.exception.BeanInitializePhaseException;
-import com.bobocode.hoverla.bring.exception.NoSuchBeanException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ArrayUtils;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 
 /**
  * Class, responsible for triggering bean initialization.
  *
- * <p>Its main aim is to find all dependencies of a particular {@link BeanDefinition} and pass them
- * to its {@link BeanDefinition#instantiate(BeanDefinition...)} method.</p>
+ * <p>Its main aim is to pass dependencies of a particular {@link BeanDefinition}, resolved into {@link BeanGraph},
+ * to its {@link BeanDefinition#instantiate(Map)} method. Dependencies are neither looked up nor renamed here.</p>
  *
  * @see Bean @Bean
  * @see BeanDefinition
  */
 @Slf4j
-@RequiredArgsConstructor
 public class BeanInitializer {
 
-    private final BeanDependencyNameResolver dependencyNameResolver;
-
     /**
-     * Triggers instantiation of all beans by passing their required dependencies.
+     * Triggers instantiation of all beans of the graph by passing their required dependencies.
      *
-     * @param container {@link BeanDefinitionsContainer} with all {@link BeanDefinition} objects handled by current context.
+     * @param graph {@link BeanGraph} with all {@link BeanDefinition} objects handled by current context,
+     *              dependencies going before beans depending on them
      * @throws BeanInitializePhaseException in case an unexpected error occurs.
      */
-    public void initialize(BeanDefinitionsContainer container) {
+    public void initialize(BeanGraph graph) {
         log.debug("Bean initialization started");
-        dependencyNameResolver.resolveDependencyNames(container);
-
-        Collection<BeanDefinition> beanDefinitions = container.getBeanDefinitions();
         try {
-            beanDefinitions.forEach(beanDefinition -> doInitialize(beanDefinition, container));
+            graph.definitions().forEach(beanDefinition -> doInitialize(beanDefinition, graph));
         } catch (Exception ex) {
             throw new BeanInitializePhaseException("An error occurred during initialization phase", ex);
         }
     }
 
-    private void doInitialize(BeanDefinition definitionToInitialize, BeanDefinitionsContainer container) {
+    private void doInitialize(BeanDefinition definitionToInitialize, BeanGraph graph) {
         if (definitionToInitialize.isInstantiated()) {
             return;
         }
+        log.trace("Initializing bean definition with name `{}`", definitionToInitialize.name());
 
-        String beanName = definitionToInitialize.name();
-        log.trace("Initializing bean definition with name `{}`", beanName);
-
-        BeanDefinition[] beanDependencies = getBeanDependencies(definitionToInitialize, container);
-        int numberOfDependencies = ArrayUtils.getLength(beanDependencies);
-
-        if (numberOfDependencies == 0) {
+        Map<String, BeanDefinition> beanDependencies = graph.dependenciesOf(definitionToInitialize);
+        if (beanDependencies.isEmpty()) {
             definitionToInitialize.instantiate();
             return;
         }
-
-        log.trace("Found {} dependencies for bean with name `{}`", numberOfDependencies, beanName);
-        for (BeanDefinition beanDependency : beanDependencies) {
+        log.trace("Found {} dependencies for bean with name `{}`", beanDependencies.size(), definitionToInitialize.name());
+        for (BeanDefinition beanDependency : beanDependencies.values()) {
             if (!beanDependency.isInstantiated()) {
-                doInitialize(beanDependency, container);
+                doInitialize(beanDependency, graph);
             }
         }
         definitionToInitialize.instantiate(beanDependencies);
     }
-
-    private BeanDefinition[] getBeanDependencies(BeanDefinition root, BeanDefinitionsContainer container) {
-        return root.dependencies()
-                .values()
-                .stream()
-                .map(dependency -> tryGetDependency(dependency, root, container))
-                .toArray(BeanDefinition[]::new);
-    }
-
-    private BeanDefinition tryGetDependency(BeanDependency dependency,
-                                            BeanDefinition root,
-                                            BeanDefinitionsContainer container) {
-
-        if (!dependency.isQualified() && dependency.isCollection()) {
-            return getCollectionDependency(dependency, container);
-        }
-        return tryGetDependencyByName(dependency.getName(), root, container);
-    }
-
-    private BeanDefinition getCollectionDependency(BeanDependency dependency, BeanDefinitionsContainer container) {
-        List<String> dependenciesNames = container.getBeansAssignableFromType(dependency.getCollectionGenericType())
-                .stream()
-                .map(BeanDefinition::name)
-                .toList();
-
-        return new CollectionBeanDefinition(
-                dependency.getType(),
-                dependency.getCollectionGenericType(),
-                dependenciesNames
-        );
-    }
-
-    private BeanDefinition tryGetDependencyByName(String dependencyName, BeanDefinition root,
-                                                  BeanDefinitionsContainer container) {
-        return container.getBeanDefinitionByName(dependencyName)
-                .orElseThrow(() -> new NoSuchBeanException("Unable to resolve dependency '%s' of bean '%s"
-                        .formatted(dependencyName, root.name())));
-    }
 }
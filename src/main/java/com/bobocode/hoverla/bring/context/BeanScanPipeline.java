@@ -0,0 +1,253 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.exception.ClasspathScanException;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Runs {@link BeanScanner}s with their discovery, validation and mapping overlapped.
+ *
+ * <p>Every {@link StagedBeanScanner} discovers candidate classes in its own thread and passes their names
+ * through a bounded queue to validation workers. Validated classes are passed through another bounded queue
+ * to mapping workers that build {@link BeanDefinition}s. All stages run concurrently, so the wall time
+ * of a scan approaches the cost of its slowest stage. Candidates that can be
+ * {@linkplain StagedBeanScanner#mapIndexed(String) mapped out of index metadata} are mapped by validation workers
+ * right away, without loading their classes. Other scanners run {@link BeanScanner#scan()}
+ * in their own thread.</p>
+ *
+ * <p>Definitions are returned in the same order regardless of thread interleaving - grouped by scanner
+ * in the given order and sorted by candidate class names within a scanner.
+ * The first failure of any stage stops the pipeline and is rethrown as is.</p>
+ *
+ * @see StagedBeanScanner
+ */
+@Slf4j
+public class BeanScanPipeline {
+
+    /**
+     * Default capacity of queues between stages
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final Candidate END_OF_CANDIDATES = new Candidate(-1, null, null);
+
+    private static final Comparator<ScannedDefinitions> DEFINITIONS_ORDER = Comparator
+            .comparingInt(ScannedDefinitions::scannerIndex)
+            .thenComparing(ScannedDefinitions::candidateName);
+
+    private final int parallelism;
+
+    private final int queueCapacity;
+
+    /**
+     * @param parallelism number of threads for each of validation and mapping stages
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public BeanScanPipeline(int parallelism) {
+        this(parallelism, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param parallelism   number of threads for each of validation and mapping stages
+     * @param queueCapacity capacity of queues between stages
+     * @throws IllegalArgumentException when parallelism or queue capacity is not positive
+     */
+    public BeanScanPipeline(int parallelism, int queueCapacity) {
+        checkArgument(parallelism > 0, "Argument [parallelism] must be positive");
+        checkArgument(queueCapacity > 0, "Argument [queueCapacity] must be positive");
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * @param scanners scanners to run
+     * @return definitions produced by all scanners, returned once the last one is built
+     */
+    public List<BeanDefinition> run(List<BeanScanner> scanners) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        log.debug("Running {} bean scanners in pipeline with parallelism {}", scanners.size(), parallelism);
+
+        ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("bring-scan-%d")
+                .setDaemon(true)
+                .build());
+        try {
+            List<BeanDefinition> beanDefinitions = new Run(scanners, executor).await();
+            log.debug("Pipeline produced {} bean definitions in {} ms", beanDefinitions.size(),
+                    stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return beanDefinitions;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Single pipeline run, holds its queues and stage tasks
+     */
+    private class Run {
+
+        private final List<BeanScanner> scanners;
+
+        private final CompletionService<Void> stages;
+
+        private final BlockingQueue<Candidate> candidates = new ArrayBlockingQueue<>(queueCapacity);
+
+        private final BlockingQueue<Candidate> validatedCandidates = new ArrayBlockingQueue<>(queueCapacity);
+
+        private final Queue<ScannedDefinitions> scannedDefinitions = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger activeDiscoveries;
+
+        private final AtomicInteger activeValidations = new AtomicInteger(parallelism);
+
+        private int stagesCount;
+
+        private Run(List<BeanScanner> scanners, ExecutorService executor) {
+            this.scanners = scanners;
+            this.stages = new ExecutorCompletionService<>(executor);
+            this.activeDiscoveries = new AtomicInteger(scanners.size());
+        }
+
+        private List<BeanDefinition> await() {
+            if (scanners.isEmpty()) {
+                return List.of();
+            }
+            for (int scannerIndex = 0; scannerIndex < scanners.size(); scannerIndex++) {
+                int index = scannerIndex;
+                submit(() -> discover(index));
+            }
+            for (int i = 0; i < parallelism; i++) {
+                submit(this::validate);
+                submit(this::map);
+            }
+            for (int i = 0; i < stagesCount; i++) {
+                awaitStage();
+            }
+            return scannedDefinitions.stream()
+                    .sorted(DEFINITIONS_ORDER)
+                    .flatMap(definitions -> definitions.beanDefinitions().stream())
+                    .toList();
+        }
+
+        private void submit(Callable<Void> stage) {
+            stages.submit(stage);
+            stagesCount++;
+        }
+
+        private Void discover(int scannerIndex) throws InterruptedException {
+            try {
+                BeanScanner scanner = scanners.get(scannerIndex);
+                if (scanner instanceof StagedBeanScanner stagedScanner) {
+                    stagedScanner.discover(candidateName -> put(candidates, new Candidate(scannerIndex, candidateName, null)));
+                } else {
+                    scannedDefinitions.add(new ScannedDefinitions(scannerIndex, "", scanner.scan()));
+                }
+            } finally {
+                if (activeDiscoveries.decrementAndGet() == 0) {
+                    endStage(candidates);
+                }
+            }
+            return null;
+        }
+
+        private Void validate() throws InterruptedException {
+            try {
+                Candidate candidate;
+                while ((candidate = candidates.take()) != END_OF_CANDIDATES) {
+                    StagedBeanScanner scanner = stagedScanner(candidate);
+                    Optional<List<BeanDefinition>> indexedDefinitions = scanner.mapIndexed(candidate.name());
+                    if (indexedDefinitions.isPresent()) {
+                        scannedDefinitions.add(new ScannedDefinitions(candidate.scannerIndex(), candidate.name(),
+                                indexedDefinitions.get()));
+                        continue;
+                    }
+                    Class<?> candidateClass = scanner.validate(candidate.name());
+                    validatedCandidates.put(new Candidate(candidate.scannerIndex(), candidate.name(), candidateClass));
+                }
+            } finally {
+                if (activeValidations.decrementAndGet() == 0) {
+                    endStage(validatedCandidates);
+                }
+            }
+            return null;
+        }
+
+        private Void map() throws InterruptedException {
+            Candidate candidate;
+            while ((candidate = validatedCandidates.take()) != END_OF_CANDIDATES) {
+                List<BeanDefinition> beanDefinitions = stagedScanner(candidate).map(candidate.type());
+                scannedDefinitions.add(new ScannedDefinitions(candidate.scannerIndex(), candidate.name(), beanDefinitions));
+            }
+            return null;
+        }
+
+        private StagedBeanScanner stagedScanner(Candidate candidate) {
+            return (StagedBeanScanner) scanners.get(candidate.scannerIndex());
+        }
+
+        /**
+         * Lets every worker of the next stage know that no more candidates are coming
+         */
+        private void endStage(BlockingQueue<Candidate> queue) throws InterruptedException {
+            for (int i = 0; i < parallelism; i++) {
+                queue.put(END_OF_CANDIDATES);
+            }
+        }
+
+        private void awaitStage() {
+            try {
+                stages.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClasspathScanException("Bean scan pipeline was interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new ClasspathScanException("Bean scan pipeline failed", e.getCause());
+            }
+        }
+    }
+
+    private static void put(BlockingQueue<Candidate> queue, Candidate candidate) {
+        try {
+            queue.put(candidate);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClasspathScanException("Bean scan pipeline was interrupted", e);
+        }
+    }
+
+    /**
+     * @param scannerIndex index of the scanner that discovered the candidate
+     * @param name         name of the candidate class
+     * @param type         candidate class once it is validated
+     */
+    private record Candidate(int scannerIndex, String name, Class<?> type) {
+    }
+
+    private record ScannedDefinitions(int scannerIndex, String candidateName, List<BeanDefinition> beanDefinitions) {
+    }
+}
@@ -6,37 +6,38 @@ import com.bobocode.hoverla.bring.annotation.Qualifier;
 import com.bobocode.hoverla.bring.exception.BeanDefinitionConstructionException;
 import com.bobocode.hoverla.bring.exception.BeanDependencyInjectionException;
 import com.bobocode.hoverla.bring.exception.BeanInstanceCreationException;
-import com.google.common.collect.Lists;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.IndexedClass;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.ListUtils;
 
 import javax.annotation.Nullable;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Collections.emptyMap;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
-import static org.apache.commons.lang3.ArrayUtils.isEmpty;
-import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
  * Java class-based implementation of {@link BeanDefinition}.
  *
- * <p>Requires instance of class marked with {@link Bean @Bean} annotation.</p>
+ * <p>Requires instance of class marked with {@link Bean @Bean} annotation or its {@link IndexedClass metadata}
+ * from compile-time bean index. In the latter case the class is loaded only once its type is requested,
+ * and its constructor and fields are looked up only when the bean is instantiated. Names of the types the bean
+ * is assignable to are taken from the index, so that dependencies are resolved without loading the class.</p>
  *
  * @see Bean
  * @see AbstractBeanDefinition
@@ -45,31 +46,131 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Slf4j
 public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
 
-    private Constructor<?> constructor;
+    private final String className;
 
-    private List<Field> injectionFields;
+    @Nullable
+    private final ClassLoader classLoader;
+
+    @Nullable
+    private final Consumer<Class<?>> beanClassValidator;
+
+    @Nullable
+    private final Boolean primary;
+
+    /**
+     * Names of the types the bean is assignable to, recorded into bean index at compile time
+     */
+    @Nullable
+    private final Set<String> assignableTypeNames;
+
+    /**
+     * Resolved along with the bean class for definitions created from bean index metadata
+     */
+    private volatile BeanClassMetadata metadata;
+
+    private volatile InjectionPlan injectionPlan;
 
     /**
      * During execution doesn't instantiate target bean,
      * but parses all info such as name, type, dependencies. and preserves this info to be used later on.
      *
      * @param beanClass instance of a class marked with {@link Bean @Bean}.
-     * @throws BeanDefinitionConstructionException when an unexpected exception occurred during bean instantiation
+     * @throws BeanDefinitionConstructionException when the class has no public constructors
      * @throws NullPointerException                when passed {@code beanClass} is null
      */
     public ClassBasedBeanDefinition(Class<?> beanClass) {
         Objects.requireNonNull(beanClass, "Bean class cannot be null");
 
         this.type = beanClass;
-        log.debug("Creating {} from class '{}'", ClassBasedBeanDefinition.class.getSimpleName(), this.type.getName());
-
-        this.name = resolveName(beanClass);
+        this.className = beanClass.getName();
+        this.classLoader = null;
+        this.beanClassValidator = null;
+        this.primary = null;
+        this.assignableTypeNames = null;
+        log.debug("Creating {} from class '{}'", ClassBasedBeanDefinition.class.getSimpleName(), className);
+
+        this.metadata = BeanClassMetadata.of(beanClass);
+        if (metadata.constructor() == null) {
+            throw new BeanDefinitionConstructionException("Class %s has no public constructors".formatted(className));
+        }
+        this.name = metadata.beanName();
         log.trace("Resolved name is '{}'", name);
 
-        this.dependencies = resolveDependencies(beanClass);
+        this.dependencies = resolveDependencies(metadata);
         log.trace("Resolved dependencies are {}", dependencies);
     }
 
+    /**
+     * Creates definition out of compile-time bean index metadata without loading the bean class.
+     *
+     * @param indexedClass       metadata of a class marked with {@link Bean @Bean}, including its dependencies
+     * @param classLoader        class loader to load the bean class and types of its dependencies with
+     * @param beanClassValidator validation of the bean class, applied once the class is loaded
+     * @throws IllegalArgumentException when metadata is not of a bean or lacks dependencies
+     * @throws NullPointerException     when any of arguments passed is null
+     */
+    public ClassBasedBeanDefinition(IndexedClass indexedClass, ClassLoader classLoader,
+                                    Consumer<Class<?>> beanClassValidator) {
+        Objects.requireNonNull(indexedClass, "Indexed bean class cannot be null");
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+        Objects.requireNonNull(beanClassValidator, "Bean class validator cannot be null");
+        checkArgument(indexedClass.bean() && indexedClass.dependencies() != null,
+                "Indexed class %s is not a bean or its dependencies are not indexed", indexedClass.className());
+
+        this.className = indexedClass.className();
+        this.classLoader = classLoader;
+        this.beanClassValidator = beanClassValidator;
+        log.debug("Creating {} from indexed class '{}'", ClassBasedBeanDefinition.class.getSimpleName(), className);
+
+        this.name = indexedClass.beanName();
+        this.primary = indexedClass.primary();
+        this.assignableTypeNames = assignableTypeNames(indexedClass);
+        this.dependencies = indexedClass.dependencies()
+                .stream()
+                .map(dependency -> BeanDependency.fromIndex(dependency, classLoader))
+                .collect(toMap(BeanDependency::getName, identity()));
+        log.trace("Resolved dependencies are {}", dependencies.keySet());
+    }
+
+    /**
+     * Loads and validates the bean class on first request when definition is created from bean index metadata.
+     * The class is validated once, even if its type is requested from several threads at once.
+     *
+     * @return bean class
+     */
+    @Override
+    public Class<?> type() {
+        Class<?> beanClass = type;
+        if (beanClass == null) {
+            synchronized (this) {
+                beanClass = type;
+                if (beanClass == null) {
+                    beanClass = BeanIndex.loadClass(className, classLoader);
+                    beanClassValidator.accept(beanClass);
+                    type = beanClass;
+                }
+            }
+        }
+        return beanClass;
+    }
+
+    /**
+     * @return name of the bean class, known without loading the class
+     */
+    @Override
+    public String typeName() {
+        return className;
+    }
+
+    /**
+     * @return names of the types the bean is assignable to, taken from bean index metadata without loading
+     * the bean class if they were recorded into the index
+     */
+    @Override
+    public Set<String> assignableTypeNames() {
+        return assignableTypeNames != null ? assignableTypeNames : super.assignableTypeNames();
+    }
+
     /**
      * See {@link BeanDefinition#instantiate(BeanDefinition...)}
      *
@@ -80,7 +181,20 @@ public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
     public void instantiate(BeanDefinition... dependencies) {
         if (!isInstantiated()) {
             log.debug("Creating new instance of bean with name '{}'", name);
-            instance = createInstance(dependencies);
+            instance = createInstance(plan -> plan.match(Objects.requireNonNull(dependencies)));
+        }
+    }
+
+    /**
+     * See {@link BeanDefinition#instantiate(Map)}
+     *
+     * @param dependencies {@link BeanDefinition} objects to be injected by declared names of dependencies
+     */
+    @Override
+    public void instantiate(Map<String, BeanDefinition> dependencies) {
+        if (!isInstantiated()) {
+            log.debug("Creating new instance of bean with name '{}'", name);
+            instance = createInstance(plan -> plan.match(Objects.requireNonNull(dependencies)));
         }
     }
 
@@ -92,7 +206,7 @@ public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
      */
     @Override
     public boolean isPrimary() {
-        return type.getAnnotation(Bean.class).primary();
+        return primary != null ? primary : metadata().primary();
     }
 
     /**
@@ -112,24 +226,6 @@ public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
         return null;
     }
 
-    /**
-     * Resolves name of current {@link BeanDefinition}.
-     *
-     * <p>This name will be either equal to current bean {@link Class#getName()} or to
-     * name specified in {@link Bean} annotation.</p>
-     *
-     * @param beanClass instance of a class marked with {@link Bean @Bean}.
-     * @return name of current {@link BeanDefinition}.
-     */
-    private String resolveName(Class<?> beanClass) {
-        Bean annotation = beanClass.getAnnotation(Bean.class);
-        String beanName = annotation.value();
-        if (isBlank(beanName)) {
-            return beanClass.getName();
-        }
-        return beanName;
-    }
-
     /**
      * Resolves dependencies of current {@link BeanDefinition} and store them in a {@link Map}.
      *
@@ -142,60 +238,51 @@ public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
      *
      * @return {@link Map} of names and types of dependent {@link BeanDefinition}s.
      */
-    private Map<String, BeanDependency> resolveDependencies(Class<?> beanClass) {
+    private Map<String, BeanDependency> resolveDependencies(BeanClassMetadata beanClassMetadata) {
         Map<String, BeanDependency> resolvedDependencies = new HashMap<>();
-        resolvedDependencies.putAll(resolveConstructorDependencies(beanClass));
-        resolvedDependencies.putAll(resolveFieldDependencies(beanClass));
+        resolvedDependencies.putAll(resolveDependencies(beanClassMetadata.constructorParameters()));
+        resolvedDependencies.putAll(resolveDependencies(beanClassMetadata.injectionFields()));
 
         return resolvedDependencies;
     }
 
-    private Map<String, BeanDependency> resolveConstructorDependencies(Class<?> beanClass) {
-        Constructor<?>[] beanConstructors = beanClass.getConstructors();
-
-        // we assume that at this point we should have only 1 @Inject constructor
-        // see BeanAnnotationClassValidator.java
-        Optional<Constructor<?>> injectionConstructor = Arrays.stream(beanConstructors)
-                .filter(ctor -> ctor.isAnnotationPresent(Inject.class))
-                .findFirst();
-        if (injectionConstructor.isPresent()) {
-            return resolveConstructorDependencies(injectionConstructor.get());
-        }
-
-        // we also assume that we should have only 1 plain constructor if @Inject constructor is missing
-        Constructor<?> plainConstructor = beanConstructors[0];
-        return resolveConstructorDependencies(plainConstructor);
-    }
-
-    private Map<String, BeanDependency> resolveConstructorDependencies(Constructor<?> beanConstructor) {
-        this.constructor = beanConstructor;
-
-        Parameter[] constructorParameters = constructor.getParameters();
-        if (isEmpty(constructorParameters)) {
+    private Map<String, BeanDependency> resolveDependencies(List<InjectionPoint> injectionPoints) {
+        if (injectionPoints.isEmpty()) {
             return emptyMap();
         }
-        return Arrays.stream(constructorParameters)
-                .map(BeanDependency::fromParameter)
+        return injectionPoints.stream()
+                .map(BeanDependency::fromInjectionPoint)
                 .collect(toMap(BeanDependency::getName, identity()));
     }
 
-    private Map<String, BeanDependency> resolveFieldDependencies(Class<?> beanClass) {
-        List<Field> classFields = Lists.newArrayList(beanClass.getDeclaredFields());
-        this.injectionFields = getElementsAnnotatedWith(classFields, Inject.class);
+    @Nullable
+    private static Set<String> assignableTypeNames(IndexedClass indexedClass) {
+        if (indexedClass.supertypeNames() == null) {
+            return null;
+        }
+        Set<String> typeNames = new LinkedHashSet<>();
+        typeNames.add(indexedClass.className());
+        typeNames.addAll(indexedClass.supertypeNames());
+        return Collections.unmodifiableSet(typeNames);
+    }
 
-        if (injectionFields.isEmpty()) {
-            return emptyMap();
+    /**
+     * @return metadata of the bean class, resolved on first request for definitions created from bean index metadata
+     */
+    private BeanClassMetadata metadata() {
+        BeanClassMetadata beanClassMetadata = metadata;
+        if (beanClassMetadata == null) { // computing twice yields the same cached metadata
+            beanClassMetadata = BeanClassMetadata.of(type());
+            metadata = beanClassMetadata;
         }
-        return injectionFields.stream()
-                .map(BeanDependency::fromField)
-                .collect(toMap(BeanDependency::getName, identity()));
+        return beanClassMetadata;
     }
 
-    private Object createInstance(BeanDefinition... dependencies) {
+    private Object createInstance(Function<InjectionPlan, InjectionPlan.Match> dependencyMatcher) {
         try {
-            Objects.requireNonNull(dependencies);
-            log.debug("Instantiating bean of name '{}' with {} dependencies", name, dependencies.length);
-            this.instance = doCreateInstance(dependencies);
+            InjectionPlan.Match match = dependencyMatcher.apply(injectionPlan());
+            log.debug("Instantiating bean of name '{}' with {} dependencies", name, match.parameters().length + match.fields().length);
+            this.instance = doCreateInstance(match);
             log.debug("Bean with name '{}' was instantiated", name);
             return instance;
         } catch (Exception e) { // all @SneakyThrows stuff is caught here
@@ -204,169 +291,88 @@ public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
     }
 
     @SneakyThrows
-    private Object doCreateInstance(BeanDefinition... dependencies) {
-        List<BeanDefinition> dependencyList = Lists.newArrayList(dependencies);
-        Object beanInstance = createInstanceUsingConstructor(dependencyList);
-
-        doFieldInjection(beanInstance, dependencyList);
-        return beanInstance;
-    }
-
-    @SneakyThrows
-    private Object createInstanceUsingConstructor(List<BeanDefinition> dependencies) {
-        if (constructor.getParameterCount() == 0) {
-            return constructor.newInstance();
+    private Object doCreateInstance(InjectionPlan.Match match) {
+        Object[] arguments = resolvedArguments(match);
+        Optional<InstanceFactory> hiddenClassFactory = arguments == null
+                ? Optional.empty()
+                : metadata().hiddenClassFactory();
+        if (hiddenClassFactory.isPresent()) {
+            return hiddenClassFactory.get().create(arguments);
         }
-        List<Parameter> parameters = Lists.newArrayList(constructor.getParameters());
-        Object[] constructorArgs = new Object[parameters.size()];
-
-        resolveQualifiedParameters(dependencies, parameters, constructorArgs);
-        resolveNonQualifiedParameters(dependencies, parameters, constructorArgs);
-        return constructor.newInstance(constructorArgs);
-    }
+        Object beanInstance = createInstanceUsingConstructor(match.parameters());
 
-    private void resolveQualifiedParameters(List<BeanDefinition> dependencies, List<Parameter> parameters,
-                                            Object[] constructorArgs) {
-        for (int i = 0; i < parameters.size(); i++) {
-            Parameter parameter = parameters.get(i);
-            if (parameter.isAnnotationPresent(Qualifier.class)) {
-                constructorArgs[i] = getMatchingParameterDependency(parameter, dependencies).getInstance();
-            }
-        }
+        doFieldInjection(beanInstance, match.fields());
+        return beanInstance;
     }
 
-    private void resolveNonQualifiedParameters(List<BeanDefinition> dependencies, List<Parameter> parameters,
-                                               Object[] constructorArgs) {
-        Map<Integer, Parameter> indexedParameters = new LinkedHashMap<>();
-        for (int i = 0; i < parameters.size(); i++) {
-            Parameter parameter = parameters.get(i);
-            if (!parameter.isAnnotationPresent(Qualifier.class)) {
-                indexedParameters.put(i, parameter);
+    /**
+     * @return instances of all matched dependencies, constructor parameters followed by fields, or {@code null}
+     * when any of them is missing or not instantiated, so that the bean is created step by step and the failure is reported as usual
+     */
+    @Nullable
+    private Object[] resolvedArguments(InjectionPlan.Match match) {
+        BeanDefinition[] parameters = match.parameters();
+        BeanDefinition[] fields = match.fields();
+        Object[] arguments = new Object[parameters.length + fields.length];
+        for (int i = 0; i < arguments.length; i++) {
+            BeanDefinition dependency = i < parameters.length ? parameters[i] : fields[i - parameters.length];
+            if (dependency == null || !dependency.isInstantiated()) {
+                return null;
             }
+            arguments[i] = dependency.getInstance();
         }
-
-        indexedParameters.entrySet()
-                .stream()
-                .sorted(ClassBasedBeanDefinition::subclassesFirst)
-                .forEachOrdered(entry -> resolveArgumentFromEntry(entry, dependencies, constructorArgs));
-
+        return arguments;
     }
 
-    private static int subclassesFirst(Map.Entry<Integer, Parameter> parameterEntry1,
-                                       Map.Entry<Integer, Parameter> parameterEntry2) {
-        Class<?> type1 = parameterEntry1.getValue().getType();
-        Class<?> type2 = parameterEntry2.getValue().getType();
-        if (type1.isAssignableFrom(type2)) {
-            return 1;
+    /**
+     * @return plan of injection, compiled on first instantiation
+     */
+    private InjectionPlan injectionPlan() {
+        InjectionPlan plan = injectionPlan;
+        if (plan == null) { // plans compiled concurrently are equivalent, either of them is kept
+            BeanClassMetadata beanClassMetadata = metadata();
+            plan = InjectionPlan.compile(beanClassMetadata.constructorParameters(), beanClassMetadata.injectionFields());
+            injectionPlan = plan;
         }
-        return -1;
-    }
-
-    private void resolveArgumentFromEntry(Map.Entry<Integer, Parameter> indexedParameter,
-                                          List<BeanDefinition> dependencies, Object[] constructorArgs) {
-        Integer index = indexedParameter.getKey();
-        Parameter parameter = indexedParameter.getValue();
-        Object matchingArgument = getMatchingParameterDependency(parameter, dependencies).getInstance();
-        constructorArgs[index] = matchingArgument;
-    }
-
-    private BeanDefinition getMatchingParameterDependency(Parameter parameter, List<BeanDefinition> dependencies) {
-        Optional<BeanDefinition> dependency = dependencies.stream()
-                .filter(bd -> parameterMatch(parameter, bd))
-                .findAny();
-        dependency.ifPresent(dependencies::remove); // remove mapped dependency to avoid conflicts
-
-        return dependency
-                .orElseThrow(() -> new BeanDependencyInjectionException(
-                        "Unable to resolve injection of constructor parameter '%s'".formatted(parameter.getName())));
+        return plan;
     }
 
-    @SuppressWarnings("java:S2589")
-    private boolean parameterMatch(Parameter parameter, BeanDefinition dependencyToMatch) {
-        Class<?> parameterType = parameter.getType();
-        boolean typeMatch = parameterType.isAssignableFrom(dependencyToMatch.type());
-        if (!typeMatch) {
-            return false;
-        }
-
-        Qualifier qualifier = parameter.getAnnotation(Qualifier.class);
-        if (Objects.nonNull(qualifier)) {
-            return qualifier.value().equals(dependencyToMatch.name());
-        }
-
-        boolean parameterIsCollection = Collection.class.isAssignableFrom(parameterType);
-        boolean dependencyIsCollection = dependencyToMatch.isCollection();
-
-        if ((parameterIsCollection && !dependencyIsCollection) ||
-                (!parameterIsCollection && dependencyIsCollection)) {
-            return false;
+    @SneakyThrows
+    private Object createInstanceUsingConstructor(BeanDefinition[] parameterDependencies) {
+        InstanceFactory instanceFactory = metadata().instanceFactory();
+        if (parameterDependencies.length == 0) {
+            return instanceFactory.create();
         }
-
-        if (dependencyIsCollection && parameterIsCollection) {
-            ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-            Class<?> actualCollectionType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-            return actualCollectionType.isAssignableFrom(dependencyToMatch.collectionGenericType());
+        List<InjectionPoint> parameters = metadata().constructorParameters();
+        Object[] constructorArgs = new Object[parameterDependencies.length];
+        for (int i = 0; i < constructorArgs.length; i++) {
+            if (parameterDependencies[i] == null) {
+                throw new BeanDependencyInjectionException(
+                        "Unable to resolve injection of constructor parameter '%s'".formatted(parameters.get(i).name()));
+            }
+            constructorArgs[i] = parameterDependencies[i].getInstance();
         }
-
-        return true;
-    }
-
-    private void doFieldInjection(Object beanInstance, List<BeanDefinition> dependencies) {
-        List<Field> qualifiedFields = getElementsAnnotatedWith(injectionFields, Qualifier.class);
-        qualifiedFields.forEach(field -> injectIntoField(beanInstance, field, dependencies));
-
-        // injection of fields without @Qualifier
-        ListUtils.removeAll(injectionFields, qualifiedFields)
-                .stream()
-                .sorted((f1, f2) -> f1.getType().isAssignableFrom(f2.getType()) ? 1 : -1) // superclasses last
-                .forEach(field -> injectIntoField(beanInstance, field, dependencies));
-
-        verifyFieldInjection(beanInstance);
-    }
-
-    private void injectIntoField(Object beanInstance, Field targetField, List<BeanDefinition> dependencies) {
-        dependencies.stream()
-                .filter(dependency -> fieldMatch(targetField, dependency))
-                .findAny()
-                .ifPresent(dependency -> {
-                    setFieldValue(targetField, beanInstance, dependency);
-                    dependencies.remove(dependency);
-                });
+        return instanceFactory.create(constructorArgs);
     }
 
-    @SuppressWarnings("java:S2589")
-    private boolean fieldMatch(Field field, BeanDefinition dependencyToMatch) {
-        Class<?> fieldType = field.getType();
-        boolean typeMatch = fieldType.isAssignableFrom(dependencyToMatch.type());
-        if (!typeMatch) {
-            return false;
+    private void doFieldInjection(Object beanInstance, BeanDefinition[] fieldDependencies) {
+        if (fieldDependencies.length == 0) {
+            return;
         }
-
-        Qualifier qualifier = field.getAnnotation(Qualifier.class);
-        if (Objects.nonNull(qualifier)) {
-            return qualifier.value().equals(dependencyToMatch.name());
-        }
-
-        boolean fieldIsCollection = Collection.class.isAssignableFrom(fieldType);
-        boolean dependencyIsCollection = dependencyToMatch.isCollection();
-
-        if ((fieldIsCollection && !dependencyIsCollection) ||
-                (!fieldIsCollection && dependencyIsCollection)) {
-            return false;
+        List<FieldAccessor> fieldAccessors = metadata().fieldAccessors();
+        for (int i = 0; i < fieldDependencies.length; i++) {
+            if (fieldDependencies[i] != null) {
+                fieldAccessors.get(i).set(beanInstance, fieldDependencies[i].getInstance());
+            }
         }
 
-        if (dependencyIsCollection && fieldIsCollection) {
-            ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
-            Class<?> actualCollectionType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-            return actualCollectionType.isAssignableFrom(dependencyToMatch.collectionGenericType());
-        }
-        return true;
+        verifyFieldInjection(beanInstance, fieldAccessors);
     }
 
-    private void verifyFieldInjection(Object beanInstance) {
-        List<String> unresolvedFieldNames = injectionFields.stream()
-                .filter(field -> injectionFailedForField(field, beanInstance))
-                .map(Field::getName)
+    private void verifyFieldInjection(Object beanInstance, List<FieldAccessor> fieldAccessors) {
+        List<String> unresolvedFieldNames = fieldAccessors.stream()
+                .filter(accessor -> Objects.isNull(accessor.get(beanInstance)))
+                .map(accessor -> accessor.injectionPoint().name())
                 .toList();
         if (!unresolvedFieldNames.isEmpty()) {
             log.warn("Found {} unresolved fields of bean instance after injection", unresolvedFieldNames.size());
@@ -375,25 +381,4 @@ public class ClassBasedBeanDefinition extends AbstractBeanDefinition {
                             .formatted(beanInstance.getClass().getName(), unresolvedFieldNames));
         }
     }
-
-    private <T extends AnnotatedElement> List<T> getElementsAnnotatedWith(List<T> elements,
-                                                                          Class<? extends Annotation> annotation) {
-        return elements.stream()
-                .filter(e -> e.isAnnotationPresent(annotation))
-                .toList();
-    }
-
-    @SneakyThrows
-    @SuppressWarnings("java:S3011")
-    private void setFieldValue(Field field, Object beanInstance, BeanDefinition dependency) {
-        field.setAccessible(true);
-        field.set(beanInstance, dependency.getInstance());
-    }
-
-    @SneakyThrows
-    @SuppressWarnings("java:S3011")
-    private boolean injectionFailedForField(Field targetField, Object beanInstance) {
-        targetField.setAccessible(true);
-        return Objects.isNull(targetField.get(beanInstance));
-    }
 }
@@ -17,16 +17,26 @@ import static java.util.stream.Collectors.toMap;
 public class CollectionBeanDefinition extends AbstractBeanDefinition {
 
     private final Class<?> collectionType;
-    private final Class<?> genericType;
+    private final BeanDependency collectionDependency;
     private final String generatedName;
 
     CollectionBeanDefinition(Class<?> collectionType, Class<?> genericType, List<String> dependencies) {
+        this(new BeanDependency(collectionType.getName(), collectionType, false, true, genericType), dependencies);
+    }
+
+    /**
+     * @param collectionDependency not qualified collection dependency the definition is resolved for,
+     *                             its element type is loaded no earlier than it is requested
+     * @param dependencies         names of beans to be collected
+     */
+    CollectionBeanDefinition(BeanDependency collectionDependency, List<String> dependencies) {
+        Class<?> collectionType = collectionDependency.getType();
         if (!Collection.class.isAssignableFrom(collectionType)) {
             throw new BeanInstanceCreationException("Requires collection type to be implementor of Collection interface");
         }
         this.collectionType = collectionType;
-        this.genericType = genericType;
-        super.dependencies = resolveDependencies(dependencies, genericType);
+        this.collectionDependency = collectionDependency;
+        super.dependencies = resolveDependencies(dependencies, collectionDependency);
         this.generatedName = String.valueOf(ThreadLocalRandom.current().nextInt());
     }
 
@@ -52,7 +62,7 @@ public class CollectionBeanDefinition extends AbstractBeanDefinition {
 
     @Override
     public Class<?> collectionGenericType() {
-        return genericType;
+        return collectionDependency.getCollectionGenericType();
     }
 
     @Override
@@ -72,8 +82,9 @@ public class CollectionBeanDefinition extends AbstractBeanDefinition {
         }
     }
 
-    private static Map<String, BeanDependency> resolveDependencies(List<String> dependencies, Class<?> genericType) {
+    private static Map<String, BeanDependency> resolveDependencies(List<String> dependencies,
+                                                                   BeanDependency collectionDependency) {
         return dependencies.stream()
-                .collect(toMap(identity(), name -> new BeanDependency(name, genericType, false)));
+                .collect(toMap(identity(), collectionDependency::element));
     }
 }
@@ -2,25 +2,23 @@ package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.annotation.Bean;
 import com.bobocode.hoverla.bring.annotation.Configuration;
-import com.bobocode.hoverla.bring.annotation.Qualifier;
 import com.bobocode.hoverla.bring.exception.BeanDefinitionConstructionException;
 import com.bobocode.hoverla.bring.exception.BeanDependencyInjectionException;
 import com.bobocode.hoverla.bring.exception.BeanInstanceCreationException;
-import com.google.common.collect.Lists;
+import com.google.common.base.Suppliers;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toMap;
 
@@ -28,7 +26,9 @@ import static java.util.stream.Collectors.toMap;
  * Java configuration-based implementation of {@link BeanDefinition}.
  *
  * <p>Requires instance of a class marked with {@link Configuration @Configuration} annotation
- * and method marked with {@link Bean @Bean} annotation that represents this bean initialization point.</p>
+ * and method marked with {@link Bean @Bean} annotation that represents this bean initialization point.
+ * The instance may be supplied lazily, then it is requested on first instantiation of a bean
+ * that is not defined by a static method.</p>
  *
  * @see Bean @Bean
  * @see Configuration @Configuration
@@ -38,27 +38,61 @@ import static java.util.stream.Collectors.toMap;
 @Slf4j
 public class ConfigBasedBeanDefinition extends AbstractBeanDefinition {
 
-    private final Object configInstance;
-
     private final Method beanMethod;
 
+    /**
+     * Factory bound to the configuration instance, created on first request so that the instance is not requested earlier
+     */
+    private final Supplier<InstanceFactory> instanceFactory;
+
+    private final List<InjectionPoint> parameters;
+
+    private volatile InjectionPlan injectionPlan;
+
     /**
      * During execution doesn't instantiate target bean,
      * but parses all info such as name, type, dependencies etc. and preserves this info to be used later on.
      *
      * @param configInstance instance of a class marked as {@link Configuration} that contains method representing target bean
      * @param beanMethod     method that represents target bean and is used to instantiate target bean
-     * @throws BeanDefinitionConstructionException when config class of the instance passed is not marked as {@link Configuration}
+     * @throws BeanDefinitionConstructionException when class declaring the bean method is not marked as {@link Configuration}
      *                                             or bean method is not marked as {@link Bean}
      * @throws NullPointerException                when any of arguments passed is null
      */
     public ConfigBasedBeanDefinition(Object configInstance, Method beanMethod) {
-        Objects.requireNonNull(configInstance, "Configuration class instance is null");
+        this(Suppliers.ofInstance(Objects.requireNonNull(configInstance, "Configuration class instance is null")), beanMethod);
+    }
+
+    /**
+     * Same as {@link ConfigBasedBeanDefinition#ConfigBasedBeanDefinition(Object, Method)}, but the instance of
+     * configuration class is requested only when the bean is instantiated.
+     *
+     * @param configInstance supplier of an instance of a class marked as {@link Configuration}, expected to be
+     *                       thread-safe and to return the same instance to all beans of the class
+     * @param beanMethod     method that represents target bean and is used to instantiate target bean
+     * @throws BeanDefinitionConstructionException when class declaring the bean method is not marked as {@link Configuration}
+     *                                             or bean method is not marked as {@link Bean}
+     * @throws NullPointerException                when any of arguments passed is null
+     */
+    public ConfigBasedBeanDefinition(Supplier<?> configInstance, Method beanMethod) {
+        Objects.requireNonNull(configInstance, "Configuration class instance supplier is null");
         Objects.requireNonNull(beanMethod, "Configuration bean method to create bean is null");
+        if (!beanMethod.getDeclaringClass().isAnnotationPresent(Configuration.class)) {
+            throw new BeanDefinitionConstructionException("Class %s declaring bean method %s is not marked as @Configuration"
+                    .formatted(beanMethod.getDeclaringClass().getName(), beanMethod.getName()));
+        }
+        if (!beanMethod.isAnnotationPresent(Bean.class)) {
+            throw new BeanDefinitionConstructionException("Method %s of configuration class %s is not marked as @Bean"
+                    .formatted(beanMethod.getName(), beanMethod.getDeclaringClass().getName()));
+        }
 
         log.debug("Creating {} from method '{}'", ConfigBasedBeanDefinition.class.getSimpleName(), beanMethod);
-        this.configInstance = configInstance;
         this.beanMethod = beanMethod;
+        this.instanceFactory = Suppliers.memoize(() -> InstanceFactories.forMethod(beanMethod,
+                Modifier.isStatic(beanMethod.getModifiers()) ? null : configInstance.get()));
+        this.parameters = Arrays.stream(beanMethod.getParameters())
+                .map(InjectionPoint::of)
+                .toList();
 
         this.name = resolveName(beanMethod);
         log.trace("Bean name is '{}'", name);
@@ -66,7 +100,7 @@ public class ConfigBasedBeanDefinition extends AbstractBeanDefinition {
         this.type = getType(beanMethod);
         log.trace("'{}' bean type is '{}'", name, type);
 
-        this.dependencies = resolveDependencies(beanMethod);
+        this.dependencies = resolveDependencies(parameters);
         log.trace("'{}' bean dependencies are {}", name, dependencies);
     }
 
@@ -80,7 +114,20 @@ public class ConfigBasedBeanDefinition extends AbstractBeanDefinition {
     public void instantiate(BeanDefinition... dependencies) {
         if (!isInstantiated()) {
             log.debug("Creating new instance of bean '{}'", name);
-            instance = createInstance(dependencies);
+            instance = createInstance(plan -> plan.match(dependencies));
+        }
+    }
+
+    /**
+     * See {@link BeanDefinition#instantiate(Map)}
+     *
+     * @param dependencies {@link BeanDefinition} objects to be injected by declared names of dependencies
+     */
+    @Override
+    public void instantiate(Map<String, BeanDefinition> dependencies) {
+        if (!isInstantiated()) {
+            log.debug("Creating new instance of bean '{}'", name);
+            instance = createInstance(plan -> plan.match(dependencies));
         }
     }
 
@@ -148,24 +195,19 @@ public class ConfigBasedBeanDefinition extends AbstractBeanDefinition {
      * <p>Keys are taken from parameter names of target {@link Method} annotated with {@link Bean @Bean}.</p>
      * <p>Values are taken from parameter types of target {@link Method} annotated with {@link Bean @Bean}.</p>
      *
-     * @param beanMethod {@link Method} annotated with {@link Bean @Bean}
+     * @param parameters parameters of {@link Method} annotated with {@link Bean @Bean}
      * @return {@link Map} of names and types of dependent {@link BeanDefinition}s.
      */
-    private Map<String, BeanDependency> resolveDependencies(Method beanMethod) {
-        return Arrays.stream(beanMethod.getParameters())
-                .map(BeanDependency::fromParameter)
+    private Map<String, BeanDependency> resolveDependencies(List<InjectionPoint> parameters) {
+        return parameters.stream()
+                .map(BeanDependency::fromInjectionPoint)
                 .collect(toMap(BeanDependency::getName, Function.identity()));
     }
 
-    private Object createInstance(BeanDefinition... dependencies) {
+    private Object createInstance(Function<InjectionPlan, InjectionPlan.Match> dependencyMatcher) {
         try {
             log.debug("Instantiating bean with name '{}'", name);
-
-            Map<String, Class<?>> dependenciesMap = Arrays.stream(dependencies)
-                    .collect(toMap(BeanDefinition::name, BeanDefinition::type));
-            log.trace("Dependencies received are {}", dependenciesMap);
-
-            Object createdInstance = doCreateInstance(Lists.newArrayList(dependencies));
+            Object createdInstance = doCreateInstance(dependencyMatcher);
             log.debug("Bean with name '{}' was instantiated", name);
             return createdInstance;
         } catch (Exception e) {
@@ -173,99 +215,37 @@ public class ConfigBasedBeanDefinition extends AbstractBeanDefinition {
         }
     }
 
-    private Object doCreateInstance(List<BeanDefinition> dependencies) throws InvocationTargetException, IllegalAccessException {
-        Parameter[] parameters = beanMethod.getParameters();
-        Object[] constructorArguments = new Object[parameters.length];
-
-        resolveQualifiedDependencies(dependencies, parameters, constructorArguments);
-        resolveUnqualifiedDependencies(dependencies, parameters, constructorArguments);
-        return beanMethod.invoke(configInstance, constructorArguments);
-    }
-
-
-    private void resolveUnqualifiedDependencies(List<BeanDefinition> dependencies, Parameter[] parameters,
-                                                Object[] constructorArgs) {
-        Map<Integer, Parameter> nonQualifiedParams = new LinkedHashMap<>();
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-            if (!parameter.isAnnotationPresent(Qualifier.class)) {
-                nonQualifiedParams.put(i, parameter);
-            }
+    @SneakyThrows
+    private Object doCreateInstance(Function<InjectionPlan, InjectionPlan.Match> dependencyMatcher) {
+        if (beanMethod.getParameterCount() == 0) {
+            return instanceFactory.get().create();
         }
-        nonQualifiedParams
-                .entrySet()
-                .stream()
-                .sorted(ConfigBasedBeanDefinition::subclassesFirst)
-                .forEachOrdered(entry -> resolveArgumentFromEntry(entry, dependencies, constructorArgs));
-
-    }
-
-    private void resolveQualifiedDependencies(List<BeanDefinition> dependencies, Parameter[] parameters,
-                                              Object[] constructorArgs) {
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-            if (parameter.isAnnotationPresent(Qualifier.class)) {
-                constructorArgs[i] = getBeanDefinitionByParameter(parameter, dependencies).getInstance();
-            }
+        BeanDefinition[] parameterDependencies = dependencyMatcher.apply(injectionPlan()).parameters();
+        if (log.isTraceEnabled()) {
+            log.trace("Dependencies matched to parameters are {}", Arrays.stream(parameterDependencies)
+                    .map(dependency -> dependency == null ? null : dependency.name())
+                    .toList());
         }
-    }
-
-    private static int subclassesFirst(Map.Entry<Integer, Parameter> parameterEntry1,
-                                       Map.Entry<Integer, Parameter> parameterEntry2) {
-        Class<?> type1 = parameterEntry1.getValue().getType();
-        Class<?> type2 = parameterEntry2.getValue().getType();
-        if (type1.isAssignableFrom(type2)) {
-            return 1;
+        Object[] arguments = new Object[parameterDependencies.length];
+        for (int i = 0; i < arguments.length; i++) {
+            if (parameterDependencies[i] == null) {
+                throw new BeanDependencyInjectionException("'%s' bean has no dependency that matches parameter '%s'"
+                        .formatted(name, parameters.get(i).type().getName()));
+            }
+            arguments[i] = parameterDependencies[i].getInstance();
         }
-        return -1;
-    }
-
-    private void resolveArgumentFromEntry(Map.Entry<Integer, Parameter> indexedParameter,
-                                          List<BeanDefinition> dependencies, Object[] constructorArgs) {
-        Integer index = indexedParameter.getKey();
-        Parameter parameter = indexedParameter.getValue();
-        Object matchingArgument = getBeanDefinitionByParameter(parameter, dependencies).getInstance();
-        constructorArgs[index] = matchingArgument;
+        return instanceFactory.get().create(arguments);
     }
 
-    private BeanDefinition getBeanDefinitionByParameter(Parameter parameter, List<BeanDefinition> dependencies) {
-        BeanDefinition beanDefinition = dependencies.stream()
-                .filter(bd -> parameterMatch(parameter, bd))
-                .findFirst()
-                .orElseThrow(() -> new BeanDependencyInjectionException(
-                        "'%s' bean has no dependency that matches parameter '%s'".formatted(name, parameter.getType().getName())));
-
-        dependencies.remove(beanDefinition); // remove mapped dependency to avoid conflicts
-        return beanDefinition;
-    }
-
-    @SuppressWarnings("java:S2589")
-    private boolean parameterMatch(Parameter parameter, BeanDefinition dependencyToMatch) {
-        Class<?> parameterType = parameter.getType();
-        boolean typeMatch = parameterType.isAssignableFrom(dependencyToMatch.type());
-        if (!typeMatch) {
-            return false;
-        }
-
-        Qualifier qualifier = parameter.getAnnotation(Qualifier.class);
-        if (Objects.nonNull(qualifier)) {
-            return qualifier.value().equals(dependencyToMatch.name());
-        }
-
-        boolean parameterIsCollection = Collection.class.isAssignableFrom(parameterType);
-        boolean dependencyIsCollection = dependencyToMatch.isCollection();
-
-        if ((parameterIsCollection && !dependencyIsCollection) ||
-                (!parameterIsCollection && dependencyIsCollection)) {
-            return false;
-        }
-
-        if (dependencyIsCollection && parameterIsCollection) {
-            ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-            Class<?> actualCollectionType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-            return actualCollectionType.isAssignableFrom(dependencyToMatch.collectionGenericType());
+    /**
+     * @return plan of injection, compiled on first instantiation
+     */
+    private InjectionPlan injectionPlan() {
+        InjectionPlan plan = injectionPlan;
+        if (plan == null) { // plans compiled concurrently are equivalent, either of them is kept
+            plan = InjectionPlan.compile(parameters, List.of());
+            injectionPlan = plan;
         }
-
-        return true;
+        return plan;
     }
 }
@@ -0,0 +1,91 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Inject;
+import com.bobocode.hoverla.bring.exception.BeanDependencyInjectionException;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Reads and writes a field marked with {@link Inject @Inject} through method handles derived from its {@link VarHandle}.
+ *
+ * <p>Handles are resolved once with a private lookup in the declaring class and adapted to {@code Object} types,
+ * so that each access is an exact invocation without access checks, unlike {@link Field#set(Object, Object)}
+ * and {@link Field#get(Object)}. Accessors are cached together with other class metadata,
+ * see {@link BeanClassMetadata#fieldAccessors()}.</p>
+ *
+ * <p>{@link VarHandle} of a {@code final} field is read-only, so such a field is written through a setter
+ * unreflected from the accessible field instead, the same way {@link Field#set(Object, Object)} writes it.
+ * Validation rejects {@code final} fields, but classes trusted without validation are still injected.</p>
+ *
+ * <p>Handles of a {@code static} field take no instance, so the instance argument is dropped from them and ignored,
+ * the same way {@link Field#set(Object, Object)} ignores it. Validation rejects such fields as well.</p>
+ *
+ * @param injectionPoint field to access
+ * @param getter         {@code (Object)Object} handle reading the field
+ * @param setter         {@code (Object, Object)void} handle writing the field
+ */
+public record FieldAccessor(InjectionPoint injectionPoint, MethodHandle getter, MethodHandle setter) {
+
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    /**
+     * @param injectionPoint field marked with {@link Inject @Inject}
+     * @return accessor of the field
+     * @throws BeanDependencyInjectionException when the declaring class is not accessible through method handles
+     *                                          or the field is both {@code static} and {@code final}
+     */
+    public static FieldAccessor of(InjectionPoint injectionPoint) {
+        Field field = injectionPoint.field();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            VarHandle handle = lookup.unreflectVarHandle(field);
+            MethodHandle getter = handle.toMethodHandle(VarHandle.AccessMode.GET);
+            MethodHandle setter = setter(lookup, handle, field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return new FieldAccessor(injectionPoint, getter.asType(GETTER_TYPE), setter.asType(SETTER_TYPE));
+        } catch (IllegalAccessException | InaccessibleObjectException e) {
+            throw new BeanDependencyInjectionException("Field %s is not accessible for injection".formatted(field), e);
+        }
+    }
+
+    private static MethodHandle setter(MethodHandles.Lookup lookup, VarHandle handle, Field field)
+            throws IllegalAccessException {
+        if (!Modifier.isFinal(field.getModifiers())) {
+            return handle.toMethodHandle(VarHandle.AccessMode.SET);
+        }
+        field.setAccessible(true);
+        return lookup.unreflectSetter(field);
+    }
+
+    /**
+     * @param instance bean instance
+     * @return current value of the field
+     */
+    @SneakyThrows
+    public Object get(Object instance) {
+        return (Object) getter.invokeExact(instance);
+    }
+
+    /**
+     * @param instance bean instance
+     * @param value    value to inject
+     */
+    @SneakyThrows
+    public void set(Object instance, Object value) {
+        setter.invokeExact(instance, value);
+    }
+}
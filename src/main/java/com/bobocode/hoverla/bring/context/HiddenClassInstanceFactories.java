@@ -0,0 +1,115 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.google.common.base.Suppliers;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Creates {@link InstanceFactory} objects that construct a bean and inject all its fields in a single call.
+ *
+ * <p>Constructor and field setters of a bean class are combined into one straight-line
+ * {@code (Object[])Object} method handle, taking constructor arguments followed by field values.
+ * The handle becomes class data of a hidden class defined with {@link MethodHandles.Lookup#defineHiddenClassWithClassData}
+ * out of {@link HiddenInstanceFactoryTemplate} bytes, so that the whole chain is a constant for the JIT compiler
+ * instead of a sequence of separate handle invocations.</p>
+ *
+ * <p>Defining a hidden class is expensive, so factories are expected to be created once per bean class and reused
+ * by every context created in the same JVM, see {@link BeanClassMetadata#hiddenClassFactory()}.
+ * A hidden class is not strongly linked to its defining loader and is unloaded together with the cached factory.</p>
+ */
+@Slf4j
+@UtilityClass
+public class HiddenClassInstanceFactories {
+
+    private static final MethodType COMPOSITE_FACTORY_TYPE = methodType(Object.class, Object[].class);
+
+    private static final String TEMPLATE_RESOURCE = HiddenInstanceFactoryTemplate.class.getSimpleName() + ".class";
+
+    /**
+     * Bytes of {@link HiddenInstanceFactoryTemplate}, read on first request
+     */
+    private static final Supplier<byte[]> TEMPLATE = Suppliers.memoize(HiddenClassInstanceFactories::readTemplate);
+
+    /**
+     * @param constructor public constructor of a bean class
+     * @param fields      non-static, non-final fields of the class to inject, in the order values are passed
+     * @return factory taking constructor arguments followed by field values, or empty when the constructor
+     * or any of the fields is not accessible through method handles
+     */
+    public Optional<InstanceFactory> forBean(Constructor<?> constructor, List<InjectionPoint> fields) {
+        try {
+            MethodHandle composite = compose(constructor, fields);
+            Class<?> factoryClass = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(TEMPLATE.get(), composite, true)
+                    .lookupClass();
+            return Optional.of((InstanceFactory) factoryClass.getDeclaredConstructor().newInstance());
+        } catch (Throwable e) {
+            log.debug("Unable to define hidden instance factory of '{}'", constructor.getDeclaringClass(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Builds {@code (P1..Pn, F1..Fm)T} handle that invokes the constructor, assigns fields in declaration order
+     * and returns the instance, then adapts it to {@link #COMPOSITE_FACTORY_TYPE}.
+     */
+    private MethodHandle compose(Constructor<?> constructor, List<InjectionPoint> fields) throws IllegalAccessException {
+        Class<?> beanClass = constructor.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup());
+        Class<?>[] fieldTypes = fields.stream()
+                .map(InjectionPoint::type)
+                .toArray(Class<?>[]::new);
+
+        MethodHandle injector = MethodHandles.dropArguments(MethodHandles.identity(beanClass), 1, fieldTypes);
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            injector = MethodHandles.foldArguments(injector, setter(lookup, fields.get(i).field(), fieldTypes, i));
+        }
+        MethodHandle composite = MethodHandles.collectArguments(injector, 0, lookup.unreflectConstructor(constructor));
+
+        int parameterCount = composite.type().parameterCount();
+        return composite.asType(composite.type().generic())
+                .asSpreader(Object[].class, parameterCount)
+                .asType(COMPOSITE_FACTORY_TYPE);
+    }
+
+    /**
+     * @return {@code (T, F1..Fm)void} handle assigning the field at the given position and ignoring other values
+     */
+    private MethodHandle setter(MethodHandles.Lookup lookup, Field field, Class<?>[] fieldTypes, int position)
+            throws IllegalAccessException {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            throw new IllegalAccessException("Field %s is static or final".formatted(field));
+        }
+        MethodHandle setter = lookup.unreflectSetter(field);
+        setter = MethodHandles.dropArguments(setter, 1, Arrays.copyOfRange(fieldTypes, 0, position));
+        return MethodHandles.dropArguments(setter, position + 2,
+                Arrays.copyOfRange(fieldTypes, position + 1, fieldTypes.length));
+    }
+
+    private byte[] readTemplate() {
+        try (InputStream template = HiddenInstanceFactoryTemplate.class.getResourceAsStream(TEMPLATE_RESOURCE)) {
+            if (template == null) {
+                throw new IllegalStateException("Class file %s is not found".formatted(TEMPLATE_RESOURCE));
+            }
+            return template.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
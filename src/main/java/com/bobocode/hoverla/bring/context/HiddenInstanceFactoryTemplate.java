@@ -0,0 +1,30 @@
+package com.bobocode.hoverla.bring.context;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Bytecode template of hidden classes defined by {@link HiddenClassInstanceFactories}.
+ *
+ * <p>The class is never initialized by itself. Each hidden class defined out of its bytes gets a composite
+ * {@code (Object[])Object} handle as class data, which is stored in a static final field and is thus a constant
+ * the JIT compiler can inline into {@link #create(Object...)} together with the constructor and field setters.</p>
+ */
+final class HiddenInstanceFactoryTemplate implements InstanceFactory {
+
+    private static final MethodHandle FACTORY = classData();
+
+    @Override
+    public Object create(Object... arguments) throws Throwable {
+        return (Object) FACTORY.invokeExact(arguments);
+    }
+
+    private static MethodHandle classData() {
+        try {
+            return MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Class data of hidden instance factory is not accessible", e);
+        }
+    }
+}
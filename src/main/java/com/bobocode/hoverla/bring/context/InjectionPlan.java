@@ -0,0 +1,175 @@
+package com.bobocode.hoverla.bring.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable mapping of constructor (or {@link com.bobocode.hoverla.bring.annotation.Bean @Bean} method) parameters
+ * and injected fields of a bean to its dependencies.
+ *
+ * <p>Each injection point is bound to a slot once - a declared name of its dependency and, for not qualified
+ * collections, an element type. Dependencies resolved into {@link BeanGraph} are matched by declared names with
+ * a lookup per injection point. Other dependencies passed on instantiation are matched the way they always were:
+ * qualified injection points take a dependency of their qualifier name, the rest take any dependency of a suitable type
+ * or, for collections, of a suitable element type, subclasses first. Each dependency is taken by a single injection point,
+ * parameters going before fields. Order in which slots are matched is computed once, when the plan is compiled.</p>
+ *
+ * @see BeanDependency#declaredName(InjectionPoint)
+ */
+public final class InjectionPlan {
+
+    private final Slot[] parameters;
+
+    private final Slot[] fields;
+
+    /**
+     * Indices of parameters in the order they take dependencies passed on instantiation
+     */
+    private final int[] parameterMatchOrder;
+
+    /**
+     * Indices of fields in the order they take dependencies passed on instantiation
+     */
+    private final int[] fieldMatchOrder;
+
+    private InjectionPlan(Slot[] parameters, Slot[] fields) {
+        this.parameters = parameters;
+        this.fields = fields;
+        this.parameterMatchOrder = matchOrder(parameters);
+        this.fieldMatchOrder = matchOrder(fields);
+    }
+
+    /**
+     * Binds injection points to {@link BeanDependency#declaredName(InjectionPoint) declared names} of dependencies.
+     *
+     * @param parameters constructor or method parameters in declaration order
+     * @param fields     injected fields
+     * @return plan of injection
+     */
+    public static InjectionPlan compile(List<InjectionPoint> parameters, List<InjectionPoint> fields) {
+        return new InjectionPlan(slots(parameters), slots(fields));
+    }
+
+    /**
+     * @param dependencies dependencies passed to {@link BeanDefinition#instantiate(BeanDefinition...)} in any order
+     * @return dependencies for each parameter and field in the plan order, {@code null} for injection points
+     * with no dependency of a matching name or type left
+     */
+    public Match match(BeanDefinition... dependencies) {
+        List<BeanDefinition> unmatched = new ArrayList<>(Arrays.asList(dependencies));
+        BeanDefinition[] matchedParameters = match(parameters, parameterMatchOrder, unmatched);
+        BeanDefinition[] matchedFields = match(fields, fieldMatchOrder, unmatched);
+        return new Match(matchedParameters, matchedFields);
+    }
+
+    /**
+     * @param dependencies dependencies resolved into {@link BeanGraph}, by declared names
+     * @return dependencies for each parameter and field in the plan order, {@code null} for injection points
+     * with no dependency of a matching type
+     */
+    public Match match(Map<String, BeanDefinition> dependencies) {
+        return new Match(match(parameters, dependencies), match(fields, dependencies));
+    }
+
+    /**
+     * @param parameters dependencies of parameters in declaration order, {@code null} for unresolved ones
+     * @param fields     dependencies of fields in order of injected fields, {@code null} for unresolved ones
+     */
+    public record Match(BeanDefinition[] parameters, BeanDefinition[] fields) {
+    }
+
+    private static Slot[] slots(List<InjectionPoint> injectionPoints) {
+        Slot[] slots = new Slot[injectionPoints.size()];
+        for (int i = 0; i < slots.length; i++) {
+            InjectionPoint injectionPoint = injectionPoints.get(i);
+            boolean collection = !injectionPoint.qualified() && injectionPoint.collectionElementType() != null;
+            slots[i] = new Slot(injectionPoint, BeanDependency.declaredName(injectionPoint), collection);
+        }
+        return slots;
+    }
+
+    /**
+     * @return indices of qualified slots in declaration order, followed by indices of the rest of slots,
+     * each placed before slots of its supertypes
+     */
+    private static int[] matchOrder(Slot[] slots) {
+        List<Integer> qualified = new ArrayList<>();
+        List<Integer> notQualified = new ArrayList<>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].injectionPoint().qualified()) {
+                qualified.add(i);
+                continue;
+            }
+            Class<?> type = slots[i].injectionPoint().type();
+            int position = 0;
+            while (position < notQualified.size() && !isStrictSupertype(slots[notQualified.get(position)], type)) {
+                position++;
+            }
+            notQualified.add(position, i);
+        }
+        qualified.addAll(notQualified);
+        return qualified.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean isStrictSupertype(Slot slot, Class<?> type) {
+        Class<?> slotType = slot.injectionPoint().type();
+        return slotType != type && slotType.isAssignableFrom(type);
+    }
+
+    private static BeanDefinition[] match(Slot[] slots, int[] matchOrder, List<BeanDefinition> unmatched) {
+        BeanDefinition[] matched = new BeanDefinition[slots.length];
+        for (int index : matchOrder) {
+            Slot slot = slots[index];
+            Iterator<BeanDefinition> candidates = unmatched.iterator();
+            while (candidates.hasNext()) {
+                BeanDefinition candidate = candidates.next();
+                if (slot.matches(candidate)) {
+                    matched[index] = candidate;
+                    candidates.remove(); // each dependency is injected once to avoid conflicts
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static BeanDefinition[] match(Slot[] slots, Map<String, BeanDefinition> dependenciesByDeclaredName) {
+        BeanDefinition[] matched = new BeanDefinition[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            BeanDefinition dependency = dependenciesByDeclaredName.get(slot.declaredName());
+            if (dependency != null && slot.injectionPoint().type().isAssignableFrom(dependency.type())) {
+                matched[i] = dependency;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * @param injectionPoint parameter or field
+     * @param declaredName   name of the dependency before it is resolved to a bean
+     * @param collection     whether all beans of element type are injected, rather than a single bean
+     */
+    private record Slot(InjectionPoint injectionPoint, String declaredName, boolean collection) {
+
+        /**
+         * @param dependency dependency passed on instantiation
+         * @return whether the dependency is of suitable type and, for qualified injection points, of the qualifier name
+         */
+        boolean matches(BeanDefinition dependency) {
+            if (!injectionPoint.type().isAssignableFrom(dependency.type())) {
+                return false;
+            }
+            if (injectionPoint.qualified()) {
+                return declaredName.equals(dependency.name());
+            }
+            if (collection != dependency.isCollection()) {
+                return false;
+            }
+            return !collection || injectionPoint.collectionElementType().isAssignableFrom(dependency.collectionGenericType());
+        }
+    }
+}
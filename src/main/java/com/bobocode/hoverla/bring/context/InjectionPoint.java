@@ -0,0 +1,66 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Inject;
+import com.bobocode.hoverla.bring.annotation.Qualifier;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Constructor parameter or field a dependency is injected into, introspected once.
+ *
+ * @param name                  name of the parameter or field
+ * @param type                  declared type
+ * @param genericType           declared generic type
+ * @param qualifier             value of {@link Qualifier @Qualifier}, {@code null} if not annotated with it
+ * @param collectionElementType element type of a {@link Collection} parameterized with a class,
+ *                              {@code null} for other types, raw and wildcard collections
+ * @param field                 field annotated with {@link Inject @Inject}, {@code null} for constructor parameters
+ * @see BeanClassMetadata
+ */
+public record InjectionPoint(String name,
+                             Class<?> type,
+                             Type genericType,
+                             @Nullable String qualifier,
+                             @Nullable Class<?> collectionElementType,
+                             @Nullable Field field) {
+
+    public static InjectionPoint of(Parameter parameter) {
+        return new InjectionPoint(parameter.getName(), parameter.getType(), parameter.getParameterizedType(),
+                qualifier(parameter.getAnnotation(Qualifier.class)),
+                collectionElementType(parameter.getType(), parameter.getParameterizedType()), null);
+    }
+
+    public static InjectionPoint of(Field field) {
+        return new InjectionPoint(field.getName(), field.getType(), field.getGenericType(),
+                qualifier(field.getAnnotation(Qualifier.class)),
+                collectionElementType(field.getType(), field.getGenericType()), field);
+    }
+
+    public boolean qualified() {
+        return qualifier != null;
+    }
+
+    public boolean collection() {
+        return Collection.class.isAssignableFrom(type);
+    }
+
+    @Nullable
+    private static String qualifier(@Nullable Qualifier qualifier) {
+        return qualifier == null ? null : qualifier.value();
+    }
+
+    @Nullable
+    private static Class<?> collectionElementType(Class<?> type, Type genericType) {
+        if (Collection.class.isAssignableFrom(type)
+                && genericType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return elementType;
+        }
+        return null;
+    }
+}
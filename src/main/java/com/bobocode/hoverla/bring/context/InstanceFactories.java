@@ -0,0 +1,128 @@
+package com.bobocode.hoverla.bring.context;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Creates {@link InstanceFactory} objects for bean constructors and {@link com.bobocode.hoverla.bring.annotation.Bean @Bean} methods.
+ *
+ * <p>Constructors and methods without parameters are turned into a {@link Supplier} generated by
+ * {@link LambdaMetafactory}, others into a {@link MethodHandle} spreading an argument array over the parameters.
+ * Both are plain calls the JIT compiler can inline, unlike {@link Constructor#newInstance(Object...)} and
+ * {@link Method#invoke(Object, Object...)} that check access and wrap exceptions on each call.
+ * Creating such a factory is much more expensive than a single reflective call, so factories are expected
+ * to be created once and reused, see {@link BeanClassMetadata#instanceFactory()}.</p>
+ *
+ * <p>When a class is not accessible through method handles, factories fall back to reflection.
+ * Regardless of the strategy, factories throw exactly what the constructor or method throws.</p>
+ */
+@Slf4j
+@UtilityClass
+public class InstanceFactories {
+
+    private static final MethodType SPREAD_FACTORY_TYPE = methodType(Object.class, Object[].class);
+
+    private static final MethodType SUPPLIER_GET_TYPE = methodType(Object.class);
+
+    /**
+     * @param constructor public constructor of a bean class
+     * @return factory invoking the constructor
+     */
+    public InstanceFactory forConstructor(Constructor<?> constructor) {
+        try {
+            if (constructor.getParameterCount() == 0) {
+                MethodHandles.Lookup lookup = lookupIn(constructor.getDeclaringClass());
+                return supplierFactory(lookup, lookup.unreflectConstructor(constructor), null);
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+            return spreadFactory(handle, constructor.getParameterCount());
+        } catch (Throwable e) {
+            log.debug("Falling back to reflection to invoke constructor '{}'", constructor, e);
+            return reflective(constructor);
+        }
+    }
+
+    /**
+     * @param method public method of a configuration class
+     * @param target instance to invoke the method on, ignored for static methods
+     * @return factory invoking the method
+     */
+    public InstanceFactory forMethod(Method method, Object target) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        try {
+            if (method.getParameterCount() == 0 && !isStatic && !method.getReturnType().isPrimitive()) {
+                MethodHandles.Lookup lookup = lookupIn(method.getDeclaringClass());
+                return supplierFactory(lookup, lookup.unreflect(method), target);
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            return spreadFactory(isStatic ? handle : handle.bindTo(target), method.getParameterCount());
+        } catch (Throwable e) {
+            log.debug("Falling back to reflection to invoke method '{}'", method, e);
+            return reflective(method, target);
+        }
+    }
+
+    /**
+     * @param constructor public constructor of a bean class
+     * @return factory invoking the constructor through {@link Constructor#newInstance(Object...)}
+     */
+    public InstanceFactory reflective(Constructor<?> constructor) {
+        return arguments -> {
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * @param method public method of a configuration class
+     * @param target instance to invoke the method on
+     * @return factory invoking the method through {@link Method#invoke(Object, Object...)}
+     */
+    public InstanceFactory reflective(Method method, Object target) {
+        return arguments -> {
+            try {
+                return method.invoke(target, arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private MethodHandles.Lookup lookupIn(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+
+    private InstanceFactory supplierFactory(MethodHandles.Lookup lookup, MethodHandle handle, Object receiver)
+            throws Throwable {
+        MethodType factoryType = receiver == null
+                ? methodType(Supplier.class)
+                : methodType(Supplier.class, handle.type().parameterType(0));
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", factoryType, SUPPLIER_GET_TYPE,
+                handle, methodType(handle.type().returnType()));
+        Supplier<?> supplier = receiver == null
+                ? (Supplier<?>) callSite.getTarget().invoke()
+                : (Supplier<?>) callSite.getTarget().invoke(receiver);
+        return arguments -> supplier.get();
+    }
+
+    private InstanceFactory spreadFactory(MethodHandle handle, int parameterCount) {
+        MethodHandle spreader = handle.asSpreader(Object[].class, parameterCount).asType(SPREAD_FACTORY_TYPE);
+        return arguments -> (Object) spreader.invokeExact(arguments);
+    }
+}
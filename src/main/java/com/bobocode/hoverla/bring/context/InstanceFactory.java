@@ -0,0 +1,21 @@
+package com.bobocode.hoverla.bring.context;
+
+/**
+ * Creates bean instances out of resolved arguments - through a bean constructor or a {@link com.bobocode.hoverla.bring.annotation.Bean @Bean}
+ * method of a configuration instance.
+ *
+ * <p>Factories are created once per constructor or method, see {@link InstanceFactories}.</p>
+ *
+ * @see InstanceFactories
+ */
+@FunctionalInterface
+public interface InstanceFactory {
+
+    /**
+     * @param arguments arguments in the order of constructor or method parameters
+     * @return created instance
+     * @throws Throwable anything thrown by the constructor or method itself
+     */
+    Object create(Object... arguments) throws Throwable;
+
+}
@@ -0,0 +1,126 @@
+package com.bobocode.hoverla.bring.context;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Runs independent checks of classes one by one or concurrently in a dedicated {@link ForkJoinPool}.
+ *
+ * <p>Either way, the failure thrown is the one of the first failing class in iteration order of the given classes,
+ * so that exception type and message do not depend on the mode and thread scheduling.</p>
+ *
+ * <p>Each class is checked at most once per instance, and no class is checked at all when the scanned classes match
+ * {@link ValidationFingerprint} signed at build time. This is the only place class validators consult the fingerprint.</p>
+ */
+@Slf4j
+final class ParallelClassValidation {
+
+    private final int parallelism;
+
+    @Nullable
+    private final ValidationFingerprint trustedFingerprint;
+
+    /**
+     * Classes which passed the check
+     */
+    private final Set<Class<?>> validatedClasses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param parallelism        number of threads to check classes with, {@code 1} to check them on the calling thread
+     * @param trustedFingerprint fingerprint of classes validated at build time, {@code null} to always check classes
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    ParallelClassValidation(int parallelism, @Nullable ValidationFingerprint trustedFingerprint) {
+        checkArgument(parallelism > 0, "Argument [parallelism] must be positive");
+        this.parallelism = parallelism;
+        this.trustedFingerprint = trustedFingerprint;
+    }
+
+    /**
+     * @param validatedClass class to check
+     * @param validation     check of a single class, throwing an exception when the class is not valid
+     */
+    void validate(Class<?> validatedClass, Consumer<Class<?>> validation) {
+        if (isTrusted() || validatedClasses.contains(validatedClass)) {
+            return;
+        }
+        validation.accept(validatedClass);
+        validatedClasses.add(validatedClass);
+    }
+
+    /**
+     * @param classes    classes to check
+     * @param validation check of a single class, throwing an exception when a class is not valid
+     */
+    void validate(Collection<Class<?>> classes, Consumer<Class<?>> validation) {
+        if (isTrusted()) {
+            return;
+        }
+        if (parallelism == 1 || classes.size() < 2) {
+            classes.forEach(validatedClass -> validate(validatedClass, validation));
+            return;
+        }
+        log.debug("Validating {} classes with parallelism {}", classes.size(), parallelism);
+
+        List<Callable<RuntimeException>> checks = classes.stream()
+                .<Callable<RuntimeException>>map(validatedClass -> () -> check(validatedClass, checkOnce(validation)))
+                .toList();
+
+        ForkJoinPool validationPool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<RuntimeException> check : validationPool.invokeAll(checks)) {
+                RuntimeException failure = getCheckResult(check);
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        } finally {
+            validationPool.shutdown();
+        }
+    }
+
+    private boolean isTrusted() {
+        return trustedFingerprint != null && trustedFingerprint.matches();
+    }
+
+    private Consumer<Class<?>> checkOnce(Consumer<Class<?>> validation) {
+        return validatedClass -> validate(validatedClass, validation);
+    }
+
+    @Nullable
+    private static RuntimeException check(Class<?> validatedClass, Consumer<Class<?>> validation) {
+        try {
+            validation.accept(validatedClass);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Nullable
+    private static RuntimeException getCheckResult(Future<RuntimeException> check) {
+        try {
+            return check.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Class validation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Unable to validate class", e.getCause());
+        }
+    }
+}
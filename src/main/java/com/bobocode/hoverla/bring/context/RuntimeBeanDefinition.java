@@ -0,0 +1,73 @@
+package com.bobocode.hoverla.bring.context;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Slim immutable {@link BeanDefinition} of an already created bean, holding nothing but what bean lookup needs.
+ *
+ * <p>Replaces definitions of the container once the context is initialized, see {@link BeanDefinitionsContainer#compact()},
+ * so that constructors, methods, configuration instances, dependencies and other scan-time state they reference
+ * can be garbage collected.</p>
+ *
+ * @param name     name of the bean
+ * @param type     type of the bean
+ * @param instance created bean instance
+ * @param primary  whether the bean is {@link com.bobocode.hoverla.bring.annotation.Bean#primary() primary}
+ */
+public record RuntimeBeanDefinition(String name, Class<?> type, Object instance, boolean primary) implements BeanDefinition {
+
+    /**
+     * @param definition instantiated bean definition
+     * @return runtime copy of the definition
+     * @throws NullPointerException when the definition is not instantiated
+     */
+    public static RuntimeBeanDefinition of(BeanDefinition definition) {
+        if (definition instanceof RuntimeBeanDefinition runtimeDefinition) {
+            return runtimeDefinition;
+        }
+        return new RuntimeBeanDefinition(definition.name(), definition.type(), definition.getInstance(), definition.isPrimary());
+    }
+
+    /**
+     * @return empty map, dependencies are already injected
+     */
+    @Override
+    public Map<String, BeanDependency> dependencies() {
+        return Map.of();
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return true;
+    }
+
+    /**
+     * @throws IllegalStateException always, the bean is already created
+     */
+    @Override
+    public void instantiate(BeanDefinition... dependencies) {
+        throw new IllegalStateException("Bean %s is already instantiated".formatted(name));
+    }
+
+    @Override
+    public Object getInstance() {
+        return instance;
+    }
+
+    @Override
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    @Override
+    public boolean isCollection() {
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Class<?> collectionGenericType() {
+        return null;
+    }
+}
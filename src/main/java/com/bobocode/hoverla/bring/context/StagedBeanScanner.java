@@ -0,0 +1,53 @@
+package com.bobocode.hoverla.bring.context;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link BeanScanner} whose work is split into discovery, validation and mapping stages,
+ * so that {@link BeanScanPipeline} can run them concurrently for different candidates.
+ *
+ * <p>Validation and mapping are invoked from several threads at once, each time for a single candidate.</p>
+ *
+ * @see BeanScanPipeline
+ */
+public interface StagedBeanScanner extends BeanScanner {
+
+    /**
+     * Passes names of candidate classes to the consumer as soon as they are found. Classes are not loaded.
+     *
+     * @param candidateConsumer consumer of candidate class names, blocks while the next stage is saturated
+     */
+    void discover(Consumer<String> candidateConsumer);
+
+    /**
+     * Maps a single candidate out of compile-time index metadata, neither loading nor validating its class.
+     * Candidates mapped this way skip {@link #validate(String)} and {@link #map(Class)}, their classes are
+     * validated once loaded.
+     *
+     * @param candidateName name of a class passed by {@link #discover(Consumer)}
+     * @return bean definitions defined by the candidate or empty {@link Optional} if the candidate has no metadata
+     * to be mapped from
+     */
+    default Optional<List<BeanDefinition>> mapIndexed(String candidateName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Loads and validates a single candidate class.
+     *
+     * @param candidateName name of a class passed by {@link #discover(Consumer)}
+     * @return loaded candidate class
+     */
+    Class<?> validate(String candidateName);
+
+    /**
+     * Maps a single validated candidate class to {@link BeanDefinition}s.
+     *
+     * @param candidate class returned by {@link #validate(String)}
+     * @return bean definitions defined by the candidate
+     */
+    List<BeanDefinition> map(Class<?> candidate);
+
+}
@@ -0,0 +1,210 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.scan.ClasspathFingerprint;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Signed fingerprint of a bean set which passed all structural validation at build time.
+ *
+ * <p>{@link #sign(Path)} is expected to be called from tests or another build step. It runs
+ * {@link BeanAnnotationClassValidator}, {@link BeanConfigurationClassValidator} and {@link BeanDefinitionValidator}
+ * over {@link Bean @Bean} and {@link Configuration @Configuration} classes of the packages to scan and writes
+ * a fingerprint of the classes, signed with HMAC-SHA256, into the output directory, e.g. {@code target/classes},
+ * so that it is packaged along with the classes.</p>
+ *
+ * <p>At runtime, validators skip their checks and {@link ApplicationContextImpl} only resolves dependencies
+ * when the fingerprint computed out of the scanned classes with the same key {@link #matches() matches}
+ * the packaged one. Fingerprint covers names and class files of bean and configuration classes, so that
+ * any change of them falls back to full validation. Classes they only refer to, e.g. supertypes out of
+ * the packages to scan, are not covered.</p>
+ */
+@Slf4j
+public class ValidationFingerprint {
+
+    private static final String HEADER = "# Bring validation fingerprint v2";
+    private static final String RESOURCE_DIRECTORY = "META-INF/bring/validation/";
+    private static final String FILE_EXTENSION = ".fingerprint";
+
+    private final ClasspathScanResult scanResult;
+
+    private final ClasspathFingerprint classpathFingerprint;
+
+    private final HashFunction signature;
+
+    private final String resourceName;
+
+    /**
+     * Verdict on the scanned classes, computed once per fingerprint instance
+     */
+    private final Supplier<Boolean> matches = Suppliers.memoize(this::verify);
+
+    /**
+     * @param scanResult scan result of the packages the context is created of
+     * @param signingKey secret key to sign fingerprint with, the same at build time and at runtime
+     * @throws IllegalArgumentException when the key is empty
+     */
+    public ValidationFingerprint(ClasspathScanResult scanResult, byte[] signingKey) {
+        this(scanResult, signingKey, new ClasspathFingerprint(scanResult.getClassLoader()));
+    }
+
+    /**
+     * @param scanResult           scan result of the packages the context is created of
+     * @param signingKey           secret key to sign fingerprint with, the same at build time and at runtime
+     * @param classpathFingerprint fingerprint of the classpath shared with other consumers of the same start,
+     *                             so that each class file is hashed at most once
+     * @throws IllegalArgumentException when the key is empty
+     */
+    public ValidationFingerprint(ClasspathScanResult scanResult, byte[] signingKey,
+                                 ClasspathFingerprint classpathFingerprint) {
+        Objects.requireNonNull(scanResult, "Scan result cannot be null");
+        Objects.requireNonNull(signingKey, "Signing key cannot be null");
+        Objects.requireNonNull(classpathFingerprint, "Classpath fingerprint cannot be null");
+        checkArgument(signingKey.length > 0, "Signing key cannot be empty");
+
+        this.scanResult = scanResult;
+        this.classpathFingerprint = classpathFingerprint;
+        this.signature = Hashing.hmacSha256(signingKey);
+        String key = Hashing.sha256()
+                .hashString(String.join(",", scanResult.getPackagesToScan()), UTF_8)
+                .toString();
+        this.resourceName = RESOURCE_DIRECTORY + key + FILE_EXTENSION;
+    }
+
+    /**
+     * Validates bean and configuration classes and bean definitions created of them, and writes signed fingerprint
+     * of the classes once all of them are valid. Each class is validated once - scanners share the validators
+     * that have already checked it.
+     *
+     * @param outputDirectory root of the classpath the fingerprint is to be packaged from
+     * @return written fingerprint file
+     * @throws RuntimeException     when any validation constraint is violated, see the validators
+     * @throws UncheckedIOException when fingerprint cannot be computed or written
+     */
+    public Path sign(Path outputDirectory) {
+        log.info("Validating bean set of packages {} to sign its fingerprint", String.join(",", scanResult.getPackagesToScan()));
+        var beanClassValidator = new BeanAnnotationClassValidator();
+        var configurationClassValidator = new BeanConfigurationClassValidator();
+        beanClassValidator.validateBeanClasses(scanResult.getTypesAnnotatedWith(Bean.class));
+        configurationClassValidator.validateAll(scanResult.getTypesAnnotatedWith(Configuration.class));
+
+        var mapper = new BeanDefinitionMapper();
+        List<BeanDefinition> beanDefinitions = new ArrayList<>();
+        beanDefinitions.addAll(new BeanAnnotationScanner(beanClassValidator, mapper, scanResult).scan());
+        beanDefinitions.addAll(new BeanConfigurationClassScanner(configurationClassValidator, mapper, scanResult).scan());
+        new BeanDefinitionValidator().validate(beanDefinitions);
+
+        String fingerprint = compute()
+                .orElseThrow(() -> new UncheckedIOException(new IOException("Class files of the bean set cannot be read")))
+                .toString();
+        Path fingerprintFile = outputDirectory.resolve(resourceName);
+        try {
+            Path directory = fingerprintFile.getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, fingerprintFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                writer.write(fingerprint);
+                writer.newLine();
+            }
+            Files.move(tempFile, fingerprintFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write validation fingerprint " + fingerprintFile, e);
+        }
+        log.info("Validation fingerprint of {} bean definitions is written to {}", beanDefinitions.size(), fingerprintFile);
+        return fingerprintFile;
+    }
+
+    /**
+     * @return whether the fingerprint packaged on the classpath is signed with the same key and matches
+     * the scanned classes
+     */
+    public boolean matches() {
+        return matches.get();
+    }
+
+    private boolean verify() {
+        Optional<HashCode> packagedFingerprint = read();
+        if (packagedFingerprint.isEmpty()) {
+            return false;
+        }
+        Optional<HashCode> currentFingerprint = compute();
+        if (currentFingerprint.isEmpty()
+                || !MessageDigest.isEqual(packagedFingerprint.get().asBytes(), currentFingerprint.get().asBytes())) {
+            log.info("Bean set does not match validation fingerprint {}, classes will be validated", resourceName);
+            return false;
+        }
+        log.info("Bean set matches validation fingerprint {}, skipping structural validation", resourceName);
+        return true;
+    }
+
+    /**
+     * @return signature of names and class file hashes of bean and configuration classes in name order,
+     * or empty {@link Optional} if any class file cannot be read
+     */
+    private Optional<HashCode> compute() {
+        Set<String> classNames = new TreeSet<>(scanResult.getTypeNamesAnnotatedWith(Bean.class));
+        classNames.addAll(scanResult.getTypeNamesAnnotatedWith(Configuration.class));
+
+        Hasher hasher = signature.newHasher()
+                .putString(String.join(",", scanResult.getPackagesToScan()), UTF_8);
+        for (String className : classNames) {
+            Optional<String> classFileHash = classpathFingerprint.ofClassFile(className);
+            if (classFileHash.isEmpty()) {
+                log.debug("Class file of {} cannot be read, bean set cannot be fingerprinted", className);
+                return Optional.empty();
+            }
+            hasher.putString(className, UTF_8)
+                    .putString(classFileHash.get(), UTF_8);
+        }
+        return Optional.of(hasher.hash());
+    }
+
+    private Optional<HashCode> read() {
+        InputStream fingerprintResource = scanResult.getClassLoader().getResourceAsStream(resourceName);
+        if (fingerprintResource == null) {
+            log.debug("Validation fingerprint {} is not found on the classpath", resourceName);
+            return Optional.empty();
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(fingerprintResource, UTF_8))) {
+            if (!HEADER.equals(reader.readLine())) {
+                log.debug("Validation fingerprint {} is of unsupported version", resourceName);
+                return Optional.empty();
+            }
+            return Optional.of(HashCode.fromString(reader.readLine()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read validation fingerprint {}, classes will be validated", resourceName, e);
+            return Optional.empty();
+        }
+    }
+}
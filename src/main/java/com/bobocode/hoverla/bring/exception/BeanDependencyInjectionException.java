@@ -5,4 +5,8 @@ public class BeanDependencyInjectionException extends RuntimeException {
     public BeanDependencyInjectionException(String message) {
         super(message);
     }
+
+    public BeanDependencyInjectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,15 @@
+package com.bobocode.hoverla.bring.exception;
+
+/**
+ * Thrown to indicate that compile-time bean index cannot be read or refers to classes that are not available
+ */
+public class BeanIndexException extends RuntimeException {
+
+    public BeanIndexException(String message) {
+        super(message);
+    }
+
+    public BeanIndexException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
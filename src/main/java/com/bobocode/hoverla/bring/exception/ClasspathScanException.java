@@ -0,0 +1,11 @@
+package com.bobocode.hoverla.bring.exception;
+
+/**
+ * Thrown to indicate that classpath cannot be scanned for bean candidates
+ */
+public class ClasspathScanException extends RuntimeException {
+
+    public ClasspathScanException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.bobocode.hoverla.bring.exception;
+
+/**
+ * Thrown to indicate that application context cannot be generated at compile time for classes being compiled
+ */
+public class ContextGenerationException extends RuntimeException {
+
+    public ContextGenerationException(String message) {
+        super(message);
+    }
+}
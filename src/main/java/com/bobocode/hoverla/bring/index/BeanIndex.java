@@ -0,0 +1,321 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import com.bobocode.hoverla.bring.processor.BeanIndexProcessor;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.TreeMultimap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Compile-time index of bean candidates, generated by {@link BeanIndexProcessor}.
+ *
+ * <p>Index is stored as a plain text file under {@link BeanIndex#LOCATION} of each compiled module.
+ * Every line describes a single entry:</p>
+ * <pre>
+ * bean com.example.MyBean
+ * configuration com.example.MyConfig
+ * method com.example.MyConfig myBean(java.lang.String,int)
+ * </pre>
+ *
+ * <p>Classpath roots that carry an index are not walked by scanners, their bean candidates are read from the index.
+ * Roots without an index are walked as usual, so indexed and not indexed jars can be mixed on the classpath.</p>
+ *
+ * @see Bean @Bean
+ * @see Configuration @Configuration
+ * @see BeanIndexProcessor
+ */
+@Slf4j
+@ToString
+@EqualsAndHashCode
+public class BeanIndex {
+
+    public static final String LOCATION = "META-INF/bring/beans.idx";
+
+    private static final String HEADER = "# Bring bean index. Generated by BeanIndexProcessor - do not edit";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String BEAN_ENTRY = "bean";
+    private static final String CONFIGURATION_ENTRY = "configuration";
+    private static final String METHOD_ENTRY = "method";
+    private static final String ENTRY_DELIMITER = " ";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = Stream.of(boolean.class, byte.class, char.class,
+                    short.class, int.class, long.class, float.class, double.class, void.class)
+            .collect(toMap(Class::getName, identity()));
+
+    private final SortedSet<String> beanClassNames = new TreeSet<>();
+
+    private final SortedSet<String> configurationClassNames = new TreeSet<>();
+
+    private final SetMultimap<String, String> beanMethods = TreeMultimap.create();
+
+    /**
+     * Looks up all indexes available to the given {@link ClassLoader} and merges them into a single one.
+     *
+     * @param classLoader class loader to look up {@link BeanIndex#LOCATION} resources with
+     * @return merged index or empty {@link Optional} if there is no index on the classpath
+     * @throws BeanIndexException when any of found indexes cannot be read
+     */
+    public static Optional<BeanIndex> load(ClassLoader classLoader) {
+        Enumeration<URL> indexUrls = findIndexUrls(classLoader);
+        if (!indexUrls.hasMoreElements()) {
+            log.debug("No bean index found at {}", LOCATION);
+            return Optional.empty();
+        }
+
+        BeanIndex mergedIndex = new BeanIndex();
+        for (URL indexUrl : Collections.list(indexUrls)) {
+            log.debug("Reading bean index from {}", indexUrl);
+            mergedIndex.merge(read(indexUrl));
+        }
+        log.info("Bean index loaded: {} `@Bean` classes and {} `@Configuration` classes",
+                mergedIndex.beanClassNames.size(), mergedIndex.configurationClassNames.size());
+        return Optional.of(mergedIndex);
+    }
+
+    /**
+     * Reads index from the given {@link Reader}. Reader is not closed.
+     *
+     * @param reader source of index lines
+     * @return read index
+     * @throws BeanIndexException when index contains malformed lines
+     */
+    public static BeanIndex read(Reader reader) throws IOException {
+        BeanIndex index = new BeanIndex();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            line = line.strip();
+            if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX)) {
+                index.readEntry(line);
+            }
+        }
+        return index;
+    }
+
+    static BeanIndex read(URL indexUrl) {
+        try (Reader reader = new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (IOException e) {
+            throw new BeanIndexException("Unable to read bean index from %s".formatted(indexUrl), e);
+        }
+    }
+
+    private static Enumeration<URL> findIndexUrls(ClassLoader classLoader) {
+        try {
+            return classLoader.getResources(LOCATION);
+        } catch (IOException e) {
+            throw new BeanIndexException("Unable to look up bean indexes at %s".formatted(LOCATION), e);
+        }
+    }
+
+    private void readEntry(String line) {
+        String[] entry = line.split(ENTRY_DELIMITER);
+        switch (entry[0]) {
+            case BEAN_ENTRY -> {
+                checkEntryLength(entry, 2, line);
+                addBeanClass(entry[1]);
+            }
+            case CONFIGURATION_ENTRY -> {
+                checkEntryLength(entry, 2, line);
+                addConfigurationClass(entry[1]);
+            }
+            case METHOD_ENTRY -> {
+                checkEntryLength(entry, 3, line);
+                addBeanMethod(entry[1], entry[2]);
+            }
+            default -> throw new BeanIndexException("Unknown bean index entry - %s".formatted(line));
+        }
+    }
+
+    private static void checkEntryLength(String[] entry, int expectedLength, String line) {
+        if (entry.length != expectedLength) {
+            throw new BeanIndexException("Malformed bean index entry - %s".formatted(line));
+        }
+    }
+
+    /**
+     * Writes index to the given {@link Writer} in a stable (sorted) order. Writer is not closed.
+     *
+     * @param writer target of index lines
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+        for (String beanClassName : beanClassNames) {
+            writeEntry(writer, BEAN_ENTRY, beanClassName);
+        }
+        for (String configurationClassName : configurationClassNames) {
+            writeEntry(writer, CONFIGURATION_ENTRY, configurationClassName);
+            for (String beanMethod : beanMethods.get(configurationClassName)) {
+                writeEntry(writer, METHOD_ENTRY, configurationClassName, beanMethod);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeEntry(Writer writer, String... entry) throws IOException {
+        writer.write(String.join(ENTRY_DELIMITER, entry));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    public void addBeanClass(String className) {
+        beanClassNames.add(className);
+    }
+
+    public void addConfigurationClass(String className) {
+        configurationClassNames.add(className);
+    }
+
+    /**
+     * @param configurationClassName binary name of {@link Configuration @Configuration} class
+     * @param methodSignature        method name followed by comma-separated parameter type names in parentheses
+     */
+    public void addBeanMethod(String configurationClassName, String methodSignature) {
+        beanMethods.put(configurationClassName, methodSignature);
+    }
+
+    /**
+     * Removes all entries of the given class.
+     *
+     * @param className binary name of a class
+     */
+    public void remove(String className) {
+        beanClassNames.remove(className);
+        configurationClassNames.remove(className);
+        beanMethods.removeAll(className);
+    }
+
+    public void merge(BeanIndex other) {
+        beanClassNames.addAll(other.beanClassNames);
+        configurationClassNames.addAll(other.configurationClassNames);
+        beanMethods.putAll(other.beanMethods);
+    }
+
+    public Set<String> getClassNames() {
+        Set<String> classNames = new TreeSet<>(beanClassNames);
+        classNames.addAll(configurationClassNames);
+        return classNames;
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return names of indexed {@link Bean @Bean} classes that belong to given packages
+     */
+    public Set<String> getBeanClassNames(String... packagesToScan) {
+        return getBeanClassNames(PackagePrefixes.of(packagesToScan));
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return names of indexed {@link Bean @Bean} classes that belong to given packages
+     */
+    public Set<String> getBeanClassNames(PackagePrefixes packagesToScan) {
+        return filterByPackages(beanClassNames, packagesToScan);
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return names of indexed {@link Configuration @Configuration} classes that belong to given packages
+     */
+    public Set<String> getConfigurationClassNames(String... packagesToScan) {
+        return getConfigurationClassNames(PackagePrefixes.of(packagesToScan));
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return names of indexed {@link Configuration @Configuration} classes that belong to given packages
+     */
+    public Set<String> getConfigurationClassNames(PackagePrefixes packagesToScan) {
+        return filterByPackages(configurationClassNames, packagesToScan);
+    }
+
+    /**
+     * @param configurationClassName binary name of {@link Configuration @Configuration} class
+     * @return signatures of {@link Bean @Bean} methods declared by given configuration class
+     */
+    public Set<String> getBeanMethods(String configurationClassName) {
+        return Collections.unmodifiableSet(beanMethods.get(configurationClassName));
+    }
+
+    /**
+     * Loads classes by their binary names without initializing them.
+     *
+     * @param classNames  names of classes to load
+     * @param classLoader class loader to load classes with
+     * @return loaded classes in the same order as given names
+     * @throws BeanIndexException when any of indexed classes is not present on the classpath
+     */
+    public static Set<Class<?>> loadClasses(Set<String> classNames, ClassLoader classLoader) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : classNames) {
+            classes.add(loadClass(className, classLoader));
+        }
+        return classes;
+    }
+
+    /**
+     * Loads class by its name without initializing it.
+     *
+     * @param className   name of a class in the format of {@link Class#getName()}, primitive types are supported
+     * @param classLoader class loader to load the class with
+     * @return loaded class
+     * @throws BeanIndexException when the class is not present on the classpath
+     */
+    public static Class<?> loadClass(String className, ClassLoader classLoader) {
+        Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+        if (primitiveType != null) {
+            return primitiveType;
+        }
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new BeanIndexException("Indexed class %s cannot be loaded. Bean index might be stale"
+                    .formatted(className), e);
+        }
+    }
+
+    /**
+     * @return context class loader of current thread or class loader of Bring classes if former is absent
+     */
+    public static ClassLoader defaultClassLoader() {
+        return Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(BeanIndex.class.getClassLoader());
+    }
+
+    /**
+     * Classes of a package and its subpackages form a contiguous range of sorted class names,
+     * from {@code package.} inclusive to {@code package/} exclusive, since {@code /} follows {@code .}
+     */
+    private static Set<String> filterByPackages(SortedSet<String> classNames, PackagePrefixes packagesToScan) {
+        Set<String> filteredClassNames = new TreeSet<>();
+        for (String packageName : packagesToScan.packages()) {
+            filteredClassNames.addAll(classNames.subSet(packageName + ".", packageName + "/"));
+        }
+        return filteredClassNames;
+    }
+}
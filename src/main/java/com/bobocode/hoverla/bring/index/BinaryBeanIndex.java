@@ -0,0 +1,517 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import com.bobocode.hoverla.bring.processor.BeanIndexProcessor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Compact binary form of compile-time bean index, generated by {@link BeanIndexProcessor}
+ * next to the human-readable {@link BeanIndex}.
+ *
+ * <p>Besides class names, the index holds everything bean definitions are built from - bean names, primary flags,
+ * dependencies, supertypes of bean classes and {@link Bean @Bean} method descriptors, so that none of it has to be
+ * read through reflection.</p>
+ *
+ * <p>Format (version 2), where {@code varint} is an unsigned LEB128 integer and {@code str} is a varint
+ * index in the string table:</p>
+ * <pre>
+ * index      := magic:u4 version:u1 stringCount:varint string* entryCount:varint entryOffsetDelta:varint* entry*
+ * string     := byteLength:varint utf8Bytes
+ * entry      := flags:u1 package:str simpleName:str [beanName:str]? [supertypeCount:varint supertype:str*]?
+ *               [dependencies]? [methodCount:varint method*]?
+ * method     := flags:u1 name:str beanName:str returnType:str parameterCount:varint parameterType:str* [dependencies]?
+ * dependencies := count:varint (flags:u1 name:str type:str [elementType:str]?)*
+ * </pre>
+ *
+ * <p>Package and class names, as well as all other strings, are stored once in the string table.
+ * Entry offsets are stored as deltas from the previous entry. Entries are sorted by package and class name.
+ * Version 1 is the same format without supertypes, it is still read.</p>
+ *
+ * <p>Reading an index takes a single memory mapping (or a single read for indexes packed into jars)
+ * and decoding of the string table and entry offsets. Entries are decoded only on access and no objects
+ * are created per entry unless it is {@linkplain #entry(int) materialised}. Entries of scanned packages
+ * are located with binary search. Instances are thread-safe.</p>
+ *
+ * @see BinaryBeanIndexWriter
+ * @see BeanIndexProcessor
+ */
+@Slf4j
+public final class BinaryBeanIndex {
+
+    public static final String LOCATION = "META-INF/bring/beans.bin";
+
+    static final int MAGIC = 0x42524958; // BRIX
+    static final int VERSION = 2;
+
+    /**
+     * The oldest version that can be read
+     */
+    static final int MIN_VERSION = 1;
+
+    // entry and bean method flags
+    static final int BEAN = 1;
+    static final int CONFIGURATION = 1 << 1;
+    static final int PRIMARY = 1 << 2;
+    static final int DEPENDENCIES = 1 << 3;
+    static final int SUPERTYPES = 1 << 4;
+
+    // dependency flags
+    static final int QUALIFIED = 1;
+    static final int COLLECTION = 1 << 1;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Offsets of string table entries, each pointing to the length of a string
+     */
+    private final int[] stringOffsets;
+
+    /**
+     * Strings decoded so far. Racy initialization is safe, since strings are immutable
+     */
+    private final String[] strings;
+
+    private final int[] entryOffsets;
+
+    private BinaryBeanIndex(ByteBuffer buffer, int[] stringOffsets, int[] entryOffsets) {
+        this.buffer = buffer;
+        this.stringOffsets = stringOffsets;
+        this.strings = new String[stringOffsets.length];
+        this.entryOffsets = entryOffsets;
+    }
+
+    /**
+     * Looks up all binary indexes available to the given {@link ClassLoader}.
+     *
+     * @param classLoader class loader to look up {@link BinaryBeanIndex#LOCATION} resources with
+     * @return found indexes in the order of the classpath, empty if there is no index on the classpath
+     * @throws BeanIndexException when any of found indexes cannot be read
+     */
+    public static List<BinaryBeanIndex> load(ClassLoader classLoader) {
+        List<URL> indexUrls;
+        try {
+            indexUrls = Collections.list(classLoader.getResources(LOCATION));
+        } catch (IOException e) {
+            throw new BeanIndexException("Unable to look up bean indexes at %s".formatted(LOCATION), e);
+        }
+        List<BinaryBeanIndex> indexes = new ArrayList<>(indexUrls.size());
+        for (URL indexUrl : indexUrls) {
+            BinaryBeanIndex index = read(indexUrl);
+            log.debug("Read binary bean index with {} entries from {}", index.size(), indexUrl);
+            indexes.add(index);
+        }
+        return indexes;
+    }
+
+    /**
+     * Reads index from the given buffer. Buffer content is not copied and must not be modified afterwards.
+     *
+     * @param index content of an index from its position to its limit, position of the buffer is not changed
+     * @return read index
+     * @throws BeanIndexException when the content is not an index of supported version
+     */
+    public static BinaryBeanIndex read(ByteBuffer index) {
+        ByteBuffer buffer = index.slice();
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new BeanIndexException("Not a binary bean index");
+            }
+            int version = Byte.toUnsignedInt(buffer.get());
+            if (version < MIN_VERSION || version > VERSION) {
+                throw new BeanIndexException("Unsupported binary bean index version %d, expected %d to %d"
+                        .formatted(version, MIN_VERSION, VERSION));
+            }
+            int[] stringOffsets = new int[readVarint(buffer)];
+            for (int i = 0; i < stringOffsets.length; i++) {
+                stringOffsets[i] = buffer.position();
+                int length = readVarint(buffer);
+                buffer.position(buffer.position() + length);
+            }
+            int[] entryOffsets = new int[readVarint(buffer)];
+            int entryOffset = 0;
+            for (int i = 0; i < entryOffsets.length; i++) {
+                entryOffset += readVarint(buffer);
+                entryOffsets[i] = entryOffset;
+            }
+            for (int i = 0; i < entryOffsets.length; i++) {
+                entryOffsets[i] += buffer.position();
+            }
+            return new BinaryBeanIndex(buffer, stringOffsets, entryOffsets);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new BeanIndexException("Binary bean index is truncated or malformed", e);
+        }
+    }
+
+    static BinaryBeanIndex read(URL indexUrl) {
+        try {
+            if ("file".equals(indexUrl.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Path.of(indexUrl.toURI()), READ)) {
+                    return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            }
+            try (InputStream input = indexUrl.openStream()) {
+                return read(ByteBuffer.wrap(input.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException | BeanIndexException e) {
+            throw new BeanIndexException("Unable to read binary bean index from %s".formatted(indexUrl), e);
+        }
+    }
+
+    /**
+     * @return number of indexed classes
+     */
+    public int size() {
+        return entryOffsets.length;
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return whether the class is annotated with {@link Bean @Bean}
+     */
+    public boolean isBean(int entry) {
+        return (flags(entry) & BEAN) != 0;
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return whether the class is annotated with {@link Configuration @Configuration}
+     */
+    public boolean isConfiguration(int entry) {
+        return (flags(entry) & CONFIGURATION) != 0;
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return value of {@link Bean#primary()}, {@code false} if the class is not a bean
+     */
+    public boolean isPrimary(int entry) {
+        return (flags(entry) & PRIMARY) != 0;
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return binary name of the class
+     */
+    public String className(int entry) {
+        Cursor cursor = new Cursor(entryOffsets[entry] + 1);
+        String packageName = string(cursor.varint());
+        String simpleName = string(cursor.varint());
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return name of the bean, {@code null} if the class is not a bean
+     */
+    @Nullable
+    public String beanName(int entry) {
+        if (!isBean(entry)) {
+            return null;
+        }
+        Cursor cursor = new Cursor(entryOffsets[entry] + 1);
+        cursor.skipVarints(2); // package and simple name
+        return string(cursor.varint());
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return binary names of all superclasses and interfaces of the bean class, {@code null} if the class
+     * is not a bean or its supertypes were not recorded
+     */
+    @Nullable
+    public List<String> supertypeNames(int entry) {
+        if ((flags(entry) & SUPERTYPES) == 0) {
+            return null;
+        }
+        Cursor cursor = new Cursor(entryOffsets[entry] + 1);
+        cursor.skipVarints(3); // package, simple name and bean name
+        int supertypesCount = cursor.varint();
+        List<String> supertypeNames = new ArrayList<>(supertypesCount);
+        for (int i = 0; i < supertypesCount; i++) {
+            supertypeNames.add(string(cursor.varint()));
+        }
+        return supertypeNames;
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return dependencies of the bean, {@code null} if the class is not a bean or its dependencies
+     * were not resolved at compile time
+     */
+    @Nullable
+    public List<IndexedDependency> dependencies(int entry) {
+        int flags = flags(entry);
+        if ((flags & DEPENDENCIES) == 0) {
+            return null;
+        }
+        Cursor cursor = new Cursor(entryOffsets[entry] + 1);
+        cursor.skipVarints(3); // package, simple name and bean name
+        skipSupertypes(flags, cursor);
+        return readDependencies(cursor);
+    }
+
+    /**
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return {@link Bean @Bean} methods of the configuration class, empty if the class is not a configuration
+     */
+    public List<IndexedBeanMethod> beanMethods(int entry) {
+        int flags = flags(entry);
+        if ((flags & CONFIGURATION) == 0) {
+            return Collections.emptyList();
+        }
+        Cursor cursor = new Cursor(entryOffsets[entry] + 1);
+        cursor.skipVarints((flags & BEAN) != 0 ? 3 : 2);
+        skipSupertypes(flags, cursor);
+        if ((flags & DEPENDENCIES) != 0) {
+            skipDependencies(cursor);
+        }
+        int methodsCount = cursor.varint();
+        List<IndexedBeanMethod> beanMethods = new ArrayList<>(methodsCount);
+        for (int i = 0; i < methodsCount; i++) {
+            beanMethods.add(readBeanMethod(cursor));
+        }
+        return beanMethods;
+    }
+
+    /**
+     * Materialises an entry with all its metadata.
+     *
+     * @param entry ordinal of an entry, from {@code 0} to {@link #size()} exclusive
+     * @return indexed class
+     */
+    public IndexedClass entry(int entry) {
+        return new IndexedClass(className(entry), isBean(entry), isConfiguration(entry), beanName(entry),
+                isPrimary(entry), dependencies(entry), beanMethods(entry), supertypeNames(entry));
+    }
+
+    /**
+     * @param className binary name of a class
+     * @return ordinal of the entry of the given class or {@code -1} if the class is not indexed
+     */
+    public int find(String className) {
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+        String simpleName = className.substring(lastDot + 1);
+
+        int low = 0;
+        int high = entryOffsets.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Cursor cursor = new Cursor(entryOffsets[middle] + 1);
+            int comparison = string(cursor.varint()).compareTo(packageName);
+            if (comparison == 0) {
+                comparison = string(cursor.varint()).compareTo(simpleName);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return ordinals of {@link Bean @Bean} class entries that belong to given packages
+     */
+    public int[] findBeanEntries(String... packagesToScan) {
+        return findBeanEntries(PackagePrefixes.of(packagesToScan));
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return ordinals of {@link Bean @Bean} class entries that belong to given packages
+     */
+    public int[] findBeanEntries(PackagePrefixes packagesToScan) {
+        return findEntries(BEAN, packagesToScan);
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return ordinals of {@link Configuration @Configuration} class entries that belong to given packages
+     */
+    public int[] findConfigurationEntries(String... packagesToScan) {
+        return findConfigurationEntries(PackagePrefixes.of(packagesToScan));
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return ordinals of {@link Configuration @Configuration} class entries that belong to given packages
+     */
+    public int[] findConfigurationEntries(PackagePrefixes packagesToScan) {
+        return findEntries(CONFIGURATION, packagesToScan);
+    }
+
+    /**
+     * Entries are sorted by package, so entries of a package form a contiguous range and entries of its
+     * subpackages form another one, from {@code package.} inclusive to {@code package/} exclusive.
+     * Both ranges are located with binary search, only entries inside them are looked at.
+     */
+    private int[] findEntries(int flag, PackagePrefixes packagesToScan) {
+        int[] matchedEntries = new int[entryOffsets.length];
+        int matchedCount = 0;
+        for (String packageName : packagesToScan.packages()) {
+            matchedCount = collectEntries(flag, lowerBound(packageName), lowerBound(packageName + "\0"),
+                    matchedEntries, matchedCount);
+            matchedCount = collectEntries(flag, lowerBound(packageName + "."), lowerBound(packageName + "/"),
+                    matchedEntries, matchedCount);
+        }
+        return Arrays.copyOf(matchedEntries, matchedCount);
+    }
+
+    private int collectEntries(int flag, int from, int to, int[] matchedEntries, int matchedCount) {
+        for (int entry = from; entry < to; entry++) {
+            if ((flags(entry) & flag) != 0) {
+                matchedEntries[matchedCount++] = entry;
+            }
+        }
+        return matchedCount;
+    }
+
+    /**
+     * @return ordinal of the first entry with package that is not less than the given one
+     */
+    private int lowerBound(String packageName) {
+        int low = 0;
+        int high = entryOffsets.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int packageIndex = new Cursor(entryOffsets[middle] + 1).varint();
+            if (string(packageIndex).compareTo(packageName) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private IndexedBeanMethod readBeanMethod(Cursor cursor) {
+        int flags = cursor.u1();
+        String name = string(cursor.varint());
+        String beanName = string(cursor.varint());
+        String returnTypeName = string(cursor.varint());
+        int parametersCount = cursor.varint();
+        List<String> parameterTypeNames = new ArrayList<>(parametersCount);
+        for (int i = 0; i < parametersCount; i++) {
+            parameterTypeNames.add(string(cursor.varint()));
+        }
+        List<IndexedDependency> dependencies = (flags & DEPENDENCIES) != 0 ? readDependencies(cursor) : null;
+        return new IndexedBeanMethod(name, parameterTypeNames, returnTypeName, beanName,
+                (flags & PRIMARY) != 0, dependencies);
+    }
+
+    private List<IndexedDependency> readDependencies(Cursor cursor) {
+        int dependenciesCount = cursor.varint();
+        List<IndexedDependency> dependencies = new ArrayList<>(dependenciesCount);
+        for (int i = 0; i < dependenciesCount; i++) {
+            int flags = cursor.u1();
+            String name = string(cursor.varint());
+            String typeName = string(cursor.varint());
+            String elementTypeName = (flags & COLLECTION) != 0 ? string(cursor.varint()) : null;
+            dependencies.add(new IndexedDependency(name, typeName, (flags & QUALIFIED) != 0, elementTypeName));
+        }
+        return dependencies;
+    }
+
+    private static void skipSupertypes(int flags, Cursor cursor) {
+        if ((flags & SUPERTYPES) != 0) {
+            cursor.skipVarints(cursor.varint());
+        }
+    }
+
+    private void skipDependencies(Cursor cursor) {
+        int dependenciesCount = cursor.varint();
+        for (int i = 0; i < dependenciesCount; i++) {
+            int flags = cursor.u1();
+            cursor.skipVarints((flags & COLLECTION) != 0 ? 3 : 2);
+        }
+    }
+
+    private int flags(int entry) {
+        return Byte.toUnsignedInt(buffer.get(entryOffsets[entry]));
+    }
+
+    private String string(int index) {
+        String string = strings[index];
+        if (string == null) {
+            Cursor cursor = new Cursor(stringOffsets[index]);
+            byte[] bytes = new byte[cursor.varint()];
+            buffer.get(cursor.position, bytes);
+            string = new String(bytes, UTF_8);
+            strings[index] = string;
+        }
+        return string;
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Reads entry data at absolute positions, so that the shared buffer is never modified
+     */
+    private final class Cursor {
+
+        private int position;
+
+        private Cursor(int position) {
+            this.position = position;
+        }
+
+        private int u1() {
+            return Byte.toUnsignedInt(buffer.get(position++));
+        }
+
+        private int varint() {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = buffer.get(position++);
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at offset %d".formatted(position));
+        }
+
+        private void skipVarints(int count) {
+            for (int i = 0; i < count; i++) {
+                byte b;
+                do {
+                    b = buffer.get(position++);
+                } while (b < 0); // continuation bit is set
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.bobocode.hoverla.bring.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.BEAN;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.COLLECTION;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.CONFIGURATION;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.DEPENDENCIES;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.MAGIC;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.PRIMARY;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.QUALIFIED;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.SUPERTYPES;
+import static com.bobocode.hoverla.bring.index.BinaryBeanIndex.VERSION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes {@link IndexedClass}es in the format of {@link BinaryBeanIndex}.
+ *
+ * <p>Entries are sorted by package and class name, so that output is stable and entries can be looked up
+ * by class name with binary search.</p>
+ *
+ * @see BinaryBeanIndex
+ */
+public class BinaryBeanIndexWriter {
+
+    static final Comparator<IndexedClass> ENTRY_ORDER = Comparator.comparing(IndexedClass::packageName)
+            .thenComparing(IndexedClass::simpleName);
+
+    private final List<String> strings = new ArrayList<>();
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+    private BinaryBeanIndexWriter() {
+        stringIndex(""); // index 0 is always an empty string
+    }
+
+    /**
+     * Writes index of the given classes to the given {@link OutputStream}. Stream is not closed.
+     *
+     * @param classes classes to index, each class must be given only once
+     * @param output  target of the index
+     */
+    public static void write(Collection<IndexedClass> classes, OutputStream output) throws IOException {
+        new BinaryBeanIndexWriter().writeIndex(classes, output);
+    }
+
+    private void writeIndex(Collection<IndexedClass> classes, OutputStream output) throws IOException {
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        List<Integer> entryOffsets = new ArrayList<>(classes.size());
+        for (IndexedClass indexedClass : classes.stream().sorted(ENTRY_ORDER).toList()) {
+            entryOffsets.add(entries.size());
+            writeEntry(indexedClass, entries);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).array());
+        header.write(VERSION);
+        writeVarint(strings.size(), header);
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(UTF_8);
+            writeVarint(bytes.length, header);
+            header.writeBytes(bytes);
+        }
+        writeVarint(entryOffsets.size(), header);
+        int previousOffset = 0;
+        for (int entryOffset : entryOffsets) {
+            writeVarint(entryOffset - previousOffset, header);
+            previousOffset = entryOffset;
+        }
+
+        header.writeTo(output);
+        entries.writeTo(output);
+        output.flush();
+    }
+
+    private void writeEntry(IndexedClass indexedClass, ByteArrayOutputStream entry) {
+        boolean hasDependencies = indexedClass.bean() && indexedClass.dependencies() != null;
+        boolean hasSupertypes = indexedClass.bean() && indexedClass.supertypeNames() != null;
+        int flags = (indexedClass.bean() ? BEAN : 0)
+                | (indexedClass.configuration() ? CONFIGURATION : 0)
+                | (indexedClass.bean() && indexedClass.primary() ? PRIMARY : 0)
+                | (hasDependencies ? DEPENDENCIES : 0)
+                | (hasSupertypes ? SUPERTYPES : 0);
+        entry.write(flags);
+        writeString(indexedClass.packageName(), entry);
+        writeString(indexedClass.simpleName(), entry);
+        if (indexedClass.bean()) {
+            writeString(indexedClass.beanName(), entry);
+        }
+        if (hasSupertypes) {
+            writeVarint(indexedClass.supertypeNames().size(), entry);
+            indexedClass.supertypeNames().forEach(supertypeName -> writeString(supertypeName, entry));
+        }
+        if (hasDependencies) {
+            writeDependencies(indexedClass.dependencies(), entry);
+        }
+        if (indexedClass.configuration()) {
+            writeVarint(indexedClass.beanMethods().size(), entry);
+            indexedClass.beanMethods().forEach(beanMethod -> writeBeanMethod(beanMethod, entry));
+        }
+    }
+
+    private void writeBeanMethod(IndexedBeanMethod beanMethod, ByteArrayOutputStream entry) {
+        int flags = (beanMethod.primary() ? PRIMARY : 0)
+                | (beanMethod.dependencies() != null ? DEPENDENCIES : 0);
+        entry.write(flags);
+        writeString(beanMethod.name(), entry);
+        writeString(beanMethod.beanName(), entry);
+        writeString(beanMethod.returnTypeName(), entry);
+        writeVarint(beanMethod.parameterTypeNames().size(), entry);
+        beanMethod.parameterTypeNames().forEach(parameterTypeName -> writeString(parameterTypeName, entry));
+        if (beanMethod.dependencies() != null) {
+            writeDependencies(beanMethod.dependencies(), entry);
+        }
+    }
+
+    private void writeDependencies(List<IndexedDependency> dependencies, ByteArrayOutputStream entry) {
+        writeVarint(dependencies.size(), entry);
+        for (IndexedDependency dependency : dependencies) {
+            entry.write((dependency.qualified() ? QUALIFIED : 0) | (dependency.collection() ? COLLECTION : 0));
+            writeString(dependency.name(), entry);
+            writeString(dependency.typeName(), entry);
+            if (dependency.collection()) {
+                writeString(dependency.collectionElementTypeName(), entry);
+            }
+        }
+    }
+
+    private void writeString(String string, ByteArrayOutputStream entry) {
+        writeVarint(stringIndex(string), entry);
+    }
+
+    private int stringIndex(String string) {
+        return stringIndexes.computeIfAbsent(string, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Writes unsigned LEB128 varint - 7 bits per byte, the highest bit is set on all bytes but the last one
+     */
+    private static void writeVarint(int value, ByteArrayOutputStream output) {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+}
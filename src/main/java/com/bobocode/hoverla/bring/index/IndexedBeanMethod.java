@@ -0,0 +1,26 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * {@link Bean @Bean} method of an indexed configuration class. All type names are in the format of {@link Class#getName()}.
+ *
+ * @param name               name of the method
+ * @param parameterTypeNames names of erased parameter types
+ * @param returnTypeName     name of erased return type
+ * @param beanName           name of the bean - {@link Bean#value()} or name of the method
+ * @param primary            value of {@link Bean#primary()}
+ * @param dependencies       dependencies declared by parameters or {@code null} if they cannot be resolved
+ *                           at compile time, e.g. for collections of raw types
+ * @see BinaryBeanIndex
+ */
+public record IndexedBeanMethod(String name,
+                                List<String> parameterTypeNames,
+                                String returnTypeName,
+                                String beanName,
+                                boolean primary,
+                                @Nullable List<IndexedDependency> dependencies) {
+}
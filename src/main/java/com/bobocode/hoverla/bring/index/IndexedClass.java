@@ -0,0 +1,55 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Class recorded into {@link BinaryBeanIndex}.
+ *
+ * @param className      binary name of the class, e.g. {@code com.example.Outer$Inner}
+ * @param bean           whether the class is annotated with {@link Bean @Bean}
+ * @param configuration  whether the class is annotated with {@link Configuration @Configuration}
+ * @param beanName       name of the bean - {@link Bean#value()} or class name, {@code null} unless the class is a bean
+ * @param primary        value of {@link Bean#primary()}, {@code false} unless the class is a bean
+ * @param dependencies   dependencies declared by the injection constructor and {@code @Inject} fields,
+ *                       {@code null} unless the class is a bean or if they cannot be resolved at compile time
+ * @param beanMethods    {@link Bean @Bean} methods of a configuration class, empty for other classes
+ * @param supertypeNames binary names of all superclasses and interfaces of the class, {@code java.lang.Object}
+ *                       included, {@code null} unless the class is a bean or if they are not recorded
+ */
+public record IndexedClass(String className,
+                           boolean bean,
+                           boolean configuration,
+                           @Nullable String beanName,
+                           boolean primary,
+                           @Nullable List<IndexedDependency> dependencies,
+                           List<IndexedBeanMethod> beanMethods,
+                           @Nullable List<String> supertypeNames) {
+
+    /**
+     * Creates metadata without supertypes of the class
+     */
+    public IndexedClass(String className, boolean bean, boolean configuration, @Nullable String beanName,
+                        boolean primary, @Nullable List<IndexedDependency> dependencies,
+                        List<IndexedBeanMethod> beanMethods) {
+        this(className, bean, configuration, beanName, primary, dependencies, beanMethods, null);
+    }
+
+    /**
+     * @return package name of the class, empty for classes of the unnamed package
+     */
+    public String packageName() {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
+    /**
+     * @return name of the class without package, e.g. {@code Outer$Inner}
+     */
+    public String simpleName() {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
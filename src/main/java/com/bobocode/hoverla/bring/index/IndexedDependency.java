@@ -0,0 +1,27 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.annotation.Qualifier;
+import com.bobocode.hoverla.bring.context.BeanDependency;
+
+import javax.annotation.Nullable;
+
+/**
+ * Dependency of an indexed bean, resolved at compile time the same way {@link BeanDependency} is resolved at runtime.
+ * All type names are in the format of {@link Class#getName()}.
+ *
+ * @param name                      name of the dependency - {@link Qualifier @Qualifier} value or type name,
+ *                                  followed by {@code #} and element type name for not qualified collections
+ * @param typeName                  name of the declared type of the dependency
+ * @param qualified                 whether the dependency is annotated with {@link Qualifier @Qualifier}
+ * @param collectionElementTypeName name of the collection element type, {@code null} for non-collection dependencies
+ * @see BinaryBeanIndex
+ */
+public record IndexedDependency(String name,
+                                String typeName,
+                                boolean qualified,
+                                @Nullable String collectionElementTypeName) {
+
+    public boolean collection() {
+        return collectionElementTypeName != null;
+    }
+}
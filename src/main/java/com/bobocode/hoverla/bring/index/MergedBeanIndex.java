@@ -0,0 +1,287 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * All compile-time bean indexes of a classpath, merged lazily.
+ *
+ * <p>Every classpath root (usually a jar) carries its own index. Loading only locates them, each index is read
+ * on the first query and queried in place - entries of different roots are never copied into a single index.
+ * {@link BinaryBeanIndex} of a root is preferred over its {@link BeanIndex}, roots built before binary index was
+ * introduced are served by the latter.</p>
+ *
+ * <p>Packages to scan are reduced to {@link PackagePrefixes} first, so that overlapping packages don't make
+ * a class to be processed twice. Classes found in several roots are reported once.</p>
+ *
+ * @see BinaryBeanIndex
+ * @see BeanIndex
+ */
+@Slf4j
+public class MergedBeanIndex {
+
+    private final List<IndexSource> sources;
+
+    /**
+     * Classpath roots that carry an index, e.g. {@code jar:file:/app/lib/beans.jar!/}
+     */
+    private final Set<String> roots;
+
+    private MergedBeanIndex(Map<String, IndexSource> sourcesByRoot) {
+        this.sources = List.copyOf(sourcesByRoot.values());
+        this.roots = Set.copyOf(sourcesByRoot.keySet());
+    }
+
+    /**
+     * Locates all indexes available to the given {@link ClassLoader} without reading them.
+     *
+     * @param classLoader class loader to look up {@link BinaryBeanIndex#LOCATION} and {@link BeanIndex#LOCATION}
+     *                    resources with
+     * @return merged index, empty if there is no index on the classpath
+     * @throws BeanIndexException when indexes cannot be looked up
+     */
+    public static MergedBeanIndex load(ClassLoader classLoader) {
+        Map<String, IndexSource> sourcesByRoot = new LinkedHashMap<>();
+        for (URL indexUrl : findIndexUrls(classLoader, BinaryBeanIndex.LOCATION)) {
+            sourcesByRoot.putIfAbsent(root(indexUrl, BinaryBeanIndex.LOCATION),
+                    new IndexSource(indexUrl, BinaryIndexView::read));
+        }
+        for (URL indexUrl : findIndexUrls(classLoader, BeanIndex.LOCATION)) {
+            sourcesByRoot.putIfAbsent(root(indexUrl, BeanIndex.LOCATION),
+                    new IndexSource(indexUrl, TextIndexView::read));
+        }
+        if (sourcesByRoot.isEmpty()) {
+            log.debug("No bean index found at {} or {}", BinaryBeanIndex.LOCATION, BeanIndex.LOCATION);
+        } else {
+            log.debug("Found {} bean indexes: {}", sourcesByRoot.size(), sourcesByRoot.values());
+        }
+        return new MergedBeanIndex(sourcesByRoot);
+    }
+
+    public boolean isEmpty() {
+        return sources.isEmpty();
+    }
+
+    /**
+     * @param root classpath root, either {@code file:} URL of a directory or {@code jar:file:...!/} URL of a jar root
+     * @return whether the root carries an index, so that its classes don't have to be scanned
+     */
+    public boolean isIndexed(URL root) {
+        return roots.contains(root.toExternalForm());
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return sorted names of indexed {@link Bean @Bean} classes that belong to given packages
+     * @throws BeanIndexException when any of indexes cannot be read
+     */
+    public Set<String> getBeanClassNames(String... packagesToScan) {
+        return merge(Bean.class, PackagePrefixes.of(packagesToScan));
+    }
+
+    /**
+     * Materialises entries of indexed {@link Bean @Bean} classes. Entries of text indexes carry class names only.
+     *
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return indexed {@link Bean @Bean} classes that belong to given packages, sorted by class names
+     * @throws BeanIndexException when any of indexes cannot be read
+     */
+    public List<IndexedClass> getBeanClasses(String... packagesToScan) {
+        PackagePrefixes packagePrefixes = PackagePrefixes.of(packagesToScan);
+        Map<String, IndexedClass> beanClasses = new TreeMap<>();
+        for (IndexSource source : sources) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            List<IndexedClass> sourceBeanClasses = source.view().getBeanClasses(packagePrefixes);
+            sourceBeanClasses.forEach(beanClass -> beanClasses.putIfAbsent(beanClass.className(), beanClass));
+            log.debug("Merged {} `@Bean` classes of packages {} from bean index {} in {} ms", sourceBeanClasses.size(),
+                    packagePrefixes, source, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        }
+        return List.copyOf(beanClasses.values());
+    }
+
+    /**
+     * @param packagesToScan packages to filter indexed classes by, subpackages are included
+     * @return sorted names of indexed {@link Configuration @Configuration} classes that belong to given packages
+     * @throws BeanIndexException when any of indexes cannot be read
+     */
+    public Set<String> getConfigurationClassNames(String... packagesToScan) {
+        return merge(Configuration.class, PackagePrefixes.of(packagesToScan));
+    }
+
+    /**
+     * @param configurationClassName binary name of {@link Configuration @Configuration} class
+     * @return {@link Bean @Bean} methods of the class from the first binary index that contains it
+     * or empty {@link Optional} if the class is not present in any of binary indexes
+     */
+    public Optional<List<IndexedBeanMethod>> getBeanMethods(String configurationClassName) {
+        return sources.stream()
+                .map(source -> source.view().getBeanMethods(configurationClassName))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private Set<String> merge(Class<?> annotation, PackagePrefixes packagesToScan) {
+        Set<String> classNames = new TreeSet<>();
+        for (IndexSource source : sources) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Set<String> sourceClassNames = annotation == Bean.class
+                    ? source.view().getBeanClassNames(packagesToScan)
+                    : source.view().getConfigurationClassNames(packagesToScan);
+            classNames.addAll(sourceClassNames);
+            log.debug("Merged {} `@{}` classes of packages {} from bean index {} in {} ms", sourceClassNames.size(),
+                    annotation.getSimpleName(), packagesToScan, source, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        }
+        return classNames;
+    }
+
+    private static List<URL> findIndexUrls(ClassLoader classLoader, String location) {
+        try {
+            return Collections.list(classLoader.getResources(location));
+        } catch (IOException e) {
+            throw new BeanIndexException("Unable to look up bean indexes at %s".formatted(location), e);
+        }
+    }
+
+    /**
+     * @return classpath root the index is located in, e.g. {@code jar:file:/app/lib/beans.jar!/}
+     */
+    private static String root(URL indexUrl, String location) {
+        String url = indexUrl.toString();
+        return url.endsWith(location) ? url.substring(0, url.length() - location.length()) : url;
+    }
+
+    /**
+     * Index of a single classpath root that is read on first access
+     */
+    private static final class IndexSource {
+
+        private final URL url;
+
+        private final Supplier<IndexView> view;
+
+        private IndexSource(URL url, Function<URL, IndexView> reader) {
+            this.url = url;
+            this.view = Suppliers.memoize(() -> {
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                IndexView indexView = reader.apply(url);
+                log.debug("Read bean index {} in {} ms", url, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+                return indexView;
+            });
+        }
+
+        private IndexView view() {
+            return view.get();
+        }
+
+        @Override
+        public String toString() {
+            return url.toString();
+        }
+    }
+
+    /**
+     * Common view of binary and text indexes
+     */
+    private interface IndexView {
+
+        Set<String> getBeanClassNames(PackagePrefixes packagesToScan);
+
+        Set<String> getConfigurationClassNames(PackagePrefixes packagesToScan);
+
+        List<IndexedClass> getBeanClasses(PackagePrefixes packagesToScan);
+
+        Optional<List<IndexedBeanMethod>> getBeanMethods(String configurationClassName);
+    }
+
+    private record BinaryIndexView(BinaryBeanIndex index) implements IndexView {
+
+        private static IndexView read(URL indexUrl) {
+            return new BinaryIndexView(BinaryBeanIndex.read(indexUrl));
+        }
+
+        @Override
+        public Set<String> getBeanClassNames(PackagePrefixes packagesToScan) {
+            return classNames(index.findBeanEntries(packagesToScan));
+        }
+
+        @Override
+        public Set<String> getConfigurationClassNames(PackagePrefixes packagesToScan) {
+            return classNames(index.findConfigurationEntries(packagesToScan));
+        }
+
+        @Override
+        public List<IndexedClass> getBeanClasses(PackagePrefixes packagesToScan) {
+            return Arrays.stream(index.findBeanEntries(packagesToScan))
+                    .mapToObj(index::entry)
+                    .toList();
+        }
+
+        @Override
+        public Optional<List<IndexedBeanMethod>> getBeanMethods(String configurationClassName) {
+            int entry = index.find(configurationClassName);
+            return entry >= 0 && index.isConfiguration(entry)
+                    ? Optional.of(index.beanMethods(entry))
+                    : Optional.empty();
+        }
+
+        private Set<String> classNames(int[] entries) {
+            Set<String> classNames = new TreeSet<>();
+            for (int entry : entries) {
+                classNames.add(index.className(entry));
+            }
+            return classNames;
+        }
+    }
+
+    /**
+     * Text index holds neither bean metadata nor method descriptors, so they are resolved through reflection
+     */
+    private record TextIndexView(BeanIndex index) implements IndexView {
+
+        private static IndexView read(URL indexUrl) {
+            return new TextIndexView(BeanIndex.read(indexUrl));
+        }
+
+        @Override
+        public Set<String> getBeanClassNames(PackagePrefixes packagesToScan) {
+            return index.getBeanClassNames(packagesToScan);
+        }
+
+        @Override
+        public Set<String> getConfigurationClassNames(PackagePrefixes packagesToScan) {
+            return index.getConfigurationClassNames(packagesToScan);
+        }
+
+        @Override
+        public List<IndexedClass> getBeanClasses(PackagePrefixes packagesToScan) {
+            return index.getBeanClassNames(packagesToScan)
+                    .stream()
+                    .map(className -> new IndexedClass(className, true, false, null, false, null, List.of()))
+                    .toList();
+        }
+
+        @Override
+        public Optional<List<IndexedBeanMethod>> getBeanMethods(String configurationClassName) {
+            return Optional.empty();
+        }
+    }
+}
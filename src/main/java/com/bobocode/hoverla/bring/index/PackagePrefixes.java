@@ -0,0 +1,83 @@
+package com.bobocode.hoverla.bring.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sorted set of packages to scan, where packages covered by other ones are dropped -
+ * e.g. {@code com.acme.billing} is dropped when {@code com.acme} is present.
+ *
+ * <p>Since remaining packages never overlap, each class belongs to at most one of them, and the only package
+ * a class may belong to is found with a single binary search. Packages also define disjoint ranges of
+ * sorted class names, so that indexes sorted by name are filtered without looking at every class.</p>
+ */
+public final class PackagePrefixes {
+
+    private static final String SEPARATOR = ".";
+
+    /**
+     * Sorted packages, each followed by a separator
+     */
+    private final String[] prefixes;
+
+    private PackagePrefixes(String[] prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * @param packages packages to scan, {@code null} values and duplicates are ignored
+     * @return packages without ones that are subpackages of others
+     */
+    public static PackagePrefixes of(String... packages) {
+        String[] sortedPrefixes = Arrays.stream(packages)
+                .filter(Objects::nonNull)
+                .map(packageName -> packageName + SEPARATOR)
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+
+        // all prefixes that fall in between a prefix and the package it covers start with that prefix,
+        // so it is enough to check against the last retained one
+        List<String> prefixes = new ArrayList<>(sortedPrefixes.length);
+        for (String prefix : sortedPrefixes) {
+            if (prefixes.isEmpty() || !prefix.startsWith(prefixes.get(prefixes.size() - 1))) {
+                prefixes.add(prefix);
+            }
+        }
+        return new PackagePrefixes(prefixes.toArray(String[]::new));
+    }
+
+    /**
+     * @return packages that do not overlap, sorted by their prefixes
+     */
+    public List<String> packages() {
+        return Arrays.stream(prefixes)
+                .map(prefix -> prefix.substring(0, prefix.length() - SEPARATOR.length()))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return prefixes.length == 0;
+    }
+
+    /**
+     * @param packageName name of a package
+     * @return whether the package equals to or is a subpackage of any of the packages
+     */
+    public boolean contains(String packageName) {
+        String prefix = packageName + SEPARATOR;
+        int index = Arrays.binarySearch(prefixes, prefix);
+        if (index >= 0) {
+            return true;
+        }
+        int floor = -index - 2; // greatest prefix that is less than the given one
+        return floor >= 0 && prefix.startsWith(prefixes[floor]);
+    }
+
+    @Override
+    public String toString() {
+        return packages().toString();
+    }
+}
@@ -0,0 +1,656 @@
+package com.bobocode.hoverla.bring.processor;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.annotation.Inject;
+import com.bobocode.hoverla.bring.annotation.Qualifier;
+import com.bobocode.hoverla.bring.context.AbstractGeneratedApplicationContext;
+import com.bobocode.hoverla.bring.exception.ContextGenerationException;
+import com.bobocode.hoverla.bring.index.PackagePrefixes;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processor that generates {@value AbstractGeneratedApplicationContext#GENERATED_SIMPLE_NAME}
+ * out of classes being compiled, when enabled with {@code -A}{@value #GENERATE_CONTEXT_OPTION}{@code =true}.
+ * Same as {@link BeanIndexProcessor}, it is not registered as a service and has to be named explicitly.
+ *
+ * <p>Context is generated for the packages given with {@code -A}{@value #CONTEXT_PACKAGES_OPTION}{@code =a.b,a.c},
+ * by default for the root package of all bean and configuration classes. It is placed in the root package of
+ * the packages and registered in {@code META-INF/services}, and at runtime it is only used for exactly
+ * the same packages. All bean and configuration classes being compiled have to belong to the packages.</p>
+ *
+ * <p>Generated context has a factory method per bean that calls its constructor with {@code new}
+ * or its {@link Bean @Bean} method on a configuration instance, and assigns {@link Inject @Inject} fields.
+ * Beans are sorted in the order {@code BeanInitializer} would instantiate them in - every bean follows
+ * its dependencies, and their names and types are embedded as static tables.
+ * Dependencies are resolved with the rules {@code BeanDependencyResolver} applies at runtime.</p>
+ *
+ * <p>Only public classes, constructors, methods and fields are accessed directly. Injection into other fields
+ * goes through cached method handles, see {@link AbstractGeneratedApplicationContext}.
+ * When beans cannot be wired at compile time, e.g. a bean class is not public or a dependency is missing,
+ * the context is not generated and a warning is reported, so that the application falls back to scanning
+ * and reports the actual problem at runtime.</p>
+ *
+ * <p>Context is generated once, in the first round with beans. Beans produced by other annotation processors
+ * in later rounds are not part of it.</p>
+ *
+ * @see AbstractGeneratedApplicationContext
+ */
+@SupportedAnnotationTypes({
+        "com.bobocode.hoverla.bring.annotation.Bean",
+        "com.bobocode.hoverla.bring.annotation.Configuration"
+})
+@SupportedOptions({
+        ApplicationContextProcessor.GENERATE_CONTEXT_OPTION,
+        ApplicationContextProcessor.CONTEXT_PACKAGES_OPTION
+})
+public class ApplicationContextProcessor extends AbstractProcessor {
+
+    public static final String GENERATE_CONTEXT_OPTION = "bring.generateContext";
+
+    public static final String CONTEXT_PACKAGES_OPTION = "bring.contextPackages";
+
+    public static final String SERVICE_RESOURCE = "META-INF/services/" + AbstractGeneratedApplicationContext.class.getName();
+
+    private static final String INDENT = "    ";
+
+    private final Map<String, TypeElement> beanClasses = new TreeMap<>();
+
+    private final Map<String, TypeElement> configurationClasses = new TreeMap<>();
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_CONTEXT_OPTION)) || roundEnv.processingOver()) {
+            return false;
+        }
+        Set<TypeElement> roundBeanClasses = ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Bean.class));
+        Set<TypeElement> roundConfigurationClasses =
+                ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Configuration.class));
+        if (generated) {
+            if (!roundBeanClasses.isEmpty() || !roundConfigurationClasses.isEmpty()) {
+                warning("Classes %s generated by other processors are not part of generated application context"
+                        .formatted(binaryNames(roundBeanClasses, roundConfigurationClasses)));
+            }
+            return false;
+        }
+
+        roundBeanClasses.forEach(type -> beanClasses.put(binaryName(type), type));
+        roundConfigurationClasses.forEach(type -> configurationClasses.put(binaryName(type), type));
+        if (beanClasses.isEmpty() && configurationClasses.isEmpty()) {
+            return false;
+        }
+
+        generated = true;
+        try {
+            List<String> packages = contextPackages();
+            writeContext(sortByDependencies(resolveBeans()), packages);
+        } catch (ContextGenerationException e) {
+            warning("Application context is not generated: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * @return packages given with {@value #CONTEXT_PACKAGES_OPTION} option or else the root package of all classes
+     */
+    private List<String> contextPackages() {
+        String packagesOption = processingEnv.getOptions().get(CONTEXT_PACKAGES_OPTION);
+        List<String> packages;
+        if (packagesOption == null || packagesOption.isBlank()) {
+            Set<String> classPackages = new TreeSet<>();
+            beanClasses.values().forEach(type -> classPackages.add(packageName(type)));
+            configurationClasses.values().forEach(type -> classPackages.add(packageName(type)));
+            packages = List.of(rootPackage(classPackages));
+        } else {
+            packages = PackagePrefixes.of(Arrays.stream(packagesOption.split(","))
+                            .map(String::strip)
+                            .filter(packageName -> !packageName.isEmpty())
+                            .toArray(String[]::new))
+                    .packages();
+        }
+
+        PackagePrefixes packagePrefixes = PackagePrefixes.of(packages.toArray(String[]::new));
+        Stream.concat(beanClasses.values().stream(), configurationClasses.values().stream())
+                .filter(type -> !packagePrefixes.contains(packageName(type)))
+                .findFirst()
+                .ifPresent(type -> {
+                    throw new ContextGenerationException("Class %s does not belong to packages %s"
+                            .formatted(binaryName(type), packages));
+                });
+        return packages;
+    }
+
+    private String rootPackage(Collection<String> packages) {
+        String root = null;
+        for (String packageName : packages) {
+            if (root == null) {
+                root = packageName;
+            }
+            while (!root.isEmpty() && !(packageName.equals(root) || packageName.startsWith(root + "."))) {
+                root = root.contains(".") ? root.substring(0, root.lastIndexOf('.')) : "";
+            }
+        }
+        if (root == null || root.isEmpty()) {
+            throw new ContextGenerationException("Packages %s have no common root package".formatted(packages));
+        }
+        return root;
+    }
+
+    private List<BeanModel> resolveBeans() {
+        List<BeanModel> beans = new ArrayList<>();
+        beanClasses.values().forEach(beanClass -> beans.add(beanClassModel(beanClass)));
+
+        List<TypeElement> configClasses = List.copyOf(configurationClasses.values());
+        for (int config = 0; config < configClasses.size(); config++) {
+            beans.addAll(beanMethodModels(configClasses.get(config), config));
+        }
+
+        Map<String, Integer> beanIndexes = new HashMap<>();
+        for (int i = 0; i < beans.size(); i++) {
+            if (beanIndexes.put(beans.get(i).name(), i) != null) {
+                throw new ContextGenerationException("Bean name '%s' is not unique".formatted(beans.get(i).name()));
+            }
+        }
+        for (int i = 0; i < beans.size(); i++) {
+            BeanModel bean = beans.get(i);
+            for (VariableElement injectionPoint : bean.injectionPoints()) {
+                bean.injections().add(resolveInjection(i, injectionPoint, beans, beanIndexes));
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Mirrors choice of constructor and fields by {@code BeanClassMetadata} and checks of
+     * {@code BeanAnnotationClassValidator} that are relevant to generated code.
+     */
+    private BeanModel beanClassModel(TypeElement beanClass) {
+        checkAccessible(beanClass);
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(beanClass.getEnclosedElements())
+                .stream()
+                .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+                .toList();
+        List<ExecutableElement> injectConstructors = constructors.stream()
+                .filter(constructor -> constructor.getAnnotation(Inject.class) != null)
+                .toList();
+        List<ExecutableElement> candidates = injectConstructors.isEmpty() ? constructors : injectConstructors;
+        if (candidates.size() != 1) {
+            throw new ContextGenerationException("Class %s has no single public constructor to inject into"
+                    .formatted(binaryName(beanClass)));
+        }
+
+        List<VariableElement> fields = ElementFilter.fieldsIn(beanClass.getEnclosedElements())
+                .stream()
+                .filter(field -> field.getAnnotation(Inject.class) != null)
+                .toList();
+        for (VariableElement field : fields) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+                throw new ContextGenerationException("Field %s of %s cannot be injected"
+                        .formatted(field.getSimpleName(), binaryName(beanClass)));
+            }
+        }
+
+        Bean bean = beanClass.getAnnotation(Bean.class);
+        String name = bean.value().isBlank() ? binaryName(beanClass) : bean.value();
+        return new BeanModel(name, beanClass.asType(), bean.primary(), candidates.get(0), -1,
+                candidates.get(0).getParameters(), fields);
+    }
+
+    /**
+     * Mirrors {@code BeanConfigurationClassScanner} - all public {@link Bean @Bean} methods of a configuration class,
+     * which is instantiated once through its no-arg constructor.
+     */
+    private List<BeanModel> beanMethodModels(TypeElement configClass, int configIndex) {
+        checkAccessible(configClass);
+        boolean noArgConstructor = ElementFilter.constructorsIn(configClass.getEnclosedElements())
+                .stream()
+                .anyMatch(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC)
+                        && constructor.getParameters().isEmpty());
+        if (!noArgConstructor) {
+            throw new ContextGenerationException("Configuration class %s has no public no-arg constructor"
+                    .formatted(binaryName(configClass)));
+        }
+
+        return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(configClass))
+                .stream()
+                .filter(method -> method.getAnnotation(Bean.class) != null)
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .sorted((method1, method2) -> method1.getSimpleName().toString()
+                        .compareTo(method2.getSimpleName().toString()))
+                .map(method -> beanMethodModel(configClass, configIndex, method))
+                .toList();
+    }
+
+    private BeanModel beanMethodModel(TypeElement configClass, int configIndex, ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.STATIC) || method.getReturnType().getKind() == TypeKind.VOID
+                || !method.getTypeParameters().isEmpty()) {
+            throw new ContextGenerationException("Method %s of %s is not a valid bean method"
+                    .formatted(method.getSimpleName(), binaryName(configClass)));
+        }
+        Bean bean = method.getAnnotation(Bean.class);
+        String name = bean.value().isEmpty() ? method.getSimpleName().toString() : bean.value();
+        return new BeanModel(name, method.getReturnType(), bean.primary(), method, configIndex,
+                method.getParameters(), List.of());
+    }
+
+    /**
+     * Mirrors {@code BeanDependencyResolver}: qualified dependencies are looked up by name, collections consist
+     * of all beans of their element type, and other dependencies are looked up by type name first. Otherwise,
+     * the bean of exactly the dependency type is injected, then the bean of assignable type, preferring the primary
+     * one and never the bean itself. Dependencies the runtime would reject are reported as not wired.
+     */
+    private Injection resolveInjection(int beanIndex, VariableElement injectionPoint, List<BeanModel> beans,
+                                       Map<String, Integer> beanIndexes) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror type = types.erasure(injectionPoint.asType());
+        String target = "%s of bean '%s'".formatted(injectionPoint.getSimpleName(), beans.get(beanIndex).name());
+
+        Qualifier qualifier = injectionPoint.getAnnotation(Qualifier.class);
+        if (qualifier != null) {
+            Integer dependency = beanIndexes.get(qualifier.value());
+            if (dependency == null || !types.isSubtype(types.erasure(beans.get(dependency).type()), type)) {
+                throw new ContextGenerationException("No bean '%s' for %s".formatted(qualifier.value(), target));
+            }
+            return new Injection(injectionPoint, dependency, null);
+        }
+
+        if (isCollection(type)) {
+            TypeMirror elementType = collectionElementType(injectionPoint.asType());
+            if (elementType == null) {
+                throw new ContextGenerationException("Collection of raw type is injected into " + target);
+            }
+            int[] dependencies = IntStream.range(0, beans.size())
+                    .filter(i -> types.isSubtype(types.erasure(beans.get(i).type()), elementType))
+                    .toArray();
+            if (dependencies.length == 0) {
+                throw new ContextGenerationException("No beans of type %s for %s".formatted(elementType, target));
+            }
+            return new Injection(injectionPoint, -1, dependencies);
+        }
+
+        Integer dependency = beanIndexes.get(runtimeClassName(type));
+        if (dependency != null && !types.isSubtype(types.erasure(beans.get(dependency).type()), type)) {
+            throw new ContextGenerationException("Bean '%s' is not of type %s for %s"
+                    .formatted(beans.get(dependency).name(), type, target));
+        }
+        if (dependency == null) {
+            List<Integer> candidates = IntStream.range(0, beans.size())
+                    .filter(i -> types.isSubtype(types.erasure(beans.get(i).type()), type))
+                    .boxed()
+                    .toList();
+            long primaryCandidates = candidates.stream()
+                    .filter(candidate -> beans.get(candidate).primary())
+                    .count();
+            if (candidates.isEmpty() || candidates.size() > 1 && primaryCandidates != 1
+                    || candidates.size() == 1 && candidates.get(0) == beanIndex) {
+                throw new ContextGenerationException("No single bean of type %s for %s".formatted(type, target));
+            }
+            List<Integer> exactCandidates = candidates.stream()
+                    .filter(candidate -> types.isSameType(types.erasure(beans.get(candidate).type()), type))
+                    .toList();
+            dependency = findMatchingDependency(beanIndex, exactCandidates, beans)
+                    .or(() -> findMatchingDependency(beanIndex, candidates, beans))
+                    .orElseThrow(() -> new ContextGenerationException(
+                            "No single bean of type %s for %s".formatted(type, target)));
+        }
+        return new Injection(injectionPoint, dependency, null);
+    }
+
+    private Optional<Integer> findMatchingDependency(int beanIndex, List<Integer> candidates, List<BeanModel> beans) {
+        List<Integer> otherCandidates = candidates.stream()
+                .filter(candidate -> candidate != beanIndex)
+                .toList();
+        if (otherCandidates.size() > 1) {
+            return otherCandidates.stream()
+                    .filter(candidate -> beans.get(candidate).primary())
+                    .findFirst();
+        }
+        return otherCandidates.stream().findFirst();
+    }
+
+    /**
+     * @return beans in the order of depth-first traversal of their dependencies, same as {@code BeanDefinitionValidator} does
+     */
+    private List<BeanModel> sortByDependencies(List<BeanModel> beans) {
+        int[] states = new int[beans.size()]; // 0 - not visited, 1 - being visited, 2 - visited
+        List<Integer> order = new ArrayList<>(beans.size());
+        Deque<int[]> path = new ArrayDeque<>(); // bean index and position of its next dependency to visit
+        for (int i = 0; i < beans.size(); i++) {
+            if (states[i] != 0) {
+                continue;
+            }
+            states[i] = 1;
+            path.push(new int[]{i, 0});
+            while (!path.isEmpty()) {
+                int[] step = path.peek();
+                int[] dependencies = beans.get(step[0]).dependencies();
+                if (step[1] == dependencies.length) {
+                    path.pop();
+                    states[step[0]] = 2;
+                    order.add(step[0]);
+                    continue;
+                }
+                int dependency = dependencies[step[1]++];
+                if (states[dependency] == 1) {
+                    throw new ContextGenerationException("Bean '%s' depends on itself"
+                            .formatted(beans.get(dependency).name()));
+                }
+                if (states[dependency] == 0) {
+                    states[dependency] = 1;
+                    path.push(new int[]{dependency, 0});
+                }
+            }
+        }
+
+        int[] positions = new int[beans.size()];
+        for (int position = 0; position < order.size(); position++) {
+            positions[order.get(position)] = position;
+        }
+        return order.stream()
+                .map(beans::get)
+                .map(bean -> bean.withPositions(positions))
+                .toList();
+    }
+
+    private void writeContext(List<BeanModel> beans, List<String> packages) {
+        Elements elements = processingEnv.getElementUtils();
+        String className = rootPackage(packages) + "." + AbstractGeneratedApplicationContext.GENERATED_SIMPLE_NAME;
+        int packageEnd = className.lastIndexOf('.');
+        List<TypeElement> configClasses = List.copyOf(configurationClasses.values());
+        Set<String> classNames = new TreeSet<>(beanClasses.keySet());
+        classNames.addAll(configurationClasses.keySet());
+
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(className, 0, packageEnd).append(";\n\n")
+                .append("/**\n * Application context generated at compile time by ")
+                .append(ApplicationContextProcessor.class.getSimpleName()).append(", do not edit.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"")
+                .append(ApplicationContextProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(className.substring(packageEnd + 1))
+                .append(" extends ").append(AbstractGeneratedApplicationContext.class.getName()).append(" {\n\n");
+
+        appendTable(source, "String", "BEAN_NAMES",
+                beans.stream().map(bean -> elements.getConstantExpression(bean.name())).toList());
+        appendTable(source, "Class<?>", "BEAN_TYPES",
+                beans.stream().map(bean -> sourceName(bean.type()) + ".class").toList());
+        appendTable(source, "String", "PACKAGES",
+                packages.stream().map(elements::getConstantExpression).toList());
+        appendTable(source, "String", "CLASS_NAMES",
+                classNames.stream().map(elements::getConstantExpression).toList());
+
+        for (int config = 0; config < configClasses.size(); config++) {
+            String configType = configClasses.get(config).getQualifiedName().toString();
+            source.append(INDENT).append("private final java.util.function.Supplier<").append(configType)
+                    .append("> config").append(config).append(" = lazy(").append(configType).append("::new);\n\n");
+        }
+
+        source.append(INDENT).append("public ").append(className.substring(packageEnd + 1)).append("() {\n")
+                .append(INDENT.repeat(2)).append("super(BEAN_NAMES, BEAN_TYPES, PACKAGES, CLASS_NAMES);\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("protected Object createBean(int index) throws Exception {\n")
+                .append(INDENT.repeat(2)).append("switch (index) {\n");
+        for (int i = 0; i < beans.size(); i++) {
+            source.append(INDENT.repeat(3)).append("case ").append(i).append(": return bean").append(i).append("();\n");
+        }
+        source.append(INDENT.repeat(3))
+                .append("default: throw new IllegalArgumentException(\"No bean with index \" + index);\n")
+                .append(INDENT.repeat(2)).append("}\n")
+                .append(INDENT).append("}\n");
+
+        for (int i = 0; i < beans.size(); i++) {
+            appendFactoryMethod(source, i, beans.get(i));
+        }
+        source.append("}\n");
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(className);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source.toString());
+            }
+            FileObject serviceFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_RESOURCE);
+            try (Writer writer = serviceFile.openWriter()) {
+                writer.write(className + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write %s: %s".formatted(className, e.getMessage()));
+        }
+    }
+
+    private void appendTable(StringBuilder source, String type, String name, List<String> values) {
+        source.append(INDENT).append("private static final ").append(type).append("[] ").append(name).append(" = {\n");
+        values.forEach(value -> source.append(INDENT.repeat(3)).append(value).append(",\n"));
+        source.append(INDENT).append("};\n\n");
+    }
+
+    private void appendFactoryMethod(StringBuilder source, int index, BeanModel bean) {
+        String beanType = sourceName(bean.type());
+        List<Injection> injections = bean.injections();
+        int parametersCount = bean.parameters().size();
+        String arguments = injections.subList(0, parametersCount)
+                .stream()
+                .map(this::injectedValue)
+                .collect(Collectors.joining(", "));
+
+        source.append("\n").append(INDENT).append("/**\n").append(INDENT).append(" * Creates '")
+                .append(bean.name().replace("*/", "*\\/")).append("' bean\n").append(INDENT).append(" */\n")
+                .append(INDENT).append("private ").append(beanType).append(" bean").append(index).append("() throws Exception {\n");
+        if (bean.factory().getKind() == ElementKind.METHOD) {
+            source.append(INDENT.repeat(2)).append("return config").append(bean.configIndex()).append(".get().")
+                    .append(bean.factory().getSimpleName()).append('(').append(arguments).append(");\n")
+                    .append(INDENT).append("}\n");
+            return;
+        }
+
+        source.append(INDENT.repeat(2)).append(beanType).append(" bean = new ").append(beanType)
+                .append('(').append(arguments).append(");\n");
+        for (Injection injection : injections.subList(parametersCount, injections.size())) {
+            VariableElement field = injection.target();
+            source.append(INDENT.repeat(2));
+            if (field.getModifiers().contains(Modifier.PUBLIC)) {
+                source.append("bean.").append(field.getSimpleName()).append(" = ").append(injectedValue(injection));
+            } else {
+                source.append("setField(bean, ").append(beanType).append(".class, \"").append(field.getSimpleName())
+                        .append("\", ").append(injectedValue(injection)).append(')');
+            }
+            source.append(";\n");
+        }
+        source.append(INDENT.repeat(2)).append("return bean;\n")
+                .append(INDENT).append("}\n");
+    }
+
+    private String injectedValue(Injection injection) {
+        String type = sourceName(injection.target().asType());
+        if (injection.collection() == null) {
+            return "(%s) bean(%d)".formatted(type, injection.bean());
+        }
+        String indexes = injection.collection().length == 0 ? ""
+                : ", " + IntStream.of(injection.collection()).mapToObj(String::valueOf).collect(Collectors.joining(", "));
+        return "(%s) collection(%s.class%s)".formatted(type, type, indexes);
+    }
+
+    private void checkAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            Set<Modifier> modifiers = typeElement.getModifiers();
+            boolean nested = typeElement.getEnclosingElement() instanceof TypeElement;
+            if (!modifiers.contains(Modifier.PUBLIC) || (nested && !modifiers.contains(Modifier.STATIC))
+                    || (element == type && (typeElement.getKind() != ElementKind.CLASS
+                    || modifiers.contains(Modifier.ABSTRACT)))) {
+                throw new ContextGenerationException("Class %s is not accessible from generated code"
+                        .formatted(binaryName(type)));
+            }
+            element = typeElement.getEnclosingElement();
+        }
+    }
+
+    private boolean isCollection(TypeMirror erasedType) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror collectionType = types.erasure(processingEnv.getElementUtils()
+                .getTypeElement(Collection.class.getName()).asType());
+        return types.isAssignable(erasedType, collectionType);
+    }
+
+    /**
+     * @return element type of a collection parameterized with a plain class, {@code null} otherwise
+     */
+    @Nullable
+    private TypeMirror collectionElementType(TypeMirror type) {
+        if (type instanceof DeclaredType declaredType && declaredType.getTypeArguments().size() == 1
+                && declaredType.getTypeArguments().get(0) instanceof DeclaredType elementType
+                && elementType.getTypeArguments().isEmpty()) {
+            return elementType;
+        }
+        return null;
+    }
+
+    /**
+     * @return type name in the same format as {@link Class#getName()} returns for classes and primitives
+     */
+    private String runtimeClassName(TypeMirror erasedType) {
+        if (erasedType instanceof DeclaredType declaredType) {
+            return binaryName(declaredType.asElement());
+        }
+        return erasedType.toString();
+    }
+
+    /**
+     * @return erased type as it is referred to in source code
+     */
+    private String sourceName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String packageName(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private String binaryNames(Set<TypeElement> beanTypes, Set<TypeElement> configTypes) {
+        return Stream.concat(beanTypes.stream(), configTypes.stream())
+                .map(this::binaryName)
+                .distinct()
+                .toList()
+                .toString();
+    }
+
+    private String binaryName(Element type) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) type).toString();
+    }
+
+    private void warning(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message);
+    }
+
+    /**
+     * @param name        bean name
+     * @param type        bean class or return type of bean method
+     * @param primary     value of {@link Bean#primary()}
+     * @param factory     constructor or bean method
+     * @param configIndex index of configuration class for bean methods
+     * @param parameters  parameters of constructor or bean method
+     * @param fields      fields to inject into
+     * @param injections  resolved dependencies of parameters followed by fields
+     */
+    private record BeanModel(String name, TypeMirror type, boolean primary,
+                             ExecutableElement factory, int configIndex, List<? extends VariableElement> parameters,
+                             List<VariableElement> fields, List<Injection> injections) {
+
+        BeanModel(String name, TypeMirror type, boolean primary, ExecutableElement factory,
+                  int configIndex, List<? extends VariableElement> parameters, List<VariableElement> fields) {
+            this(name, type, primary, factory, configIndex, parameters, fields, new ArrayList<>());
+        }
+
+        /**
+         * @return indexes of all beans injected into parameters and fields
+         */
+        int[] dependencies() {
+            return injections.stream()
+                    .flatMapToInt(injection -> IntStream.of(injection.dependencies()))
+                    .toArray();
+        }
+
+        List<VariableElement> injectionPoints() {
+            List<VariableElement> injectionPoints = new ArrayList<>(parameters);
+            injectionPoints.addAll(fields);
+            return injectionPoints;
+        }
+
+        /**
+         * @return same bean with dependencies referring to beans by their positions in the sorted list
+         */
+        BeanModel withPositions(int[] positions) {
+            List<Injection> sortedInjections = injections.stream()
+                    .map(injection -> injection.withPositions(positions))
+                    .toList();
+            return new BeanModel(name, type, primary, factory, configIndex, parameters, fields,
+                    sortedInjections);
+        }
+    }
+
+    /**
+     * @param target     parameter or field
+     * @param bean       index of the bean to inject, {@code -1} for collections
+     * @param collection indexes of beans to inject as a collection, {@code null} for single beans
+     */
+    private record Injection(VariableElement target, int bean, @Nullable int[] collection) {
+
+        int[] dependencies() {
+            return collection != null ? collection : new int[]{bean};
+        }
+
+        Injection withPositions(int[] positions) {
+            return collection != null
+                    ? new Injection(target, -1, IntStream.of(collection).map(i -> positions[i]).toArray())
+                    : new Injection(target, positions[bean], null);
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.bobocode.hoverla.bring.processor;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.annotation.Inject;
+import com.bobocode.hoverla.bring.annotation.Qualifier;
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndexWriter;
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.index.IndexedDependency;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processor that generates {@link BeanIndex} at compile time.
+ *
+ * <p>Records every class annotated with {@link Bean @Bean} and every class annotated with
+ * {@link Configuration @Configuration} together with its {@link Bean @Bean} methods
+ * into {@link BeanIndex#LOCATION} file of the compilation output.</p>
+ *
+ * <p>The same classes are also recorded into {@link BinaryBeanIndex#LOCATION} together with metadata of their
+ * bean definitions - bean names, primary flags, dependencies and {@link Bean @Bean} method descriptors.
+ * Metadata is resolved with the same rules bean definitions apply at runtime. Dependencies that cannot be
+ * resolved at compile time, e.g. collections of raw types, are left out, so that they are resolved
+ * through reflection instead.</p>
+ *
+ * <p>Processor is not registered as a service, so that it does not run in every project compiled with Bring
+ * on the classpath. It has to be named explicitly, e.g. with {@code javac -processor}.</p>
+ *
+ * <p>Incremental compilation is supported - entries of previously indexed classes that were not
+ * recompiled are preserved as long as those classes still exist.
+ * Index is not written for compilations without any bean candidates.</p>
+ *
+ * @see BeanIndex
+ */
+@SupportedAnnotationTypes("*") // to get notified about recompiled classes that are no longer annotated
+public class BeanIndexProcessor extends AbstractProcessor {
+
+    private final BeanIndex index = new BeanIndex();
+
+    private final Map<String, IndexedClass> indexedClasses = new TreeMap<>();
+
+    private final Set<String> compiledClassNames = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::collectCompiledClassNames);
+
+        ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Bean.class))
+                .forEach(beanClass -> index.addBeanClass(binaryName(beanClass)));
+
+        ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Configuration.class))
+                .forEach(this::indexConfigurationClass);
+
+        Stream.concat(roundEnv.getElementsAnnotatedWith(Bean.class).stream(),
+                        roundEnv.getElementsAnnotatedWith(Configuration.class).stream())
+                .filter(TypeElement.class::isInstance)
+                .map(TypeElement.class::cast)
+                .forEach(type -> indexedClasses.put(binaryName(type), indexedClass(type)));
+
+        return false;
+    }
+
+    private void indexConfigurationClass(TypeElement configClass) {
+        String configClassName = binaryName(configClass);
+        index.addConfigurationClass(configClassName);
+
+        beanMethods(configClass).forEach(method -> index.addBeanMethod(configClassName, methodSignature(method)));
+    }
+
+    private void collectCompiledClassNames(TypeElement type) {
+        compiledClassNames.add(binaryName(type));
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::collectCompiledClassNames);
+    }
+
+    private void writeIndex() {
+        writeTextIndex();
+        writeBinaryIndex();
+    }
+
+    private void writeTextIndex() {
+        boolean previousIndexExists = mergePreviousIndex();
+        if (index.getClassNames().isEmpty() && !previousIndexExists) {
+            return;
+        }
+        try {
+            FileObject indexFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", BeanIndex.LOCATION);
+            try (Writer writer = indexFile.openWriter()) {
+                index.write(writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write bean index to %s: %s".formatted(BeanIndex.LOCATION, e.getMessage()));
+        }
+    }
+
+    private void writeBinaryIndex() {
+        boolean previousIndexExists = mergePreviousBinaryIndex();
+        if (indexedClasses.isEmpty() && !previousIndexExists) {
+            return;
+        }
+        try {
+            FileObject indexFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", BinaryBeanIndex.LOCATION);
+            try (OutputStream output = indexFile.openOutputStream()) {
+                BinaryBeanIndexWriter.write(indexedClasses.values(), output);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write bean index to %s: %s".formatted(BinaryBeanIndex.LOCATION, e.getMessage()));
+        }
+    }
+
+    /**
+     * Keeps entries of an index left by previous compilation for classes that were not recompiled,
+     * but still exist. Required for incremental compilation where only changed sources are processed.
+     *
+     * @return {@code true} if index of previous compilation exists
+     */
+    private boolean mergePreviousIndex() {
+        BeanIndex previousIndex = readPreviousIndex();
+        if (previousIndex == null) {
+            return false;
+        }
+        for (String className : previousIndex.getClassNames()) {
+            if (compiledClassNames.contains(className) || !classExists(className)) {
+                previousIndex.remove(className);
+            }
+        }
+        index.merge(previousIndex);
+        return true;
+    }
+
+    private BeanIndex readPreviousIndex() {
+        try {
+            FileObject previousIndexFile = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", BeanIndex.LOCATION);
+            try (Reader reader = previousIndexFile.openReader(true)) {
+                return BeanIndex.read(reader);
+            }
+        } catch (IOException e) { // no index exists yet
+            return null;
+        }
+    }
+
+    /**
+     * Binary counterpart of {@link #mergePreviousIndex()}.
+     *
+     * @return {@code true} if binary index of previous compilation exists
+     */
+    private boolean mergePreviousBinaryIndex() {
+        BinaryBeanIndex previousIndex = readPreviousBinaryIndex();
+        if (previousIndex == null) {
+            return false;
+        }
+        for (int entry = 0; entry < previousIndex.size(); entry++) {
+            String className = previousIndex.className(entry);
+            if (!compiledClassNames.contains(className) && classExists(className)) {
+                indexedClasses.putIfAbsent(className, previousIndex.entry(entry));
+            }
+        }
+        return true;
+    }
+
+    private BinaryBeanIndex readPreviousBinaryIndex() {
+        try {
+            FileObject previousIndexFile = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", BinaryBeanIndex.LOCATION);
+            try (InputStream input = previousIndexFile.openInputStream()) {
+                return BinaryBeanIndex.read(ByteBuffer.wrap(input.readAllBytes()));
+            }
+        } catch (IOException | BeanIndexException e) { // no index exists yet or it is of unsupported version
+            return null;
+        }
+    }
+
+    private boolean classExists(String binaryClassName) {
+        String canonicalName = binaryClassName.replace('$', '.');
+        return processingEnv.getElementUtils().getTypeElement(canonicalName) != null;
+    }
+
+    private String methodSignature(ExecutableElement method) {
+        String parameterTypes = method.getParameters()
+                .stream()
+                .map(parameter -> typeName(parameter.asType()))
+                .collect(Collectors.joining(","));
+        return "%s(%s)".formatted(method.getSimpleName(), parameterTypes);
+    }
+
+    private IndexedClass indexedClass(TypeElement type) {
+        String className = binaryName(type);
+        boolean configuration = type.getAnnotation(Configuration.class) != null;
+        List<IndexedBeanMethod> beanMethods = configuration ? indexedBeanMethods(type) : List.of();
+        Bean bean = type.getAnnotation(Bean.class);
+        if (bean == null) {
+            return new IndexedClass(className, false, true, null, false, null, beanMethods);
+        }
+        String beanName = bean.value().isBlank() ? className : bean.value();
+        return new IndexedClass(className, true, configuration, beanName, bean.primary(),
+                beanClassDependencies(type).orElse(null), beanMethods, supertypeNames(type));
+    }
+
+    /**
+     * @return binary names of all superclasses and interfaces of the type, so that beans can be looked up
+     * by the types they are assignable to without loading their classes
+     */
+    private List<String> supertypeNames(TypeElement type) {
+        Types types = processingEnv.getTypeUtils();
+        Set<String> supertypeNames = new LinkedHashSet<>();
+        Deque<TypeMirror> typesToVisit = new ArrayDeque<>(types.directSupertypes(type.asType()));
+        while (!typesToVisit.isEmpty()) {
+            TypeMirror supertype = typesToVisit.removeFirst();
+            if (supertype instanceof DeclaredType declaredType
+                    && supertypeNames.add(binaryName(declaredType.asElement()))) {
+                typesToVisit.addAll(types.directSupertypes(supertype));
+            }
+        }
+        return List.copyOf(supertypeNames);
+    }
+
+    /**
+     * Mirrors lookup of {@code ClassBasedBeanDefinition} - parameters of the public {@link Inject @Inject}
+     * constructor or of the only public constructor, and all declared {@link Inject @Inject} fields.
+     */
+    private Optional<List<IndexedDependency>> beanClassDependencies(TypeElement beanClass) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(beanClass.getEnclosedElements())
+                .stream()
+                .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+                .toList();
+        Optional<ExecutableElement> constructor = constructors.stream()
+                .filter(candidate -> candidate.getAnnotation(Inject.class) != null)
+                .findFirst()
+                .or(() -> constructors.size() == 1 ? Optional.of(constructors.get(0)) : Optional.empty());
+        if (constructor.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<VariableElement> injectionPoints = new ArrayList<>(constructor.get().getParameters());
+        ElementFilter.fieldsIn(beanClass.getEnclosedElements())
+                .stream()
+                .filter(field -> field.getAnnotation(Inject.class) != null)
+                .forEach(injectionPoints::add);
+        return dependencies(injectionPoints);
+    }
+
+    private List<IndexedBeanMethod> indexedBeanMethods(TypeElement configClass) {
+        return beanMethods(configClass)
+                .map(this::indexedBeanMethod)
+                .sorted(Comparator.comparing(IndexedBeanMethod::name)
+                        .thenComparing(method -> String.join(",", method.parameterTypeNames())))
+                .toList();
+    }
+
+    /**
+     * @return public {@link Bean @Bean} methods of a configuration class, including inherited ones,
+     * the same methods {@code BeanConfigurationClassScanner} creates beans of
+     */
+    private Stream<ExecutableElement> beanMethods(TypeElement configClass) {
+        return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(configClass))
+                .stream()
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .filter(method -> method.getAnnotation(Bean.class) != null);
+    }
+
+    private IndexedBeanMethod indexedBeanMethod(ExecutableElement method) {
+        Bean bean = method.getAnnotation(Bean.class);
+        String methodName = method.getSimpleName().toString();
+        List<String> parameterTypeNames = method.getParameters()
+                .stream()
+                .map(parameter -> runtimeClassName(parameter.asType()))
+                .toList();
+        return new IndexedBeanMethod(methodName, parameterTypeNames, runtimeClassName(method.getReturnType()),
+                bean.value().isEmpty() ? methodName : bean.value(), bean.primary(),
+                dependencies(method.getParameters()).orElse(null));
+    }
+
+    /**
+     * @return dependencies of given injection points or empty {@link Optional} if any of them cannot be resolved
+     * at compile time or their names clash
+     */
+    private Optional<List<IndexedDependency>> dependencies(List<? extends VariableElement> injectionPoints) {
+        List<IndexedDependency> dependencies = new ArrayList<>(injectionPoints.size());
+        Set<String> dependencyNames = new HashSet<>();
+        for (VariableElement injectionPoint : injectionPoints) {
+            Optional<IndexedDependency> dependency = dependency(injectionPoint);
+            if (dependency.isEmpty() || !dependencyNames.add(dependency.get().name())) {
+                return Optional.empty();
+            }
+            dependencies.add(dependency.get());
+        }
+        return Optional.of(dependencies);
+    }
+
+    /**
+     * Mirrors {@code BeanDependency.fromParameter} and {@code BeanDependency.fromField}.
+     */
+    private Optional<IndexedDependency> dependency(VariableElement injectionPoint) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror type = injectionPoint.asType();
+        String typeName = runtimeClassName(type);
+        Qualifier qualifier = injectionPoint.getAnnotation(Qualifier.class);
+        String name = qualifier == null ? typeName : qualifier.value();
+
+        TypeMirror collectionType = types.erasure(processingEnv.getElementUtils()
+                .getTypeElement(Collection.class.getName()).asType());
+        if (!types.isAssignable(types.erasure(type), collectionType)) {
+            return Optional.of(new IndexedDependency(name, typeName, qualifier != null, null));
+        }
+
+        // element type is resolved at runtime only when it is a plain class
+        if (!(type instanceof DeclaredType declaredType) || declaredType.getTypeArguments().isEmpty()
+                || !(declaredType.getTypeArguments().get(0) instanceof DeclaredType elementType)
+                || !elementType.getTypeArguments().isEmpty()) {
+            return Optional.empty();
+        }
+        String elementTypeName = runtimeClassName(elementType);
+        if (qualifier == null) {
+            name = String.join("#", name, elementTypeName);
+        }
+        return Optional.of(new IndexedDependency(name, typeName, qualifier != null, elementTypeName));
+    }
+
+    /**
+     * @return type name in the same format as {@link Class#getName()} returns
+     */
+    private String runtimeClassName(TypeMirror type) {
+        TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type);
+        if (erasedType instanceof ArrayType arrayType) {
+            return "[" + descriptor(arrayType.getComponentType());
+        }
+        if (erasedType instanceof DeclaredType declaredType) {
+            return binaryName(declaredType.asElement());
+        }
+        return erasedType.toString();
+    }
+
+    private String descriptor(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case CHAR -> "C";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case ARRAY -> "[" + descriptor(((ArrayType) type).getComponentType());
+            default -> "L" + runtimeClassName(type) + ";";
+        };
+    }
+
+    /**
+     * @return type name in the same format as {@link Class#getTypeName()} returns
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type);
+        if (erasedType instanceof ArrayType arrayType) {
+            return typeName(arrayType.getComponentType()) + "[]";
+        }
+        if (erasedType instanceof DeclaredType declaredType) {
+            return binaryName((TypeElement) declaredType.asElement());
+        }
+        return erasedType.toString();
+    }
+
+    private String binaryName(Element type) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) type).toString();
+    }
+}
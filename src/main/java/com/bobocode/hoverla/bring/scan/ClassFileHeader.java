@@ -0,0 +1,20 @@
+package com.bobocode.hoverla.bring.scan;
+
+import java.util.List;
+
+/**
+ * Part of a class file that is relevant for bean candidates lookup.
+ * All names are binary names, e.g. {@code com.example.Outer$Inner}.
+ *
+ * @param className       name of the class itself
+ * @param superClassName  name of the direct superclass, {@code null} for {@link Object} and {@code module-info}
+ * @param interfaceNames  names of directly implemented interfaces
+ * @param annotationNames names of annotations the class is annotated with, including ones retained
+ *                        in the class file only, the same way Reflections collects them
+ * @see ClassFileReader
+ */
+public record ClassFileHeader(String className,
+                              String superClassName,
+                              List<String> interfaceNames,
+                              List<String> annotationNames) {
+}
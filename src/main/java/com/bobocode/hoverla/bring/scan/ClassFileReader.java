@@ -0,0 +1,245 @@
+package com.bobocode.hoverla.bring.scan;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * Lightweight reader of class files that extracts {@link ClassFileHeader} straight from the bytes,
+ * without loading the class.
+ *
+ * <p>Only the constant pool, class header and class-level {@code RuntimeVisibleAnnotations}
+ * and {@code RuntimeInvisibleAnnotations} attributes are read.
+ * Fields and methods are skipped by their lengths, constant pool strings are decoded only when referenced.</p>
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">Class file format</a>
+ */
+public final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Offsets of constant pool entries right after their tags, indexed by constant pool index
+     */
+    private int[] constantOffsets;
+
+    private ClassFileReader(ByteBuffer classFile) {
+        this.buffer = classFile.slice(); // independent position and big-endian byte order
+    }
+
+    /**
+     * @param classFile content of a class file
+     * @return header of the class
+     * @throws IllegalArgumentException when bytes are not a valid class file
+     */
+    public static ClassFileHeader read(byte[] classFile) {
+        return read(ByteBuffer.wrap(classFile));
+    }
+
+    /**
+     * @param classFile content of a class file from its position to its limit, position of the buffer is not changed
+     * @return header of the class
+     * @throws IllegalArgumentException when bytes are not a valid class file
+     */
+    public static ClassFileHeader read(ByteBuffer classFile) {
+        try {
+            return new ClassFileReader(classFile).readHeader();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Class file is truncated or malformed", e);
+        }
+    }
+
+    private ClassFileHeader readHeader() {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        skip(4); // minor and major versions
+        readConstantPool();
+        skip(2); // access flags
+
+        String className = className(u2());
+        String superClassName = className(u2());
+        int interfacesCount = u2();
+        List<String> interfaceNames = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaceNames.add(className(u2()));
+        }
+
+        skipMembers(); // fields
+        skipMembers(); // methods
+        return new ClassFileHeader(className, superClassName, interfaceNames, readClassAnnotations());
+    }
+
+    private void readConstantPool() {
+        int constantPoolCount = u2();
+        constantOffsets = new int[constantPoolCount];
+        for (int index = 1; index < constantPoolCount; index++) {
+            int tag = u1();
+            constantOffsets[index] = buffer.position();
+            switch (tag) {
+                case CONSTANT_UTF8 -> skip(u2());
+                case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE -> skip(2);
+                case CONSTANT_METHOD_HANDLE -> skip(3);
+                case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELD_REF, CONSTANT_METHOD_REF,
+                        CONSTANT_INTERFACE_METHOD_REF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+                        CONSTANT_INVOKE_DYNAMIC -> skip(4);
+                case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+                    skip(8);
+                    index++; // 8-byte constants take two constant pool entries
+                }
+                default -> throw new IllegalArgumentException("Unknown constant pool tag %d".formatted(tag));
+            }
+        }
+    }
+
+    private void skipMembers() {
+        int membersCount = u2();
+        for (int i = 0; i < membersCount; i++) {
+            skip(6); // access flags, name and descriptor
+            skipAttributes();
+        }
+    }
+
+    private void skipAttributes() {
+        int attributesCount = u2();
+        for (int i = 0; i < attributesCount; i++) {
+            skip(2);
+            skip(buffer.getInt());
+        }
+    }
+
+    /**
+     * @return names of runtime visible annotations followed by names of invisible ones
+     */
+    private List<String> readClassAnnotations() {
+        List<String> visibleAnnotationNames = new ArrayList<>();
+        List<String> invisibleAnnotationNames = new ArrayList<>();
+        int attributesCount = u2();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = utf8(u2());
+            int attributeLength = buffer.getInt();
+            switch (attributeName) {
+                case RUNTIME_VISIBLE_ANNOTATIONS -> readAnnotationNames(visibleAnnotationNames);
+                case RUNTIME_INVISIBLE_ANNOTATIONS -> readAnnotationNames(invisibleAnnotationNames);
+                default -> skip(attributeLength);
+            }
+        }
+        visibleAnnotationNames.addAll(invisibleAnnotationNames);
+        return visibleAnnotationNames;
+    }
+
+    private void readAnnotationNames(List<String> annotationNames) {
+        int annotationsCount = u2();
+        for (int i = 0; i < annotationsCount; i++) {
+            annotationNames.add(descriptorClassName(utf8(u2())));
+            skipElementValuePairs();
+        }
+    }
+
+    private void skipElementValuePairs() {
+        int pairsCount = u2();
+        for (int i = 0; i < pairsCount; i++) {
+            skip(2); // element name
+            skipElementValue();
+        }
+    }
+
+    private void skipElementValue() {
+        char tag = (char) u1();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> skip(2);
+            case 'e' -> skip(4);
+            case '@' -> {
+                skip(2); // annotation type
+                skipElementValuePairs();
+            }
+            case '[' -> {
+                int valuesCount = u2();
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue();
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown annotation element value tag %s".formatted(tag));
+        }
+    }
+
+    private String className(int classIndex) {
+        if (classIndex == 0) {
+            return null;
+        }
+        int nameIndex = Short.toUnsignedInt(buffer.getShort(constantOffsets[classIndex]));
+        return utf8(nameIndex).replace('/', '.');
+    }
+
+    /**
+     * @return class name out of field descriptor, e.g. {@code com.example.Bean} out of {@code Lcom/example/Bean;}
+     */
+    private static String descriptorClassName(String descriptor) {
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    private String utf8(int index) {
+        int offset = constantOffsets[index];
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        int start = offset + 2;
+        for (int i = start; i < start + length; i++) {
+            if (buffer.get(i) < 0) {
+                return modifiedUtf8(offset, length);
+            }
+        }
+        byte[] chars = new byte[length];
+        buffer.get(start, chars);
+        return new String(chars, ISO_8859_1);
+    }
+
+    private String modifiedUtf8(int offset, int length) {
+        byte[] utf8 = new byte[length + 2]; // including length prefix
+        buffer.get(offset, utf8);
+        try {
+            return new DataInputStream(new ByteArrayInputStream(utf8)).readUTF();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int u1() {
+        return Byte.toUnsignedInt(buffer.get());
+    }
+
+    private int u2() {
+        return Short.toUnsignedInt(buffer.getShort());
+    }
+
+    private void skip(int length) {
+        buffer.position(buffer.position() + length);
+    }
+}
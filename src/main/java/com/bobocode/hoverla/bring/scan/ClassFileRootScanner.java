@@ -0,0 +1,143 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.index.PackagePrefixes;
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+/**
+ * Scans a single classpath root (jar or directory) by reading class files with {@link ClassFileReader}.
+ *
+ * <p>Produces {@link Store} in the same format as {@link org.reflections.Reflections Reflections}
+ * {@code SubTypes} and {@code TypesAnnotated} scanners do, so results of both can be merged and queried alike.
+ * Classes are neither loaded nor fully parsed - only those that match a query are loaded later on.</p>
+ *
+ * <p>Jars are read through {@link MappedJarFile memory mapping}, so stored class files are parsed in place.</p>
+ *
+ * @see ShardedClasspathScanner
+ */
+@Slf4j
+public class ClassFileRootScanner {
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final String OBJECT_CLASS_NAME = Object.class.getName();
+
+    /**
+     * @param root           classpath root - jar or directory
+     * @param packagesToScan packages to collect types from, subpackages are included
+     * @return scan result or empty {@link Optional} if the root is not located on the file system
+     * @throws UncheckedIOException when the root cannot be read
+     */
+    public Optional<Store> scan(URL root, String... packagesToScan) {
+        Optional<Path> rootPath = ClasspathRoots.toPath(root);
+        if (rootPath.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Store store = new Store();
+            if (Files.isDirectory(rootPath.get())) {
+                scanDirectory(rootPath.get(), store, packagesToScan);
+            } else if (Files.isRegularFile(rootPath.get())) {
+                scanJar(rootPath.get(), store, packagesToScan);
+            }
+            return Optional.of(store);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read classpath root %s".formatted(root), e);
+        }
+    }
+
+    /**
+     * Only directories of packages to scan are walked, overlapping packages are walked once
+     */
+    private void scanDirectory(Path directory, Store store, String... packagesToScan) throws IOException {
+        List<Path> classFiles = new ArrayList<>();
+        for (String packageName : PackagePrefixes.of(packagesToScan).packages()) {
+            Path packageDirectory = directory.resolve(packageName.replace('.', '/'));
+            if (!Files.isDirectory(packageDirectory)) {
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(packageDirectory)) {
+                walk.filter(file -> isClassFileToScan(directory.relativize(file).toString(), packagesToScan))
+                        .filter(Files::isRegularFile)
+                        .forEach(classFiles::add);
+            }
+        }
+        for (Path classFile : classFiles) {
+            scanClassFile(classFile.toString(), ByteBuffer.wrap(Files.readAllBytes(classFile)), store);
+        }
+    }
+
+    private void scanJar(Path jar, Store store, String... packagesToScan) throws IOException {
+        Optional<MappedJarFile> mappedJar = MappedJarFile.open(jar);
+        if (mappedJar.isPresent()) {
+            try (MappedJarFile jarFile = mappedJar.get()) {
+                jarFile.forEachEntry(entryName -> isClassFileToScan(entryName, packagesToScan),
+                        (entryName, classFile) -> scanClassFile(jar + "!/" + entryName, classFile, store));
+            }
+        } else {
+            scanJarWithZipFile(jar, store, packagesToScan);
+        }
+    }
+
+    private void scanJarWithZipFile(Path jar, Store store, String... packagesToScan) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                if (!entry.isDirectory() && isClassFileToScan(entry.getName(), packagesToScan)) {
+                    try (InputStream classFile = zipFile.getInputStream(entry)) {
+                        scanClassFile(jar + "!/" + entry.getName(), ByteBuffer.wrap(classFile.readAllBytes()), store);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isClassFileToScan(String relativePath, String... packagesToScan) {
+        if (!relativePath.endsWith(CLASS_FILE_EXTENSION)) {
+            return false;
+        }
+        String dottedPath = relativePath.replace('/', '.').replace('\\', '.');
+        return Arrays.stream(packagesToScan)
+                .anyMatch(packageName -> dottedPath.startsWith(packageName + "."));
+    }
+
+    private void scanClassFile(String location, ByteBuffer classFile, Store store) {
+        ClassFileHeader header;
+        try {
+            header = ClassFileReader.read(classFile);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read class file {}, skipping it: {}", location, e.getMessage());
+            return;
+        }
+        if (header.superClassName() != null && !OBJECT_CLASS_NAME.equals(header.superClassName())) {
+            put(store, SubTypes.index(), header.superClassName(), header.className());
+        }
+        header.interfaceNames().forEach(interfaceName -> put(store, SubTypes.index(), interfaceName, header.className()));
+        header.annotationNames().forEach(annotationName -> put(store, TypesAnnotated.index(), annotationName, header.className()));
+    }
+
+    private static void put(Store store, String index, String key, String value) {
+        store.computeIfAbsent(index, i -> new HashMap<>())
+                .computeIfAbsent(key, k -> new HashSet<>())
+                .add(value);
+    }
+}
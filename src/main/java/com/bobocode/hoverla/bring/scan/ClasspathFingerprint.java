@@ -0,0 +1,197 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Computes fingerprints of classpath roots, so that results derived from the classpath can be reused
+ * while it stays unchanged.
+ *
+ * <p>Fingerprint of a jar consists of its path, size and last modification time - jars are replaced as a whole
+ * on redeploy, so reading their content is not necessary. Fingerprint of a directory is a hash of relative paths
+ * and content of all files inside it, since single classes in it may be recompiled in place, and a rebuild may keep
+ * both size and modification time of a class file, e.g. within resolution of the file system clock or when files
+ * are copied preserving timestamps. Caches and the trust check relying on the fingerprint would serve stale
+ * results then.</p>
+ *
+ * <p>Instance is expected to be created once per context start and shared by all its consumers,
+ * so that fingerprint of each root and hash of each class file are computed at most once per start.
+ * Consumers that need to tell a touched class file from a changed one compare {@link #ofClassRoot(String)
+ * fingerprint of its root} first and hash {@link #ofClassFile(String) content} of the class file only
+ * when the root fingerprint does not match.</p>
+ *
+ * <p>Only roots located on the local file system can be fingerprinted.</p>
+ */
+@Slf4j
+public class ClasspathFingerprint {
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Fingerprints of roots, by root URLs
+     */
+    private final Map<String, Optional<String>> rootFingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Hashes of class file content, by class names
+     */
+    private final Map<String, Optional<String>> classFileHashes = new ConcurrentHashMap<>();
+
+    public ClasspathFingerprint() {
+        this(BeanIndex.defaultClassLoader());
+    }
+
+    /**
+     * @param classLoader class loader to look up roots of packages and class files with
+     */
+    public ClasspathFingerprint(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Directory roots are read once per instance, see {@link ClasspathFingerprint}.
+     *
+     * @param root classpath root - jar or directory
+     * @return fingerprint of the root or empty {@link Optional} if the root cannot be fingerprinted
+     */
+    public Optional<String> of(URL root) {
+        return rootFingerprints.computeIfAbsent(root.toExternalForm(), rootUrl -> fingerprint(root));
+    }
+
+    /**
+     * @param roots classpath roots - jars and directories
+     * @return fingerprint of all roots in the given order or empty {@link Optional} if any of them cannot be fingerprinted
+     */
+    public Optional<String> of(Collection<URL> roots) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (URL root : roots) {
+            Optional<String> rootFingerprint = of(root);
+            if (rootFingerprint.isEmpty()) {
+                return Optional.empty();
+            }
+            hasher.putString(rootFingerprint.get(), UTF_8);
+        }
+        return Optional.of(hasher.hash().toString());
+    }
+
+    /**
+     * @param packagesToScan packages to fingerprint classpath roots of
+     * @return fingerprint of all roots that contain any of given packages, along with the packages,
+     * or empty {@link Optional} if any of the roots cannot be fingerprinted
+     */
+    public Optional<String> ofPackages(String... packagesToScan) {
+        return of(ClasspathRoots.resolve(classLoader, packagesToScan))
+                .map(rootsFingerprint -> Hashing.sha256().newHasher()
+                        .putString(rootsFingerprint, UTF_8)
+                        .putString(String.join(",", packagesToScan), UTF_8)
+                        .hash()
+                        .toString());
+    }
+
+    /**
+     * @param className binary name of a class
+     * @return fingerprint of the root the class file is loaded from or empty {@link Optional} if the class file
+     * is not found or its root cannot be fingerprinted
+     */
+    public Optional<String> ofClassRoot(String className) {
+        String classFileName = classFileName(className);
+        URL classFile = classLoader.getResource(classFileName);
+        if (classFile == null) {
+            return Optional.empty();
+        }
+        String classFileUrl = classFile.toExternalForm();
+        if (!classFileUrl.endsWith(classFileName)) {
+            return Optional.empty();
+        }
+        try {
+            return of(new URL(classFileUrl.substring(0, classFileUrl.length() - classFileName.length())));
+        } catch (MalformedURLException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param className binary name of a class
+     * @return SHA-256 hash of the class file content or empty {@link Optional} if the class file cannot be read
+     */
+    public Optional<String> ofClassFile(String className) {
+        return classFileHashes.computeIfAbsent(className, this::hashClassFile);
+    }
+
+    private Optional<String> fingerprint(URL root) {
+        Optional<Path> path = ClasspathRoots.toPath(root);
+        if (path.isEmpty()) {
+            log.trace("Classpath root {} is not located on the file system and cannot be fingerprinted", root);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(fingerprint(path.get()));
+        } catch (IOException | UncheckedIOException e) {
+            log.debug("Unable to fingerprint classpath root {}: {}", root, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String fingerprint(Path root) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(root.toAbsolutePath().toString(), UTF_8);
+        if (Files.isDirectory(root)) {
+            hashDirectory(root, hasher);
+        } else {
+            hasher.putLong(Files.size(root))
+                    .putLong(Files.getLastModifiedTime(root).toMillis());
+        }
+        return hasher.hash().toString();
+    }
+
+    private void hashDirectory(Path directory, Hasher hasher) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (Path file : files) {
+            byte[] content = Files.readAllBytes(file);
+            hasher.putString(directory.relativize(file).toString(), UTF_8)
+                    .putInt(content.length)
+                    .putBytes(content);
+        }
+    }
+
+    private Optional<String> hashClassFile(String className) {
+        String classFileName = classFileName(className);
+        try (InputStream classFile = classLoader.getResourceAsStream(classFileName)) {
+            if (classFile == null) {
+                log.debug("Class file {} is not found and cannot be hashed", classFileName);
+                return Optional.empty();
+            }
+            return Optional.of(Hashing.sha256().hashBytes(classFile.readAllBytes()).toString());
+        } catch (IOException e) {
+            log.debug("Unable to read class file {}: {}", classFileName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String classFileName(String className) {
+        return className.replace('.', '/') + CLASS_FILE_EXTENSION;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bobocode.hoverla.bring.scan;
+
+import lombok.experimental.UtilityClass;
+import org.reflections.util.ClasspathHelper;
+
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Helpers for classpath roots - jars and directories the classes are loaded from.
+ */
+@UtilityClass
+class ClasspathRoots {
+
+    private static final String FILE_PROTOCOL = "file";
+    private static final String JAR_PROTOCOL = "jar";
+    private static final String JAR_ROOT_SEPARATOR = "!/";
+
+    /**
+     * @param packagesToScan packages to look up roots for
+     * @return roots that contain any of given packages, in classpath order
+     */
+    Set<URL> resolve(String... packagesToScan) {
+        Set<URL> roots = new LinkedHashSet<>();
+        for (String packageToScan : packagesToScan) {
+            roots.addAll(ClasspathHelper.forPackage(packageToScan));
+        }
+        return roots;
+    }
+
+    /**
+     * @param classLoader    class loader to look up roots with
+     * @param packagesToScan packages to look up roots for
+     * @return roots that contain any of given packages, in classpath order
+     */
+    Set<URL> resolve(ClassLoader classLoader, String... packagesToScan) {
+        Set<URL> roots = new LinkedHashSet<>();
+        for (String packageToScan : packagesToScan) {
+            roots.addAll(ClasspathHelper.forPackage(packageToScan, classLoader));
+        }
+        return roots;
+    }
+
+    /**
+     * @param root classpath root, either {@code file:} URL or {@code jar:file:...!/} URL of the jar root
+     * @return path of the root or empty {@link Optional} if it is not located on the local file system,
+     * e.g. is nested into another jar
+     */
+    Optional<Path> toPath(URL root) {
+        if (JAR_PROTOCOL.equals(root.getProtocol())) {
+            return jarFileUrl(root).flatMap(ClasspathRoots::toPath);
+        }
+        if (!FILE_PROTOCOL.equals(root.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(root.toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<URL> jarFileUrl(URL jarRoot) {
+        String jarUrl = jarRoot.getPath();
+        int separatorIndex = jarUrl.indexOf(JAR_ROOT_SEPARATOR);
+        if (separatorIndex < 0 || separatorIndex + JAR_ROOT_SEPARATOR.length() != jarUrl.length()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new URL(jarUrl.substring(0, separatorIndex)));
+        } catch (MalformedURLException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.context.BeanScanner;
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndex;
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.index.MergedBeanIndex;
+import com.google.common.base.Suppliers;
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Reflections;
+import org.reflections.Store;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+/**
+ * Result of a single classpath scan shared by all {@link BeanScanner}s.
+ *
+ * <p>Classpath is walked lazily, at most once, on the first request of annotated types.
+ * The walk collects types annotated with any annotation, so that every scanner can query its own
+ * annotations without triggering another walk.</p>
+ *
+ * <p>{@link Bean @Bean} and {@link Configuration @Configuration} classes are read from
+ * compile-time indexes of classpath roots, {@link MergedBeanIndex merged} lazily. Decision is made per root:
+ * roots that carry an index are never walked for these annotations, while roots of packages to scan without
+ * an index are walked as usual, so that bean candidates of not indexed jars and directories are not lost.</p>
+ *
+ * @see BeanScanner
+ * @see MergedBeanIndex
+ */
+@Slf4j
+public class ClasspathScanResult {
+
+    private static final Set<Class<? extends Annotation>> INDEXED_ANNOTATIONS = Set.of(Bean.class, Configuration.class);
+
+    private final String[] packagesToScan;
+
+    private final ClassLoader classLoader;
+
+    private final Supplier<MergedBeanIndex> index;
+
+    private final Supplier<Reflections> classpathScan;
+
+    /**
+     * Walk of roots of packages to scan that carry no index, used for indexed annotations only
+     */
+    private final Supplier<Reflections> unindexedScan;
+
+    public ClasspathScanResult(String... packagesToScan) {
+        this(new ShardedClasspathScanner(1), packagesToScan);
+    }
+
+    public ClasspathScanResult(ClasspathScanner classpathScanner, String... packagesToScan) {
+        this(BeanIndex.defaultClassLoader(), classpathScanner, packagesToScan);
+    }
+
+    /**
+     * @param classLoader      class loader to look up bean indexes and load indexed classes with
+     * @param classpathScanner strategy of classpath walk, used when types are not available in {@link BeanIndex}
+     * @param packagesToScan   packages to collect types from, subpackages are included
+     */
+    public ClasspathScanResult(ClassLoader classLoader, ClasspathScanner classpathScanner, String... packagesToScan) {
+        this.packagesToScan = packagesToScan;
+        this.classLoader = classLoader;
+        this.index = Suppliers.memoize(() -> MergedBeanIndex.load(classLoader));
+        this.classpathScan = Suppliers.memoize(() -> classpathScanner.scan(packagesToScan));
+        this.unindexedScan = Suppliers.memoize(() -> scanUnindexedRoots(classpathScanner));
+    }
+
+    /**
+     * Returns types that are annotated with the given annotation and belong to {@link ClasspathScanResult#packagesToScan}.
+     *
+     * @param annotation annotation to look up types with
+     * @return {@link Set} of annotated types, empty if nothing found
+     */
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        if (INDEXED_ANNOTATIONS.contains(annotation) && !index.get().isEmpty()) {
+            log.debug("Reading classes annotated with `@{}` from bean index", annotation.getSimpleName());
+            return BeanIndex.loadClasses(getIndexedTypeNames(annotation), classLoader);
+        }
+        return classpathScan.get().getTypesAnnotatedWith(annotation);
+    }
+
+    /**
+     * Returns names of types that are annotated with the given annotation and belong to
+     * {@link ClasspathScanResult#packagesToScan}, without loading them.
+     *
+     * @param annotation annotation to look up types with
+     * @return {@link Set} of names of annotated types, empty if nothing found
+     */
+    public Set<String> getTypeNamesAnnotatedWith(Class<? extends Annotation> annotation) {
+        if (INDEXED_ANNOTATIONS.contains(annotation) && !index.get().isEmpty()) {
+            return getIndexedTypeNames(annotation);
+        }
+        return classpathScan.get().get(SubTypes.of(TypesAnnotated.with(annotation)));
+    }
+
+    /**
+     * Returns metadata of {@link Bean @Bean} classes that belong to {@link ClasspathScanResult#packagesToScan}
+     * recorded in compile-time indexes, so that bean definitions can be created without loading the classes.
+     * Bean classes of roots without an index are included with names only, as text index entries are.
+     *
+     * @return bean classes sorted by names or empty {@link Optional} if there is no index on the classpath
+     * @throws BeanIndexException when any of indexes cannot be read
+     */
+    public Optional<List<IndexedClass>> getIndexedBeanClasses() {
+        if (index.get().isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, IndexedClass> beanClasses = new TreeMap<>();
+        index.get().getBeanClasses(packagesToScan)
+                .forEach(beanClass -> beanClasses.put(beanClass.className(), beanClass));
+        Set<String> unindexedClassNames = unindexedScan.get().get(SubTypes.of(TypesAnnotated.with(Bean.class)));
+        unindexedClassNames.forEach(className -> beanClasses.putIfAbsent(className,
+                new IndexedClass(className, true, false, null, false, null, List.of())));
+        return Optional.of(List.copyOf(beanClasses.values()));
+    }
+
+    /**
+     * Returns {@link Bean @Bean} methods of the given {@link Configuration @Configuration} class recorded
+     * in {@link BinaryBeanIndex}, so that methods of the class do not have to be walked.
+     *
+     * @param configClass class annotated with {@link Configuration @Configuration}
+     * @return bean methods or empty {@link Optional} if the class is not present in binary index
+     * @throws BeanIndexException when indexed method does not exist anymore
+     */
+    public Optional<List<Method>> getIndexedBeanMethods(Class<?> configClass) {
+        return index.get()
+                .getBeanMethods(configClass.getName())
+                .map(beanMethods -> beanMethods.stream()
+                        .map(beanMethod -> resolveBeanMethod(configClass, beanMethod))
+                        .toList());
+    }
+
+    public String[] getPackagesToScan() {
+        return packagesToScan.clone();
+    }
+
+    /**
+     * @return class loader indexes are looked up and indexed classes are loaded with
+     */
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    private Set<String> getIndexedTypeNames(Class<? extends Annotation> annotation) {
+        Set<String> classNames = new TreeSet<>(annotation == Bean.class
+                ? index.get().getBeanClassNames(packagesToScan)
+                : index.get().getConfigurationClassNames(packagesToScan));
+        classNames.addAll(unindexedScan.get().get(SubTypes.of(TypesAnnotated.with(annotation))));
+        return classNames;
+    }
+
+    private Reflections scanUnindexedRoots(ClasspathScanner classpathScanner) {
+        List<URL> unindexedRoots = ClasspathRoots.resolve(classLoader, packagesToScan)
+                .stream()
+                .filter(root -> !index.get().isIndexed(root))
+                .toList();
+        if (unindexedRoots.isEmpty()) {
+            return new Reflections(new Store());
+        }
+        log.debug("Scanning {} classpath roots without bean index: {}", unindexedRoots.size(), unindexedRoots);
+        return classpathScanner.scan(unindexedRoots, packagesToScan);
+    }
+
+    private Method resolveBeanMethod(Class<?> configClass, IndexedBeanMethod beanMethod) {
+        Class<?>[] parameterTypes = beanMethod.parameterTypeNames()
+                .stream()
+                .map(typeName -> BeanIndex.loadClass(typeName, classLoader))
+                .toArray(Class<?>[]::new);
+        try {
+            return configClass.getMethod(beanMethod.name(), parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new BeanIndexException("Indexed method %s of %s cannot be found. Bean index might be stale"
+                    .formatted(beanMethod.name(), configClass.getName()), e);
+        }
+    }
+}
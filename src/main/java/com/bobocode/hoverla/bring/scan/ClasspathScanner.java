@@ -0,0 +1,29 @@
+package com.bobocode.hoverla.bring.scan;
+
+import org.reflections.Reflections;
+
+import java.net.URL;
+import java.util.Collection;
+
+/**
+ * Strategy of walking the classpath to collect annotated types of given packages.
+ *
+ * @see ClasspathScanResult
+ * @see ReflectionsClasspathScanner
+ * @see ShardedClasspathScanner
+ */
+public interface ClasspathScanner {
+
+    /**
+     * @param packagesToScan packages to collect types from, subpackages are included
+     * @return {@link Reflections} holding types with any annotation and their subtypes
+     */
+    Reflections scan(String... packagesToScan);
+
+    /**
+     * @param roots          classpath roots to walk, other roots containing the packages are skipped
+     * @param packagesToScan packages to collect types from, subpackages are included
+     * @return {@link Reflections} holding types with any annotation and their subtypes
+     */
+    Reflections scan(Collection<URL> roots, String... packagesToScan);
+}
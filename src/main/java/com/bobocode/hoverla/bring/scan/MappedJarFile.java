@@ -0,0 +1,213 @@
+package com.bobocode.hoverla.bring.scan;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Read-only view of a jar file mapped into memory.
+ *
+ * <p>Entries are located through the central directory of the jar, so nothing but the requested entries is read.
+ * Content of stored (uncompressed) entries is sliced from the mapping without copying,
+ * deflated entries are inflated into a buffer that is reused between entries.</p>
+ *
+ * <p>Instances are not thread-safe. ZIP64 archives are not supported - {@link #open(Path)}
+ * returns empty {@link Optional} for them, so that callers can fall back to {@link java.util.zip.ZipFile}.</p>
+ *
+ * @see <a href="https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT">ZIP file format specification</a>
+ */
+@Slf4j
+class MappedJarFile implements Closeable {
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int ZIP64_MAGIC = 0xFFFF;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int ENCRYPTED_FLAG = 1;
+
+    private final Path path;
+
+    private final MappedByteBuffer mapping;
+
+    private final int centralDirectoryOffset;
+
+    private final int entriesCount;
+
+    private final Inflater inflater = new Inflater(true);
+
+    private byte[] inflatedEntry = new byte[8 * 1024];
+
+    private MappedJarFile(Path path, MappedByteBuffer mapping, int centralDirectoryOffset, int entriesCount) {
+        this.path = path;
+        this.mapping = mapping;
+        this.centralDirectoryOffset = centralDirectoryOffset;
+        this.entriesCount = entriesCount;
+    }
+
+    /**
+     * @param path jar to map
+     * @return mapped jar or empty {@link Optional} if the jar is too large to be mapped or uses ZIP64 format
+     * @throws ZipException when the file is not a jar
+     */
+    static Optional<MappedJarFile> open(Path path) throws IOException {
+        MappedByteBuffer mapping;
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                log.debug("Jar {} is too large to be mapped at once", path);
+                return Optional.empty();
+            }
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        mapping.order(ByteOrder.LITTLE_ENDIAN);
+
+        int endOfCentralDirectory = findEndOfCentralDirectory(mapping, path);
+        int entriesCount = Short.toUnsignedInt(mapping.getShort(endOfCentralDirectory + 10));
+        long centralDirectoryOffset = Integer.toUnsignedLong(mapping.getInt(endOfCentralDirectory + 16));
+        if (entriesCount == ZIP64_MAGIC || centralDirectoryOffset >= mapping.limit()) {
+            log.debug("Jar {} uses ZIP64 format", path);
+            return Optional.empty();
+        }
+        return Optional.of(new MappedJarFile(path, mapping, (int) centralDirectoryOffset, entriesCount));
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer mapping, Path path) throws ZipException {
+        int lowestOffset = Math.max(0, mapping.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+        for (int offset = mapping.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; offset >= lowestOffset; offset--) {
+            if (mapping.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offset;
+            }
+        }
+        throw new ZipException("End of central directory is not found in %s".formatted(path));
+    }
+
+    /**
+     * Passes content of entries accepted by the given filter to the consumer.
+     * Content buffer is valid only until the consumer returns.
+     *
+     * @param nameFilter filter of entry names, directories are never passed to it
+     * @param consumer   consumer of entry names and content
+     * @throws ZipException when the jar is malformed or an entry is encrypted or compressed with unsupported method
+     */
+    void forEachEntry(Predicate<String> nameFilter, EntryConsumer consumer) throws IOException {
+        int headerOffset = centralDirectoryOffset;
+        for (int i = 0; i < entriesCount; i++) {
+            checkSignature(headerOffset, CENTRAL_DIRECTORY_HEADER_SIGNATURE);
+            int nameLength = u2(headerOffset + 28);
+            int extraLength = u2(headerOffset + 30);
+            int commentLength = u2(headerOffset + 32);
+            String name = entryName(headerOffset + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+
+            if (!name.endsWith("/") && nameFilter.test(name)) {
+                consumer.accept(name, readEntry(headerOffset, name));
+            }
+            headerOffset += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+    }
+
+    private ByteBuffer readEntry(int centralHeaderOffset, String name) throws IOException {
+        int flags = u2(centralHeaderOffset + 8);
+        int method = u2(centralHeaderOffset + 10);
+        int compressedSize = mapping.getInt(centralHeaderOffset + 20);
+        int size = mapping.getInt(centralHeaderOffset + 24);
+        int localHeaderOffset = mapping.getInt(centralHeaderOffset + 42);
+        if (compressedSize < 0 || size < 0 || localHeaderOffset < 0) {
+            throw new ZipException("Entry %s of %s uses ZIP64 format".formatted(name, path));
+        }
+        if ((flags & ENCRYPTED_FLAG) != 0) {
+            throw new ZipException("Entry %s of %s is encrypted".formatted(name, path));
+        }
+
+        checkSignature(localHeaderOffset, LOCAL_FILE_HEADER_SIGNATURE);
+        int dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE
+                + u2(localHeaderOffset + 26) + u2(localHeaderOffset + 28);
+        ByteBuffer data = mapping.slice(dataOffset, compressedSize);
+        return switch (method) {
+            case STORED -> data;
+            case DEFLATED -> inflate(data, size, name);
+            default -> throw new ZipException("Entry %s of %s is compressed with unsupported method %d"
+                    .formatted(name, path, method));
+        };
+    }
+
+    private ByteBuffer inflate(ByteBuffer data, int size, String name) throws ZipException {
+        if (inflatedEntry.length < size) {
+            inflatedEntry = new byte[Math.max(size, inflatedEntry.length * 2)];
+        }
+        inflater.reset();
+        inflater.setInput(data);
+        try {
+            int inflated = 0;
+            while (inflated < size && !inflater.finished()) {
+                int count = inflater.inflate(inflatedEntry, inflated, size - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != size) {
+                throw new ZipException("Entry %s of %s is truncated".formatted(name, path));
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException("Entry %s of %s is malformed: %s".formatted(name, path, e.getMessage()));
+        }
+        return ByteBuffer.wrap(inflatedEntry, 0, size);
+    }
+
+    private String entryName(int offset, int length) {
+        byte[] name = new byte[length];
+        mapping.get(offset, name);
+        return new String(name, UTF_8);
+    }
+
+    /**
+     * Releases the inflater. Mapping itself is released once the instance is garbage collected.
+     */
+    @Override
+    public void close() {
+        inflater.end();
+    }
+
+    private void checkSignature(int offset, int signature) throws ZipException {
+        if (mapping.getInt(offset) != signature) {
+            throw new ZipException("Malformed jar %s, unexpected header at offset %d".formatted(path, offset));
+        }
+    }
+
+    private int u2(int offset) {
+        return Short.toUnsignedInt(mapping.getShort(offset));
+    }
+
+    /**
+     * Consumer of jar entries
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+
+        /**
+         * @param name    name of the entry, e.g. {@code com/example/MyBean.class}
+         * @param content content of the entry positioned at its beginning
+         */
+        void accept(String name, ByteBuffer content) throws IOException;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bobocode.hoverla.bring.scan;
+
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link ClasspathScanner} that delegates the whole walk to a single {@link Reflections} instance,
+ * which parses every class file of scanned packages in full.
+ *
+ * @see ShardedClasspathScanner
+ */
+@Slf4j
+public class ReflectionsClasspathScanner implements ClasspathScanner {
+
+    @Override
+    public Reflections scan(String... packagesToScan) {
+        log.debug("Scanning classpath for annotated types in packages {}", Arrays.toString(packagesToScan));
+        return new Reflections((Object[]) packagesToScan);
+    }
+
+    @Override
+    public Reflections scan(Collection<URL> roots, String... packagesToScan) {
+        log.debug("Scanning {} classpath roots for annotated types in packages {}", roots.size(), Arrays.toString(packagesToScan));
+        FilterBuilder packagesFilter = new FilterBuilder();
+        Arrays.stream(packagesToScan).forEach(packagesFilter::includePackage);
+        return new Reflections(new ConfigurationBuilder()
+                .addUrls(roots)
+                .filterInputsBy(packagesFilter));
+    }
+}
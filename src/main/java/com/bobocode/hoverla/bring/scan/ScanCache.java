@@ -0,0 +1,135 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Store;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * On-disk cache of per-root classpath scan results.
+ *
+ * <p>Every classpath root (jar or directory) scanned for given packages is stored in its own file together
+ * with the {@link ClasspathFingerprint fingerprint} of the root. Cached result is served only while
+ * the fingerprint stays the same, so that only changed roots are rescanned.</p>
+ *
+ * <p>Cache is an optimization only - unreadable or outdated entries are treated as missing
+ * and failures to write them are logged and ignored.</p>
+ *
+ * @see ShardedClasspathScanner
+ */
+@Slf4j
+public class ScanCache {
+
+    private static final String HEADER = "# Bring scan cache v1";
+    private static final String FINGERPRINT_ENTRY = "fingerprint";
+    private static final String ENTRY_DELIMITER = " ";
+    private static final String FILE_EXTENSION = ".scan";
+
+    private final Path directory;
+
+    /**
+     * @param directory directory to store cached scan results in, created on first write if absent
+     */
+    public ScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param root           scanned classpath root
+     * @param fingerprint    current fingerprint of the root
+     * @param packagesToScan packages the root was scanned for
+     * @return cached scan result or empty {@link Optional} if it is absent or was stored for a different fingerprint
+     */
+    public Optional<Store> load(URL root, String fingerprint, String... packagesToScan) {
+        Path cacheFile = cacheFile(root, packagesToScan);
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, UTF_8)) {
+            if (!HEADER.equals(reader.readLine())
+                    || !(FINGERPRINT_ENTRY + ENTRY_DELIMITER + fingerprint).equals(reader.readLine())) {
+                log.trace("Scan cache of {} is outdated", root);
+                return Optional.empty();
+            }
+            return Optional.of(readStore(reader));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read scan cache {}, classpath root {} will be rescanned", cacheFile, root, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param root           scanned classpath root
+     * @param fingerprint    fingerprint of the root at the moment of scan
+     * @param store          scan result of the root
+     * @param packagesToScan packages the root was scanned for
+     */
+    public void save(URL root, String fingerprint, Store store, String... packagesToScan) {
+        Path cacheFile = cacheFile(root, packagesToScan);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                writer.write(FINGERPRINT_ENTRY + ENTRY_DELIMITER + fingerprint);
+                writer.newLine();
+                writeStore(store, writer);
+            }
+            // concurrent instances may write the same entry - last one wins, readers never see partial file
+            Files.move(tempFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Unable to write scan cache {} of classpath root {}", cacheFile, root, e);
+        }
+    }
+
+    private Path cacheFile(URL root, String... packagesToScan) {
+        String key = Hashing.sha256().newHasher()
+                .putString(root.toString(), UTF_8)
+                .putString(String.join(",", packagesToScan), UTF_8)
+                .hash()
+                .toString();
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+
+    private Store readStore(BufferedReader reader) throws IOException {
+        Store store = new Store();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] entry = line.split(ENTRY_DELIMITER);
+            if (entry.length != 3) {
+                throw new IOException("Malformed scan cache entry - %s".formatted(line));
+            }
+            store.computeIfAbsent(entry[0], index -> new HashMap<>())
+                    .computeIfAbsent(entry[1], key -> new HashSet<>())
+                    .add(entry[2]);
+        }
+        return store;
+    }
+
+    private void writeStore(Store store, BufferedWriter writer) throws IOException {
+        for (Map.Entry<String, Map<String, Set<String>>> index : store.entrySet()) {
+            for (Map.Entry<String, Set<String>> entry : index.getValue().entrySet()) {
+                for (String value : entry.getValue()) {
+                    writer.write(String.join(ENTRY_DELIMITER, index.getKey(), entry.getKey(), value));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
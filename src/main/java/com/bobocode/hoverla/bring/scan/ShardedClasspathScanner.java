@@ -0,0 +1,175 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.exception.ClasspathScanException;
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Reflections;
+import org.reflections.Store;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+/**
+ * {@link ClasspathScanner} that splits the classpath into roots (jars and directories) containing
+ * packages to scan and scans those roots concurrently in a dedicated {@link ForkJoinPool}.
+ * With parallelism of one, roots are scanned in the calling thread.
+ *
+ * <p>Each root is scanned separately by {@link ClassFileRootScanner} that reads class files without loading
+ * or fully parsing them. Results are merged into a single {@link Reflections} once all roots are scanned,
+ * so consumers observe the same result as with {@link ReflectionsClasspathScanner}.</p>
+ *
+ * <p>When {@link ScanCache} is provided, roots with unchanged {@link ClasspathFingerprint fingerprint}
+ * are read from the cache instead of being scanned.</p>
+ */
+@Slf4j
+public class ShardedClasspathScanner implements ClasspathScanner {
+
+    private final int parallelism;
+
+    private final ScanCache scanCache;
+
+    private final ClasspathFingerprint fingerprint;
+
+    private final ClassFileRootScanner classFileRootScanner = new ClassFileRootScanner();
+
+    /**
+     * @param parallelism number of threads to scan classpath roots with
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public ShardedClasspathScanner(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * @param parallelism number of threads to scan classpath roots with
+     * @param scanCache   cache of per-root scan results, {@code null} to always scan
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public ShardedClasspathScanner(int parallelism, ScanCache scanCache) {
+        this(parallelism, scanCache, new ClasspathFingerprint());
+    }
+
+    /**
+     * @param parallelism number of threads to scan classpath roots with
+     * @param scanCache   cache of per-root scan results, {@code null} to always scan
+     * @param fingerprint fingerprints of classpath roots shared with other consumers of current start
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    public ShardedClasspathScanner(int parallelism, ScanCache scanCache, ClasspathFingerprint fingerprint) {
+        checkArgument(parallelism > 0, "Argument [parallelism] must be positive");
+        this.parallelism = parallelism;
+        this.scanCache = scanCache;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public Reflections scan(String... packagesToScan) {
+        return scan(ClasspathRoots.resolve(packagesToScan), packagesToScan);
+    }
+
+    @Override
+    public Reflections scan(Collection<URL> roots, String... packagesToScan) {
+        log.debug("Scanning {} classpath roots for packages {} with parallelism {}",
+                roots.size(), Arrays.toString(packagesToScan), parallelism);
+
+        if (parallelism == 1) {
+            return merge(roots.stream()
+                    .map(root -> scanRoot(root, packagesToScan))
+                    .toList());
+        }
+
+        List<Callable<Reflections>> rootScans = roots.stream()
+                .<Callable<Reflections>>map(root -> () -> scanRoot(root, packagesToScan))
+                .toList();
+
+        ForkJoinPool scanPool = new ForkJoinPool(parallelism);
+        try {
+            return merge(scanPool.invokeAll(rootScans).stream()
+                    .map(this::getScanResult)
+                    .toList());
+        } finally {
+            scanPool.shutdown();
+        }
+    }
+
+    private Reflections scanRoot(URL root, String... packagesToScan) {
+        if (scanCache == null) {
+            return walkRoot(root, packagesToScan);
+        }
+        Optional<String> rootFingerprint = fingerprint.of(root);
+        if (rootFingerprint.isEmpty()) {
+            return walkRoot(root, packagesToScan);
+        }
+
+        Optional<Store> cachedStore = scanCache.load(root, rootFingerprint.get(), packagesToScan);
+        if (cachedStore.isPresent()) {
+            log.trace("Classpath root {} is unchanged, reading it from scan cache", root);
+            return new Reflections(cachedStore.get());
+        }
+        Reflections rootScan = walkRoot(root, packagesToScan);
+        scanCache.save(root, rootFingerprint.get(), rootScan.getStore(), packagesToScan);
+        return rootScan;
+    }
+
+    private Reflections walkRoot(URL root, String... packagesToScan) {
+        log.trace("Scanning classpath root {}", root);
+        try {
+            return classFileRootScanner.scan(root, packagesToScan)
+                    .map(Reflections::new)
+                    .orElseGet(() -> walkRootWithReflections(root, packagesToScan));
+        } catch (UncheckedIOException e) {
+            throw new ClasspathScanException("Unable to scan classpath root %s".formatted(root), e.getCause());
+        }
+    }
+
+    /**
+     * Fallback for roots that are not located on the local file system, e.g. nested jars
+     */
+    private Reflections walkRootWithReflections(URL root, String... packagesToScan) {
+        FilterBuilder packagesFilter = new FilterBuilder();
+        Arrays.stream(packagesToScan).forEach(packagesFilter::includePackage);
+
+        return new Reflections(new ConfigurationBuilder()
+                .addUrls(root)
+                .filterInputsBy(packagesFilter)
+                .setParallel(false)
+                .setExpandSuperTypes(false));
+    }
+
+    private Reflections merge(List<Reflections> rootScans) {
+        Reflections merged = new Reflections(new Store());
+        rootScans.forEach(merged::merge);
+        Store store = merged.getStore();
+        if (store.containsKey(SubTypes.index()) && store.containsKey(TypesAnnotated.index())) {
+            merged.expandSuperTypes(store.get(SubTypes.index()), store.get(TypesAnnotated.index()));
+        }
+        return merged;
+    }
+
+    private Reflections getScanResult(Future<Reflections> rootScan) {
+        try {
+            return rootScan.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClasspathScanException("Classpath scan was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ClasspathScanException scanException) {
+                throw scanException;
+            }
+            throw new ClasspathScanException("Unable to scan classpath root", e.getCause());
+        }
+    }
+}
@@ -45,4 +45,24 @@ class ApplicationContextBuilderTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Package name must contain only letters, numbers and symbol [.]");
     }
+
+    @ParameterizedTest(name = "Throws exception when scan parallelism is {0}")
+    @ValueSource(ints = {0, -1})
+    void throwsExceptionWhenScanParallelismIsNotPositive(int scanParallelism) {
+        ApplicationContextBuilder builder = getContextBuilder();
+
+        assertThatThrownBy(() -> builder.scanParallelism(scanParallelism))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Argument [scanParallelism] must be positive");
+    }
+
+    @ParameterizedTest(name = "Throws exception when scan pipeline parallelism is {0}")
+    @ValueSource(ints = {0, -1})
+    void throwsExceptionWhenScanPipelineParallelismIsNotPositive(int scanPipelineParallelism) {
+        ApplicationContextBuilder builder = getContextBuilder();
+
+        assertThatThrownBy(() -> builder.scanPipelineParallelism(scanPipelineParallelism))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Argument [scanPipelineParallelism] must be positive");
+    }
 }
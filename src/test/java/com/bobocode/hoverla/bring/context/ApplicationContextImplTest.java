@@ -5,6 +5,7 @@ import com.bobocode.hoverla.bring.exception.NoUniqueBeanException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.math.BigDecimal;
@@ -16,12 +17,15 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ApplicationContextImplTest {
@@ -51,14 +55,20 @@ class ApplicationContextImplTest {
 
         when(beanDefinitionStringOne.name()).thenReturn("String");
         doReturn(String.class).when(beanDefinitionStringOne).type();
+        doCallRealMethod().when(beanDefinitionStringOne).typeName();
+        doCallRealMethod().when(beanDefinitionStringOne).assignableTypeNames();
         when(beanDefinitionStringOne.getInstance()).thenReturn("String bean");
 
         when(beanDefinitionInteger.name()).thenReturn("Integer");
         doReturn(Integer.class).when(beanDefinitionInteger).type();
+        doCallRealMethod().when(beanDefinitionInteger).typeName();
+        doCallRealMethod().when(beanDefinitionInteger).assignableTypeNames();
         when(beanDefinitionInteger.getInstance()).thenReturn(2);
 
         when(beanDefinitionStringTwo.name()).thenReturn("One more string bean");
         doReturn(String.class).when(beanDefinitionStringTwo).type();
+        doCallRealMethod().when(beanDefinitionStringTwo).typeName();
+        doCallRealMethod().when(beanDefinitionStringTwo).assignableTypeNames();
         when(beanDefinitionStringTwo.getInstance()).thenReturn("String bean");
 
         applicationContext = new ApplicationContextImpl(beanScannerList, validator, initializer);
@@ -75,6 +85,28 @@ class ApplicationContextImplTest {
         verify(initializer).initialize(any());
     }
 
+    @Test
+    @DisplayName("Skips context validator when scanned bean set matches validation fingerprint")
+    void skipsValidationOfTrustedBeanSet() {
+        BeanDefinitionValidator trustedValidator = Mockito.mock(BeanDefinitionValidator.class);
+        BeanInitializer trustedInitializer = Mockito.mock(BeanInitializer.class);
+        ValidationFingerprint fingerprint = Mockito.mock(ValidationFingerprint.class);
+        when(fingerprint.matches()).thenReturn(true);
+        BeanDefinition dependent = beanScannerOne.scan().get(0);
+        when(dependent.dependencies())
+                .thenReturn(Map.of("One more string bean", new BeanDependency("One more string bean", String.class, true)));
+
+        var context = new ApplicationContextImpl(List.of(beanScannerOne, beanScannerTwo), trustedValidator,
+                trustedInitializer, ApplicationContextImpl.Options.DEFAULTS.withTrustedFingerprint(fingerprint));
+
+        verifyNoInteractions(trustedValidator);
+        ArgumentCaptor<BeanGraph> graph = ArgumentCaptor.forClass(BeanGraph.class);
+        verify(trustedInitializer).initialize(graph.capture());
+        assertEquals(List.of("One more string bean", "String", "Integer"),
+                graph.getValue().definitions().stream().map(BeanDefinition::name).toList());
+        assertEquals(2, context.getBean(Integer.class));
+    }
+
     @Test
     @DisplayName("Getting a bean from the context by bean type")
     void getBeanByType() {
@@ -85,13 +117,15 @@ class ApplicationContextImplTest {
     @Test
     @DisplayName("Throwing an exception when a bean with provided type is not found")
     void getBeanByTypeThrowsNoSuchBeanException() {
-        assertThrows(NoSuchBeanException.class, () -> applicationContext.getBean(BigDecimal.class));
+        var exception = assertThrows(NoSuchBeanException.class, () -> applicationContext.getBean(BigDecimal.class));
+        assertEquals("Bean with provided name/type [BigDecimal] not found in the context", exception.getMessage());
     }
 
     @Test
     @DisplayName("Throwing an exception when more than one bean are found")
     void getBeanByTypeThrowsNoUniqueBeanException() {
-        assertThrows(NoUniqueBeanException.class, () -> applicationContext.getBean(String.class));
+        var exception = assertThrows(NoUniqueBeanException.class, () -> applicationContext.getBean(String.class));
+        assertEquals("Expected single bean of type String, but found 2", exception.getMessage());
     }
 
     @Test
@@ -105,7 +139,8 @@ class ApplicationContextImplTest {
     @Test
     @DisplayName("Throwing an exception when bean with provided name is not found")
     void getBeanByNameThrowsException() {
-        assertThrows(NoSuchBeanException.class, () -> applicationContext.getBean("Name"));
+        var exception = assertThrows(NoSuchBeanException.class, () -> applicationContext.getBean("Name"));
+        assertEquals("Bean with provided name/type [Name] not found in the context", exception.getMessage());
     }
 
     @Test
@@ -152,4 +187,32 @@ class ApplicationContextImplTest {
     void containsBeans() {
         assertTrue(applicationContext.containsBean("Integer"));
     }
+
+    @Test
+    @DisplayName("Keeps beans available after compaction, releasing scanned definitions")
+    void compactReplacesDefinitionsWithRuntimeOnes() {
+        ((ApplicationContextImpl) applicationContext).compact();
+
+        assertEquals(2, applicationContext.getBean("Integer"));
+        assertEquals(2, applicationContext.getBean(Integer.class));
+        assertEquals(2, applicationContext.getAllBeans(String.class).size());
+        assertTrue(applicationContext.containsBean("String"));
+    }
+
+    @Test
+    @DisplayName("Keeps cached metadata of bean classes shared with other contexts on compaction")
+    void compactKeepsBeanClassMetadata() {
+        BeanScanner scanner = Mockito.mock(BeanScanner.class);
+        when(scanner.scan()).thenReturn(List.of(new ClassBasedBeanDefinition(CompactedBean.class)));
+        var context = new ApplicationContextImpl(List.of(scanner), new BeanDefinitionValidator(), new BeanInitializer());
+        BeanClassMetadata metadata = BeanClassMetadata.of(CompactedBean.class);
+
+        context.compact();
+
+        assertNotNull(context.getBean(CompactedBean.class));
+        assertSame(metadata, BeanClassMetadata.of(CompactedBean.class));
+    }
+
+    public static class CompactedBean {
+    }
 }
@@ -22,16 +22,22 @@ import com.bobocode.hoverla.bring.test.subject.validation.bean.type.InterfaceTes
 import com.bobocode.hoverla.bring.test.subject.validation.bean.type.OuterTestBean;
 import com.bobocode.hoverla.bring.test.subject.validation.bean.type.RecordTestBean;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class BeanAnnotationClassValidatorTest {
@@ -105,4 +111,19 @@ class BeanAnnotationClassValidatorTest {
                 .hasMessageContaining("Class marked as @Bean is of unsupported type");
     }
 
+    @Test
+    @DisplayName("Parallel validation fails with the same exception as sequential one - for the first invalid class")
+    void parallelValidationReportsFirstInvalidClass() {
+        Set<Class<?>> beanClasses = new LinkedHashSet<>(List.of(TestBean1.class, TestBeanWithSameTypeInjectFields.class,
+                TestBean2.class, TestBeanWithoutConstructors.class, EnumTestBean.class, TestBean3.class));
+
+        Throwable sequentialFailure = catchThrowable(() -> this.validator.validateBeanClasses(beanClasses));
+        Throwable parallelFailure = catchThrowable(() -> new BeanAnnotationClassValidator(4).validateBeanClasses(beanClasses));
+
+        assertThat(parallelFailure)
+                .isInstanceOf(BeanClassValidationException.class)
+                .hasMessage(sequentialFailure.getMessage())
+                .hasMessageContaining(TestBeanWithSameTypeInjectFields.class.getName());
+    }
+
 }
\ No newline at end of file
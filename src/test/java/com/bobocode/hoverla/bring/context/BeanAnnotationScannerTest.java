@@ -1,5 +1,7 @@
 package com.bobocode.hoverla.bring.context;
 
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
 import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean1;
 import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean2;
 import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean3;
@@ -8,9 +10,15 @@ import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean5;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
@@ -70,6 +78,49 @@ class BeanAnnotationScannerTest {
         assertThat(scannedDefinitions).isEmpty();
     }
 
+    @Test
+    @DisplayName("Reads bean classes from compile-time index and scans classpath roots without index along with it")
+    void testScanWithIndex(@TempDir Path indexRoot) throws IOException {
+        Path indexFile = indexRoot.resolve(BeanIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, List.of("bean " + TestBean1.class.getName(), "bean " + TestBean2.class.getName()));
+
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader indexClassLoader = new URLClassLoader(new URL[]{indexRoot.toUri().toURL()}, originalClassLoader)) {
+            Thread.currentThread().setContextClassLoader(indexClassLoader);
+
+            var beanAnnotationScanner = new BeanAnnotationScanner(validator, mapper, TEST_PACKAGE_TO_SCAN);
+            beanAnnotationScanner.scan();
+
+            // test classes root carries no index, so the rest of beans is found by scan
+            verify(validator).validateBeanClasses(Set.of(TestBean1.class, TestBean2.class, TestBean3.class,
+                    TestBean4.class, TestBean5.class));
+            verify(mapper, times(5)).mapToBeanDefinition(any(Class.class));
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    @Test
+    @DisplayName("Maps bean classes cached on previous scan without validating them again")
+    void testScanWithCache(@TempDir Path cacheDirectory) {
+        var scanResult = new ClasspathScanResult(TEST_PACKAGE_TO_SCAN);
+        var realMapper = new BeanDefinitionMapper();
+        var cache = new BeanDefinitionCache(cacheDirectory, scanResult.getClassLoader(), TEST_PACKAGE_TO_SCAN);
+        new BeanAnnotationScanner(validator, realMapper, scanResult, cache).scan();
+        cache.save();
+        verify(validator, times(1)).validateBeanClasses(anySet());
+
+        var nextCache = new BeanDefinitionCache(cacheDirectory, scanResult.getClassLoader(), TEST_PACKAGE_TO_SCAN);
+        List<BeanDefinition> scannedDefinitions = new BeanAnnotationScanner(validator, realMapper, scanResult, nextCache).scan();
+
+        verify(validator, times(1)).validateBeanClasses(anySet());
+        assertThat(scannedDefinitions)
+                .hasSize(5)
+                .allSatisfy(bd -> assertThat(bd.type()).isIn(TestBean1.class, TestBean2.class, TestBean3.class,
+                        TestBean4.class, TestBean5.class));
+    }
+
     private BeanDefinition prepareBeanDefinition(Class<?> beanClass) {
         BeanDefinition beanDefinition = mock(BeanDefinition.class);
         doReturn(beanClass).when(beanDefinition).type();
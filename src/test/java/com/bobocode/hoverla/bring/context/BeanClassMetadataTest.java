@@ -0,0 +1,127 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Inject;
+import com.bobocode.hoverla.bring.test.subject.bean.TestPrimaryBean;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean1;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean2;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean3;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean4;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean5;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BeanClassMetadataTest {
+
+    @Test
+    @DisplayName("Metadata is computed once per class and shared across threads")
+    void metadataIsComputedOnce() {
+        List<BeanClassMetadata> metadata = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> BeanClassMetadata.of(TestBean3.class)))
+                .map(CompletableFuture::join)
+                .toList();
+
+        assertThat(metadata).allSatisfy(m -> assertThat(m).isSameAs(BeanClassMetadata.of(TestBean3.class)));
+    }
+
+    @Test
+    @DisplayName("Released metadata is computed again on next request")
+    void releasedMetadataIsComputedAgain() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBean4.class);
+
+        BeanClassMetadata.release(TestBean4.class);
+
+        assertThat(BeanClassMetadata.of(TestBean4.class))
+                .isNotSameAs(metadata)
+                .extracting(BeanClassMetadata::beanName)
+                .isEqualTo(metadata.beanName());
+    }
+
+    @Test
+    @DisplayName("Picks @Inject constructor and collects @Inject fields")
+    void resolvesInjectionPoints() throws NoSuchMethodException {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBean3.class);
+
+        assertThat(metadata.beanName()).isEqualTo(TestBean3.class.getName());
+        assertThat(metadata.primary()).isFalse();
+        assertThat(metadata.constructor()).isEqualTo(TestBean3.class.getConstructor(TestBean1.class));
+        assertThat(metadata.injectConstructors()).containsExactly(metadata.constructor());
+        assertThat(metadata.constructorParameters())
+                .extracting(InjectionPoint::type, InjectionPoint::qualified, InjectionPoint::field)
+                .containsExactly(tuple(TestBean1.class, false, null));
+        assertThat(metadata.injectionFields())
+                .extracting(InjectionPoint::name, InjectionPoint::type)
+                .containsExactly(tuple("testBean2", TestBean2.class));
+    }
+
+    @Test
+    @DisplayName("Reads qualifiers of constructor parameters and fields")
+    void resolvesQualifiers() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBean5.class);
+
+        assertThat(metadata.injectConstructors()).isEmpty();
+        assertThat(metadata.constructorParameters())
+                .extracting(InjectionPoint::qualifier)
+                .containsExactly("bean1");
+        assertThat(metadata.injectionFields())
+                .extracting(InjectionPoint::qualifier, InjectionPoint::type)
+                .containsExactly(tuple("bean4", TestBean4.class));
+    }
+
+    @Test
+    @DisplayName("Resolves element types of parameterized collections only")
+    void resolvesCollectionElementTypes() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(CollectionBean.class);
+
+        assertThat(metadata.constructorParameters())
+                .extracting(InjectionPoint::collection, InjectionPoint::collectionElementType)
+                .containsExactly(
+                        tuple(true, TestBean1.class),
+                        tuple(true, null),
+                        tuple(true, null),
+                        tuple(false, null));
+    }
+
+    @Test
+    @DisplayName("Reads and writes private @Inject fields through cached accessors")
+    void accessesInjectionFields() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBean3.class);
+        var testBean1 = new TestBean1("name", 1, 1.0);
+        var bean = new TestBean3(testBean1);
+        var dependency = new TestBean2(testBean1);
+
+        FieldAccessor accessor = metadata.fieldAccessors().get(0);
+        assertThat(accessor.get(bean)).isNull();
+        accessor.set(bean, dependency);
+
+        assertThat(accessor.injectionPoint()).isEqualTo(metadata.injectionFields().get(0));
+        assertThat(accessor.get(bean)).isSameAs(dependency);
+        assertThat(metadata.fieldAccessors()).isSameAs(metadata.fieldAccessors());
+    }
+
+    @Test
+    @DisplayName("Reads bean name and primary flag from @Bean")
+    void resolvesBeanAttributes() {
+        assertThat(BeanClassMetadata.of(TestBean1.class).beanName()).isEqualTo("testBean1");
+        assertThat(BeanClassMetadata.of(TestPrimaryBean.class).primary()).isTrue();
+    }
+
+    @Bean
+    @SuppressWarnings({"rawtypes", "unused"})
+    public static class CollectionBean {
+
+        @Inject
+        public CollectionBean(List<TestBean1> beans, Set rawBeans, Collection<? extends TestBean1> wildcardBeans,
+                              TestBean2 bean) {
+        }
+    }
+}
@@ -43,6 +43,7 @@ class BeanConfigurationClassScannerTest {
         List<BeanDefinition> beanDefinitions = scanner.scan();
 
         verify(validator, never()).validate(any());
+        verify(validator, never()).validateAll(any());
         verify(mapper, never()).mapToBeanDefinition(any(), any());
         assertThat(beanDefinitions).isEmpty();
     }
@@ -55,6 +56,7 @@ class BeanConfigurationClassScannerTest {
         List<BeanDefinition> beanDefinitions = scanner.scan();
 
         verify(validator, never()).validate(any());
+        verify(validator, never()).validateAll(any());
         verify(mapper, never()).mapToBeanDefinition(any(), any());
         assertThat(beanDefinitions).isEmpty();
     }
@@ -17,9 +17,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -101,4 +104,19 @@ class BeanConfigurationClassValidatorTest {
                 .isInstanceOf(BeanConfigValidationException.class)
                 .hasMessageContaining(exceptionMsg);
     }
+
+    @Test
+    @DisplayName("Parallel validation fails with the same exception as sequential one - for the first invalid class")
+    void parallelValidationReportsFirstInvalidClass() {
+        List<Class<?>> configClasses = List.of(ValidTestBeanConfig.class, InvalidMethodsTestBeanConfig.class,
+                AbstractTestBeanConfig.class, EnumTestBeanConfig.class);
+
+        Throwable sequentialFailure = catchThrowable(() -> validator.validateAll(configClasses));
+        Throwable parallelFailure = catchThrowable(() -> new BeanConfigurationClassValidator(4).validateAll(configClasses));
+
+        assertThat(parallelFailure)
+                .isInstanceOf(BeanConfigValidationException.class)
+                .hasMessage(sequentialFailure.getMessage())
+                .hasMessageStartingWith(InvalidMethodsTestBeanConfig.class.getName());
+    }
 }
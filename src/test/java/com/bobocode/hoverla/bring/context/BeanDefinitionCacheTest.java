@@ -0,0 +1,131 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.index.IndexedDependency;
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithInjectFieldsAndConstructor;
+import com.bobocode.hoverla.bring.test.subject.config.TestBeanConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BeanDefinitionCacheTest {
+
+    private static final String[] PACKAGES_TO_SCAN = {"com.bobocode.hoverla.bring.test.subject"};
+
+    private static final ClassLoader CLASS_LOADER = BeanDefinitionCacheTest.class.getClassLoader();
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    @DisplayName("Reads stored bean class metadata while class file is the same")
+    void readsStoredBeanClass() {
+        var cache = new BeanDefinitionCache(cacheDirectory.resolve("nested"), CLASS_LOADER, PACKAGES_TO_SCAN);
+        cache.putBean(new ClassBasedBeanDefinition(TestBeanWithInjectFieldsAndConstructor.class));
+        cache.save();
+
+        IndexedClass indexedClass = new BeanDefinitionCache(cacheDirectory.resolve("nested"), CLASS_LOADER, PACKAGES_TO_SCAN)
+                .get(TestBeanWithInjectFieldsAndConstructor.class.getName())
+                .orElseThrow();
+
+        assertThat(indexedClass.bean()).isTrue();
+        assertThat(indexedClass.beanName()).isEqualTo(TestBeanWithInjectFieldsAndConstructor.class.getName());
+        assertThat(indexedClass.primary()).isFalse();
+        assertThat(indexedClass.dependencies()).containsExactlyInAnyOrder(
+                new IndexedDependency(String.class.getName(), String.class.getName(), false, null),
+                new IndexedDependency("int", Integer.class.getName(), true, null),
+                new IndexedDependency(Double.class.getName(), Double.class.getName(), false, null));
+    }
+
+    @Test
+    @DisplayName("Reads stored @Bean methods of configuration class while class file is the same")
+    void readsStoredConfigurationClass() throws NoSuchMethodException {
+        var cache = new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN);
+        cache.putConfiguration(TestBeanConfig.class, List.of(
+                TestBeanConfig.class.getMethod("beanWithNoNameInAnnotation"),
+                TestBeanConfig.class.getMethod("beanWithDependencies", int.class, String.class)));
+        cache.save();
+
+        IndexedClass indexedClass = new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN)
+                .get(TestBeanConfig.class.getName())
+                .orElseThrow();
+
+        assertThat(indexedClass.configuration()).isTrue();
+        assertThat(indexedClass.beanMethods()).extracting(IndexedBeanMethod::name, IndexedBeanMethod::parameterTypeNames)
+                .containsExactly(
+                        tuple("beanWithNoNameInAnnotation", List.of()),
+                        tuple("beanWithDependencies", List.of("int", String.class.getName())));
+    }
+
+    @Test
+    @DisplayName("Treats metadata stored for a different class file or packages as missing")
+    void ignoresOutdatedMetadata(@TempDir Path recompiledRoot) throws IOException {
+        String className = TestBeanWithInjectFieldsAndConstructor.class.getName();
+        var cache = new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN);
+        cache.putBean(new ClassBasedBeanDefinition(TestBeanWithInjectFieldsAndConstructor.class));
+        cache.save();
+
+        try (var recompiledClassLoader = classLoaderOf(recompiledRoot, className, "recompiled".getBytes(UTF_8))) {
+            assertThat(new BeanDefinitionCache(cacheDirectory, recompiledClassLoader, PACKAGES_TO_SCAN).get(className)).isEmpty();
+        }
+        assertThat(new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, "com.other").get(className)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Compares class file content when its classpath root has changed")
+    void readsMetadataOfUnchangedClassFileInChangedRoot(@TempDir Path copiedRoot) throws IOException {
+        String className = TestBeanWithInjectFieldsAndConstructor.class.getName();
+        var cache = new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN);
+        cache.putBean(new ClassBasedBeanDefinition(TestBeanWithInjectFieldsAndConstructor.class));
+        cache.save();
+
+        byte[] classFile;
+        try (InputStream classFileStream = CLASS_LOADER.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            classFile = classFileStream.readAllBytes();
+        }
+        try (var copiedClassLoader = classLoaderOf(copiedRoot, className, classFile)) {
+            assertThat(new BeanDefinitionCache(cacheDirectory, copiedClassLoader, PACKAGES_TO_SCAN).get(className)).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("Treats missing or malformed cache file as missing metadata")
+    void ignoresMalformedCacheFile() throws IOException {
+        String className = TestBeanWithInjectFieldsAndConstructor.class.getName();
+        assertThat(new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN).get(className)).isEmpty();
+
+        var cache = new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN);
+        cache.putBean(new ClassBasedBeanDefinition(TestBeanWithInjectFieldsAndConstructor.class));
+        cache.save();
+        try (var cacheFiles = Files.list(cacheDirectory)) {
+            Path cacheFile = cacheFiles.findFirst().orElseThrow();
+            Files.writeString(cacheFile, "malformed", StandardOpenOption.APPEND);
+        }
+
+        assertThat(new BeanDefinitionCache(cacheDirectory, CLASS_LOADER, PACKAGES_TO_SCAN).get(className)).isEmpty();
+    }
+
+    /**
+     * @return class loader that sees the only class file written into the given root
+     */
+    private static URLClassLoader classLoaderOf(Path root, String className, byte[] classFile) throws IOException {
+        Path classFilePath = root.resolve(className.replace('.', '/') + ".class");
+        Files.createDirectories(classFilePath.getParent());
+        Files.write(classFilePath, classFile);
+        return new URLClassLoader(new URL[]{root.toUri().toURL()}, null);
+    }
+}
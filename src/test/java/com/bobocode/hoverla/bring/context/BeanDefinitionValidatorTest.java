@@ -1,5 +1,7 @@
 package com.bobocode.hoverla.bring.context;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 import com.bobocode.hoverla.bring.exception.BeanValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,8 +10,12 @@ import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -107,6 +115,10 @@ class BeanDefinitionValidatorTest {
 
         doReturn(Integer.class).when(beanDef1).type();
 
+        doCallRealMethod().when(beanDef1).typeName();
+
+        doCallRealMethod().when(beanDef1).assignableTypeNames();
+
         assertExceptionAndMessage(
                 expectedMessage.formatted(String.class.getName(), Integer.class.getName()),
                 () -> beanDefinitionValidator.validate(beanDefinitionList));
@@ -136,7 +148,6 @@ class BeanDefinitionValidatorTest {
     void circularDependencyClosed() {
         String expectedMessage = """
                 Oops. Circular dependency occurs with bean: beanDef3 - java.lang.Long
-                beanDef1 depends on: [beanDef2]
                 beanDef2 depends on: [beanDef3]
                 beanDef3 depends on: [beanDef2]""";
         BeanDefinition beanDef1 = prepareDefinition(BD1, Long.class);
@@ -155,7 +166,6 @@ class BeanDefinitionValidatorTest {
     void circularDependencyExtended() {
         String expectedMessage = """
                 Oops. Circular dependency occurs with bean: beanDef4 - java.lang.Byte
-                beanDef1 depends on: [beanDef2]
                 beanDef2 depends on: [beanDef3]
                 beanDef3 depends on: [beanDef4]
                 beanDef4 depends on: [beanDef2, beanDef1]""";
@@ -277,6 +287,20 @@ class BeanDefinitionValidatorTest {
         assertDoesNotThrow(() -> beanDefinitionValidator.validate(beanDefinitionList));
     }
 
+    @Test
+    @DisplayName("Finds dependencies by type of superclass or interface of the bean")
+    void dependencyFoundBySupertype() {
+        BeanDefinition bean = prepareDefinition("bean", Object.class);
+        BeanDefinition integerBean = prepareDefinition("integerBean", Integer.class);
+        BeanDefinition stringBean = prepareDefinition("stringBean", String.class);
+        bean.dependencies().put(Number.class.getName(), new BeanDependency(Number.class.getName(), Number.class, false));
+        bean.dependencies().put(CharSequence.class.getName(),
+                new BeanDependency(CharSequence.class.getName(), CharSequence.class, false));
+        beanDefinitionList = List.of(bean, integerBean, stringBean);
+
+        assertDoesNotThrow(() -> beanDefinitionValidator.validate(beanDefinitionList));
+    }
+
     @Test
     @DisplayName("Fails on more than one primary bean of the same type")
     void moreThanOnePrimaryBean() {
@@ -294,6 +318,51 @@ class BeanDefinitionValidatorTest {
                 () -> beanDefinitionValidator.validate(beanDefinitionList));
     }
 
+    @Test
+    @DisplayName("Validates deep and wide graph of 50k beans in linear time")
+    void validationOfLargeGraph() {
+        List<BeanDefinition> definitions = prepareSyntheticGraph(50_000);
+
+        withValidatorLogLevel(Level.INFO, () -> {
+            beanDefinitionValidator.validate(definitions); // warm-up, excludes JIT compilation from the measurement
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> beanDefinitionValidator.validate(definitions));
+        });
+    }
+
+    @Test
+    @DisplayName("Fails on circular dependency closing a chain of 50k beans in linear time")
+    void circularDependencyInLargeGraph() {
+        List<BeanDefinition> definitions = prepareSyntheticGraph(50_000);
+        withValidatorLogLevel(Level.INFO, () -> beanDefinitionValidator.validate(definitions)); // warm-up
+        BeanDefinition first = definitions.get(0);
+        BeanDefinition last = definitions.get(definitions.size() - 1);
+        last.dependencies().put(first.name(), new BeanDependency(first.name(), first.type(), false));
+
+        withValidatorLogLevel(Level.INFO, () -> assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThatThrownBy(() -> beanDefinitionValidator.validate(definitions))
+                        .isInstanceOf(BeanValidationException.class)
+                        .hasMessageStartingWith("Oops. Circular dependency occurs with bean: bean49999 - java.lang.Object\n"
+                                + "bean0 depends on: ")
+                        .hasMessageEndingWith("bean49999 depends on: [bean0]")));
+    }
+
+    @Test
+    @DisplayName("Lists only beans of the cycle closed deep in a chain of 50k beans")
+    void circularDependencyDeepInLargeGraph() {
+        List<BeanDefinition> definitions = prepareSyntheticGraph(50_000);
+        BeanDefinition cycleStart = definitions.get(49_997);
+        BeanDefinition last = definitions.get(definitions.size() - 1);
+        last.dependencies().put(cycleStart.name(), new BeanDependency(cycleStart.name(), cycleStart.type(), false));
+
+        String expectedMessage = """
+                Oops. Circular dependency occurs with bean: bean49999 - java.lang.Object
+                bean49997 depends on: [bean49998]
+                bean49998 depends on: [bean49999]
+                bean49999 depends on: [bean49997]""";
+        withValidatorLogLevel(Level.INFO,
+                () -> assertExceptionAndMessage(expectedMessage, () -> beanDefinitionValidator.validate(definitions)));
+    }
+
     private void assertExceptionAndMessage(String expectedMessage, Executable executable) {
         BeanValidationException ex = assertThrows(BeanValidationException.class, executable);
         assertEquals(expectedMessage, ex.getMessage());
@@ -303,6 +372,8 @@ class BeanDefinitionValidatorTest {
                                              BeanDefinition... beanDefinitions) {
         BeanDefinition beanDefinition = mock(BeanDefinition.class);
         doReturn(type).when(beanDefinition).type();
+        doCallRealMethod().when(beanDefinition).typeName();
+        doCallRealMethod().when(beanDefinition).assignableTypeNames();
         when(beanDefinition.name()).thenReturn(beanDefinitionName);
 
         Map<String, BeanDependency> dependencies = new HashMap<>();
@@ -318,4 +389,64 @@ class BeanDefinitionValidatorTest {
         boolean qualified = beanDefinition.name().equals(beanDefinition.type().getName());
         return new BeanDependency(beanDefinition.name(), beanDefinition.type(), qualified);
     }
+
+    /**
+     * Chain of beans, where each one also depends on a bean twice as far from the start of the chain
+     */
+    private List<BeanDefinition> prepareSyntheticGraph(int size) {
+        List<BeanDefinition> definitions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, BeanDependency> dependencies = new LinkedHashMap<>();
+            for (int dependencyIndex : new int[]{i + 1, 2 * i + 2}) {
+                if (dependencyIndex < size) {
+                    String dependencyName = "bean" + dependencyIndex;
+                    dependencies.put(dependencyName, new BeanDependency(dependencyName, Object.class, false));
+                }
+            }
+            definitions.add(new SyntheticBeanDefinition("bean" + i, dependencies));
+        }
+        return definitions;
+    }
+
+    /**
+     * Applies the level to loggers of the validator and the dependency resolver it delegates to
+     */
+    private void withValidatorLogLevel(Level level, Runnable runnable) {
+        Logger validatorLogger = (Logger) LoggerFactory.getLogger(BeanDefinitionValidator.class);
+        Logger resolverLogger = (Logger) LoggerFactory.getLogger(BeanDependencyResolver.class);
+        Level previousValidatorLevel = validatorLogger.getLevel();
+        Level previousResolverLevel = resolverLogger.getLevel();
+        validatorLogger.setLevel(level);
+        resolverLogger.setLevel(level);
+        try {
+            runnable.run();
+        } finally {
+            validatorLogger.setLevel(previousValidatorLevel);
+            resolverLogger.setLevel(previousResolverLevel);
+        }
+    }
+
+    private static class SyntheticBeanDefinition extends AbstractBeanDefinition {
+
+        SyntheticBeanDefinition(String name, Map<String, BeanDependency> dependencies) {
+            this.name = name;
+            this.type = Object.class;
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        public void instantiate(BeanDefinition... dependencies) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isCollection() {
+            return false;
+        }
+
+        @Override
+        public Class<?> collectionGenericType() {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,169 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.exception.BeanValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BeanDependencyResolverTest {
+
+    private BeanDependencyResolver dependencyResolver;
+
+    @BeforeEach
+    void setUp() {
+        dependencyResolver = new BeanDependencyResolver();
+    }
+
+    @Test
+    @DisplayName("Resolves dependency with default name to the bean of its type, keeping the declared name")
+    void resolvesDefaultNameByType() {
+        BeanDefinition dependencyDefinition = prepareDefinition("int1", Integer.class, emptyMap());
+        BeanDependency dependency = new BeanDependency(Integer.class.getName(), Integer.class, false);
+        BeanDefinition dependentDefinition = prepareDefinition("bean", Object.class,
+                Map.of(dependency.getName(), dependency));
+
+        BeanGraph graph = dependencyResolver.resolve(List.of(dependencyDefinition, dependentDefinition));
+
+        assertThat(graph.dependenciesOf(dependentDefinition))
+                .containsExactly(Map.entry(Integer.class.getName(), dependencyDefinition));
+        assertThat(dependentDefinition.dependencies()).containsOnlyKeys(Integer.class.getName());
+    }
+
+    @Test
+    @DisplayName("Resolves dependency with default name to primary bean when there are more than 1 bean of the same type")
+    void resolvesDefaultNameToPrimaryBean() {
+        BeanDefinition nonPrimaryDependency = prepareDefinition("int1", Integer.class, emptyMap());
+
+        BeanDefinition primaryDependency = prepareDefinition("int2", Integer.class, emptyMap());
+        when(primaryDependency.isPrimary()).thenReturn(true);
+
+        BeanDependency dependency = new BeanDependency(Integer.class.getName(), Integer.class, false);
+        BeanDefinition dependent = prepareDefinition("bean", Object.class, Map.of(dependency.getName(), dependency));
+
+        BeanGraph graph = dependencyResolver.resolve(List.of(nonPrimaryDependency, primaryDependency, dependent));
+
+        assertThat(graph.dependenciesOf(dependent)).containsExactly(Map.entry(Integer.class.getName(), primaryDependency));
+    }
+
+    @Test
+    @DisplayName("Resolves dependency to the bean of exactly its type rather than to primary bean of its subtype")
+    void resolvesExactTypeBeforePrimarySubtype() {
+        BeanDefinition exactTypeDependency = prepareDefinition("number", Number.class, emptyMap());
+
+        BeanDefinition primarySubtypeDependency = prepareDefinition("int1", Integer.class, emptyMap());
+        when(primarySubtypeDependency.isPrimary()).thenReturn(true);
+
+        BeanDependency dependency = new BeanDependency(Number.class.getName(), Number.class, false);
+        BeanDefinition dependent = prepareDefinition("bean", Object.class, Map.of(dependency.getName(), dependency));
+
+        BeanGraph graph = dependencyResolver.resolve(List.of(exactTypeDependency, primarySubtypeDependency, dependent));
+
+        assertThat(graph.dependenciesOf(dependent)).containsExactly(Map.entry(Number.class.getName(), exactTypeDependency));
+    }
+
+    @Test
+    @DisplayName("Resolves dependency to other bean of its type even if the bean itself is primary one")
+    void doesNotResolveDependencyToItsRoot() {
+        BeanDefinition otherDependency = prepareDefinition("int1", Integer.class, emptyMap());
+
+        BeanDependency dependency = new BeanDependency(Integer.class.getName(), Integer.class, false);
+        BeanDefinition dependent = prepareDefinition("int2", Integer.class, Map.of(dependency.getName(), dependency));
+        when(dependent.isPrimary()).thenReturn(true);
+
+        BeanGraph graph = dependencyResolver.resolve(List.of(otherDependency, dependent));
+
+        assertThat(graph.dependenciesOf(dependent)).containsExactly(Map.entry(Integer.class.getName(), otherDependency));
+    }
+
+    @Test
+    @DisplayName("Counts the bean itself as a candidate, failing when there is no primary one among them")
+    void countsRootAsCandidate() {
+        BeanDefinition otherDependency = prepareDefinition("int1", Integer.class, emptyMap());
+
+        BeanDependency dependency = new BeanDependency(Integer.class.getName(), Integer.class, false);
+        BeanDefinition dependent = prepareDefinition("int2", Integer.class, Map.of(dependency.getName(), dependency));
+
+        List<BeanDefinition> definitions = List.of(otherDependency, dependent);
+        assertThatThrownBy(() -> dependencyResolver.resolve(definitions))
+                .isInstanceOf(BeanValidationException.class)
+                .hasMessage("Found more than 1 bean with type java.lang.Integer in context");
+    }
+
+    @Test
+    @DisplayName("Fails when the bean itself is the only candidate for its dependency")
+    void failsWhenRootIsSingleCandidate() {
+        BeanDependency dependency = new BeanDependency(Integer.class.getName(), Integer.class, false);
+        BeanDefinition dependent = prepareDefinition("int1", Integer.class, Map.of(dependency.getName(), dependency));
+
+        List<BeanDefinition> definitions = List.of(dependent);
+        assertThatThrownBy(() -> dependencyResolver.resolve(definitions))
+                .isInstanceOf(BeanValidationException.class)
+                .hasMessage("Bean `int1` is the only bean of type java.lang.Integer to be injected into itself");
+    }
+
+    @Test
+    @DisplayName("Resolves not qualified collection to all beans of its element type")
+    void resolvesCollectionToBeansOfElementType() {
+        BeanDefinition first = prepareDefinition("first", Number.class, emptyMap());
+        BeanDefinition second = prepareDefinition("second", Integer.class, emptyMap());
+
+        BeanDependency dependency = new BeanDependency("numbers", List.class, false, true, Number.class);
+        BeanDefinition dependent = prepareDefinition("bean", Object.class, Map.of(dependency.getName(), dependency));
+
+        BeanGraph graph = dependencyResolver.resolve(List.of(first, second, dependent));
+
+        BeanDefinition collection = graph.dependenciesOf(dependent).get("numbers");
+        assertThat(collection).isInstanceOf(CollectionBeanDefinition.class);
+        assertThat(graph.requiredBeans(dependent)).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("Collection of element type of its own bean is reported as circular dependency")
+    void collectionContainingItsRootIsCircular() {
+        BeanDefinition first = prepareDefinition("first", Number.class, emptyMap());
+
+        BeanDependency dependency = new BeanDependency("numbers", List.class, false, true, Number.class);
+        BeanDefinition dependent = prepareDefinition("bean", Number.class, Map.of(dependency.getName(), dependency));
+
+        BeanGraph graph = dependencyResolver.resolve(List.of(first, dependent));
+
+        assertThat(graph.requiredBeans(dependent)).containsExactly(first, dependent);
+        assertThatThrownBy(() -> BeanDefinitionValidator.sort(graph))
+                .isInstanceOf(BeanValidationException.class)
+                .hasMessageStartingWith("Oops. Circular dependency occurs with bean: bean");
+    }
+
+    @Test
+    @DisplayName("Fails when there are no beans of collection element type")
+    void failsOnEmptyCollection() {
+        BeanDependency dependency = new BeanDependency("numbers", List.class, false, true, Number.class);
+        BeanDefinition dependent = prepareDefinition("bean", Object.class, Map.of(dependency.getName(), dependency));
+
+        List<BeanDefinition> definitions = List.of(dependent);
+        assertThatThrownBy(() -> dependencyResolver.resolve(definitions))
+                .isInstanceOf(BeanValidationException.class)
+                .hasMessage("No bean candidates found to be injected in Collection dependency numbers "
+                        + "with generic type java.lang.Number");
+    }
+
+    private BeanDefinition prepareDefinition(String beanName, Class<?> type, Map<String, BeanDependency> dependencyMap) {
+        BeanDefinition beanDefinition = mock(BeanDefinition.class);
+        doReturn(type).when(beanDefinition).type();
+        doCallRealMethod().when(beanDefinition).typeName();
+        doCallRealMethod().when(beanDefinition).assignableTypeNames();
+        when(beanDefinition.name()).thenReturn(beanName);
+        when(beanDefinition.dependencies()).thenReturn(dependencyMap);
+        return beanDefinition;
+    }
+}
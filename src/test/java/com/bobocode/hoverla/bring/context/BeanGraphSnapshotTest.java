@@ -0,0 +1,79 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class BeanGraphSnapshotTest {
+
+    private static final String PACKAGE_TO_SCAN = "com.example";
+
+    private static final BeanScanner SCANNER = () -> List.of(
+            new ClassBasedBeanDefinition(Service.class), new ClassBasedBeanDefinition(Repository.class));
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @Test
+    @DisplayName("Skips validation and dependency resolution when snapshot of the same classpath is present")
+    void restoresGraphOfSameClasspath() {
+        createContext(snapshot("fingerprint"), new BeanDefinitionValidator());
+
+        BeanDefinitionValidator validator = mock(BeanDefinitionValidator.class);
+        ApplicationContext context = createContext(snapshot("fingerprint"), validator);
+
+        verify(validator, never()).validate(anyList());
+        assertThat(context.getBean(Service.class).repository()).isSameAs(context.getBean("repository"));
+    }
+
+    @Test
+    @DisplayName("Validates and resolves definitions when classpath has changed or snapshot is missing")
+    void ignoresSnapshotOfDifferentClasspath() {
+        createContext(snapshot("fingerprint"), new BeanDefinitionValidator());
+
+        BeanDefinitionValidator validator = spy(new BeanDefinitionValidator());
+        ApplicationContext context = createContext(snapshot("changed"), validator);
+
+        verify(validator).validate(anyList());
+        assertThat(context.getBean(Service.class).repository()).isSameAs(context.getBean("repository"));
+    }
+
+    @Test
+    @DisplayName("Does not restore snapshot which does not match scanned definitions")
+    void ignoresNotMatchingSnapshot() {
+        createContext(snapshot("fingerprint"), new BeanDefinitionValidator());
+
+        var container = new BeanDefinitionsContainer(List.of(new ClassBasedBeanDefinition(Repository.class)));
+
+        assertThat(snapshot("fingerprint").restore(container)).isEmpty();
+    }
+
+    private ApplicationContext createContext(BeanGraphSnapshot snapshot, BeanDefinitionValidator validator) {
+        return new ApplicationContextImpl(List.of(SCANNER), validator, new BeanInitializer(),
+                ApplicationContextImpl.Options.DEFAULTS.withSnapshot(snapshot));
+    }
+
+    private BeanGraphSnapshot snapshot(String fingerprint) {
+        return new BeanGraphSnapshot(snapshotDirectory, () -> Optional.of(fingerprint), PACKAGE_TO_SCAN);
+    }
+
+    @Bean("repository")
+    public static class Repository {
+    }
+
+    @Bean
+    public record Service(Repository repository) {
+    }
+}
@@ -5,14 +5,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -27,12 +29,10 @@ class BeanInitializerTest {
     private static final String BD4 = "beanDef4";
 
     private BeanInitializer beanInitializer;
-    private BeanDependencyNameResolver dependencyNameResolver;
 
     @BeforeEach
     void setUp() {
-        dependencyNameResolver = mock(BeanDependencyNameResolver.class);
-        beanInitializer = new BeanInitializer(dependencyNameResolver);
+        beanInitializer = new BeanInitializer();
     }
 
     @Test
@@ -45,7 +45,7 @@ class BeanInitializerTest {
         BeanDefinition beanDef4 = prepareDefinition(BD4);
 
         List<BeanDefinition> beans = List.of(beanDef1, beanDef2, beanDef3, beanDef4);
-        BeanDefinitionsContainer container = new BeanDefinitionsContainer(beans);
+        BeanGraph graph = new BeanDependencyResolver().resolve(beans);
 
         Map<BeanDefinition, BeanDefinition[]> expectedInvocationArgs = Map.of(
                 beanDef1, new BeanDefinition[]{beanDef2, beanDef3},
@@ -55,18 +55,18 @@ class BeanInitializerTest {
         );
 
         // When
-        beanInitializer.initialize(container);
+        beanInitializer.initialize(graph);
 
         // Then
-        verify(dependencyNameResolver).resolveDependencyNames(container);
+        verify(beanDef4, times(1)).instantiate();
+        for (BeanDefinition beanDefinition : List.of(beanDef1, beanDef2, beanDef3)) {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<String, BeanDefinition>> dependenciesCaptor = ArgumentCaptor.forClass(Map.class);
 
-        for (BeanDefinition beanDefinition : container.getBeanDefinitions()) {
-            ArgumentCaptor<BeanDefinition> definitionCaptor = ArgumentCaptor.forClass(BeanDefinition.class);
-
-            verify(beanDefinition, times(1)).instantiate(definitionCaptor.capture());
+            verify(beanDefinition, times(1)).instantiate(dependenciesCaptor.capture());
 
             BeanDefinition[] expectedDependencies = expectedInvocationArgs.get(beanDefinition);
-            List<BeanDefinition> actualDependencies = definitionCaptor.getAllValues();
+            Collection<BeanDefinition> actualDependencies = dependenciesCaptor.getValue().values();
 
             assertThat(actualDependencies).hasSize(expectedDependencies.length);
             assertThat(actualDependencies).containsExactlyInAnyOrder(expectedDependencies);
@@ -76,6 +76,8 @@ class BeanInitializerTest {
     private BeanDefinition prepareDefinition(String beanDefinitionName, String... dependencyNames) {
         BeanDefinition beanDefinition = mock(BeanDefinition.class);
         doReturn(BeanDefinition.class).when(beanDefinition).type();
+        doCallRealMethod().when(beanDefinition).typeName();
+        doCallRealMethod().when(beanDefinition).assignableTypeNames();
         when(beanDefinition.name()).thenReturn(beanDefinitionName);
 
         Map<String, BeanDependency> dependencies = new HashMap<>();
@@ -87,7 +89,8 @@ class BeanInitializerTest {
         // isInstantiated() method of BeanDefinition should return true only when instantiate(...) method was called.
         // To mock such behavior we basically say: "when instantiate() -> then isInstantiated() should return true"
         Supplier<?> instantiateAnswerSupplier = () -> when(beanDefinition.isInstantiated()).thenReturn(true);
-        doAnswer(ignore -> instantiateAnswerSupplier.get()).when(beanDefinition).instantiate(any());
+        doAnswer(ignore -> instantiateAnswerSupplier.get()).when(beanDefinition).instantiate();
+        doAnswer(ignore -> instantiateAnswerSupplier.get()).when(beanDefinition).instantiate(anyMap());
 
         return beanDefinition;
     }
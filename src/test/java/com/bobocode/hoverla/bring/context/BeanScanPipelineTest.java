@@ -0,0 +1,155 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.exception.BeanClassValidationException;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean1;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean2;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean3;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean4;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean5;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+class BeanScanPipelineTest {
+
+    private static final String TEST_PACKAGE_TO_SCAN = "com.bobocode.hoverla.bring.test.subject.bean.util";
+
+    @Test
+    @DisplayName("Streams discovered classes through validation and mapping, definitions are ordered by class names")
+    void runsStagedScanner() {
+        var scanner = new BeanAnnotationScanner(new BeanAnnotationClassValidator(), new BeanDefinitionMapper(),
+                TEST_PACKAGE_TO_SCAN);
+
+        List<BeanDefinition> beanDefinitions = new BeanScanPipeline(4).run(List.of(scanner));
+
+        assertThat(beanDefinitions)
+                .extracting(BeanDefinition::type)
+                .containsExactly(TestBean1.class, TestBean2.class, TestBean3.class, TestBean4.class, TestBean5.class);
+    }
+
+    @Test
+    @DisplayName("Runs not staged scanners as a whole, definitions are grouped by scanners in the given order")
+    void runsNotStagedScanners() {
+        BeanDefinition first = mock(BeanDefinition.class);
+        BeanDefinition second = mock(BeanDefinition.class);
+        BeanScanner stagedScanner = new CountingScanner(3);
+        BeanScanner firstScanner = mock(BeanScanner.class);
+        when(firstScanner.scan()).thenReturn(List.of(first));
+        BeanScanner secondScanner = mock(BeanScanner.class);
+        when(secondScanner.scan()).thenReturn(List.of(second));
+
+        List<BeanDefinition> beanDefinitions = new BeanScanPipeline(2)
+                .run(List.of(firstScanner, stagedScanner, secondScanner));
+
+        assertThat(beanDefinitions)
+                .hasSize(5)
+                .startsWith(first)
+                .endsWith(second);
+    }
+
+    @Test
+    @DisplayName("Many candidates pass through queues of a single element without blocking the pipeline")
+    void passesCandidatesThroughBoundedQueues() {
+        List<BeanDefinition> beanDefinitions = new BeanScanPipeline(3, 1)
+                .run(List.of(new CountingScanner(1_000), new CountingScanner(10)));
+
+        assertThat(beanDefinitions).hasSize(1_010);
+    }
+
+    @Test
+    @DisplayName("Validation failure stops the pipeline and is rethrown as is")
+    void rethrowsValidationFailure() {
+        var scanner = new CountingScanner(1_000) {
+            @Override
+            public Class<?> validate(String candidateName) {
+                if (candidateName.endsWith("0500")) {
+                    throw new BeanClassValidationException("Invalid candidate " + candidateName);
+                }
+                return super.validate(candidateName);
+            }
+        };
+        var pipeline = new BeanScanPipeline(2, 1);
+
+        assertThatThrownBy(() -> pipeline.run(List.of(scanner)))
+                .isInstanceOf(BeanClassValidationException.class)
+                .hasMessage("Invalid candidate candidate0500");
+    }
+
+    @Test
+    @DisplayName("Candidates with index metadata are mapped out of it, neither validated nor mapped from classes")
+    void mapsIndexedCandidates() {
+        BeanDefinition indexedDefinition = mock(BeanDefinition.class);
+        var scanner = new CountingScanner(100) {
+            @Override
+            public Optional<List<BeanDefinition>> mapIndexed(String candidateName) {
+                return candidateName.endsWith("0") ? Optional.of(List.of(indexedDefinition)) : Optional.empty();
+            }
+
+            @Override
+            public Class<?> validate(String candidateName) {
+                assertThat(candidateName).doesNotEndWith("0");
+                return super.validate(candidateName);
+            }
+        };
+
+        List<BeanDefinition> beanDefinitions = new BeanScanPipeline(2).run(List.of(scanner));
+
+        assertThat(beanDefinitions)
+                .hasSize(100)
+                .filteredOn(beanDefinition -> beanDefinition == indexedDefinition)
+                .hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Returns no definitions when there are no scanners")
+    void runsNoScanners() {
+        assertThat(new BeanScanPipeline(1).run(List.of())).isEmpty();
+    }
+
+    /**
+     * Discovers the given number of candidates and maps each of them to the same definition
+     */
+    private static class CountingScanner implements StagedBeanScanner {
+
+        private static final BeanDefinition BEAN_DEFINITION = mock(BeanDefinition.class);
+
+        private final int candidatesCount;
+
+        private CountingScanner(int candidatesCount) {
+            this.candidatesCount = candidatesCount;
+        }
+
+        @Override
+        public List<BeanDefinition> scan() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void discover(Consumer<String> candidateConsumer) {
+            IntStream.range(0, candidatesCount)
+                    .mapToObj("candidate%04d"::formatted)
+                    .forEach(candidateConsumer);
+        }
+
+        @Override
+        public Class<?> validate(String candidateName) {
+            return Object.class;
+        }
+
+        @Override
+        public List<BeanDefinition> map(Class<?> candidate) {
+            return List.of(BEAN_DEFINITION);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.bobocode.hoverla.bring.context;
 
 import com.bobocode.hoverla.bring.exception.BeanDependencyInjectionException;
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
 import com.bobocode.hoverla.bring.exception.BeanInstanceCreationException;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.index.IndexedDependency;
 import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithInjectConstructor;
 import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithInjectFields;
 import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithInjectFieldsAndConstructor;
@@ -13,6 +16,9 @@ import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean2;
 import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean3;
 import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean4;
 import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean5;
+import com.bobocode.hoverla.bring.test.subject.validation.bean.field.TestBeanWithFinalInjectFields;
+import com.bobocode.hoverla.bring.test.subject.validation.bean.field.TestBeanWithSameFieldQualifiers;
+import com.bobocode.hoverla.bring.test.subject.validation.bean.field.TestBeanWithStaticInjectFields;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,13 +27,24 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static com.bobocode.hoverla.bring.support.BeanDefinitionAssert.assertThat;
 import static java.lang.String.format;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -259,6 +276,173 @@ class ClassBasedBeanDefinitionTest {
         assertThat(beanDefinition).isNotPrimary();
     }
 
+    @Test
+    @DisplayName("Definition created from bean index metadata doesn't load bean class until its type is requested")
+    void indexedDefinitionDoesNotLoadClass() {
+        String missingClassName = "com.bobocode.hoverla.bring.test.subject.bean.MissingBean";
+        var indexedClass = new IndexedClass(missingClassName, true, false, "missingBean", true,
+                List.of(new IndexedDependency(String.class.getName(), String.class.getName(), false, null)), List.of());
+        Consumer<Class<?>> beanClassValidator = beanClass -> Assertions.fail("Class must not be loaded");
+
+        var beanDefinition = new ClassBasedBeanDefinition(indexedClass, getClass().getClassLoader(), beanClassValidator);
+
+        assertThat(beanDefinition)
+                .hasName("missingBean")
+                .isPrimary();
+        Assertions.assertThat(beanDefinition.dependencies()).containsOnlyKeys(String.class.getName());
+        Assertions.assertThatThrownBy(beanDefinition::type)
+                .isInstanceOf(BeanIndexException.class)
+                .hasMessageContaining(missingClassName);
+    }
+
+    @Test
+    @DisplayName("Dependencies on definitions created from bean index metadata are resolved by type names without loading bean classes")
+    void indexedDefinitionsAreResolvedWithoutLoadingClasses() {
+        String missingClassName = "com.bobocode.hoverla.bring.test.subject.bean.MissingBean";
+        String missingInterfaceName = "com.bobocode.hoverla.bring.test.subject.bean.MissingService";
+        var indexedDependency = new IndexedClass(missingClassName, true, false, "missingBean", false, List.of(),
+                List.of(), List.of(missingInterfaceName, Object.class.getName()));
+        var indexedDependent = new IndexedClass(missingClassName + "Client", true, false, "missingBeanClient", false,
+                List.of(new IndexedDependency(missingInterfaceName, missingInterfaceName, false, null)), List.of(),
+                List.of(Object.class.getName()));
+        Consumer<Class<?>> beanClassValidator = beanClass -> Assertions.fail("Class must not be loaded");
+        ClassLoader classLoader = getClass().getClassLoader();
+        var dependency = new ClassBasedBeanDefinition(indexedDependency, classLoader, beanClassValidator);
+        var dependent = new ClassBasedBeanDefinition(indexedDependent, classLoader, beanClassValidator);
+
+        BeanGraph graph = new BeanDefinitionValidator().validate(List.of(dependent, dependency));
+
+        Assertions.assertThat(dependency.typeName()).isEqualTo(missingClassName);
+        Assertions.assertThat(dependency.assignableTypeNames())
+                .containsExactly(missingClassName, missingInterfaceName, Object.class.getName());
+        Assertions.assertThat(graph.requiredBeans(dependent)).containsExactly(dependency);
+        Assertions.assertThat(graph.definitions()).containsExactly(dependency, dependent);
+    }
+
+    @Test
+    @DisplayName("Bean class of definition created from bean index metadata is validated once when its type is requested concurrently")
+    void indexedDefinitionValidatesClassOnce() throws InterruptedException {
+        Class<?> beanClass = TestBeanWithoutDependencies.class;
+        var indexedClass = new IndexedClass(beanClass.getName(), true, false, beanClass.getName(), false,
+                List.of(), List.of());
+        AtomicInteger validations = new AtomicInteger();
+        var beanDefinition = new ClassBasedBeanDefinition(indexedClass, getClass().getClassLoader(),
+                validatedClass -> validations.incrementAndGet());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Class<?>>> typeRequests = Collections.nCopies(64, beanDefinition::type);
+            for (Future<Class<?>> type : executor.invokeAll(typeRequests)) {
+                Assertions.assertThat(type).succeedsWithin(Duration.ofSeconds(10)).isEqualTo(beanClass);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertThat(validations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Definition created from bean index metadata validates bean class once and instantiates the bean")
+    void createBeanFromIndexedDefinition() {
+        Class<?> beanClass = TestBeanWithInjectFieldsAndConstructor.class;
+        var indexedClass = new IndexedClass(beanClass.getName(), true, false, beanClass.getName(), false,
+                List.of(new IndexedDependency(String.class.getName(), String.class.getName(), false, null),
+                        new IndexedDependency("int", Integer.class.getName(), true, null),
+                        new IndexedDependency(Double.class.getName(), Double.class.getName(), false, null)),
+                List.of());
+        @SuppressWarnings("unchecked")
+        Consumer<Class<?>> beanClassValidator = mock(Consumer.class);
+        var beanDefinition = new ClassBasedBeanDefinition(indexedClass, getClass().getClassLoader(), beanClassValidator);
+
+        assertThat(beanDefinition)
+                .hasType(beanClass)
+                .hasDependencies(Map.of(
+                        String.class.getName(), new BeanDependency(String.class.getName(), String.class, false),
+                        "int", new BeanDependency("int", Integer.class, true),
+                        Double.class.getName(), new BeanDependency(Double.class.getName(), Double.class, false)));
+
+        beanDefinition.instantiate(
+                prepareDefinition(String.class, String.class.getName(), "strValue"),
+                prepareDefinition(Integer.class, "int", 2),
+                prepareDefinition(Double.class, Double.class.getName(), 2.2d));
+
+        verify(beanClassValidator).accept(beanClass);
+        Assertions.assertThat(beanDefinition.getInstance())
+                .isInstanceOf(beanClass)
+                .hasFieldOrPropertyWithValue("aString", "strValue")
+                .hasFieldOrPropertyWithValue("anInteger", 2)
+                .hasFieldOrPropertyWithValue("aDouble", 2.2d);
+    }
+
+    @Test
+    @DisplayName("Definition can't be created from bean index metadata without dependencies")
+    void indexedDefinitionWithoutDependencies() {
+        var indexedClass = new IndexedClass(TestBean1.class.getName(), true, false, "testBean1", false, null, List.of());
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        Assertions.assertThatThrownBy(() -> new ClassBasedBeanDefinition(indexedClass, classLoader, beanClass -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TestBean1.class.getName());
+    }
+
+    @Test
+    @DisplayName("Instantiation of bean with final @Inject fields, e.g. trusted without validation. Fields successfully injected")
+    void createBeanWithFinalInjectFields() {
+        Class<?> beanClass = TestBeanWithFinalInjectFields.class;
+        var beanDefinition = new ClassBasedBeanDefinition(beanClass);
+
+        TestBean1 testBean1 = mock(TestBean1.class);
+        TestBean2 testBean2 = mock(TestBean2.class);
+        BeanDefinition firstDependency = prepareDefinition(TestBean1.class, TestBean1.class.getName(), testBean1);
+        BeanDefinition secondDependency = prepareDefinition(TestBean2.class, TestBean2.class.getName(), testBean2);
+
+        beanDefinition.instantiate(firstDependency, secondDependency);
+
+        Assertions.assertThat(beanDefinition.getInstance())
+                .hasFieldOrPropertyWithValue("testBean1", testBean1)
+                .hasFieldOrPropertyWithValue("testBean2", testBean2);
+    }
+
+    @Test
+    @DisplayName("Instantiation of bean with static @Inject fields, e.g. trusted without validation. Fields successfully injected")
+    void createBeanWithStaticInjectFields() throws ReflectiveOperationException {
+        Class<?> beanClass = TestBeanWithStaticInjectFields.class;
+        var beanDefinition = new ClassBasedBeanDefinition(beanClass);
+
+        TestBean1 testBean1 = mock(TestBean1.class);
+        TestBean2 testBean2 = mock(TestBean2.class);
+        BeanDefinition firstDependency = prepareDefinition(TestBean1.class, TestBean1.class.getName(), testBean1);
+        BeanDefinition secondDependency = prepareDefinition(TestBean2.class, TestBean2.class.getName(), testBean2);
+
+        beanDefinition.instantiate(firstDependency, secondDependency);
+
+        Field testBean1Field = beanClass.getDeclaredField("testBean1");
+        Field testBean2Field = beanClass.getDeclaredField("testBean2");
+        testBean1Field.setAccessible(true);
+        testBean2Field.setAccessible(true);
+        Assertions.assertThat(beanDefinition.getInstance()).isInstanceOf(beanClass);
+        Assertions.assertThat(testBean1Field.get(null)).isSameAs(testBean1);
+        Assertions.assertThat(testBean2Field.get(null)).isSameAs(testBean2);
+    }
+
+    @Test
+    @DisplayName("Indexed and scanned definitions of the same class both reject duplicate dependency names")
+    void indexedAndScannedDefinitionsRejectDuplicateDependencies() {
+        Class<?> beanClass = TestBeanWithSameFieldQualifiers.class;
+        var indexedClass = new IndexedClass(beanClass.getName(), true, false, beanClass.getName(), false,
+                List.of(new IndexedDependency("string", String.class.getName(), true, null),
+                        new IndexedDependency("string", String.class.getName(), true, null)),
+                List.of());
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        Assertions.assertThatThrownBy(() -> new ClassBasedBeanDefinition(beanClass))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate key string");
+        Assertions.assertThatThrownBy(() -> new ClassBasedBeanDefinition(indexedClass, classLoader, validatedClass -> {}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate key string");
+    }
+
     private BeanDefinition prepareDefinition(Class<?> type, String name, Object instance) {
         BeanDefinition beanDefinition = mock(BeanDefinition.class);
         doReturn(type).when(beanDefinition).type();
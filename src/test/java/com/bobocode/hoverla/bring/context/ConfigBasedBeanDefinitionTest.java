@@ -1,5 +1,6 @@
 package com.bobocode.hoverla.bring.context;
 
+import com.bobocode.hoverla.bring.exception.BeanDefinitionConstructionException;
 import com.bobocode.hoverla.bring.exception.BeanDependencyInjectionException;
 import com.bobocode.hoverla.bring.exception.BeanInstanceCreationException;
 import com.bobocode.hoverla.bring.support.BeanDefinitionAssert;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
@@ -51,6 +53,26 @@ class ConfigBasedBeanDefinitionTest {
                 .hasName("beanName");
     }
 
+    @Test
+    @DisplayName("Fails on method not marked with @Bean")
+    void notBeanMethod() throws NoSuchMethodException {
+        Method method = testBeanConfig.getClass().getMethod("notBeanMethod");
+
+        Assertions.assertThatThrownBy(() -> new ConfigBasedBeanDefinition(testBeanConfig, method))
+                .isInstanceOf(BeanDefinitionConstructionException.class)
+                .hasMessageContaining("notBeanMethod");
+    }
+
+    @Test
+    @DisplayName("Fails on method of class not marked with @Configuration")
+    void methodOfNotConfigurationClass() throws NoSuchMethodException {
+        Method method = Object.class.getMethod("toString");
+
+        Assertions.assertThatThrownBy(() -> new ConfigBasedBeanDefinition(new Object(), method))
+                .isInstanceOf(BeanDefinitionConstructionException.class)
+                .hasMessageContaining(Object.class.getName());
+    }
+
     @Test
     @DisplayName("Bean type matches method return type")
     void beanTypeMatchesMethodReturnType() throws NoSuchMethodException {
@@ -169,4 +191,21 @@ class ConfigBasedBeanDefinitionTest {
         BeanDefinition beanDefinition = new ConfigBasedBeanDefinition(TestPrimaryBean.class, method);
         BeanDefinitionAssert.assertThat(beanDefinition).isNotPrimary();
     }
+
+    @Test
+    @DisplayName("Configuration instance is requested only when the bean is instantiated")
+    void configInstanceIsRequestedOnInstantiation() throws NoSuchMethodException {
+        Method method = testBeanConfig.getClass().getMethod("beanWithNoNameInAnnotation");
+        AtomicInteger requests = new AtomicInteger();
+
+        BeanDefinition beanDefinition = new ConfigBasedBeanDefinition(() -> {
+            requests.incrementAndGet();
+            return testBeanConfig;
+        }, method);
+        assertThat(requests).hasValue(0);
+
+        beanDefinition.instantiate();
+        assertThat(requests).hasValue(1);
+        assertThat(beanDefinition.getInstance()).isEqualTo("instance");
+    }
 }
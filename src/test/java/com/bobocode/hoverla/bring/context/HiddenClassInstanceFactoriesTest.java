@@ -0,0 +1,54 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithInjectFieldsAndConstructor;
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithoutDependencies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HiddenClassInstanceFactoriesTest {
+
+    @Test
+    @DisplayName("Constructs the bean and injects its fields in one call of a hidden class factory")
+    void constructsAndInjectsFields() throws Throwable {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBeanWithInjectFieldsAndConstructor.class);
+
+        InstanceFactory factory = HiddenClassInstanceFactories
+                .forBean(metadata.constructor(), metadata.injectionFields())
+                .orElseThrow();
+        Object instance = factory.create("value", 1, 2.0);
+
+        assertThat(factory.getClass().isHidden()).isTrue();
+        assertThat(instance)
+                .isInstanceOf(TestBeanWithInjectFieldsAndConstructor.class)
+                .hasFieldOrPropertyWithValue("aString", "value")
+                .hasFieldOrPropertyWithValue("anInteger", 1)
+                .hasFieldOrPropertyWithValue("aDouble", 2.0);
+        assertThat(factory.create("value", 1, 2.0)).isNotSameAs(instance);
+    }
+
+    @Test
+    @DisplayName("Reuses the factory cached in class metadata")
+    void reusesCachedFactory() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBeanWithoutDependencies.class);
+
+        assertThat(metadata.hiddenClassFactory()).isPresent();
+        assertThat(metadata.hiddenClassFactory().get())
+                .isSameAs(BeanClassMetadata.of(TestBeanWithoutDependencies.class).hiddenClassFactory().get());
+    }
+
+    @Test
+    @DisplayName("Throws what the constructor throws")
+    void propagatesExceptionsAsIs() throws NoSuchMethodException {
+        var constructor = InstanceFactoriesTest.FailingBean.class.getConstructor(String.class);
+        InstanceFactory factory = HiddenClassInstanceFactories.forBean(constructor, List.of()).orElseThrow();
+
+        assertThatThrownBy(() -> factory.create("message"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("message");
+    }
+}
@@ -0,0 +1,100 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithPlainConstructor;
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithoutDependencies;
+import com.bobocode.hoverla.bring.test.subject.bean.util.TestBean1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InjectionPlanTest {
+
+    @Test
+    @DisplayName("Binds parameters to declared dependency names regardless of names of resolved beans")
+    void matchesDependenciesByDeclaredNames() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(TestBeanWithPlainConstructor.class);
+
+        InjectionPlan plan = InjectionPlan.compile(metadata.constructorParameters(), metadata.injectionFields());
+        BeanDefinition qualified = prepareDefinition(TestBeanWithoutDependencies.class, "testBean");
+        BeanDefinition resolved = prepareDefinition(TestBeanWithoutDependencies.class, "resolvedName");
+
+        InjectionPlan.Match match = plan.match(Map.of(
+                TestBeanWithoutDependencies.class.getName(), resolved,
+                "testBean", qualified));
+
+        assertThat(match.parameters()).containsExactly(qualified, resolved);
+        assertThat(match.fields()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Binds not qualified collections by element type and leaves injection points of other types unresolved")
+    void matchesCollectionsByElementType() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(BeanClassMetadataTest.CollectionBean.class);
+        List<InjectionPoint> parameters = List.of(metadata.constructorParameters().get(0),
+                metadata.constructorParameters().get(3));
+        InjectionPlan plan = InjectionPlan.compile(parameters, List.of());
+
+        BeanDefinition collection = new CollectionBeanDefinition(List.class, TestBean1.class, List.of());
+        BeanDefinition wrongType = prepareDefinition(String.class, parameters.get(1).type().getName());
+
+        InjectionPlan.Match match = plan.match(wrongType, collection);
+
+        assertThat(match.parameters()).containsExactly(collection, null);
+    }
+
+    @Test
+    @DisplayName("Binds not qualified injection points by type, each collection to its own dependency")
+    void matchesNotQualifiedDependenciesByType() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(SameElementTypeCollectionsBean.class);
+        InjectionPlan plan = InjectionPlan.compile(metadata.constructorParameters(), metadata.injectionFields());
+
+        BeanDefinition list = new CollectionBeanDefinition(List.class, TestBean1.class, List.of());
+        BeanDefinition set = new CollectionBeanDefinition(Set.class, TestBean1.class, List.of());
+        BeanDefinition number = prepareDefinition(Integer.class, "anInteger");
+
+        InjectionPlan.Match match = plan.match(set, number, list);
+
+        assertThat(match.parameters()).containsExactly(list, set, number);
+    }
+
+    @Test
+    @DisplayName("Binds not qualified injection points of subtypes before those of their supertypes")
+    void matchesSubtypesFirst() {
+        BeanClassMetadata metadata = BeanClassMetadata.of(SupertypeFirstBean.class);
+        InjectionPlan plan = InjectionPlan.compile(metadata.constructorParameters(), metadata.injectionFields());
+
+        BeanDefinition integer = prepareDefinition(Integer.class, "anInteger");
+        BeanDefinition number = prepareDefinition(Long.class, "aLong");
+
+        InjectionPlan.Match match = plan.match(integer, number);
+
+        assertThat(match.parameters()).containsExactly(number, integer);
+    }
+
+    public static class SameElementTypeCollectionsBean {
+
+        public SameElementTypeCollectionsBean(List<TestBean1> list, Set<TestBean1> set, Number number) {
+        }
+    }
+
+    public static class SupertypeFirstBean {
+
+        public SupertypeFirstBean(Number number, Integer integer) {
+        }
+    }
+
+    private BeanDefinition prepareDefinition(Class<?> type, String name) {
+        BeanDefinition beanDefinition = mock(BeanDefinition.class);
+        doReturn(type).when(beanDefinition).type();
+        when(beanDefinition.name()).thenReturn(name);
+        return beanDefinition;
+    }
+}
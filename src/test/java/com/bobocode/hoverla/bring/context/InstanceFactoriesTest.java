@@ -0,0 +1,85 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithPlainConstructor;
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithoutDependencies;
+import com.bobocode.hoverla.bring.test.subject.config.TestBeanConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstanceFactoriesTest {
+
+    @Test
+    @DisplayName("Creates a new instance through a no-arg constructor on each call")
+    void createsInstancesThroughNoArgConstructor() throws Throwable {
+        InstanceFactory factory = InstanceFactories.forConstructor(TestBeanWithoutDependencies.class.getConstructor());
+
+        Object instance = factory.create();
+
+        assertThat(instance).isInstanceOf(TestBeanWithoutDependencies.class);
+        assertThat(factory.create()).isNotSameAs(instance);
+    }
+
+    @Test
+    @DisplayName("Spreads arguments over constructor parameters")
+    void createsInstancesThroughConstructorWithParameters() throws Throwable {
+        var dependency = new TestBeanWithoutDependencies();
+        InstanceFactory factory = InstanceFactories.forConstructor(TestBeanWithPlainConstructor.class.getConstructors()[0]);
+
+        Object instance = factory.create(dependency, dependency);
+
+        assertThat(instance)
+                .isInstanceOf(TestBeanWithPlainConstructor.class)
+                .hasFieldOrPropertyWithValue("testBean1", dependency)
+                .hasFieldOrPropertyWithValue("testBean2", dependency);
+    }
+
+    @Test
+    @DisplayName("Invokes configuration methods with and without parameters, unboxing primitive arguments")
+    void invokesConfigurationMethods() throws Throwable {
+        var config = new TestBeanConfig();
+
+        InstanceFactory noArgFactory = InstanceFactories.forMethod(
+                TestBeanConfig.class.getMethod("beanWithNoNameInAnnotation"), config);
+        InstanceFactory factory = InstanceFactories.forMethod(
+                TestBeanConfig.class.getMethod("beanWithDependencies", byte.class, String.class, String.class), config);
+
+        assertThat(noArgFactory.create()).isEqualTo("instance");
+        assertThat(factory.create((byte) 1, "name", "value")).isEqualTo((byte) 0);
+    }
+
+    @Test
+    @DisplayName("Throws what the constructor or method throws, same as reflective factories")
+    void propagatesExceptionsAsIs() throws NoSuchMethodException {
+        var failingBean = new FailingBean();
+        var constructor = FailingBean.class.getConstructor(String.class);
+        var method = FailingBean.class.getMethod("fail");
+
+        assertThatThrownBy(() -> InstanceFactories.forConstructor(constructor).create("message"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("message");
+        assertThatThrownBy(() -> InstanceFactories.reflective(constructor).create("message"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("message");
+        assertThatThrownBy(() -> InstanceFactories.forMethod(method, failingBean).create())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> InstanceFactories.reflective(method, failingBean).create())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    public static class FailingBean {
+
+        public FailingBean() {
+        }
+
+        public FailingBean(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public Object fail() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
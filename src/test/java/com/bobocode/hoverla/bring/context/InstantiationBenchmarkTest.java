@@ -0,0 +1,139 @@
+package com.bobocode.hoverla.bring.context;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithPlainConstructor;
+import com.bobocode.hoverla.bring.test.subject.bean.TestBeanWithoutDependencies;
+import com.bobocode.hoverla.bring.test.subject.config.TestBeanConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reflective instantiation with {@link InstanceFactories} backed by {@link java.lang.invoke.LambdaMetafactory}
+ * (no-arg constructors and methods) and spread {@link java.lang.invoke.MethodHandle} (constructors and methods with parameters).
+ *
+ * <p>Factories are created once in setup, as {@link BeanClassMetadata} and {@link ConfigBasedBeanDefinition} do,
+ * so only the cost of a call is measured.</p>
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstantiationBenchmarkTest {
+
+    private final TestBeanWithoutDependencies dependency = new TestBeanWithoutDependencies();
+
+    private final TestBeanConfig config = new TestBeanConfig();
+
+    private InstanceFactory reflectiveNoArgConstructor;
+
+    private InstanceFactory lambdaNoArgConstructor;
+
+    private InstanceFactory reflectiveConstructor;
+
+    private InstanceFactory methodHandleConstructor;
+
+    private InstanceFactory reflectiveNoArgMethod;
+
+    private InstanceFactory lambdaNoArgMethod;
+
+    private InstanceFactory reflectiveMethod;
+
+    private InstanceFactory methodHandleMethod;
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InstantiationBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgs("-Xmx1g") // replaces arguments of the test JVM, e.g. coverage agent
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void createFactories() throws NoSuchMethodException {
+        Logger rootLogger = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.WARN);
+
+        Constructor<?> noArgConstructor = TestBeanWithoutDependencies.class.getConstructor();
+        reflectiveNoArgConstructor = InstanceFactories.reflective(noArgConstructor);
+        lambdaNoArgConstructor = InstanceFactories.forConstructor(noArgConstructor);
+
+        Constructor<?> constructor = TestBeanWithPlainConstructor.class.getConstructors()[0];
+        reflectiveConstructor = InstanceFactories.reflective(constructor);
+        methodHandleConstructor = InstanceFactories.forConstructor(constructor);
+
+        Method noArgMethod = TestBeanConfig.class.getMethod("beanWithNoNameInAnnotation");
+        reflectiveNoArgMethod = InstanceFactories.reflective(noArgMethod, config);
+        lambdaNoArgMethod = InstanceFactories.forMethod(noArgMethod, config);
+
+        Method method = TestBeanConfig.class.getMethod("beanWithDependencies", int.class, String.class);
+        reflectiveMethod = InstanceFactories.reflective(method, config);
+        methodHandleMethod = InstanceFactories.forMethod(method, config);
+    }
+
+    @Benchmark
+    public Object reflectiveNoArgConstructor() throws Throwable {
+        return reflectiveNoArgConstructor.create();
+    }
+
+    @Benchmark
+    public Object lambdaNoArgConstructor() throws Throwable {
+        return lambdaNoArgConstructor.create();
+    }
+
+    @Benchmark
+    public Object reflectiveConstructor() throws Throwable {
+        return reflectiveConstructor.create(dependency, dependency);
+    }
+
+    @Benchmark
+    public Object methodHandleConstructor() throws Throwable {
+        return methodHandleConstructor.create(dependency, dependency);
+    }
+
+    @Benchmark
+    public Object reflectiveNoArgMethod() throws Throwable {
+        return reflectiveNoArgMethod.create();
+    }
+
+    @Benchmark
+    public Object lambdaNoArgMethod() throws Throwable {
+        return lambdaNoArgMethod.create();
+    }
+
+    @Benchmark
+    public Object reflectiveMethod() throws Throwable {
+        return reflectiveMethod.create(1, "name");
+    }
+
+    @Benchmark
+    public Object methodHandleMethod() throws Throwable {
+        return methodHandleMethod.create(1, "name");
+    }
+}
@@ -0,0 +1,73 @@
+package com.bobocode.hoverla.bring.context;
+
+import com.bobocode.hoverla.bring.exception.BeanClassValidationException;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.bobocode.hoverla.bring.scan.ShardedClasspathScanner;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidationFingerprintTest {
+
+    private static final String PACKAGE_TO_SCAN = "com.bobocode.hoverla.bring.integration";
+    private static final String INVALID_PACKAGE_TO_SCAN = "com.bobocode.hoverla.bring.test.subject.validation.bean.constructor";
+
+    private static final byte[] SIGNING_KEY = "signing key".getBytes(UTF_8);
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    @DisplayName("Fingerprint signed at build time matches the same bean set scanned with the same key")
+    void signedFingerprintMatches() {
+        Path fingerprintFile = new ValidationFingerprint(new ClasspathScanResult(PACKAGE_TO_SCAN), SIGNING_KEY)
+                .sign(outputDirectory);
+
+        assertThat(fingerprintFile).isRegularFile().startsWith(outputDirectory);
+        assertThat(fingerprint(PACKAGE_TO_SCAN, SIGNING_KEY).matches()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Fingerprint does not match when it is signed with another key, is missing or is of other packages")
+    void fingerprintOfOtherKeyDoesNotMatch() {
+        assertThat(fingerprint(PACKAGE_TO_SCAN, SIGNING_KEY).matches()).isFalse();
+
+        new ValidationFingerprint(new ClasspathScanResult(PACKAGE_TO_SCAN), SIGNING_KEY).sign(outputDirectory);
+
+        assertThat(fingerprint(PACKAGE_TO_SCAN, "another key".getBytes(UTF_8)).matches()).isFalse();
+        assertThat(fingerprint(INVALID_PACKAGE_TO_SCAN, SIGNING_KEY).matches()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Fingerprint is not written when bean set is not valid")
+    @SneakyThrows
+    void invalidBeanSetIsNotSigned() {
+        var fingerprint = new ValidationFingerprint(new ClasspathScanResult(INVALID_PACKAGE_TO_SCAN), SIGNING_KEY);
+
+        assertThatThrownBy(() -> fingerprint.sign(outputDirectory))
+                .isInstanceOf(BeanClassValidationException.class);
+        try (var files = Files.walk(outputDirectory)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    /**
+     * @return fingerprint verified against the classpath with output directory added to it, as if it was packaged
+     */
+    @SneakyThrows
+    private ValidationFingerprint fingerprint(String packageToScan, byte[] signingKey) {
+        var classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+        var scanResult = new ClasspathScanResult(classLoader, new ShardedClasspathScanner(1), packageToScan);
+        return new ValidationFingerprint(scanResult, signingKey);
+    }
+}
@@ -0,0 +1,104 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BeanIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Index written to text can be read back")
+    void writesAndReadsIndex() throws IOException {
+        BeanIndex index = new BeanIndex();
+        index.addBeanClass("com.example.MyBean");
+        index.addConfigurationClass("com.example.MyConfig");
+        index.addBeanMethod("com.example.MyConfig", "myBean(java.lang.String)");
+
+        StringWriter writer = new StringWriter();
+        index.write(writer);
+
+        assertThat(writer.toString()).contains(
+                "bean com.example.MyBean",
+                "configuration com.example.MyConfig",
+                "method com.example.MyConfig myBean(java.lang.String)");
+        assertThat(BeanIndex.read(new StringReader(writer.toString()))).isEqualTo(index);
+    }
+
+    @Test
+    @DisplayName("Filters indexed classes by packages and their subpackages only")
+    void filtersByPackages() {
+        BeanIndex index = new BeanIndex();
+        index.addBeanClass("com.example.MyBean");
+        index.addBeanClass("com.example.inner.InnerBean");
+        index.addBeanClass("com.examples.OtherBean");
+        index.addBeanClass("org.example.ForeignBean");
+
+        assertThat(index.getBeanClassNames("com.example"))
+                .containsExactly("com.example.MyBean", "com.example.inner.InnerBean");
+        assertThat(index.getBeanClassNames("com.examples", "org"))
+                .containsExactly("com.examples.OtherBean", "org.example.ForeignBean");
+    }
+
+    @Test
+    @DisplayName("Throws exception when index contains unknown entries")
+    void throwsExceptionOnMalformedIndex() {
+        StringReader reader = new StringReader("component com.example.MyBean");
+
+        assertThatThrownBy(() -> BeanIndex.read(reader))
+                .isInstanceOf(BeanIndexException.class)
+                .hasMessage("Unknown bean index entry - component com.example.MyBean");
+    }
+
+    @Test
+    @DisplayName("Merges all indexes available to a class loader")
+    void loadsAndMergesIndexes() throws IOException {
+        Path firstRoot = writeIndex("first", "bean com.example.FirstBean");
+        Path secondRoot = writeIndex("second", "bean com.example.SecondBean", "configuration com.example.MyConfig");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{toUrl(firstRoot), toUrl(secondRoot)}, null)) {
+            Optional<BeanIndex> index = BeanIndex.load(classLoader);
+
+            assertThat(index).isPresent();
+            assertThat(index.get().getBeanClassNames("com.example"))
+                    .containsExactly("com.example.FirstBean", "com.example.SecondBean");
+            assertThat(index.get().getConfigurationClassNames("com.example"))
+                    .containsExactly("com.example.MyConfig");
+        }
+    }
+
+    @Test
+    @DisplayName("Returns empty result when there is no index on the classpath")
+    void returnsEmptyWhenNoIndex() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{toUrl(tempDir)}, null)) {
+            assertThat(BeanIndex.load(classLoader)).isEmpty();
+        }
+    }
+
+    private Path writeIndex(String root, String... lines) throws IOException {
+        Path indexFile = tempDir.resolve(root).resolve(BeanIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, List.of(lines));
+        return tempDir.resolve(root);
+    }
+
+    private static URL toUrl(Path path) throws IOException {
+        return path.toUri().toURL();
+    }
+}
@@ -0,0 +1,221 @@
+package com.bobocode.hoverla.bring.index;
+
+import com.bobocode.hoverla.bring.exception.BeanIndexException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryBeanIndexTest {
+
+    private static final IndexedClass BEAN = new IndexedClass("com.example.MyBean", true, false,
+            "myBean", true,
+            List.of(new IndexedDependency("com.example.Repository", "com.example.Repository", false, null),
+                    new IndexedDependency("mainRepository", "com.example.Repository", true, null),
+                    new IndexedDependency("java.util.List#com.example.Listener", "java.util.List", false,
+                            "com.example.Listener")),
+            List.of(), List.of("com.example.Service", "java.lang.Object"));
+
+    private static final IndexedClass NESTED_BEAN = new IndexedClass("com.example.MyBean$Nested", true, false,
+            "com.example.MyBean$Nested", false, null, List.of());
+
+    private static final IndexedClass CONFIG = new IndexedClass("com.example.config.MyConfig", false, true,
+            null, false, null,
+            List.of(new IndexedBeanMethod("name", List.of(), "java.lang.String", "name", false, List.of()),
+                    new IndexedBeanMethod("numbers", List.of("int", "[Ljava.lang.String;"), "[I", "values", true,
+                            null)));
+
+    private static final IndexedClass FOREIGN_BEAN = new IndexedClass("com.examples.OtherBean", true, false,
+            "com.examples.OtherBean", false, List.of(), List.of());
+
+    private static final IndexedClass UNNAMED_PACKAGE_BEAN = new IndexedClass("RootBean", true, false,
+            "RootBean", false, List.of(), List.of());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Index written in binary format can be read back")
+    void writesAndReadsIndex() throws IOException {
+        BinaryBeanIndex index = BinaryBeanIndex.read(write(List.of(CONFIG, BEAN, NESTED_BEAN, UNNAMED_PACKAGE_BEAN)));
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(entries(index)).containsExactly(UNNAMED_PACKAGE_BEAN, BEAN, NESTED_BEAN, CONFIG);
+    }
+
+    @Test
+    @DisplayName("Reads single properties of entries without materialising them")
+    void readsEntryProperties() {
+        BinaryBeanIndex index = BinaryBeanIndex.read(write(List.of(BEAN, CONFIG)));
+
+        assertThat(index.className(0)).isEqualTo("com.example.MyBean");
+        assertThat(index.isBean(0)).isTrue();
+        assertThat(index.isPrimary(0)).isTrue();
+        assertThat(index.isConfiguration(0)).isFalse();
+        assertThat(index.beanName(0)).isEqualTo("myBean");
+        assertThat(index.dependencies(0)).isEqualTo(BEAN.dependencies());
+        assertThat(index.supertypeNames(0)).containsExactly("com.example.Service", "java.lang.Object");
+        assertThat(index.beanMethods(0)).isEmpty();
+
+        assertThat(index.isBean(1)).isFalse();
+        assertThat(index.beanName(1)).isNull();
+        assertThat(index.dependencies(1)).isNull();
+        assertThat(index.supertypeNames(1)).isNull();
+        assertThat(index.beanMethods(1)).isEqualTo(CONFIG.beanMethods());
+    }
+
+    @Test
+    @DisplayName("Stores every string once")
+    void deduplicatesStrings() {
+        ByteBuffer index = write(List.of(BEAN, NESTED_BEAN, FOREIGN_BEAN));
+        byte[] bytes = new byte[index.remaining()];
+        index.get(bytes);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+
+        assertThat(content.split("com\\.example\\.Repository", -1)).hasSize(2);
+        assertThat(content.split("MyBean\\$Nested", -1)).hasSize(3); // simple name and bean name
+    }
+
+    @Test
+    @DisplayName("Filters entries by packages and their subpackages only")
+    void findsEntriesByPackages() {
+        BinaryBeanIndex index = BinaryBeanIndex.read(write(List.of(BEAN, NESTED_BEAN, CONFIG, FOREIGN_BEAN,
+                UNNAMED_PACKAGE_BEAN)));
+
+        assertThat(classNames(index, index.findBeanEntries("com.example")))
+                .containsExactly("com.example.MyBean", "com.example.MyBean$Nested");
+        assertThat(classNames(index, index.findBeanEntries("com.examples", null)))
+                .containsExactly("com.examples.OtherBean");
+        assertThat(classNames(index, index.findConfigurationEntries("com")))
+                .containsExactly("com.example.config.MyConfig");
+        assertThat(index.findConfigurationEntries("com.example.MyBean")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Finds entries by class name")
+    void findsEntriesByClassName() {
+        BinaryBeanIndex index = BinaryBeanIndex.read(write(List.of(BEAN, NESTED_BEAN, CONFIG, FOREIGN_BEAN,
+                UNNAMED_PACKAGE_BEAN)));
+
+        for (int entry = 0; entry < index.size(); entry++) {
+            assertThat(index.find(index.className(entry))).isEqualTo(entry);
+        }
+        assertThat(index.find("com.example.Missing")).isEqualTo(-1);
+        assertThat(index.find("Missing")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Encodes offsets beyond a single byte")
+    void readsLargeIndex() {
+        List<IndexedClass> classes = IntStream.range(0, 1000)
+                .mapToObj(i -> new IndexedClass("com.example.p%d.Bean%d".formatted(i % 10, i), true, false,
+                        "bean" + i, false, List.of(), List.of()))
+                .toList();
+
+        BinaryBeanIndex index = BinaryBeanIndex.read(write(classes));
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.findBeanEntries("com.example.p3")).hasSize(100);
+        assertThat(index.beanName(index.find("com.example.p7.Bean997"))).isEqualTo("bean997");
+    }
+
+    @Test
+    @DisplayName("Reads index of the previous version, which has no supertypes")
+    void readsIndexWithoutSupertypes() {
+        ByteBuffer index = write(List.of(CONFIG, NESTED_BEAN, FOREIGN_BEAN));
+        index.put(4, (byte) 1);
+
+        assertThat(entries(BinaryBeanIndex.read(index))).containsExactly(NESTED_BEAN, CONFIG, FOREIGN_BEAN);
+    }
+
+    @Test
+    @DisplayName("Throws exception when content is not a binary index of supported version")
+    void throwsExceptionOnMalformedIndex() {
+        ByteBuffer index = write(List.of(BEAN));
+        index.put(4, (byte) 3);
+
+        assertThatThrownBy(() -> BinaryBeanIndex.read(ByteBuffer.wrap("not an index".getBytes())))
+                .isInstanceOf(BeanIndexException.class)
+                .hasMessage("Not a binary bean index");
+        assertThatThrownBy(() -> BinaryBeanIndex.read(index))
+                .isInstanceOf(BeanIndexException.class)
+                .hasMessage("Unsupported binary bean index version 3, expected 1 to 2");
+        assertThatThrownBy(() -> BinaryBeanIndex.read(ByteBuffer.wrap(Arrays.copyOf(write(List.of(BEAN)).array(), 12))))
+                .isInstanceOf(BeanIndexException.class)
+                .hasMessage("Binary bean index is truncated or malformed");
+    }
+
+    @Test
+    @DisplayName("Loads indexes from directories and jars available to a class loader")
+    void loadsIndexes() throws IOException {
+        Path directory = tempDir.resolve("classes");
+        Path indexFile = directory.resolve(BinaryBeanIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream output = Files.newOutputStream(indexFile)) {
+            BinaryBeanIndexWriter.write(List.of(BEAN), output);
+        }
+        Path jar = tempDir.resolve("beans.jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry(BinaryBeanIndex.LOCATION));
+            BinaryBeanIndexWriter.write(List.of(CONFIG), output);
+            output.closeEntry();
+        }
+
+        URL[] roots = {directory.toUri().toURL(), jar.toUri().toURL()};
+        try (URLClassLoader classLoader = new URLClassLoader(roots, null)) {
+            List<BinaryBeanIndex> indexes = BinaryBeanIndex.load(classLoader);
+
+            assertThat(indexes).hasSize(2);
+            assertThat(indexes.get(0).entry(0)).isEqualTo(BEAN);
+            assertThat(indexes.get(1).entry(0)).isEqualTo(CONFIG);
+        }
+    }
+
+    @Test
+    @DisplayName("Returns no indexes when there is no index on the classpath")
+    void returnsEmptyWhenNoIndex() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, null)) {
+            assertThat(BinaryBeanIndex.load(classLoader)).isEmpty();
+        }
+    }
+
+    private static ByteBuffer write(Collection<IndexedClass> classes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            BinaryBeanIndexWriter.write(classes, output);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+
+    private static List<IndexedClass> entries(BinaryBeanIndex index) {
+        return IntStream.range(0, index.size())
+                .mapToObj(index::entry)
+                .toList();
+    }
+
+    private static List<String> classNames(BinaryBeanIndex index, int[] entries) {
+        return Arrays.stream(entries)
+                .mapToObj(index::className)
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bobocode.hoverla.bring.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MergedBeanIndexTest {
+
+    private static final IndexedBeanMethod BEAN_METHOD = new IndexedBeanMethod("clock", List.of(),
+            "java.time.Clock", "clock", false, List.of());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Merges indexes of all jars, processing each class once for overlapping packages")
+    void mergesIndexesOfAllJars() throws IOException {
+        Path billingJar = writeJar("billing.jar",
+                bean("com.acme.billing.InvoiceService"),
+                bean("com.acme.shared.Clock"),
+                configuration("com.acme.billing.BillingConfig"));
+        Path sharedJar = writeJar("shared.jar",
+                bean("com.acme.shared.Clock"),
+                bean("com.acmeplus.ForeignBean"),
+                bean("org.example.OtherBean"));
+
+        try (URLClassLoader classLoader = classLoader(billingJar, sharedJar)) {
+            MergedBeanIndex index = MergedBeanIndex.load(classLoader);
+
+            assertThat(index.isEmpty()).isFalse();
+            assertThat(index.getBeanClassNames("com.acme.billing", "com.acme", "com.acme.shared"))
+                    .containsExactly("com.acme.billing.InvoiceService", "com.acme.shared.Clock");
+            assertThat(index.getConfigurationClassNames("com.acme"))
+                    .containsExactly("com.acme.billing.BillingConfig");
+            assertThat(index.getBeanMethods("com.acme.billing.BillingConfig")).contains(List.of(BEAN_METHOD));
+            assertThat(index.getBeanMethods("com.acme.shared.Clock")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Prefers binary index of a root and serves roots without it from text index")
+    void mergesBinaryAndTextIndexes() throws IOException {
+        Path binaryJar = writeJar("binary.jar", bean("com.acme.BinaryBean"));
+        Path textRoot = tempDir.resolve("text");
+        Path textIndexFile = textRoot.resolve(BeanIndex.LOCATION);
+        Files.createDirectories(textIndexFile.getParent());
+        Files.write(textIndexFile, List.of("bean com.acme.TextBean", "configuration com.acme.TextConfig"));
+
+        try (URLClassLoader classLoader = classLoader(binaryJar, textRoot)) {
+            MergedBeanIndex index = MergedBeanIndex.load(classLoader);
+
+            assertThat(index.getBeanClassNames("com.acme")).containsExactly("com.acme.BinaryBean", "com.acme.TextBean");
+            assertThat(index.getConfigurationClassNames("com.acme")).containsExactly("com.acme.TextConfig");
+            assertThat(index.getBeanMethods("com.acme.TextConfig")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Is empty when there is no index on the classpath")
+    void isEmptyWithoutIndexes() throws IOException {
+        try (URLClassLoader classLoader = classLoader(tempDir)) {
+            MergedBeanIndex index = MergedBeanIndex.load(classLoader);
+
+            assertThat(index.isEmpty()).isTrue();
+            assertThat(index.getBeanClassNames("com.acme")).isEmpty();
+        }
+    }
+
+    private Path writeJar(String name, IndexedClass... classes) throws IOException {
+        Path jar = tempDir.resolve(name);
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry(BinaryBeanIndex.LOCATION));
+            BinaryBeanIndexWriter.write(List.of(classes), output);
+            output.closeEntry();
+            output.putNextEntry(new JarEntry(BeanIndex.LOCATION));
+            writeTextIndex(output, classes);
+            output.closeEntry();
+        }
+        return jar;
+    }
+
+    private static void writeTextIndex(OutputStream output, IndexedClass... classes) throws IOException {
+        for (IndexedClass indexedClass : classes) {
+            output.write("bean %s%n".formatted(indexedClass.className()).getBytes());
+        }
+    }
+
+    private static IndexedClass bean(String className) {
+        return new IndexedClass(className, true, false, className, false, List.of(), List.of());
+    }
+
+    private static IndexedClass configuration(String className) {
+        return new IndexedClass(className, false, true, null, false, null, List.of(BEAN_METHOD));
+    }
+
+    private static URLClassLoader classLoader(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bobocode.hoverla.bring.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackagePrefixesTest {
+
+    @Test
+    @DisplayName("Drops nulls, duplicates and packages covered by other ones")
+    void deduplicatesOverlappingPackages() {
+        PackagePrefixes prefixes = PackagePrefixes.of("com.acme.billing", null, "org.example", "com.acme",
+                "com.acme$internal", "com.acme", "com.acmeplus");
+
+        assertThat(prefixes.packages()).containsExactly("com.acme$internal", "com.acme", "com.acmeplus", "org.example");
+    }
+
+    @Test
+    @DisplayName("Matches packages and their subpackages only")
+    void matchesSubpackages() {
+        PackagePrefixes prefixes = PackagePrefixes.of("com.acme", "com.acme$internal", "org.example");
+
+        assertThat(prefixes.contains("com.acme")).isTrue();
+        assertThat(prefixes.contains("com.acme.billing")).isTrue();
+        assertThat(prefixes.contains("com.acme$internal.util")).isTrue();
+        assertThat(prefixes.contains("org.example.web")).isTrue();
+        assertThat(prefixes.contains("com")).isFalse();
+        assertThat(prefixes.contains("com.acmeplus")).isFalse();
+        assertThat(prefixes.contains("com.acme$other")).isFalse();
+        assertThat(prefixes.contains("net.example")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Matches nothing when no packages are given")
+    void matchesNothingWhenEmpty() {
+        PackagePrefixes prefixes = PackagePrefixes.of((String) null);
+
+        assertThat(prefixes.isEmpty()).isTrue();
+        assertThat(prefixes.contains("com.acme")).isFalse();
+    }
+}
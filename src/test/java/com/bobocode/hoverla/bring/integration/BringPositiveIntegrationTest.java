@@ -83,6 +83,28 @@ class BringPositiveIntegrationTest {
         assertContainsBean("com.bobocode.hoverla.bring.integration.beans.TestBean10");
     }
 
+    @Test
+    @DisplayName("Loads context with the same beans when classpath is scanned concurrently")
+    void loadsContextWithConcurrentScan() {
+        applicationContext = BringApplication.getContextBuilder()
+                .packagesToScan(PACKAGE)
+                .scanParallelism(4)
+                .build();
+
+        loadsContextWithAllBeans();
+    }
+
+    @Test
+    @DisplayName("Loads context with the same beans when bean scanning is pipelined")
+    void loadsContextWithPipelinedScan() {
+        applicationContext = BringApplication.getContextBuilder()
+                .packagesToScan(PACKAGE)
+                .scanPipelineParallelism(4)
+                .build();
+
+        loadsContextWithAllBeans();
+    }
+
     @ParameterizedTest
     @MethodSource("fieldNamesToBeanNames")
     @DisplayName("Injects bean dependencies with expected bean instances")
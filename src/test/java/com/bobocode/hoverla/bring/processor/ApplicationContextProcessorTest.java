@@ -0,0 +1,340 @@
+package com.bobocode.hoverla.bring.processor;
+
+import com.bobocode.hoverla.bring.BringApplication;
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.context.AbstractGeneratedApplicationContext;
+import com.bobocode.hoverla.bring.context.ApplicationContext;
+import com.bobocode.hoverla.bring.exception.BeanInitializePhaseException;
+import com.bobocode.hoverla.bring.exception.BeanInstanceCreationException;
+import com.bobocode.hoverla.bring.scan.ClasspathFingerprint;
+import com.bobocode.hoverla.bring.scan.ClasspathScanResult;
+import com.bobocode.hoverla.bring.scan.ShardedClasspathScanner;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApplicationContextProcessorTest {
+
+    private static final String GENERATED_SOURCE = "test/aot/" + AbstractGeneratedApplicationContext.GENERATED_SIMPLE_NAME
+            + JavaFileObject.Kind.SOURCE.extension;
+
+    private static final String REPOSITORY_SOURCE = """
+            package test.aot;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+
+            @Bean("repository")
+            public class Repository {
+            }
+            """;
+
+    private static final String HANDLERS_SOURCE = """
+            package test.aot;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+
+            public class Handlers {
+
+                public interface Handler {
+                }
+
+                @Bean
+                public static class FirstHandler implements Handler {
+                }
+
+                @Bean
+                public static class SecondHandler implements Handler {
+                }
+            }
+            """;
+
+    private static final String SERVICE_SOURCE = """
+            package test.aot;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+            import com.bobocode.hoverla.bring.annotation.Inject;
+            import com.bobocode.hoverla.bring.annotation.Qualifier;
+            import java.util.Collection;
+
+            @Bean("service")
+            public class Service {
+
+                public final Repository repository;
+
+                @Inject
+                public Collection<Handlers.Handler> handlers;
+
+                @Inject
+                private String greeting;
+
+                public Service(@Qualifier("repository") Repository repository) {
+                    this.repository = repository;
+                }
+
+                public String getGreeting() {
+                    return greeting;
+                }
+            }
+            """;
+
+    private static final String CONFIG_SOURCE = """
+            package test.aot;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+            import com.bobocode.hoverla.bring.annotation.Configuration;
+
+            @Configuration
+            public class AppConfig {
+
+                @Bean
+                public String greeting(Repository repository, int number) {
+                    return "hello " + number;
+                }
+
+                @Bean
+                public int number() {
+                    return 42;
+                }
+            }
+            """;
+
+    private static final String FAILING_SOURCE = """
+            package test.aot;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+
+            @Bean("failing")
+            public class Failing {
+
+                public Failing() throws Exception {
+                    throw new Exception("Cannot create");
+                }
+            }
+            """;
+
+    private static final String DUPLICATE_SOURCE = """
+            package test.other;
+
+            import com.bobocode.hoverla.bring.context.AbstractGeneratedApplicationContext;
+
+            public final class DuplicateContext extends AbstractGeneratedApplicationContext {
+
+                public DuplicateContext() {
+                    super(new String[0], new Class<?>[0], new String[]{"test.aot"}, new String[0]);
+                }
+
+                @Override
+                protected Object createBean(int index) {
+                    throw new IllegalArgumentException();
+                }
+            }
+            """;
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    @DisplayName("Generates context that wires beans in dependency order without scanning")
+    void generatesContext() throws Exception {
+        compile(true, source("test.aot.Repository", REPOSITORY_SOURCE), source("test.aot.Handlers", HANDLERS_SOURCE),
+                source("test.aot.Service", SERVICE_SOURCE), source("test.aot.AppConfig", CONFIG_SOURCE));
+
+        try (URLClassLoader classLoader = classLoader()) {
+            AbstractGeneratedApplicationContext context = load(classLoader, "test.aot")
+                    .orElseThrow()
+                    .initialize();
+
+            Object service = context.getBean("service");
+            Object repository = context.getBean("repository");
+            assertThat(service)
+                    .hasFieldOrPropertyWithValue("repository", repository)
+                    .hasFieldOrPropertyWithValue("greeting", "hello 42");
+            Collection<Object> handlers = context.getAllBeans(Object.class).entrySet()
+                    .stream()
+                    .filter(entry -> entry.getKey().startsWith("test.aot.Handlers$"))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            assertThat(service.getClass().getField("handlers").get(service))
+                    .asInstanceOf(InstanceOfAssertFactories.collection(Object.class))
+                    .containsExactlyInAnyOrderElementsOf(handlers)
+                    .hasSize(2);
+            assertThat(context.getBean("number")).isEqualTo(42);
+            assertThat(context.containsBean("test.aot.Handlers$FirstHandler")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Generated context is used by BringApplication only when enabled for exactly its packages")
+    void usesGeneratedContextWhenEnabled() throws Exception {
+        compile(true, source("test.aot.Repository", REPOSITORY_SOURCE));
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = classLoader()) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            ApplicationContext context = BringApplication.getContextBuilder()
+                    .packagesToScan("test.aot")
+                    .generatedContext(true)
+                    .build();
+
+            assertThat(context).isInstanceOf(AbstractGeneratedApplicationContext.class);
+            assertThat(context.containsBean("repository")).isTrue();
+            assertThat(BringApplication.loadContext("test.aot"))
+                    .isNotInstanceOf(AbstractGeneratedApplicationContext.class);
+            assertThat(BringApplication.getContextBuilder().packagesToScan("test").generatedContext(true).build())
+                    .isNotInstanceOf(AbstractGeneratedApplicationContext.class);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    @DisplayName("Generated context is not used once packages contain classes it is not generated of")
+    void skipsStaleContext() throws Exception {
+        compile(true, source("test.aot.Repository", REPOSITORY_SOURCE));
+        compile(false, source("test.aot.Handlers", HANDLERS_SOURCE));
+
+        try (URLClassLoader classLoader = classLoader()) {
+            assertThat(load(classLoader, "test.aot")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Fails when several contexts are generated for the same packages")
+    void failsOnDuplicateContexts() throws Exception {
+        compile(true, source("test.aot.Repository", REPOSITORY_SOURCE));
+        compile(false, source("test.other.DuplicateContext", DUPLICATE_SOURCE));
+        Files.writeString(outputDir.resolve(ApplicationContextProcessor.SERVICE_RESOURCE),
+                "test.other.DuplicateContext\n", StandardOpenOption.APPEND);
+
+        try (URLClassLoader classLoader = classLoader()) {
+            assertThatThrownBy(() -> load(classLoader, "test.aot"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("test.aot.GeneratedApplicationContext", "test.other.DuplicateContext");
+        }
+    }
+
+    @Test
+    @DisplayName("Reports failures of generated factories the same way as runtime initialization")
+    void wrapsBeanCreationFailures() throws Exception {
+        compile(true, source("test.aot.Failing", FAILING_SOURCE));
+
+        try (URLClassLoader classLoader = classLoader()) {
+            AbstractGeneratedApplicationContext context = load(classLoader, "test.aot").orElseThrow();
+
+            assertThatThrownBy(context::initialize)
+                    .isInstanceOf(BeanInitializePhaseException.class)
+                    .cause()
+                    .isInstanceOf(BeanInstanceCreationException.class)
+                    .hasMessage("Bean with name 'failing' can't be instantiated")
+                    .hasRootCauseMessage("Cannot create");
+        }
+    }
+
+    @Test
+    @DisplayName("Reports a warning and generates nothing when a dependency is missing")
+    void skipsContextWithMissingDependency() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(true,
+                source("test.aot.Service", SERVICE_SOURCE.replace("Collection<Handlers.Handler>", "Collection<Object>")),
+                source("test.aot.Repository", REPOSITORY_SOURCE));
+
+        assertThat(outputDir.resolve(GENERATED_SOURCE)).doesNotExist();
+        assertThat(diagnostics)
+                .anySatisfy(diagnostic -> assertThat(diagnostic.getMessage(null))
+                        .contains("is not generated", "greeting of bean 'service'"));
+    }
+
+    @Test
+    @DisplayName("Generates nothing unless enabled with processor option")
+    void skipsContextByDefault() throws IOException {
+        compile(false, source("test.aot.Repository", REPOSITORY_SOURCE));
+
+        assertThat(outputDir.resolve(GENERATED_SOURCE)).doesNotExist();
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(boolean generateContext, JavaFileObject... sources)
+            throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDir.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDir.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, List.of(bringClassesLocation(), outputDir.toFile()));
+
+            List<String> options = new ArrayList<>();
+            if (generateContext) {
+                options.add("-A" + ApplicationContextProcessor.GENERATE_CONTEXT_OPTION + "=true");
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    options, null, List.of(sources));
+            task.setProcessors(List.of(new ApplicationContextProcessor()));
+
+            assertThat(task.call())
+                    .withFailMessage(() -> "Compilation failed: " + diagnostics.getDiagnostics())
+                    .isTrue();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    private static Optional<AbstractGeneratedApplicationContext> load(ClassLoader classLoader, String... packages) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            return AbstractGeneratedApplicationContext.load(new ClasspathScanResult(classLoader,
+                    new ShardedClasspathScanner(1), packages), new ClasspathFingerprint(classLoader));
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private URLClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static File bringClassesLocation() {
+        try {
+            return Path.of(Bean.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,269 @@
+package com.bobocode.hoverla.bring.processor;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndex;
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.index.IndexedDependency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeanIndexProcessorTest {
+
+    private static final String BEAN_SOURCE = """
+            package test.index;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+
+            @Bean
+            public class MyBean {
+
+                @Bean
+                public static class NestedBean extends MyBean implements java.io.Serializable {
+                }
+            }
+            """;
+
+    private static final String CONFIG_SOURCE = """
+            package test.index;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+            import com.bobocode.hoverla.bring.annotation.Configuration;
+            import java.util.List;
+
+            @Configuration
+            public class MyConfig {
+
+                @Bean
+                public String name() {
+                    return "name";
+                }
+
+                @Bean("number")
+                public Integer number(String name, int[] values, List<MyBean.NestedBean> beans) {
+                    return 0;
+                }
+
+                public String notBean() {
+                    return "not_bean";
+                }
+
+                @Bean
+                String notPublicBean() {
+                    return "not_public_bean";
+                }
+            }
+            """;
+
+    private static final String SERVICE_SOURCE = """
+            package test.index;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+            import com.bobocode.hoverla.bring.annotation.Inject;
+            import com.bobocode.hoverla.bring.annotation.Qualifier;
+            import java.util.List;
+            import java.util.Set;
+
+            @Bean(value = "service", primary = true)
+            public class MyService {
+
+                @Inject
+                @Qualifier("nested")
+                private MyBean.NestedBean nestedBean;
+
+                private String notInjected;
+
+                public MyService() {
+                }
+
+                @Inject
+                public MyService(MyBean bean, List<MyBean.NestedBean> nestedBeans, @Qualifier("all") Set<MyBean> beans) {
+                }
+            }
+            """;
+
+    private static final String RAW_COLLECTION_SOURCE = """
+            package test.index;
+
+            import com.bobocode.hoverla.bring.annotation.Bean;
+            import java.util.List;
+
+            @Bean
+            public class RawCollectionBean {
+
+                public RawCollectionBean(List beans) {
+                }
+            }
+            """;
+
+    private static final String PLAIN_SOURCE = """
+            package test.index;
+
+            public class PlainClass {
+            }
+            """;
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    @DisplayName("Records @Bean classes, @Configuration classes and their @Bean methods into the index")
+    void indexesBeansAndConfigurations() throws IOException {
+        compile(source("test.index.MyBean", BEAN_SOURCE),
+                source("test.index.MyConfig", CONFIG_SOURCE),
+                source("test.index.PlainClass", PLAIN_SOURCE));
+
+        BeanIndex index = readIndex();
+
+        assertThat(index.getBeanClassNames("test"))
+                .containsExactly("test.index.MyBean", "test.index.MyBean$NestedBean");
+        assertThat(index.getConfigurationClassNames("test"))
+                .containsExactly("test.index.MyConfig");
+        assertThat(index.getBeanMethods("test.index.MyConfig"))
+                .containsExactlyInAnyOrder("name()", "number(java.lang.String,int[],java.util.List)");
+    }
+
+    @Test
+    @DisplayName("Records bean names, primary flags, dependencies, supertypes and bean method descriptors into binary index")
+    void indexesBeanMetadata() throws IOException {
+        compile(source("test.index.MyBean", BEAN_SOURCE),
+                source("test.index.MyConfig", CONFIG_SOURCE),
+                source("test.index.MyService", SERVICE_SOURCE),
+                source("test.index.RawCollectionBean", RAW_COLLECTION_SOURCE));
+
+        BinaryBeanIndex index = readBinaryIndex();
+
+        assertThat(index.entry(index.find("test.index.MyBean")))
+                .isEqualTo(new IndexedClass("test.index.MyBean", true, false, "test.index.MyBean", false,
+                        List.of(), List.of(), List.of("java.lang.Object")));
+        assertThat(index.supertypeNames(index.find("test.index.MyBean$NestedBean")))
+                .containsExactly("test.index.MyBean", "java.io.Serializable", "java.lang.Object");
+        assertThat(index.entry(index.find("test.index.MyService")))
+                .isEqualTo(new IndexedClass("test.index.MyService", true, false, "service", true, List.of(
+                        new IndexedDependency("test.index.MyBean", "test.index.MyBean", false, null),
+                        new IndexedDependency("java.util.List#test.index.MyBean$NestedBean", "java.util.List",
+                                false, "test.index.MyBean$NestedBean"),
+                        new IndexedDependency("all", "java.util.Set", true, "test.index.MyBean"),
+                        new IndexedDependency("nested", "test.index.MyBean$NestedBean", true, null)),
+                        List.of(), List.of("java.lang.Object")));
+        assertThat(index.dependencies(index.find("test.index.RawCollectionBean"))).isNull();
+        assertThat(index.entry(index.find("test.index.MyConfig")))
+                .isEqualTo(new IndexedClass("test.index.MyConfig", false, true, null, false, null, List.of(
+                        new IndexedBeanMethod("name", List.of(), "java.lang.String", "name", false, List.of()),
+                        new IndexedBeanMethod("number", List.of("java.lang.String", "[I", "java.util.List"),
+                                "java.lang.Integer", "number", false, List.of(
+                                new IndexedDependency("java.lang.String", "java.lang.String", false, null),
+                                new IndexedDependency("[I", "[I", false, null),
+                                new IndexedDependency("java.util.List#test.index.MyBean$NestedBean",
+                                        "java.util.List", false, "test.index.MyBean$NestedBean"))))));
+    }
+
+    @Test
+    @DisplayName("Keeps entries of classes that were not recompiled and drops entries of recompiled ones")
+    void mergesIndexOnIncrementalCompilation() throws IOException {
+        compile(source("test.index.MyBean", BEAN_SOURCE),
+                source("test.index.MyConfig", CONFIG_SOURCE));
+
+        String configWithoutAnnotation = CONFIG_SOURCE.replace("@Configuration", "");
+        compile(source("test.index.MyConfig", configWithoutAnnotation));
+
+        BeanIndex index = readIndex();
+
+        assertThat(index.getBeanClassNames("test"))
+                .containsExactly("test.index.MyBean", "test.index.MyBean$NestedBean");
+        assertThat(index.getConfigurationClassNames("test")).isEmpty();
+        assertThat(index.getBeanMethods("test.index.MyConfig")).isEmpty();
+
+        BinaryBeanIndex binaryIndex = readBinaryIndex();
+        assertThat(binaryIndex.size()).isEqualTo(2);
+        assertThat(binaryIndex.find("test.index.MyBean$NestedBean")).isNotNegative();
+        assertThat(binaryIndex.find("test.index.MyConfig")).isNegative();
+    }
+
+    @Test
+    @DisplayName("Does not write index when no annotated classes are compiled")
+    void skipsIndexWithoutBeans() throws IOException {
+        compile(source("test.index.PlainClass", PLAIN_SOURCE));
+
+        assertThat(outputDir.resolve(BeanIndex.LOCATION)).doesNotExist();
+        assertThat(outputDir.resolve(BinaryBeanIndex.LOCATION)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Clears previous index when annotation is removed from the only indexed class")
+    void clearsIndexWhenAnnotationRemoved() throws IOException {
+        compile(source("test.index.MyBean", BEAN_SOURCE));
+        compile(source("test.index.MyBean", BEAN_SOURCE.replace("@Bean", "")));
+
+        assertThat(readIndex()).isEqualTo(new BeanIndex());
+        assertThat(readBinaryIndex().size()).isZero();
+    }
+
+    private BeanIndex readIndex() throws IOException {
+        try (Reader reader = Files.newBufferedReader(outputDir.resolve(BeanIndex.LOCATION))) {
+            return BeanIndex.read(reader);
+        }
+    }
+
+    private BinaryBeanIndex readBinaryIndex() throws IOException {
+        return BinaryBeanIndex.read(ByteBuffer.wrap(Files.readAllBytes(outputDir.resolve(BinaryBeanIndex.LOCATION))));
+    }
+
+    private void compile(JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDir.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, List.of(bringClassesLocation(), outputDir.toFile()));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    null, null, List.of(sources));
+            task.setProcessors(List.of(new BeanIndexProcessor()));
+
+            assertThat(task.call())
+                    .withFailMessage(() -> "Compilation failed: " + diagnostics.getDiagnostics())
+                    .isTrue();
+        }
+    }
+
+    private static File bringClassesLocation() {
+        try {
+            return Path.of(Bean.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.test.subject.scan.TestCustomAnnotatedType;
+import com.bobocode.hoverla.bring.test.subject.scan.TestScanConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassFileReaderTest {
+
+    @Test
+    @DisplayName("Reads class name, superclass and class annotations")
+    void readsClassHeader() throws IOException {
+        ClassFileHeader header = ClassFileReader.read(classFile(TestScanConfig.class));
+
+        assertThat(header).isEqualTo(new ClassFileHeader(TestScanConfig.class.getName(), Object.class.getName(),
+                List.of(), List.of(Configuration.class.getName())));
+    }
+
+    @Test
+    @DisplayName("Reads interfaces and skips annotation values of all kinds")
+    void readsInterfacesAndSkipsAnnotationValues() throws IOException {
+        ClassFileHeader header = ClassFileReader.read(classFile(ComplexType.class));
+
+        assertThat(header.className()).isEqualTo(ComplexType.class.getName());
+        assertThat(header.superClassName()).isEqualTo(Number.class.getName());
+        assertThat(header.interfaceNames()).containsExactly(Serializable.class.getName(), Comparable.class.getName());
+        assertThat(header.annotationNames()).containsExactly(AllValues.class.getName(), Bean.class.getName());
+    }
+
+    @Test
+    @DisplayName("Reads annotations retained in the class file only after runtime visible ones")
+    void readsInvisibleAnnotations() throws IOException {
+        ClassFileHeader header = ClassFileReader.read(classFile(InvisiblyAnnotatedType.class));
+
+        assertThat(header.annotationNames()).containsExactly(FunctionalInterface.class.getName(), Invisible.class.getName());
+        assertThat(ClassFileReader.read(classFile(TestCustomAnnotatedType.class)).annotationNames())
+                .containsExactly(FunctionalInterface.class.getName());
+    }
+
+    @Test
+    @DisplayName("Throws exception when bytes are not a valid class file")
+    void throwsExceptionWhenMalformed() throws IOException {
+        byte[] classFile = classFile(TestScanConfig.class);
+
+        assertThatThrownBy(() -> ClassFileReader.read(new byte[]{1, 2, 3, 4, 5}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ClassFileReader.read(Arrays.copyOf(classFile, classFile.length / 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] classFile(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream classFile = type.getResourceAsStream(resource)) {
+            return classFile.readAllBytes();
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface AllValues {
+        byte b();
+        char c();
+        double d();
+        long j();
+        String s();
+        Class<?> type();
+        ElementType element();
+        Retention nested();
+        int[] array();
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Invisible {
+    }
+
+    @AllValues(b = 1, c = 'c', d = 2.5, j = Long.MAX_VALUE, s = "ф", type = String.class,
+            element = ElementType.TYPE, nested = @Retention(RetentionPolicy.SOURCE), array = {1, 2})
+    @Bean
+    static abstract class ComplexType extends Number implements Serializable, Comparable<ComplexType> {
+        private static final long LONG_CONSTANT = Long.MIN_VALUE;
+        private static final double DOUBLE_CONSTANT = Math.PI;
+        private final String фield = "ф";
+
+        long sum() {
+            return LONG_CONSTANT + (long) DOUBLE_CONSTANT + фield.length();
+        }
+    }
+
+    @Invisible
+    @FunctionalInterface
+    interface InvisiblyAnnotatedType {
+        void run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.test.subject.scan.TestScanBean;
+import com.bobocode.hoverla.bring.test.subject.scan.TestScanConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
+import org.reflections.Store;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+class ClassFileRootScannerTest {
+
+    private static final String PACKAGE_TO_SCAN = "com.bobocode.hoverla.bring.test.subject";
+
+    private final ClassFileRootScanner scanner = new ClassFileRootScanner();
+
+    @Test
+    @DisplayName("Produces the same store as Reflections for a classes directory")
+    void scansDirectoryAsReflections() {
+        URL root = ClasspathHelper.forPackage(PACKAGE_TO_SCAN).iterator().next();
+
+        Optional<Store> store = scanner.scan(root, PACKAGE_TO_SCAN);
+
+        Store expected = new Reflections(new ConfigurationBuilder()
+                .addUrls(root)
+                .filterInputsBy(new FilterBuilder().includePackage(PACKAGE_TO_SCAN))
+                .setParallel(false)
+                .setExpandSuperTypes(false))
+                .getStore();
+        assertThat(store).contains(expected);
+    }
+
+    @Test
+    @DisplayName("Scans class files of given packages inside a jar, skipping malformed ones")
+    void scansJar(@TempDir Path directory) throws IOException {
+        Path jar = directory.resolve("beans.jar");
+        try (var jarStream = new ZipOutputStream(Files.newOutputStream(jar))) {
+            addEntry(jarStream, TestScanBean.class);
+            addEntry(jarStream, TestScanConfig.class);
+            addEntry(jarStream, "com/bobocode/hoverla/bring/test/subject/scan/Broken.class", new byte[]{1, 2, 3});
+            addEntry(jarStream, "com/example/Other.class", new byte[]{1, 2, 3});
+        }
+
+        URL jarRoot = new URL("jar:" + jar.toUri().toURL() + "!/");
+        Store store = scanner.scan(jarRoot, "com.bobocode.hoverla.bring.test.subject.scan").orElseThrow();
+
+        Reflections reflections = new Reflections(store);
+        assertThat(reflections.get(TypesAnnotated.with(Bean.class, Configuration.class)))
+                .containsExactlyInAnyOrder(TestScanBean.class.getName(), TestScanConfig.class.getName());
+    }
+
+    @Test
+    @DisplayName("Does not scan roots that are not located on the file system")
+    void skipsRemoteRoots() throws IOException {
+        assertThat(scanner.scan(new URL("http://example.com/beans.jar"), PACKAGE_TO_SCAN)).isEmpty();
+    }
+
+    private static void addEntry(ZipOutputStream jarStream, Class<?> type) throws IOException {
+        String entryName = type.getName().replace('.', '/') + ".class";
+        try (var classFile = type.getResourceAsStream("/" + entryName)) {
+            addEntry(jarStream, entryName, classFile.readAllBytes());
+        }
+    }
+
+    private static void addEntry(ZipOutputStream jarStream, String name, byte[] content) throws IOException {
+        jarStream.putNextEntry(new ZipEntry(name));
+        jarStream.write(content);
+        jarStream.closeEntry();
+    }
+}
@@ -0,0 +1,84 @@
+package com.bobocode.hoverla.bring.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathFingerprintTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("Changes fingerprint of a directory when content of any file changes, keeping its size and modification time")
+    void fingerprintsDirectoryFileContent() throws IOException {
+        Path classFile = root.resolve("com/example/A.class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1_000));
+        URL directory = root.toUri().toURL();
+
+        Optional<String> initial = new ClasspathFingerprint().of(directory);
+        assertThat(initial).isPresent();
+
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(2_000));
+        assertThat(new ClasspathFingerprint().of(directory)).isEqualTo(initial);
+
+        Files.write(classFile, new byte[]{1, 2, 4});
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1_000));
+        assertThat(new ClasspathFingerprint().of(directory)).isPresent().isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("Fingerprints each root once per instance")
+    void fingerprintsRootOnce() throws IOException {
+        Path jar = Files.write(root.resolve("app.jar"), new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000));
+        URL jarUrl = jar.toUri().toURL();
+        var fingerprint = new ClasspathFingerprint();
+
+        Optional<String> initial = fingerprint.of(jarUrl);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(2_000));
+
+        assertThat(fingerprint.of(jarUrl)).isEqualTo(initial);
+        assertThat(new ClasspathFingerprint().of(jarUrl)).isPresent().isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("Changes fingerprint of a jar when its modification time changes")
+    void fingerprintsJarMetadata() throws IOException {
+        Path jar = Files.write(root.resolve("app.jar"), new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000));
+        URL jarUrl = jar.toUri().toURL();
+
+        Optional<String> initial = new ClasspathFingerprint().of(jarUrl);
+        assertThat(initial).isPresent();
+        assertThat(new ClasspathFingerprint().of(new URL("jar:" + jarUrl + "!/"))).isEqualTo(initial);
+        assertThat(new ClasspathFingerprint().of(new URL("jar:" + jarUrl + "!/BOOT-INF/lib/nested.jar!/"))).isEmpty();
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(2_000));
+
+        assertThat(new ClasspathFingerprint().of(jarUrl)).isPresent().isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("Returns empty fingerprint when any root is not located on the file system")
+    void returnsEmptyFingerprintForRemoteRoot() throws IOException {
+        URL remoteRoot = new URL("http://example.com/app.jar");
+
+        var fingerprint = new ClasspathFingerprint();
+        assertThat(fingerprint.of(remoteRoot)).isEmpty();
+        assertThat(fingerprint.of(List.of(root.toUri().toURL(), remoteRoot))).isEmpty();
+        assertThat(fingerprint.of(List.of(root.toUri().toURL()))).isPresent();
+    }
+}
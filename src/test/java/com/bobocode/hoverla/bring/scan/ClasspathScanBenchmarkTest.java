@@ -0,0 +1,83 @@
+package com.bobocode.hoverla.bring.scan;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bobocode.hoverla.bring.context.BeanAnnotationClassValidator;
+import com.bobocode.hoverla.bring.context.BeanAnnotationScanner;
+import com.bobocode.hoverla.bring.context.BeanDefinition;
+import com.bobocode.hoverla.bring.context.BeanDefinitionMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BeanAnnotationScanner} backed by Reflections with the one backed by in-house class file reading.
+ *
+ * <p>Scanned packages include Guava, which is a jar of a few thousand classes without beans - the typical
+ * content of a fat jar. Allocations are reported by {@link GCProfiler} as {@code gc.alloc.rate.norm}.</p>
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClasspathScanBenchmarkTest {
+
+    private static final String[] PACKAGES_TO_SCAN = {
+            "com.google.common",
+            "com.bobocode.hoverla.bring.test.subject.scan"
+    };
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ClasspathScanBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgs("-Xmx1g") // replaces arguments of the test JVM, e.g. coverage agent
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void disableLogging() {
+        Logger rootLogger = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.WARN);
+    }
+
+    @Benchmark
+    public List<BeanDefinition> reflectionsScan() {
+        return scan(new ReflectionsClasspathScanner());
+    }
+
+    @Benchmark
+    public List<BeanDefinition> classFileScan() {
+        return scan(new ShardedClasspathScanner(1));
+    }
+
+    private static List<BeanDefinition> scan(ClasspathScanner classpathScanner) {
+        // class loader of Bring classes has no bean index, so that classpath is always walked
+        var scanResult = new ClasspathScanResult(BeanAnnotationScanner.class.getClassLoader(), classpathScanner, PACKAGES_TO_SCAN);
+        return new BeanAnnotationScanner(new BeanAnnotationClassValidator(), new BeanDefinitionMapper(), scanResult).scan();
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.bobocode.hoverla.bring.index.BeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndex;
+import com.bobocode.hoverla.bring.index.BinaryBeanIndexWriter;
+import com.bobocode.hoverla.bring.index.IndexedBeanMethod;
+import com.bobocode.hoverla.bring.index.IndexedClass;
+import com.bobocode.hoverla.bring.test.subject.scan.TestCustomAnnotatedType;
+import com.bobocode.hoverla.bring.test.subject.scan.TestScanBean;
+import com.bobocode.hoverla.bring.test.subject.scan.TestScanConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathScanResultTest {
+
+    private static final String PACKAGE_TO_SCAN = "com.bobocode.hoverla.bring.test.subject.scan";
+    private static final String INDEXED_ONLY_BEAN = PACKAGE_TO_SCAN + ".IndexedOnlyBean";
+
+    @Test
+    @DisplayName("Serves types annotated with any annotation from a single classpath scan")
+    void findsTypesAnnotatedWithAnyAnnotation() {
+        var scanResult = new ClasspathScanResult(PACKAGE_TO_SCAN);
+
+        assertThat(scanResult.getTypesAnnotatedWith(Bean.class)).containsExactly(TestScanBean.class);
+        assertThat(scanResult.getTypesAnnotatedWith(Configuration.class)).containsExactly(TestScanConfig.class);
+        assertThat(scanResult.getTypesAnnotatedWith(FunctionalInterface.class)).containsExactly(TestCustomAnnotatedType.class);
+        assertThat(scanResult.getTypeNamesAnnotatedWith(Bean.class)).containsExactly(TestScanBean.class.getName());
+    }
+
+    @Test
+    @DisplayName("Reads @Bean and @Configuration classes from bean index, other annotations are still served by scan")
+    void prefersBeanIndex(@TempDir Path indexRoot) throws IOException {
+        Path indexFile = indexRoot.resolve(BeanIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, List.of("bean " + TestScanBean.class.getName(), "bean " + INDEXED_ONLY_BEAN));
+
+        try (var classLoader = new URLClassLoader(new URL[]{indexRoot.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanResult = new ClasspathScanResult(classLoader, new ReflectionsClasspathScanner(), PACKAGE_TO_SCAN);
+
+            assertThat(scanResult.getTypeNamesAnnotatedWith(Bean.class))
+                    .containsExactly(INDEXED_ONLY_BEAN, TestScanBean.class.getName());
+            assertThat(scanResult.getTypesAnnotatedWith(FunctionalInterface.class)).containsExactly(TestCustomAnnotatedType.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Scans classpath roots without bean index along with reading indexed ones")
+    void scansRootsWithoutBeanIndex(@TempDir Path indexRoot) throws IOException {
+        Path indexFile = indexRoot.resolve(BeanIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, List.of("bean " + INDEXED_ONLY_BEAN));
+
+        try (var classLoader = new URLClassLoader(new URL[]{indexRoot.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanResult = new ClasspathScanResult(classLoader, new ShardedClasspathScanner(1), PACKAGE_TO_SCAN);
+
+            // test classes are not indexed, so their candidates are found by scan
+            assertThat(scanResult.getTypesAnnotatedWith(Configuration.class)).containsExactly(TestScanConfig.class);
+            assertThat(scanResult.getIndexedBeanClasses()).hasValueSatisfying(beanClasses -> assertThat(beanClasses)
+                    .extracting(IndexedClass::className)
+                    .containsExactly(INDEXED_ONLY_BEAN, TestScanBean.class.getName()));
+        }
+    }
+
+    @Test
+    @DisplayName("Prefers binary bean index and resolves indexed @Bean methods of configuration classes")
+    void prefersBinaryBeanIndex(@TempDir Path indexRoot) throws IOException, NoSuchMethodException {
+        Path textIndexFile = indexRoot.resolve(BeanIndex.LOCATION);
+        Files.createDirectories(textIndexFile.getParent());
+        Files.write(textIndexFile, List.of("bean " + TestScanBean.class.getName()));
+        IndexedBeanMethod beanMethod = new IndexedBeanMethod("scanConfigBean", List.of(), "java.lang.String",
+                "scanConfigBean", false, List.of());
+        try (OutputStream output = Files.newOutputStream(indexRoot.resolve(BinaryBeanIndex.LOCATION))) {
+            BinaryBeanIndexWriter.write(List.of(
+                    new IndexedClass(TestScanConfig.class.getName(), false, true, null, false, null, List.of(beanMethod)),
+                    new IndexedClass("com.bobocode.hoverla.bring.test.subject.other.OtherConfig", false, true,
+                            null, false, null, List.of())), output);
+        }
+
+        try (var classLoader = new URLClassLoader(new URL[]{indexRoot.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanResult = new ClasspathScanResult(classLoader, new ReflectionsClasspathScanner(), PACKAGE_TO_SCAN);
+
+            assertThat(scanResult.getTypesAnnotatedWith(Configuration.class)).containsExactly(TestScanConfig.class);
+            assertThat(scanResult.getIndexedBeanMethods(TestScanConfig.class))
+                    .contains(List.of(TestScanConfig.class.getMethod("scanConfigBean")));
+            assertThat(scanResult.getIndexedBeanMethods(TestScanBean.class)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Returns empty result when nothing is annotated in given packages")
+    void returnsEmptyResult() {
+        var scanResult = new ClasspathScanResult("com.bobocode.hoverla.bring.test.subject.empty");
+
+        assertThat(scanResult.getTypesAnnotatedWith(Bean.class)).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode.hoverla.bring.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJarFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Reads stored and deflated entries accepted by the filter")
+    void readsEntries() throws IOException {
+        byte[] largeContent = "large entry content ".repeat(2_000).getBytes(UTF_8);
+        Path jar = directory.resolve("test.jar");
+        try (var jarStream = new ZipOutputStream(Files.newOutputStream(jar))) {
+            jarStream.setComment("jar comment");
+            jarStream.putNextEntry(new ZipEntry("com/example/"));
+            jarStream.closeEntry();
+            addStoredEntry(jarStream, "com/example/Stored.class", "stored".getBytes(UTF_8));
+            addDeflatedEntry(jarStream, "com/example/Deflated.class", "deflated".getBytes(UTF_8));
+            addDeflatedEntry(jarStream, "com/example/Large.class", largeContent);
+            addDeflatedEntry(jarStream, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0".getBytes(UTF_8));
+        }
+
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (MappedJarFile jarFile = MappedJarFile.open(jar).orElseThrow()) {
+            jarFile.forEachEntry(name -> name.startsWith("com/"), (name, content) -> entries.put(name, toBytes(content)));
+        }
+
+        assertThat(entries).containsOnlyKeys("com/example/Stored.class", "com/example/Deflated.class", "com/example/Large.class");
+        assertThat(entries.get("com/example/Stored.class")).isEqualTo("stored".getBytes(UTF_8));
+        assertThat(entries.get("com/example/Deflated.class")).isEqualTo("deflated".getBytes(UTF_8));
+        assertThat(entries.get("com/example/Large.class")).isEqualTo(largeContent);
+    }
+
+    @Test
+    @DisplayName("Throws exception when file is not a jar")
+    void throwsExceptionWhenNotJar() throws IOException {
+        Path notJar = Files.writeString(directory.resolve("not.jar"), "definitely not a jar ".repeat(10));
+
+        assertThatThrownBy(() -> MappedJarFile.open(notJar))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("End of central directory is not found");
+    }
+
+    private static void addStoredEntry(ZipOutputStream jarStream, String name, byte[] content) throws IOException {
+        var crc = new CRC32();
+        crc.update(content);
+        var entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+        jarStream.putNextEntry(entry);
+        jarStream.write(content);
+        jarStream.closeEntry();
+    }
+
+    private static void addDeflatedEntry(ZipOutputStream jarStream, String name, byte[] content) throws IOException {
+        jarStream.putNextEntry(new ZipEntry(name));
+        jarStream.write(content);
+        jarStream.closeEntry();
+    }
+
+    private static byte[] toBytes(ByteBuffer content) {
+        byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        return bytes;
+    }
+}
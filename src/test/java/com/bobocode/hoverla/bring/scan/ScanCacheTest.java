@@ -0,0 +1,73 @@
+package com.bobocode.hoverla.bring.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Store;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScanCacheTest {
+
+    private static final String[] PACKAGES_TO_SCAN = {"com.example"};
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    @DisplayName("Reads stored scan result while fingerprint is the same")
+    void readsStoredResult() throws IOException {
+        var scanCache = new ScanCache(cacheDirectory.resolve("nested"));
+        Store store = createStore();
+
+        scanCache.save(root(), "fingerprint", store, PACKAGES_TO_SCAN);
+
+        assertThat(scanCache.load(root(), "fingerprint", PACKAGES_TO_SCAN)).contains(store);
+    }
+
+    @Test
+    @DisplayName("Treats result stored for a different fingerprint or packages as missing")
+    void ignoresOutdatedResult() throws IOException {
+        var scanCache = new ScanCache(cacheDirectory);
+
+        scanCache.save(root(), "fingerprint", createStore(), PACKAGES_TO_SCAN);
+
+        assertThat(scanCache.load(root(), "changed", PACKAGES_TO_SCAN)).isEmpty();
+        assertThat(scanCache.load(root(), "fingerprint", "com.other")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Treats missing or malformed cache file as missing result")
+    void ignoresMalformedCacheFile() throws IOException {
+        var scanCache = new ScanCache(cacheDirectory);
+
+        assertThat(scanCache.load(root(), "fingerprint", PACKAGES_TO_SCAN)).isEmpty();
+
+        scanCache.save(root(), "fingerprint", createStore(), PACKAGES_TO_SCAN);
+        try (var cacheFiles = Files.list(cacheDirectory)) {
+            Path cacheFile = cacheFiles.findFirst().orElseThrow();
+            Files.writeString(cacheFile, "malformed", StandardOpenOption.APPEND);
+        }
+
+        assertThat(scanCache.load(root(), "fingerprint", PACKAGES_TO_SCAN)).isEmpty();
+    }
+
+    private static Store createStore() {
+        Store store = new Store();
+        store.put("TypesAnnotated", Map.of("com.example.Annotation", Set.of("com.example.A", "com.example.B")));
+        store.put("SubTypes", Map.of("java.lang.Object", Set.of("com.example.A")));
+        return store;
+    }
+
+    private URL root() throws IOException {
+        return cacheDirectory.resolve("app.jar").toUri().toURL();
+    }
+}
@@ -0,0 +1,95 @@
+package com.bobocode.hoverla.bring.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+import com.google.common.base.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.reflections.Reflections;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class ShardedClasspathScannerTest {
+
+    private static final String[] PACKAGES_TO_SCAN = {
+            "com.bobocode.hoverla.bring.test.subject.scan",
+            "com.bobocode.hoverla.bring.test.subject.config",
+            // package spread across test classes and main classes roots
+            "com.bobocode.hoverla.bring.annotation"
+    };
+
+    @ParameterizedTest(name = "Finds the same types as single-threaded scan with parallelism {0}")
+    @ValueSource(ints = {1, 2, 8})
+    void findsSameTypesAsReflectionsScanner(int parallelism) {
+        Reflections expected = new ReflectionsClasspathScanner().scan(PACKAGES_TO_SCAN);
+        Reflections actual = new ShardedClasspathScanner(parallelism).scan(PACKAGES_TO_SCAN);
+
+        for (var annotation : List.of(Bean.class, Configuration.class, FunctionalInterface.class)) {
+            assertThat(actual.getTypesAnnotatedWith(annotation))
+                    .isNotNull()
+                    .containsExactlyInAnyOrderElementsOf(expected.getTypesAnnotatedWith(annotation));
+        }
+        assertThat(actual.getTypesAnnotatedWith(Configuration.class)).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Collects the same types as single-threaded scan inside jars")
+    void findsSameTypesInJars() {
+        String jarPackage = "com.google.common.base";
+        Reflections expected = new ReflectionsClasspathScanner().scan(jarPackage);
+        Reflections actual = new ShardedClasspathScanner(2).scan(jarPackage);
+
+        assertThat(actual.getStore()).isEqualTo(expected.getStore());
+        assertThat(actual.getSubTypesOf(Supplier.class))
+                .isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(expected.getSubTypesOf(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("Returns empty result when packages are not present on the classpath")
+    void returnsEmptyResultForMissingPackage() {
+        Reflections result = new ShardedClasspathScanner(2).scan("com.bobocode.hoverla.bring.test.subject.missing");
+
+        assertThat(result.getTypesAnnotatedWith(Bean.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Reads unchanged classpath roots from scan cache instead of scanning them again")
+    void readsUnchangedRootsFromCache(@TempDir Path cacheDirectory) throws IOException {
+        Reflections expected = new ReflectionsClasspathScanner().scan(PACKAGES_TO_SCAN);
+        new ShardedClasspathScanner(2, new ScanCache(cacheDirectory)).scan(PACKAGES_TO_SCAN);
+        try (var cacheFiles = Files.list(cacheDirectory)) {
+            assertThat(cacheFiles).isNotEmpty();
+        }
+
+        ScanCache scanCache = spy(new ScanCache(cacheDirectory));
+        Reflections actual = new ShardedClasspathScanner(2, scanCache).scan(PACKAGES_TO_SCAN);
+
+        verify(scanCache, never()).save(any(), any(), any(), any(String[].class));
+        for (var annotation : List.of(Bean.class, Configuration.class, FunctionalInterface.class)) {
+            assertThat(actual.getTypesAnnotatedWith(annotation))
+                    .containsExactlyInAnyOrderElementsOf(expected.getTypesAnnotatedWith(annotation));
+        }
+    }
+
+    @ParameterizedTest(name = "Throws exception when parallelism is {0}")
+    @ValueSource(ints = {0, -1})
+    void throwsExceptionWhenParallelismIsNotPositive(int parallelism) {
+        assertThatThrownBy(() -> new ShardedClasspathScanner(parallelism))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Argument [parallelism] must be positive");
+    }
+}
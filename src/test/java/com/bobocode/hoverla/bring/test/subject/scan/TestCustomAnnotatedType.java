@@ -0,0 +1,7 @@
+package com.bobocode.hoverla.bring.test.subject.scan;
+
+@FunctionalInterface
+public interface TestCustomAnnotatedType {
+
+    void run();
+}
@@ -0,0 +1,7 @@
+package com.bobocode.hoverla.bring.test.subject.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+
+@Bean
+public class TestScanBean {
+}
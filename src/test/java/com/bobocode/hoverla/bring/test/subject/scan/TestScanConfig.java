@@ -0,0 +1,13 @@
+package com.bobocode.hoverla.bring.test.subject.scan;
+
+import com.bobocode.hoverla.bring.annotation.Bean;
+import com.bobocode.hoverla.bring.annotation.Configuration;
+
+@Configuration
+public class TestScanConfig {
+
+    @Bean
+    public String scanConfigBean() {
+        return "scanConfigBean";
+    }
+}